@@ -0,0 +1,188 @@
+package org.jroadsign.canada.quebec.montreal;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.Arrays;
+
+/**
+ * @author - <a href="https://github.com/muhamm-ad">muhamm-ad</a>
+ * @project JRoadSign
+ * @description Minimal RFC 4180 CSV reader. Rows are scanned character by character into a reusable buffer (no
+ *         per-line regex or <tt>String.split</tt>), quoted fields may contain delimiters, doubled quotes and line
+ *         breaks, and numeric fields are parsed straight from the buffer without creating a String.
+ */
+class CsvRowReader {
+
+    private static final int READ_BUFFER_SIZE = 1 << 16;
+    private static final char QUOTE = '"';
+    private static final char BOM = '\uFEFF';
+
+    private final Reader reader;
+    private final char delimiter;
+    private final char[] readBuffer = new char[READ_BUFFER_SIZE];
+    private int readPosition = 0;
+    private int readLimit = 0;
+    private boolean firstChar = true;
+
+    // Current row: unescaped field contents and their [start, end) offsets in rowBuffer
+    private char[] rowBuffer = new char[1024];
+    private int rowLength = 0;
+    private int[] fieldStarts = new int[32];
+    private int[] fieldEnds = new int[32];
+    private int fieldCount = 0;
+
+    CsvRowReader(Reader reader, char delimiter) {
+        this.reader = reader;
+        this.delimiter = delimiter;
+    }
+
+    /**
+     * Reads the next row into the internal buffer.
+     *
+     * @return <tt>false</tt> at the end of the input.
+     * @throws IOException if an I/O error occurs
+     */
+    boolean nextRow() throws IOException {
+        rowLength = 0;
+        fieldCount = 0;
+
+        int c = read();
+        if (c == -1) return false;
+
+        int fieldStart = 0;
+        boolean quoted = false;
+        boolean rowEnded = false;
+        while (!rowEnded) {
+            if (quoted) {
+                if (c == -1) {
+                    quoted = false; // unterminated quote, keep what was read
+                    continue;
+                }
+                if (c == QUOTE) {
+                    int next = read();
+                    if (next == QUOTE) {
+                        append(QUOTE);
+                    } else {
+                        quoted = false;
+                        c = next;
+                        continue;
+                    }
+                } else {
+                    append((char) c);
+                }
+            } else if (c == QUOTE && rowLength == fieldStart) {
+                quoted = true;
+            } else if (c == delimiter) {
+                endField(fieldStart);
+                fieldStart = rowLength;
+            } else if (c == '\n' || c == -1) {
+                endField(fieldStart);
+                rowEnded = true;
+                continue;
+            } else if (c == '\r') {
+                int next = read();
+                if (next != '\n' && next != -1) readPosition--;
+                endField(fieldStart);
+                rowEnded = true;
+                continue;
+            } else {
+                append((char) c);
+            }
+            c = read();
+        }
+        return true;
+    }
+
+    int getFieldCount() {
+        return fieldCount;
+    }
+
+    boolean isEmpty(int index) {
+        return index < 0 || index >= fieldCount || fieldStarts[index] == fieldEnds[index];
+    }
+
+    /**
+     * @return the field as a String, or <tt>null</tt> if the field is empty or missing.
+     */
+    String getString(int index) {
+        if (isEmpty(index)) return null;
+        return new String(rowBuffer, fieldStarts[index], fieldEnds[index] - fieldStarts[index]);
+    }
+
+    /**
+     * Parses an integral field directly from the row buffer. A decimal value with a zero fraction (ex: "12.0") is
+     * accepted, as some exports write identifiers as floating point numbers.
+     *
+     * @throws NumberFormatException if the field is empty, not a number or has a non-zero fraction
+     */
+    long getLong(int index) {
+        if (isEmpty(index)) throw new NumberFormatException("Empty field at column " + index);
+
+        int start = fieldStarts[index];
+        int end = fieldEnds[index];
+        boolean negative = rowBuffer[start] == '-';
+        int i = negative || rowBuffer[start] == '+' ? start + 1 : start;
+        if (i == end) throw new NumberFormatException("For input string: \"" + getString(index) + "\"");
+
+        long value = 0;
+        for (; i < end; i++) {
+            char ch = rowBuffer[i];
+            if (ch >= '0' && ch <= '9') {
+                value = value * 10 + (ch - '0');
+            } else if (ch == '.' && isZeroFraction(i + 1, end)) {
+                break;
+            } else {
+                throw new NumberFormatException("For input string: \"" + getString(index) + "\"");
+            }
+        }
+        return negative ? -value : value;
+    }
+
+    private boolean isZeroFraction(int start, int end) {
+        for (int i = start; i < end; i++) {
+            if (rowBuffer[i] != '0') return false;
+        }
+        return true;
+    }
+
+    int getInt(int index) {
+        return Math.toIntExact(getLong(index));
+    }
+
+    double getDouble(int index) {
+        if (isEmpty(index)) throw new NumberFormatException("Empty field at column " + index);
+        return Double.parseDouble(getString(index));
+    }
+
+    private int read() throws IOException {
+        if (readPosition == readLimit) {
+            readLimit = reader.read(readBuffer, 0, READ_BUFFER_SIZE);
+            readPosition = 0;
+            if (readLimit <= 0) {
+                readLimit = 0;
+                return -1;
+            }
+        }
+        char c = readBuffer[readPosition++];
+        if (firstChar) {
+            firstChar = false;
+            if (c == BOM) return read();
+        }
+        return c;
+    }
+
+    private void append(char c) {
+        if (rowLength == rowBuffer.length) rowBuffer = Arrays.copyOf(rowBuffer, rowLength * 2);
+        rowBuffer[rowLength++] = c;
+    }
+
+    private void endField(int fieldStart) {
+        if (fieldCount == fieldStarts.length) {
+            fieldStarts = Arrays.copyOf(fieldStarts, fieldCount * 2);
+            fieldEnds = Arrays.copyOf(fieldEnds, fieldCount * 2);
+        }
+        fieldStarts[fieldCount] = fieldStart;
+        fieldEnds[fieldCount] = rowLength;
+        fieldCount++;
+    }
+}
@@ -0,0 +1,103 @@
+package org.jroadsign.canada.quebec.montreal;
+
+import org.json.JSONException;
+import org.json.JSONObject;
+import org.json.JSONTokener;
+
+import java.io.Reader;
+
+/**
+ * @author - <a href="https://github.com/muhamm-ad">muhamm-ad</a>
+ * @project JRoadSign
+ * @description Pull-based reader over a GeoJSON <tt>FeatureCollection</tt>. It walks the top-level object until the
+ *         <tt>features</tt> array, then materializes the features one at a time, so the memory used while reading is
+ *         bounded by the largest feature instead of the whole file.
+ */
+class GeoJsonFeatureReader {
+
+    private final JSONTokener tokener;
+    private final String featuresKey;
+    private final String propertiesKey;
+
+    private boolean inFeatures = false;
+    private boolean finished = false;
+    private int featureCount = 0;
+
+    GeoJsonFeatureReader(Reader reader, String featuresKey, String propertiesKey) {
+        this.tokener = new JSONTokener(reader);
+        this.featuresKey = featuresKey;
+        this.propertiesKey = propertiesKey;
+    }
+
+    /**
+     * Reads the next feature of the <tt>features</tt> array and returns its <tt>properties</tt> block.
+     *
+     * @return the properties of the next feature, or <tt>null</tt> when there are no more features.
+     * @throws JSONException if the input is not a valid GeoJSON feature collection
+     */
+    JSONObject nextProperties() {
+        JSONObject feature = nextFeature();
+        return feature == null ? null : feature.getJSONObject(propertiesKey);
+    }
+
+    /**
+     * Reads the next feature of the <tt>features</tt> array.
+     *
+     * @return the next feature, or <tt>null</tt> when there are no more features.
+     * @throws JSONException if the input is not a valid GeoJSON feature collection
+     */
+    JSONObject nextFeature() {
+        if (finished) return null;
+        if (!inFeatures && !seekFeatures()) {
+            finished = true;
+            return null;
+        }
+
+        char c = tokener.nextClean();
+        if (c == ']') {
+            // Anything following the features array is not needed.
+            finished = true;
+            return null;
+        }
+        if (featureCount > 0) {
+            // The features are separated by commas, with none before the first one nor after the last one.
+            if (c != ',') throw tokener.syntaxError("Expected a ',' or ']' after a feature");
+            c = tokener.nextClean();
+        }
+        if (c != '{') throw tokener.syntaxError("A feature must be a JSON object");
+
+        tokener.back();
+        featureCount++;
+        return (JSONObject) tokener.nextValue();
+    }
+
+    /**
+     * Skips the members of the top-level object until the opening bracket of the features array.
+     *
+     * @return <tt>true</tt> if the features array has been found.
+     */
+    private boolean seekFeatures() {
+        if (tokener.nextClean() != '{') throw tokener.syntaxError("A GeoJSON file must begin with '{'");
+
+        for (int members = 0; ; members++) {
+            char c = tokener.nextClean();
+            if (c == 0) throw tokener.syntaxError("A GeoJSON object must end with '}'");
+            if (c == '}') return false;
+            if (members > 0) {
+                if (c != ',') throw tokener.syntaxError("Expected a ',' or '}' after a member");
+                c = tokener.nextClean();
+            }
+            if (c != '"') throw tokener.syntaxError("Expected a key");
+
+            String key = tokener.nextString('"');
+            if (tokener.nextClean() != ':') throw tokener.syntaxError("Expected a ':' after a key");
+
+            if (featuresKey.equals(key)) {
+                if (tokener.nextClean() != '[') throw tokener.syntaxError("'" + featuresKey + "' must be an array");
+                inFeatures = true;
+                return true;
+            }
+            tokener.nextValue(); // skip "type", "name", "crs", ...
+        }
+    }
+}
@@ -0,0 +1,496 @@
+package org.jroadsign.canada.quebec.montreal;
+
+import org.jroadsign.canada.quebec.montreal.rpasign.RpaSignCode;
+import org.jroadsign.canada.quebec.montreal.rpasign.RpaSignCodeRegistry;
+import org.jroadsign.canada.quebec.montreal.rpasign.RpaSignDescCache;
+import org.jroadsign.common.Coordinate;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * @author - <a href="https://github.com/muhamm-ad">muhamm-ad</a>
+ * @project JRoadSign
+ * @description Read-only post store laid out as fixed-size records in a file, opened with
+ *         {@link FileChannel#map(FileChannel.MapMode, long, long)}. Nothing is deserialized on open: several JVMs
+ *         opening the same file share its pages through the OS page cache, and lookups go through reusable
+ *         {@link PostView} / {@link SignView} cursors over the mapped bytes instead of {@link RoadPost} objects.
+ *         <p>
+ *         Layout (big-endian): a header, the post records sorted by <tt>POTEAU_ID_POT</tt> (binary searched), the sign
+ *         records of each post in position order, then the string table (offsets, then UTF-8 bytes). Strings
+ *         (district, RTP, codes, raw RPA descriptions, ...) are stored once and referenced by index, <tt>-1</tt> for
+ *         <tt>null</tt>. Parsed rules are not stored; {@link PostView#toRoadPost(RpaSignDescCache)} materializes lazy
+ *         signs when a full {@link RoadPost} is needed.
+ *         <p>
+ *         The store is thread-safe; views are cursors and must not be shared between threads.
+ */
+public final class MappedRoadPostStore implements AutoCloseable {
+
+    static final int MAGIC = 0x4A525053; // "JRPS"
+    static final short VERSION = 1;
+
+    private static final int HEADER_SIZE = 56;
+    private static final int POST_COUNT_OFFSET = 8;
+    private static final int SIGN_COUNT_OFFSET = 12;
+    private static final int STRING_COUNT_OFFSET = 16;
+    private static final int POSTS_OFFSET_OFFSET = 24;
+    private static final int SIGNS_OFFSET_OFFSET = 32;
+    private static final int STRING_OFFSETS_OFFSET_OFFSET = 40;
+    private static final int STRING_DATA_OFFSET_OFFSET = 48;
+
+    private static final int POST_SIZE = 56;
+    private static final int POST_ID = 0;
+    private static final int POST_CONCEPTION_DAY = 8;
+    private static final int POST_LATITUDE = 16;
+    private static final int POST_LONGITUDE = 24;
+    private static final int POST_VERSION = 32;
+    private static final int POST_RTP_DESC = 36;
+    private static final int POST_DISTRICT = 40;
+    private static final int POST_FIRST_SIGN = 44;
+    private static final int POST_SIGN_COUNT = 48;
+    private static final int POST_ON_STREET = 52;
+
+    private static final int SIGN_SIZE = 48;
+    private static final int SIGN_ID = 0;
+    private static final int SIGN_RPA_ID = 8;
+    private static final int SIGN_POSITION = 16;
+    private static final int SIGN_ARROW_CODE = 20;
+    private static final int SIGN_RPA_CODE = 24;
+    private static final int SIGN_RPA_DESC = 28;
+    private static final int SIGN_TOPONYMIC = 32;
+    private static final int SIGN_CATEGORY_DESC = 36;
+    private static final int SIGN_REP_DESC = 40;
+    private static final int SIGN_HAS_RPA = 41;
+
+    private static final long NULL_DATE = Long.MIN_VALUE;
+    private static final byte NULL_BOOLEAN = 2;
+    private static final int NULL_REF = -1;
+
+    private final FileChannel channel;
+    private final MappedByteBuffer buffer;
+    private final int postCount;
+    private final int signCount;
+    private final int postsOffset;
+    private final int signsOffset;
+    private final int stringOffsetsOffset;
+    private final int stringDataOffset;
+    private final String[] decodedStrings; // decoded on first use; racy but benign since strings are immutable
+
+    private MappedRoadPostStore(FileChannel channel, MappedByteBuffer buffer) {
+        this.channel = channel;
+        this.buffer = buffer;
+        this.postCount = buffer.getInt(POST_COUNT_OFFSET);
+        this.signCount = buffer.getInt(SIGN_COUNT_OFFSET);
+        this.postsOffset = (int) buffer.getLong(POSTS_OFFSET_OFFSET);
+        this.signsOffset = (int) buffer.getLong(SIGNS_OFFSET_OFFSET);
+        this.stringOffsetsOffset = (int) buffer.getLong(STRING_OFFSETS_OFFSET_OFFSET);
+        this.stringDataOffset = (int) buffer.getLong(STRING_DATA_OFFSET_OFFSET);
+        this.decodedStrings = new String[buffer.getInt(STRING_COUNT_OFFSET)];
+    }
+
+    /**
+     * Maps a store file read-only.
+     *
+     * @param file the store file, written by {@link #write(TreeMap, File)}
+     * @return the opened store, to be closed when no view is used anymore
+     * @throws RoadParkingSignException if the file is not a post store or has an unsupported version
+     * @throws IOException              if the file cannot be mapped
+     */
+    public static MappedRoadPostStore open(File file) throws IOException, RoadParkingSignException {
+        FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ);
+        try {
+            if (channel.size() > Integer.MAX_VALUE)
+                throw new RoadParkingSignException("Post store too large to be mapped: " + file.getPath());
+            if (channel.size() < HEADER_SIZE)
+                throw new RoadParkingSignException("Not a post store: " + file.getPath());
+
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            if (buffer.getInt(0) != MAGIC)
+                throw new RoadParkingSignException("Not a post store: " + file.getPath());
+            if (buffer.getShort(4) != VERSION)
+                throw new RoadParkingSignException("Unsupported post store version: " + buffer.getShort(4));
+
+            return new MappedRoadPostStore(channel, buffer);
+        } catch (IOException | RoadParkingSignException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Writes the posts to a store file.
+     *
+     * @param roadPosts the posts, by <tt>POTEAU_ID_POT</tt>
+     * @param file      the store file
+     * @throws IOException if the file cannot be written
+     */
+    public static void write(TreeMap<Long, RoadPost> roadPosts, File file) throws IOException {
+        Map<String, Integer> strings = new LinkedHashMap<>();
+        List<RoadSign> signs = new ArrayList<>();
+        for (RoadPost roadPost : roadPosts.values()) {
+            addString(strings, roadPost.getRtpDescription());
+            addString(strings, roadPost.getDistrictName());
+            for (RoadSign roadSign : roadPost.getRoadSigns()) {
+                signs.add(roadSign);
+                addString(strings, roadSign.getToponymic());
+                addString(strings, roadSign.getCategoryDescription());
+                RpaSign rpaSign = roadSign.getRpaSign();
+                if (rpaSign != null) {
+                    addString(strings, RpaSignCodeRegistry.getName(rpaSign.getCodeId()));
+                    addString(strings, rpaSign.getStrDescription());
+                }
+            }
+        }
+
+        List<byte[]> encodedStrings = new ArrayList<>(strings.size());
+        long stringDataSize = 0;
+        for (String string : strings.keySet()) {
+            byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+            encodedStrings.add(bytes);
+            stringDataSize += bytes.length;
+        }
+
+        long postsOffset = HEADER_SIZE;
+        long signsOffset = postsOffset + (long) roadPosts.size() * POST_SIZE;
+        long stringOffsetsOffset = signsOffset + (long) signs.size() * SIGN_SIZE;
+        long stringDataOffset = stringOffsetsOffset + (strings.size() + 1L) * Integer.BYTES;
+        if (stringDataOffset + stringDataSize > Integer.MAX_VALUE)
+            throw new IOException("Too many posts to be stored in a single mapped file");
+
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(file)))) {
+            out.writeInt(MAGIC);
+            out.writeShort(VERSION);
+            out.writeShort(0);
+            out.writeInt(roadPosts.size());
+            out.writeInt(signs.size());
+            out.writeInt(strings.size());
+            out.writeInt(0);
+            out.writeLong(postsOffset);
+            out.writeLong(signsOffset);
+            out.writeLong(stringOffsetsOffset);
+            out.writeLong(stringDataOffset);
+
+            int firstSign = 0;
+            for (Map.Entry<Long, RoadPost> entry : roadPosts.entrySet()) {
+                RoadPost roadPost = entry.getValue();
+                Coordinate coordinate = roadPost.getCoordinate();
+                out.writeLong(entry.getKey());
+                out.writeLong(roadPost.getConceptionDate() != null ? roadPost.getConceptionDate().toEpochDay() : NULL_DATE);
+                out.writeDouble(coordinate != null ? coordinate.getLat() : Double.NaN);
+                out.writeDouble(coordinate != null ? coordinate.getLon() : Double.NaN);
+                out.writeInt(roadPost.getVersion());
+                out.writeInt(ref(strings, roadPost.getRtpDescription()));
+                out.writeInt(ref(strings, roadPost.getDistrictName()));
+                out.writeInt(firstSign);
+                out.writeInt(roadPost.getRoadSigns().size());
+                out.writeByte(roadPost.isOnStreet() == null ? NULL_BOOLEAN : roadPost.isOnStreet() ? 1 : 0);
+                out.write(new byte[POST_SIZE - POST_ON_STREET - 1]);
+                firstSign += roadPost.getRoadSigns().size();
+            }
+
+            for (RoadSign roadSign : signs) {
+                RpaSign rpaSign = roadSign.getRpaSign();
+                out.writeLong(roadSign.getId());
+                out.writeLong(rpaSign != null ? rpaSign.getId() : 0);
+                out.writeInt(roadSign.getPosition());
+                out.writeInt(roadSign.getArrowCode());
+                out.writeInt(rpaSign != null ?
+                        ref(strings, RpaSignCodeRegistry.getName(rpaSign.getCodeId())) : NULL_REF);
+                out.writeInt(rpaSign != null ? ref(strings, rpaSign.getStrDescription()) : NULL_REF);
+                out.writeInt(ref(strings, roadSign.getToponymic()));
+                out.writeInt(ref(strings, roadSign.getCategoryDescription()));
+                out.writeByte(roadSign.getRepDescription() != null ? roadSign.getRepDescription().ordinal() : -1);
+                out.writeBoolean(rpaSign != null);
+                out.write(new byte[SIGN_SIZE - SIGN_HAS_RPA - 1]);
+            }
+
+            int offset = 0;
+            for (byte[] bytes : encodedStrings) {
+                out.writeInt(offset);
+                offset += bytes.length;
+            }
+            out.writeInt(offset);
+            for (byte[] bytes : encodedStrings) out.write(bytes);
+        }
+    }
+
+    private static void addString(Map<String, Integer> strings, String string) {
+        if (string != null) strings.putIfAbsent(string, strings.size());
+    }
+
+    private static int ref(Map<String, Integer> strings, String string) {
+        return string != null ? strings.get(string) : NULL_REF;
+    }
+
+    public int getPostCount() {
+        return postCount;
+    }
+
+    public int getSignCount() {
+        return signCount;
+    }
+
+    /**
+     * @return a new cursor over the posts, positioned on no post.
+     */
+    public PostView newPostView() {
+        return new PostView();
+    }
+
+    /**
+     * @return a new cursor over the signs, positioned on no sign.
+     */
+    public SignView newSignView() {
+        return new SignView();
+    }
+
+    /**
+     * @param postId a <tt>POTEAU_ID_POT</tt>
+     * @return the index of the post, or <tt>-1</tt> if the store has no such post
+     */
+    public int indexOf(long postId) {
+        int low = 0;
+        int high = postCount - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            long middleId = buffer.getLong(postsOffset + middle * POST_SIZE + POST_ID);
+            if (middleId < postId) low = middle + 1;
+            else if (middleId > postId) high = middle - 1;
+            else return middle;
+        }
+        return -1;
+    }
+
+    private String string(int ref) {
+        if (ref == NULL_REF) return null;
+        String string = decodedStrings[ref];
+        if (string == null) {
+            int start = buffer.getInt(stringOffsetsOffset + ref * Integer.BYTES);
+            int end = buffer.getInt(stringOffsetsOffset + (ref + 1) * Integer.BYTES);
+            byte[] bytes = new byte[end - start];
+            buffer.get(stringDataOffset + start, bytes);
+            string = new String(bytes, StandardCharsets.UTF_8);
+            decodedStrings[ref] = string;
+        }
+        return string;
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    /**
+     * Flyweight cursor over the post records. Its getters read the mapped bytes of the current post.
+     */
+    public final class PostView {
+        private int base = -1;
+
+        private PostView() {
+        }
+
+        /**
+         * Positions the view on a post.
+         *
+         * @param postId a <tt>POTEAU_ID_POT</tt>
+         * @return <tt>true</tt> if the post exists; otherwise the view is left on no post
+         */
+        public boolean seek(long postId) {
+            int index = indexOf(postId);
+            base = index < 0 ? -1 : postsOffset + index * POST_SIZE;
+            return index >= 0;
+        }
+
+        /**
+         * Positions the view on the post at an index, in <tt>POTEAU_ID_POT</tt> order.
+         */
+        public PostView moveTo(int index) {
+            if (index < 0 || index >= postCount) throw new IndexOutOfBoundsException(index);
+            base = postsOffset + index * POST_SIZE;
+            return this;
+        }
+
+        private int base() {
+            if (base < 0) throw new IllegalStateException("The view is not positioned on a post");
+            return base;
+        }
+
+        public long getPostId() {
+            return buffer.getLong(base() + POST_ID);
+        }
+
+        public int getVersion() {
+            return buffer.getInt(base() + POST_VERSION);
+        }
+
+        public LocalDate getConceptionDate() {
+            long epochDay = buffer.getLong(base() + POST_CONCEPTION_DAY);
+            return epochDay == NULL_DATE ? null : LocalDate.ofEpochDay(epochDay);
+        }
+
+        public Boolean isOnStreet() {
+            byte onStreet = buffer.get(base() + POST_ON_STREET);
+            return onStreet == NULL_BOOLEAN ? null : onStreet == 1;
+        }
+
+        public double getLatitude() {
+            return buffer.getDouble(base() + POST_LATITUDE);
+        }
+
+        public double getLongitude() {
+            return buffer.getDouble(base() + POST_LONGITUDE);
+        }
+
+        public String getRtpDescription() {
+            return string(buffer.getInt(base() + POST_RTP_DESC));
+        }
+
+        public String getDistrictName() {
+            return string(buffer.getInt(base() + POST_DISTRICT));
+        }
+
+        public int getSignCount() {
+            return buffer.getInt(base() + POST_SIGN_COUNT);
+        }
+
+        /**
+         * Positions a sign view on a sign of this post.
+         *
+         * @param index    the index of the sign in the post, in position order
+         * @param signView the view to position
+         * @return the sign view
+         */
+        public SignView sign(int index, SignView signView) {
+            if (index < 0 || index >= getSignCount()) throw new IndexOutOfBoundsException(index);
+            return signView.moveTo(buffer.getInt(base() + POST_FIRST_SIGN) + index);
+        }
+
+        /**
+         * Materializes the current post. Its signs are lazy: their descriptions are parsed on first access.
+         *
+         * @param descriptionCache the cache used to parse the descriptions, may be <tt>null</tt>
+         * @return a new post equal to the one written
+         */
+        public RoadPost toRoadPost(RpaSignDescCache descriptionCache) {
+            double latitude = getLatitude();
+            Coordinate coordinate = Double.isNaN(latitude) ? null : new Coordinate(latitude, getLongitude());
+
+            int count = getSignCount();
+            List<RoadSign> roadSigns = new ArrayList<>(count);
+            SignView signView = new SignView();
+            for (int i = 0; i < count; i++) roadSigns.add(sign(i, signView).toRoadSign(descriptionCache));
+
+            return new RoadPost(getVersion(), getConceptionDate(), isOnStreet(), getRtpDescription(),
+                    getDistrictName(), coordinate, roadSigns);
+        }
+    }
+
+    /**
+     * Flyweight cursor over the sign records. Its getters read the mapped bytes of the current sign.
+     */
+    public final class SignView {
+        private int base = -1;
+
+        private SignView() {
+        }
+
+        /**
+         * Positions the view on the sign at an index, in post then position order.
+         */
+        public SignView moveTo(int index) {
+            if (index < 0 || index >= signCount) throw new IndexOutOfBoundsException(index);
+            base = signsOffset + index * SIGN_SIZE;
+            return this;
+        }
+
+        private int base() {
+            if (base < 0) throw new IllegalStateException("The view is not positioned on a sign");
+            return base;
+        }
+
+        public long getId() {
+            return buffer.getLong(base() + SIGN_ID);
+        }
+
+        public int getPosition() {
+            return buffer.getInt(base() + SIGN_POSITION);
+        }
+
+        public int getArrowCode() {
+            return buffer.getInt(base() + SIGN_ARROW_CODE);
+        }
+
+        public String getToponymic() {
+            return string(buffer.getInt(base() + SIGN_TOPONYMIC));
+        }
+
+        public String getCategoryDescription() {
+            return string(buffer.getInt(base() + SIGN_CATEGORY_DESC));
+        }
+
+        public RoadSign.RepDescription getRepDescription() {
+            byte ordinal = buffer.get(base() + SIGN_REP_DESC);
+            return ordinal < 0 ? null : RoadSign.RepDescription.values()[ordinal];
+        }
+
+        public boolean hasRpaSign() {
+            return buffer.get(base() + SIGN_HAS_RPA) != 0;
+        }
+
+        public long getRpaId() {
+            return buffer.getLong(base() + SIGN_RPA_ID);
+        }
+
+        public RpaSignCode getRpaCode() {
+            String name = string(buffer.getInt(base() + SIGN_RPA_CODE));
+            if (name == null) return null;
+            int id = RpaSignCodeRegistry.findName(name);
+            return id >= 0 ? RpaSignCodeRegistry.getCode(id) : RpaSignCode.NULL;
+        }
+
+        /**
+         * @return the raw RPA code, even if it is unknown to {@link RpaSignCode}
+         */
+        public String getRpaStrCode() {
+            String name = string(buffer.getInt(base() + SIGN_RPA_CODE));
+            if (name == null) return null;
+            int id = RpaSignCodeRegistry.findName(name);
+            return id >= 0 ? RpaSignCodeRegistry.getStr(id) : name;
+        }
+
+        /**
+         * @return the raw RPA description
+         */
+        public String getRpaDescription() {
+            return string(buffer.getInt(base() + SIGN_RPA_DESC));
+        }
+
+        /**
+         * Materializes the current sign, with a lazy RPA sign.
+         *
+         * @param descriptionCache the cache used to parse the description, may be <tt>null</tt>
+         * @return a new sign equal to the one written
+         */
+        public RoadSign toRoadSign(RpaSignDescCache descriptionCache) {
+            RpaSign rpaSign = null;
+            if (hasRpaSign()) {
+                rpaSign = RpaSign.lazy(getRpaId(), getRpaStrCode(), getRpaDescription(), descriptionCache);
+            }
+            return new RoadSign(getPosition(), getId(), rpaSign, getArrowCode(), getToponymic(),
+                    getCategoryDescription(), getRepDescription());
+        }
+    }
+}
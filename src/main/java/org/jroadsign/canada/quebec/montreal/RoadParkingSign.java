@@ -1,18 +1,32 @@
 package org.jroadsign.canada.quebec.montreal;
 
+import org.jroadsign.canada.quebec.montreal.rpasign.RpaSignCodeRegistry;
+import org.jroadsign.canada.quebec.montreal.rpasign.RpaSignDescCache;
+import org.jroadsign.canada.quebec.montreal.rpasign.rpasigndesc.common.GlobalPatterns;
 import org.jroadsign.common.Coordinate;
 import org.json.JSONArray;
 import org.json.JSONObject;
 
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
 import java.io.BufferedReader;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
 import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
 import java.io.FileReader;
 import java.io.IOException;
 import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.TreeMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.RecursiveAction;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -29,6 +43,8 @@ public class RoadParkingSign {
     private static final String GEOJSON_EXTENSION = ".geojson";
     private static final String JSON_EXTENSION = ".json";
     private static final String CSV_EXTENSION = ".csv";
+    public static final String SNAPSHOT_EXTENSION = ".rpsnap";
+    private static final char CSV_DELIMITER = ',';
 
     private static final String FEATURE_KEY = "features";
     private static final String PROPERTIES_KEY = "properties";
@@ -53,6 +69,7 @@ public class RoadParkingSign {
     private static final String DISTRICT_NAME_KEY = "NOM_ARROND";
 
     TreeMap<Long, RoadPost> roadPosts = new TreeMap<>();
+    private final RpaSignDescCache descriptionCache = new RpaSignDescCache();
 
     public RoadParkingSign() {
     }
@@ -70,84 +87,521 @@ public class RoadParkingSign {
      * @note Authorize files are :
      */
     public RoadParkingSign(File file) throws RoadParkingSignException {
+        this(file, new RoadParkingSignOptions());
+    }
+
+    /**
+     * Represents a Road Parking Sign, read with the given ingestion options.
+     *
+     * @param file    the file to be read and processed. A {@link #SNAPSHOT_EXTENSION} file is loaded as a snapshot
+     *                written by {@link #writeSnapshot(File)}, and the options are then ignored.
+     * @param options the ingestion options (parallelism, ...)
+     * @throws RoadParkingSignException if an unknown file type is encountered
+     */
+    public RoadParkingSign(File file, RoadParkingSignOptions options) throws RoadParkingSignException {
+        if (file.getName().endsWith(SNAPSHOT_EXTENSION)) {
+            this.roadPosts = readSnapshotPosts(file);
+            return;
+        }
+
+        try (RecordIngester ingester = new RecordIngester(options, roadPosts, null)) {
+            ingest(file, ingester);
+        } catch (IOException e) {
+            LOGGER.log(Level.SEVERE,
+                    e, () -> "IOException occurred while reading the file: " + file.getPath());
+        }
+    }
+
+    /**
+     * Reads a file like {@link #RoadParkingSign(File, RoadParkingSignOptions)}, but fails instead of returning the
+     * posts read so far when the file cannot be read.
+     *
+     * @param file    the file to be read and processed (GeoJSON, CSV or snapshot)
+     * @param options the ingestion options
+     * @return the road parking signs of the file
+     * @throws RoadParkingSignException if the file type is unknown or the file cannot be read
+     */
+    public static RoadParkingSign read(File file, RoadParkingSignOptions options) throws RoadParkingSignException {
+        if (file.getName().endsWith(SNAPSHOT_EXTENSION)) return readSnapshot(file);
+
+        RoadParkingSign roadParkingSign = new RoadParkingSign();
+        try (RecordIngester ingester = roadParkingSign.new RecordIngester(options, roadParkingSign.roadPosts, null)) {
+            roadParkingSign.ingest(file, ingester);
+        } catch (IOException e) {
+            throw new RoadParkingSignException("Cannot read " + file.getPath() + ": " + e.getMessage());
+        }
+        return roadParkingSign;
+    }
+
+    private void ingest(File file, RecordIngester ingester) throws IOException, RoadParkingSignException {
         try (BufferedReader bufferedReader = new BufferedReader(new FileReader(file))) {
             String fileName = file.getName();
 
             if (fileName.endsWith(GEOJSON_EXTENSION) || fileName.endsWith(JSON_EXTENSION)) {
-                parseJsonFile(bufferedReader);
+                parseJsonFile(bufferedReader, ingester);
             } else if (fileName.endsWith(CSV_EXTENSION)) {
-                parseCsvFile(bufferedReader);
+                parseCsvFile(bufferedReader, ingester);
             } else {
                 throw new RoadParkingSignException("Unknown file type");
             }
+        }
+    }
 
+    /**
+     * Reloads the posts from a newer release of the dataset, re-parsing only what changed. A sign is reused as is
+     * when its post has the same <tt>POTEAU_ID_POT</tt> and <tt>POTEAU_VERSION_POT</tt> as in the loaded posts and its
+     * raw properties are unchanged; only the other signs are built, so the cost follows the volume of changes. Posts
+     * missing from the new file are dropped, and unchanged posts keep their instance.
+     * <p>
+     * The new file is fully read before anything is applied: if it cannot be read, the loaded posts are left
+     * untouched.
+     *
+     * @param file    the new release of the dataset (GeoJSON or CSV)
+     * @param options the ingestion options; with a filter, posts whose signs are all filtered out are removed
+     * @return the added, updated and removed posts and signs
+     * @throws RoadParkingSignException if the file type is unknown or the file cannot be read
+     */
+    public RoadParkingSignChangeSet applyDelta(File file, RoadParkingSignOptions options)
+            throws RoadParkingSignException {
+        TreeMap<Long, RoadPost> newRoadPosts = new TreeMap<>();
+        try (RecordIngester ingester = new RecordIngester(options, newRoadPosts, roadPosts)) {
+            ingest(file, ingester);
+            LOGGER.fine(() -> "Reused " + ingester.getReusedCount() + " unchanged signs");
         } catch (IOException e) {
-            LOGGER.log(Level.SEVERE,
-                    e, () -> "IOException occurred while reading the file: " + file.getPath());
+            throw new RoadParkingSignException("Cannot read " + file.getPath() + ": " + e.getMessage());
         }
+
+        RoadParkingSignChangeSet changeSet = RoadParkingSignChangeSet.between(roadPosts, newRoadPosts);
+        changeSet.applyTo(roadPosts);
+        return changeSet;
     }
 
-    private void parseCsvFile(BufferedReader bufferedReader) {
-        // TODO: Implement CSV parsing logic
+    /**
+     * Loads a snapshot written by {@link #writeSnapshot(File)}. Nothing is cleaned nor parsed: the posts, signs and
+     * parsed descriptions are rebuilt as they were saved.
+     *
+     * @param file the snapshot file
+     * @return the road parking signs of the snapshot
+     * @throws RoadParkingSignException if the file is not a snapshot, has an unsupported version, or cannot be read
+     */
+    public static RoadParkingSign readSnapshot(File file) throws RoadParkingSignException {
+        return new RoadParkingSign(readSnapshotPosts(file));
     }
 
-    private void parseJsonFile(BufferedReader bufferedReader) throws IOException {
-        StringBuilder content = new StringBuilder();
-        String line;
-        while ((line = bufferedReader.readLine()) != null) {
-            content.append(line);
+    private static TreeMap<Long, RoadPost> readSnapshotPosts(File file) throws RoadParkingSignException {
+        long startTime = System.nanoTime();
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+            TreeMap<Long, RoadPost> posts = RoadParkingSignSnapshot.read(in);
+            LOGGER.fine(() -> String.format("Loaded %d posts from snapshot in %.3f s",
+                    posts.size(), (System.nanoTime() - startTime) / 1e9));
+            return posts;
+        } catch (IOException e) {
+            throw new RoadParkingSignException("Cannot read snapshot " + file.getPath() + ": " + e.getMessage());
         }
+    }
 
-        JSONObject jsonObject = new JSONObject(content.toString());
-        JSONArray features = jsonObject.getJSONArray(FEATURE_KEY);
+    /**
+     * Writes the fully parsed state (posts, signs, codes, cleaned descriptions and parsed rules) to a compact binary
+     * snapshot, see {@link RoadParkingSignSnapshot} for the format. Lazy descriptions are parsed first.
+     *
+     * @param file the snapshot file, conventionally named with {@link #SNAPSHOT_EXTENSION}
+     * @throws IOException if the file cannot be written
+     */
+    public void writeSnapshot(File file) throws IOException {
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(file)))) {
+            RoadParkingSignSnapshot.write(roadPosts, out);
+        }
+    }
 
-        for (int i = 0; i < features.length(); i++) {
-            JSONObject feature = features.getJSONObject(i);
-            JSONObject properties = feature.getJSONObject(PROPERTIES_KEY);
-            extractGeoJsonProperties(properties);
+    /**
+     * Writes the posts to a read-only store meant to be memory-mapped, see {@link MappedRoadPostStore}.
+     *
+     * @param file the store file
+     * @throws IOException if the file cannot be written
+     */
+    public void writePostStore(File file) throws IOException {
+        MappedRoadPostStore.write(roadPosts, file);
+    }
+
+    /**
+     * Maps a store written by {@link #writePostStore(File)}. Nothing is deserialized: the posts are read through
+     * views over the mapped file, whose pages are shared by every process opening it.
+     *
+     * @param file the store file
+     * @return the opened store
+     * @throws RoadParkingSignException if the file is not a post store, has an unsupported version, or cannot be
+     *                                  mapped
+     */
+    public static MappedRoadPostStore openPostStore(File file) throws RoadParkingSignException {
+        try {
+            return MappedRoadPostStore.open(file);
+        } catch (IOException e) {
+            throw new RoadParkingSignException("Cannot map post store " + file.getPath() + ": " + e.getMessage());
         }
     }
 
-    private void extractGeoJsonProperties(JSONObject properties) {
-        int signPosition = properties.getInt(SIGN_POSITION_KEY);
-        long signId = properties.getLong(SIGN_ID_KEY);
-        long signIdRpa = properties.getLong(SIGN_ID_RPA_KEY);
-        String signDescRpa = properties.optString(SIGN_DESC_RPA_KEY, null);
-        String signCodeRpa = properties.optString(SIGN_CODE_RPA_KEY, null);
-        int signArrowCode = properties.getInt(SIGN_ARROW_CODE_KEY);
-        String signToponymic = properties.optString(SIGN_TOPONYMIC_KEY, null);
-        String signCategoryDescription = properties.optString(SIGN_CATEGORY_DESC_KEY, null);
-        String signRepDescription = properties.optString(SIGN_REP_DESC_KEY, null);
-        RpaSign signRpa = new RpaSign(signIdRpa, signCodeRpa, signDescRpa);
+    /**
+     * Reads the CSV export of the dataset. The header is mapped once to column indexes, then each row is split by
+     * {@link CsvRowReader} and converted to the same {@link RoadPost} / {@link RoadSign} graph as the GeoJSON path.
+     * <p>
+     * Both paths log their throughput at {@link Level#FINE}. It covers the whole ingestion, building the signs and
+     * cleaning and parsing their descriptions included, so it only compares the readers when the signs are cheap to
+     * build (ex: with {@link RoadParkingSignOptions#setLazyDescriptions(boolean)}).
+     *
+     * @param bufferedReader the reader of the CSV file
+     * @param ingester       the ingester building the signs of each row
+     * @throws RoadParkingSignException if a required column is missing from the header
+     */
+    private void parseCsvFile(BufferedReader bufferedReader, RecordIngester ingester)
+            throws IOException, RoadParkingSignException {
+        long startTime = System.nanoTime();
+        CsvRowReader csvReader = new CsvRowReader(bufferedReader, CSV_DELIMITER);
+        if (!csvReader.nextRow()) return;
 
-        RoadSign roadSign = new RoadSign(
-                signPosition, signId, signRpa, signArrowCode,
-                signToponymic, signCategoryDescription, signRepDescription
-        );
+        Map<String, Integer> header = new HashMap<>();
+        for (int i = 0; i < csvReader.getFieldCount(); i++) {
+            header.put(csvReader.getString(i), i);
+        }
+
+        int signPositionIndex = requireColumn(header, SIGN_POSITION_KEY);
+        int signIdIndex = requireColumn(header, SIGN_ID_KEY);
+        int signIdRpaIndex = requireColumn(header, SIGN_ID_RPA_KEY);
+        int signDescRpaIndex = header.getOrDefault(SIGN_DESC_RPA_KEY, -1);
+        int signCodeRpaIndex = header.getOrDefault(SIGN_CODE_RPA_KEY, -1);
+        int signArrowCodeIndex = requireColumn(header, SIGN_ARROW_CODE_KEY);
+        int signToponymicIndex = header.getOrDefault(SIGN_TOPONYMIC_KEY, -1);
+        int signCategoryDescIndex = header.getOrDefault(SIGN_CATEGORY_DESC_KEY, -1);
+        int signRepDescIndex = header.getOrDefault(SIGN_REP_DESC_KEY, -1);
+        int postIdIndex = requireColumn(header, POST_ID_KEY);
+        int postVersionIndex = requireColumn(header, POST_VERSION_KEY);
+        int postDateConceptionIndex = header.getOrDefault(POST_DATE_CONCEPTION_KEY, -1);
+        boolean postIsOnStreet = header.containsKey(POST_NOT_ON_STREET_KEY);
+        int postRtpDescIndex = header.getOrDefault(POST_RTP_DESC_KEY, -1);
+        int postLatitudeIndex = requireColumn(header, POST_LATITUDE_KEY);
+        int postLongitudeIndex = requireColumn(header, POST_LONGITUDE_KEY);
+        int districtNameIndex = header.getOrDefault(DISTRICT_NAME_KEY, -1);
+
+        int count = 0;
+        while (csvReader.nextRow()) {
+            if (csvReader.getFieldCount() == 1 && csvReader.isEmpty(0)) continue; // blank line
+
+            RoadSignRecord signRecord = new RoadSignRecord();
+            signRecord.signPosition = csvReader.getInt(signPositionIndex);
+            signRecord.signId = csvReader.getLong(signIdIndex);
+            signRecord.signIdRpa = csvReader.getLong(signIdRpaIndex);
+            signRecord.signDescRpa = csvReader.getString(signDescRpaIndex);
+            signRecord.signCodeRpa = csvReader.getString(signCodeRpaIndex);
+            signRecord.signArrowCode = csvReader.getInt(signArrowCodeIndex);
+            signRecord.signToponymic = csvReader.getString(signToponymicIndex);
+            signRecord.signCategoryDescription = csvReader.getString(signCategoryDescIndex);
+            signRecord.signRepDescription = csvReader.getString(signRepDescIndex);
+            signRecord.postId = csvReader.getLong(postIdIndex);
+            signRecord.postVersion = csvReader.getInt(postVersionIndex);
+            signRecord.postStrDate = csvReader.getString(postDateConceptionIndex);
+            signRecord.postIsOnStreet = postIsOnStreet;
+            signRecord.postRtpDescription = csvReader.getString(postRtpDescIndex);
+            signRecord.postLatitude = csvReader.getDouble(postLatitudeIndex);
+            signRecord.postLongitude = csvReader.getDouble(postLongitudeIndex);
+            signRecord.postDistrictName = csvReader.getString(districtNameIndex);
+
+            ingester.accept(signRecord);
+            count++;
+        }
+        ingester.flush();
+        logThroughput(CSV_EXTENSION, count, startTime);
+        logDiscarded(ingester);
+        LOGGER.fine(descriptionCache::toString);
+    }
+
+    private static int requireColumn(Map<String, Integer> header, String column) throws RoadParkingSignException {
+        Integer index = header.get(column);
+        if (index == null) throw new RoadParkingSignException("Missing CSV column: " + column);
+        return index;
+    }
+
+    /**
+     * Streams the features of a GeoJSON file, one at a time, so that the whole file is never held in memory.
+     *
+     * @param bufferedReader the reader of the GeoJSON file
+     * @param ingester       the ingester building the signs of each feature
+     */
+    private void parseJsonFile(BufferedReader bufferedReader, RecordIngester ingester) {
+        long startTime = System.nanoTime();
+        GeoJsonFeatureReader featureReader = new GeoJsonFeatureReader(bufferedReader, FEATURE_KEY, PROPERTIES_KEY);
+
+        int count = 0;
+        JSONObject properties;
+        while ((properties = featureReader.nextProperties()) != null) {
+            ingester.accept(extractGeoJsonProperties(properties));
+            count++;
+        }
+        ingester.flush();
+        logThroughput(GEOJSON_EXTENSION, count, startTime);
+        logDiscarded(ingester);
+        LOGGER.fine(descriptionCache::toString);
+    }
+
+    private RoadSignRecord extractGeoJsonProperties(JSONObject properties) {
+        RoadSignRecord signRecord = new RoadSignRecord();
+        signRecord.signPosition = properties.getInt(SIGN_POSITION_KEY);
+        signRecord.signId = properties.getLong(SIGN_ID_KEY);
+        signRecord.signIdRpa = properties.getLong(SIGN_ID_RPA_KEY);
+        signRecord.signDescRpa = properties.optString(SIGN_DESC_RPA_KEY, null);
+        signRecord.signCodeRpa = properties.optString(SIGN_CODE_RPA_KEY, null);
+        signRecord.signArrowCode = properties.getInt(SIGN_ARROW_CODE_KEY);
+        signRecord.signToponymic = properties.optString(SIGN_TOPONYMIC_KEY, null);
+        signRecord.signCategoryDescription = properties.optString(SIGN_CATEGORY_DESC_KEY, null);
+        signRecord.signRepDescription = properties.optString(SIGN_REP_DESC_KEY, null);
 
-        long postId = properties.getLong(POST_ID_KEY);
+        signRecord.postId = properties.getLong(POST_ID_KEY);
+        signRecord.postVersion = properties.getInt(POST_VERSION_KEY);
+        signRecord.postStrDate = properties.getString(POST_DATE_CONCEPTION_KEY);
+        signRecord.postIsOnStreet = properties.has(POST_NOT_ON_STREET_KEY) /*&& properties.optDouble(POST_NOT_ON_STREET_KEY, 0) == 0*/;
+        signRecord.postRtpDescription = properties.optString(POST_RTP_DESC_KEY, null);
+        signRecord.postLatitude = properties.getDouble(POST_LATITUDE_KEY);
+        signRecord.postLongitude = properties.getDouble(POST_LONGITUDE_KEY);
+        signRecord.postDistrictName = properties.optString(DISTRICT_NAME_KEY, null);
 
-        if (!roadPosts.containsKey(postId)) {
-            int postVersion = properties.getInt(POST_VERSION_KEY);
-            String postStrDate = properties.getString(POST_DATE_CONCEPTION_KEY);
-            LocalDate postConceptionDate = "NaT".equalsIgnoreCase(postStrDate) ? null : LocalDate.parse(postStrDate);
-            Boolean postIsOnStreet = properties.has(POST_NOT_ON_STREET_KEY) /*&& properties.optDouble(POST_NOT_ON_STREET_KEY, 0) == 0*/;
-            String postRtpDescription = properties.optString(POST_RTP_DESC_KEY, null);
-            Coordinate postCoordinate = new Coordinate(properties.getDouble(POST_LATITUDE_KEY), properties.getDouble(POST_LONGITUDE_KEY));
-            String postDistrictName = properties.optString(DISTRICT_NAME_KEY, null);
+        return signRecord;
+    }
+
+    /**
+     * Builds the sign described by a record. This is where the RPA description is cleaned and parsed (once per
+     * distinct code and description, through the description cache), so it is the part of the ingestion that runs on
+     * the fork-join pool; it must not touch the post map.
+     *
+     * @param signRecord       the raw properties of the sign
+     * @param lazyDescriptions if <tt>true</tt>, the description is only parsed when first requested
+     * @return the sign
+     */
+    private RoadSign buildRoadSign(RoadSignRecord signRecord, boolean lazyDescriptions) {
+        RpaSign signRpa = lazyDescriptions ?
+                RpaSign.lazy(signRecord.signIdRpa, signRecord.signCodeRpa, signRecord.signDescRpa, descriptionCache) :
+                new RpaSign(signRecord.signIdRpa, signRecord.signCodeRpa, signRecord.signDescRpa, descriptionCache);
+
+        return new RoadSign(
+                signRecord.signPosition, signRecord.signId, signRpa, signRecord.signArrowCode,
+                signRecord.signToponymic, signRecord.signCategoryDescription, signRecord.signRepDescription
+        );
+    }
+
+    /**
+     * Attaches a sign to its post (by <tt>POTEAU_ID_POT</tt>), creating the post on its first sign. Signs are always
+     * merged on one thread and in file order, so the resulting graph does not depend on the parallelism.
+     *
+     * @param roadPosts  the posts to merge the sign into
+     * @param signRecord the raw properties of the sign
+     * @param roadSign   the sign built from the record
+     */
+    private static void mergeRoadSign(TreeMap<Long, RoadPost> roadPosts, RoadSignRecord signRecord,
+                                      RoadSign roadSign) {
+        RoadPost roadPost = roadPosts.get(signRecord.postId);
+        if (roadPost == null) {
+            String postStrDate = signRecord.postStrDate;
+            LocalDate postConceptionDate = postStrDate == null || "NaT".equalsIgnoreCase(postStrDate) ?
+                    null : LocalDate.parse(postStrDate);
+            Coordinate postCoordinate = new Coordinate(signRecord.postLatitude, signRecord.postLongitude);
 
             List<RoadSign> listRoadSigns = new ArrayList<>();
             listRoadSigns.add(roadSign);
 
-            roadPosts.put(postId, new RoadPost(postVersion, postConceptionDate, postIsOnStreet,
-                    postRtpDescription, postDistrictName, postCoordinate, listRoadSigns)
+            roadPosts.put(signRecord.postId, new RoadPost(signRecord.postVersion, postConceptionDate,
+                    signRecord.postIsOnStreet, signRecord.postRtpDescription, signRecord.postDistrictName,
+                    postCoordinate, listRoadSigns)
             );
-        } else {
-            RoadPost roadPost = roadPosts.get(postId);
-            if (roadPost.getRoadSigns().contains(roadSign)) {
-                roadPost.addRoadSign(roadSign);
+        } else if (!roadPost.getRoadSigns().contains(roadSign)) {
+            roadPost.addRoadSign(roadSign);
+        }
+    }
+
+    private static void logThroughput(String format, int count, long startTime) {
+        LOGGER.fine(() -> {
+            double seconds = (System.nanoTime() - startTime) / 1e9;
+            return String.format("Read %d %s features in %.3f s (%.0f features/s)",
+                    count, format, seconds, seconds > 0 ? count / seconds : 0);
+        });
+    }
+
+    private static void logDiscarded(RecordIngester ingester) {
+        if (ingester.filter != null)
+            LOGGER.fine(() -> "Discarded " + ingester.getDiscardedCount() + " features with " + ingester.filter);
+    }
+
+    /**
+     * Turns the records read from a file into signs. With a parallelism of 1, each record is built and merged right
+     * away. Otherwise, records are buffered in batches; each batch is split into chunks whose signs are built on a
+     * {@link ForkJoinPool}, then merged into the post map in file order. Records rejected by the filter of the options
+     * are dropped first, before anything is built. When reloading against previous posts, the signs that did not change
+     * are taken from them instead of being built again.
+     */
+    private class RecordIngester implements AutoCloseable {
+
+        private static final int CHUNK_SIZE = 256;
+
+        private final int batchSize;
+        private final boolean lazyDescriptions;
+        private final RoadSignFilter filter;
+        private final TreeMap<Long, RoadPost> target;
+        private final TreeMap<Long, RoadPost> previous;
+        private final ForkJoinPool pool;
+        private final List<RoadSignRecord> batch;
+        private final List<RoadSign> batchReusedSigns;
+        private int discardedCount;
+        private int reusedCount;
+
+        /**
+         * @param options  the ingestion options
+         * @param target   the posts the signs are merged into
+         * @param previous the posts of a previous load whose unchanged signs are reused, or <tt>null</tt>
+         */
+        RecordIngester(RoadParkingSignOptions options, TreeMap<Long, RoadPost> target,
+                       TreeMap<Long, RoadPost> previous) {
+            this.batchSize = options.getBatchSize();
+            this.lazyDescriptions = options.isLazyDescriptions();
+            this.filter = options.getFilter();
+            this.target = target;
+            this.previous = previous;
+            // Lazy descriptions leave nothing expensive to build while reading
+            this.pool = options.getParallelism() > 1 && !lazyDescriptions ?
+                    new ForkJoinPool(options.getParallelism(), options.isWarmUpPatterns() ? PatternWarmingWorker::new
+                            : ForkJoinPool.defaultForkJoinWorkerThreadFactory, null, false) : null;
+            this.batch = pool != null ? new ArrayList<>(batchSize) : null;
+            this.batchReusedSigns = pool != null ? new ArrayList<>(batchSize) : null;
+            if (options.isWarmUpPatterns()) {
+                int count = GlobalPatterns.warmUp();
+                LOGGER.fine(() -> "Warmed up " + count + " description patterns");
+            }
+        }
+
+        void accept(RoadSignRecord signRecord) {
+            if (filter != null && !filter.accept(signRecord)) {
+                discardedCount++;
+                return;
+            }
+            RoadSign reusedSign = findReusableRoadSign(signRecord);
+            if (reusedSign != null) reusedCount++;
+            if (pool == null) {
+                mergeRoadSign(target, signRecord,
+                        reusedSign != null ? reusedSign : buildRoadSign(signRecord, lazyDescriptions));
+                return;
+            }
+            batch.add(signRecord);
+            batchReusedSigns.add(reusedSign);
+            if (batch.size() >= batchSize) flush();
+        }
+
+        void flush() {
+            if (pool == null || batch.isEmpty()) return;
+
+            RoadSign[] roadSigns = batchReusedSigns.toArray(new RoadSign[0]);
+            pool.invoke(new BuildRoadSignsTask(batch, roadSigns, 0, roadSigns.length));
+            for (int i = 0; i < roadSigns.length; i++) {
+                mergeRoadSign(target, batch.get(i), roadSigns[i]);
             }
+            batch.clear();
+            batchReusedSigns.clear();
         }
+
+        /**
+         * @return the sign of the previous posts with the same post id and version, sign id and raw properties, or
+         *         <tt>null</tt> if the sign must be built
+         */
+        private RoadSign findReusableRoadSign(RoadSignRecord signRecord) {
+            if (previous == null) return null;
+            RoadPost previousPost = previous.get(signRecord.postId);
+            if (previousPost == null || previousPost.getVersion() != signRecord.postVersion) return null;
+
+            for (RoadSign roadSign : previousPost.getRoadSigns()) {
+                if (roadSign.getId() == signRecord.signId)
+                    return hasSameProperties(roadSign, signRecord) ? roadSign : null;
+            }
+            return null;
+        }
+
+        private boolean hasSameProperties(RoadSign roadSign, RoadSignRecord signRecord) {
+            RpaSign rpaSign = roadSign.getRpaSign();
+            return roadSign.getPosition() == signRecord.signPosition &&
+                    roadSign.getArrowCode() == signRecord.signArrowCode &&
+                    Objects.equals(roadSign.getToponymic(), signRecord.signToponymic) &&
+                    Objects.equals(roadSign.getCategoryDescription(), signRecord.signCategoryDescription) &&
+                    Objects.equals(roadSign.getRepDescription(),
+                            RoadSign.RepDescription.fromString(signRecord.signRepDescription)) &&
+                    rpaSign != null && rpaSign.getId() == signRecord.signIdRpa &&
+                    Objects.equals(rpaSign.getStrDescription(), signRecord.signDescRpa) &&
+                    rpaSign.getCodeId() == RpaSignCodeRegistry.getId(signRecord.signCodeRpa);
+        }
+
+        /**
+         * @return the number of records rejected by the filter
+         */
+        int getDiscardedCount() {
+            return discardedCount;
+        }
+
+        /**
+         * @return the number of signs taken from the previous posts
+         */
+        int getReusedCount() {
+            return reusedCount;
+        }
+
+        @Override
+        public void close() {
+            if (pool != null) pool.shutdown();
+        }
+    }
+
+    private class BuildRoadSignsTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final transient List<RoadSignRecord> records;
+        private final transient RoadSign[] roadSigns;
+        private final int from;
+        private final int to;
+
+        BuildRoadSignsTask(List<RoadSignRecord> records, RoadSign[] roadSigns, int from, int to) {
+            this.records = records;
+            this.roadSigns = roadSigns;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= RecordIngester.CHUNK_SIZE) {
+                for (int i = from; i < to; i++) {
+                    if (roadSigns[i] == null) roadSigns[i] = buildRoadSign(records.get(i), false);
+                }
+            } else {
+                int middle = (from + to) >>> 1;
+                invokeAll(new BuildRoadSignsTask(records, roadSigns, from, middle),
+                        new BuildRoadSignsTask(records, roadSigns, middle, to));
+            }
+        }
+    }
+
+    /**
+     * Worker of the ingestion pool warming up {@link GlobalPatterns}, whose matchers belong to each thread, before it
+     * builds its first signs.
+     */
+    private static final class PatternWarmingWorker extends ForkJoinWorkerThread {
+
+        PatternWarmingWorker(ForkJoinPool pool) {
+            super(pool);
+        }
+
+        @Override
+        protected void onStart() {
+            super.onStart();
+            GlobalPatterns.warmUp();
+        }
+    }
+
+    /**
+     * @return the cache of the descriptions parsed while reading the file, with its hit and miss counters.
+     */
+    public RpaSignDescCache getDescriptionCache() {
+        return descriptionCache;
     }
 
     public TreeMap<Long, RoadPost> getRoadPosts() {
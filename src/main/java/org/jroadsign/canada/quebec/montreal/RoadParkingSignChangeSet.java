@@ -0,0 +1,120 @@
+package org.jroadsign.canada.quebec.montreal;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * @author - <a href="https://github.com/muhamm-ad">muhamm-ad</a>
+ * @project JRoadSign
+ * @description Differences between two loads of the dataset, as returned by
+ *         {@link RoadParkingSign#applyDelta(java.io.File, RoadParkingSignOptions)}. Posts are compared by
+ *         <tt>POTEAU_ID_POT</tt> and signs by <tt>PANNEAU_ID_PAN</tt> within their post. Updated and added entries
+ *         hold the new values, removed entries the old ones.
+ */
+public class RoadParkingSignChangeSet {
+
+    private final TreeMap<Long, RoadPost> addedPosts = new TreeMap<>();
+    private final TreeMap<Long, RoadPost> updatedPosts = new TreeMap<>();
+    private final TreeMap<Long, RoadPost> removedPosts = new TreeMap<>();
+    private final List<RoadSign> addedSigns = new ArrayList<>();
+    private final List<RoadSign> updatedSigns = new ArrayList<>();
+    private final List<RoadSign> removedSigns = new ArrayList<>();
+
+    private RoadParkingSignChangeSet() {
+    }
+
+    static RoadParkingSignChangeSet between(TreeMap<Long, RoadPost> oldRoadPosts,
+                                            TreeMap<Long, RoadPost> newRoadPosts) {
+        RoadParkingSignChangeSet changeSet = new RoadParkingSignChangeSet();
+
+        for (Map.Entry<Long, RoadPost> entry : newRoadPosts.entrySet()) {
+            RoadPost oldRoadPost = oldRoadPosts.get(entry.getKey());
+            RoadPost newRoadPost = entry.getValue();
+            if (oldRoadPost == null) {
+                changeSet.addedPosts.put(entry.getKey(), newRoadPost);
+                changeSet.addedSigns.addAll(newRoadPost.getRoadSigns());
+            } else if (!oldRoadPost.equals(newRoadPost)) {
+                changeSet.updatedPosts.put(entry.getKey(), newRoadPost);
+                changeSet.compareSigns(oldRoadPost, newRoadPost);
+            }
+        }
+
+        for (Map.Entry<Long, RoadPost> entry : oldRoadPosts.entrySet()) {
+            if (!newRoadPosts.containsKey(entry.getKey())) {
+                changeSet.removedPosts.put(entry.getKey(), entry.getValue());
+                changeSet.removedSigns.addAll(entry.getValue().getRoadSigns());
+            }
+        }
+
+        return changeSet;
+    }
+
+    private void compareSigns(RoadPost oldRoadPost, RoadPost newRoadPost) {
+        Map<Long, RoadSign> oldRoadSigns = new HashMap<>();
+        for (RoadSign roadSign : oldRoadPost.getRoadSigns()) oldRoadSigns.put(roadSign.getId(), roadSign);
+
+        for (RoadSign roadSign : newRoadPost.getRoadSigns()) {
+            RoadSign oldRoadSign = oldRoadSigns.remove(roadSign.getId());
+            if (oldRoadSign == null) addedSigns.add(roadSign);
+            else if (!oldRoadSign.equals(roadSign)) updatedSigns.add(roadSign);
+        }
+        for (RoadSign roadSign : oldRoadPost.getRoadSigns()) {
+            if (oldRoadSigns.containsKey(roadSign.getId())) removedSigns.add(roadSign);
+        }
+    }
+
+    /**
+     * Applies the changes in place, so the posts that did not change keep their instance.
+     *
+     * @param roadPosts the old posts
+     */
+    void applyTo(TreeMap<Long, RoadPost> roadPosts) {
+        roadPosts.keySet().removeAll(removedPosts.keySet());
+        roadPosts.putAll(updatedPosts);
+        roadPosts.putAll(addedPosts);
+    }
+
+    public Map<Long, RoadPost> getAddedPosts() {
+        return Collections.unmodifiableMap(addedPosts);
+    }
+
+    public Map<Long, RoadPost> getUpdatedPosts() {
+        return Collections.unmodifiableMap(updatedPosts);
+    }
+
+    public Map<Long, RoadPost> getRemovedPosts() {
+        return Collections.unmodifiableMap(removedPosts);
+    }
+
+    public List<RoadSign> getAddedSigns() {
+        return Collections.unmodifiableList(addedSigns);
+    }
+
+    public List<RoadSign> getUpdatedSigns() {
+        return Collections.unmodifiableList(updatedSigns);
+    }
+
+    public List<RoadSign> getRemovedSigns() {
+        return Collections.unmodifiableList(removedSigns);
+    }
+
+    public boolean isEmpty() {
+        return addedPosts.isEmpty() && updatedPosts.isEmpty() && removedPosts.isEmpty();
+    }
+
+    @Override
+    public String toString() {
+        return "RoadParkingSignChangeSet{" +
+                "addedPosts=" + addedPosts.size() +
+                ", updatedPosts=" + updatedPosts.size() +
+                ", removedPosts=" + removedPosts.size() +
+                ", addedSigns=" + addedSigns.size() +
+                ", updatedSigns=" + updatedSigns.size() +
+                ", removedSigns=" + removedSigns.size() +
+                '}';
+    }
+}
@@ -0,0 +1,84 @@
+package org.jroadsign.canada.quebec.montreal;
+
+import java.time.Instant;
+import java.util.Collections;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+/**
+ * @author - <a href="https://github.com/muhamm-ad">muhamm-ad</a>
+ * @project JRoadSign
+ * @description Immutable view of a loaded dataset: the posts by <tt>POTEAU_ID_POT</tt>, none of which can be added,
+ *         removed, or have signs added or removed. A dataset is built once from a {@link RoadParkingSign} and can then
+ *         be read by any number of threads without locking; see {@link RoadParkingSignHolder} to swap datasets.
+ */
+public final class RoadParkingSignDataset {
+
+    private static final RoadParkingSignDataset EMPTY =
+            new RoadParkingSignDataset(Collections.emptyNavigableMap(), Instant.EPOCH);
+
+    private final NavigableMap<Long, RoadPost> roadPosts;
+    private final Instant loadedAt;
+
+    private RoadParkingSignDataset(NavigableMap<Long, RoadPost> roadPosts, Instant loadedAt) {
+        this.roadPosts = roadPosts;
+        this.loadedAt = loadedAt;
+    }
+
+    /**
+     * Copies the posts of a loaded dataset into an immutable one. The source can be modified afterward without
+     * affecting the copy.
+     *
+     * @param roadParkingSign the loaded dataset
+     * @return the immutable dataset
+     */
+    public static RoadParkingSignDataset of(RoadParkingSign roadParkingSign) {
+        TreeMap<Long, RoadPost> roadPosts = new TreeMap<>();
+        for (Map.Entry<Long, RoadPost> entry : roadParkingSign.getRoadPosts().entrySet()) {
+            roadPosts.put(entry.getKey(), entry.getValue().toReadOnly());
+        }
+        return new RoadParkingSignDataset(Collections.unmodifiableNavigableMap(roadPosts), Instant.now());
+    }
+
+    /**
+     * @return a dataset without any post
+     */
+    public static RoadParkingSignDataset empty() {
+        return EMPTY;
+    }
+
+    /**
+     * @return the posts by <tt>POTEAU_ID_POT</tt>, read-only
+     */
+    public NavigableMap<Long, RoadPost> getRoadPosts() {
+        return roadPosts;
+    }
+
+    /**
+     * @param postId a <tt>POTEAU_ID_POT</tt>
+     * @return the post, or <tt>null</tt> if the dataset has no such post
+     */
+    public RoadPost getRoadPost(long postId) {
+        return roadPosts.get(postId);
+    }
+
+    public int size() {
+        return roadPosts.size();
+    }
+
+    /**
+     * @return when the dataset was built
+     */
+    public Instant getLoadedAt() {
+        return loadedAt;
+    }
+
+    @Override
+    public String toString() {
+        return "RoadParkingSignDataset{" +
+                "size=" + size() +
+                ", loadedAt=" + loadedAt +
+                '}';
+    }
+}
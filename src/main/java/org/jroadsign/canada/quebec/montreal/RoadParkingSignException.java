@@ -7,6 +7,9 @@ package org.jroadsign.canada.quebec.montreal;
  * @created 14/08/2024 - 6:44 PM
  */
 public class RoadParkingSignException extends Exception {
-    public RoadParkingSignException(String unknownFileType) {
+    private static final long serialVersionUID = 1L;
+
+    public RoadParkingSignException(String message) {
+        super(message);
     }
 }
@@ -0,0 +1,162 @@
+package org.jroadsign.canada.quebec.montreal;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * @author - <a href="https://github.com/muhamm-ad">muhamm-ad</a>
+ * @project JRoadSign
+ * @description Holds the current {@link RoadParkingSignDataset} and swaps in new ones atomically. Readers call
+ *         {@link #get()} (a single volatile read, no lock) and keep using the dataset they got, which stays
+ *         consistent even while a newer one is being built or swapped in. A new dataset is always built completely
+ *         before it is published; if building it fails, the current one is kept.
+ *         <p>
+ *         {@link #watch(File, RoadParkingSignOptions)} optionally rebuilds the dataset in the background whenever the
+ *         source file is created or modified.
+ */
+public class RoadParkingSignHolder implements AutoCloseable {
+
+    private static final Logger LOGGER = Logger.getLogger(RoadParkingSignHolder.class.getName());
+
+    /**
+     * Time without new events on the watched file before a rebuild starts, so a file being written is read once.
+     */
+    static final long WATCH_QUIET_PERIOD_MILLIS = 200;
+
+    private final AtomicReference<RoadParkingSignDataset> current;
+    private final AtomicLong swapCount = new AtomicLong();
+    private WatchService watchService;
+    private Thread watchThread;
+
+    public RoadParkingSignHolder() {
+        this(RoadParkingSignDataset.empty());
+    }
+
+    public RoadParkingSignHolder(RoadParkingSignDataset dataset) {
+        this.current = new AtomicReference<>(dataset);
+    }
+
+    /**
+     * @return the current dataset, without locking
+     */
+    public RoadParkingSignDataset get() {
+        return current.get();
+    }
+
+    /**
+     * Publishes a new dataset.
+     *
+     * @param dataset the new dataset
+     * @return the previous dataset
+     */
+    public RoadParkingSignDataset swap(RoadParkingSignDataset dataset) {
+        if (dataset == null) throw new IllegalArgumentException("Dataset cannot be null");
+        RoadParkingSignDataset previous = current.getAndSet(dataset);
+        swapCount.incrementAndGet();
+        LOGGER.fine(() -> "Swapped " + previous + " for " + dataset);
+        return previous;
+    }
+
+    /**
+     * Builds a dataset from a file on the calling thread, then publishes it. Readers keep seeing the current dataset
+     * until then.
+     *
+     * @param file    the dataset file (GeoJSON, CSV or snapshot)
+     * @param options the ingestion options
+     * @return the new dataset
+     * @throws RoadParkingSignException if the file cannot be read; the current dataset is then kept
+     */
+    public RoadParkingSignDataset reload(File file, RoadParkingSignOptions options) throws RoadParkingSignException {
+        if (!file.canRead()) throw new RoadParkingSignException("Cannot read " + file.getPath());
+
+        RoadParkingSignDataset dataset = RoadParkingSignDataset.of(RoadParkingSign.read(file, options));
+        swap(dataset);
+        return dataset;
+    }
+
+    /**
+     * @return the number of datasets published since the holder was created
+     */
+    public long getSwapCount() {
+        return swapCount.get();
+    }
+
+    /**
+     * Starts a daemon thread that reloads the dataset each time the file is created or modified. Failed reloads are
+     * logged and the current dataset is kept.
+     *
+     * @param file    the dataset file to watch
+     * @param options the ingestion options used for each reload
+     * @throws IOException if the directory of the file cannot be watched
+     */
+    public synchronized void watch(File file, RoadParkingSignOptions options) throws IOException {
+        if (watchService != null) throw new IllegalStateException("Already watching a file");
+
+        Path path = file.getAbsoluteFile().toPath();
+        WatchService service = FileSystems.getDefault().newWatchService();
+        path.getParent().register(service,
+                StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY);
+
+        watchService = service;
+        watchThread = new Thread(() -> watchLoop(service, path, options), "RoadParkingSignHolder-watch");
+        watchThread.setDaemon(true);
+        watchThread.start();
+    }
+
+    private void watchLoop(WatchService service, Path path, RoadParkingSignOptions options) {
+        try {
+            while (true) {
+                if (!isEventOn(service.take(), path)) continue;
+
+                // Wait for the writer to be done
+                WatchKey key;
+                while ((key = service.poll(WATCH_QUIET_PERIOD_MILLIS, TimeUnit.MILLISECONDS)) != null) {
+                    isEventOn(key, path);
+                }
+
+                try {
+                    reload(path.toFile(), options);
+                } catch (RoadParkingSignException | RuntimeException e) {
+                    LOGGER.log(Level.SEVERE, e, () -> "Cannot reload " + path + ", keeping " + get());
+                }
+            }
+        } catch (ClosedWatchServiceException e) {
+            // closed by close()
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static boolean isEventOn(WatchKey key, Path path) {
+        boolean found = false;
+        for (WatchEvent<?> event : key.pollEvents()) {
+            if (path.getFileName().equals(event.context())) found = true;
+        }
+        key.reset();
+        return found;
+    }
+
+    /**
+     * Stops watching the file, if any.
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        if (watchService == null) return;
+        watchService.close();
+        watchThread.interrupt();
+        watchService = null;
+        watchThread = null;
+    }
+}
@@ -0,0 +1,99 @@
+package org.jroadsign.canada.quebec.montreal;
+
+import org.jroadsign.canada.quebec.montreal.rpasign.rpasigndesc.common.GlobalPatterns;
+
+/**
+ * @author - <a href="https://github.com/muhamm-ad">muhamm-ad</a>
+ * @project JRoadSign
+ * @description Options controlling how {@link RoadParkingSign} ingests a dataset file.
+ */
+public class RoadParkingSignOptions {
+
+    public static final int DEFAULT_BATCH_SIZE = 8192;
+
+    private int parallelism = 1;
+    private int batchSize = DEFAULT_BATCH_SIZE;
+    private boolean lazyDescriptions = false;
+    private RoadSignFilter filter;
+    private boolean warmUpPatterns = false;
+
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    /**
+     * @param parallelism the number of threads used to clean and parse the sign descriptions. <tt>1</tt> (the
+     *                    default) parses on the calling thread.
+     */
+    public RoadParkingSignOptions setParallelism(int parallelism) {
+        if (parallelism < 1) throw new IllegalArgumentException("Parallelism must be positive: " + parallelism);
+        this.parallelism = parallelism;
+        return this;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    /**
+     * @param batchSize the number of features read before a batch is parsed in parallel. It bounds the number of
+     *                  raw features held in memory at once.
+     */
+    public RoadParkingSignOptions setBatchSize(int batchSize) {
+        if (batchSize < 1) throw new IllegalArgumentException("Batch size must be positive: " + batchSize);
+        this.batchSize = batchSize;
+        return this;
+    }
+
+    public boolean isLazyDescriptions() {
+        return lazyDescriptions;
+    }
+
+    /**
+     * @param lazyDescriptions if <tt>true</tt>, the RPA descriptions are kept raw while reading and only cleaned and
+     *                         parsed on the first {@link RpaSign#getDescription()} call. Reading is then bound by I/O
+     *                         for consumers that only need the posts, codes or REP descriptions.
+     */
+    public RoadParkingSignOptions setLazyDescriptions(boolean lazyDescriptions) {
+        this.lazyDescriptions = lazyDescriptions;
+        return this;
+    }
+
+    public RoadSignFilter getFilter() {
+        return filter;
+    }
+
+    /**
+     * @param filter the filter applied to the raw properties of each feature before its sign is built, or
+     *               <tt>null</tt> (the default) to ingest every feature.
+     */
+    public RoadParkingSignOptions setFilter(RoadSignFilter filter) {
+        this.filter = filter;
+        return this;
+    }
+
+    public boolean isWarmUpPatterns() {
+        return warmUpPatterns;
+    }
+
+    /**
+     * @param warmUpPatterns if <tt>true</tt>, the regular expressions of {@link GlobalPatterns} are all compiled and
+     *                       run once before the first feature is read, instead of on the first descriptions, by the
+     *                       reading thread and by each worker of the parallel ingestion.
+     */
+    public RoadParkingSignOptions setWarmUpPatterns(boolean warmUpPatterns) {
+        this.warmUpPatterns = warmUpPatterns;
+        return this;
+    }
+
+    @Override
+    public String toString() {
+        return "RoadParkingSignOptions{" +
+                "parallelism=" + parallelism +
+                ", batchSize=" + batchSize +
+                ", lazyDescriptions=" + lazyDescriptions +
+                ", filter=" + filter +
+                ", warmUpPatterns=" + warmUpPatterns +
+                '}';
+    }
+}
@@ -0,0 +1,322 @@
+package org.jroadsign.canada.quebec.montreal;
+
+import org.jroadsign.canada.quebec.montreal.rpasign.RpaSignCode;
+import org.jroadsign.canada.quebec.montreal.rpasign.RpaSignCodeRegistry;
+import org.jroadsign.canada.quebec.montreal.rpasign.RpaSignDesc;
+import org.jroadsign.canada.quebec.montreal.rpasign.rpasigndesc.AnnualMonthRange;
+import org.jroadsign.canada.quebec.montreal.rpasign.rpasigndesc.DailyTimeRange;
+import org.jroadsign.canada.quebec.montreal.rpasign.rpasigndesc.DurationMinutes;
+import org.jroadsign.canada.quebec.montreal.rpasign.rpasigndesc.RpaSignDescRule;
+import org.jroadsign.common.Coordinate;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.MonthDay;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * @author - <a href="https://github.com/muhamm-ad">muhamm-ad</a>
+ * @project JRoadSign
+ * @description Binary snapshot of a fully parsed {@link RoadParkingSign}: posts, signs, codes, cleaned descriptions
+ *         and parsed rules. Loading a snapshot rebuilds the same graph without reading nor parsing the dataset again.
+ *         <p>
+ *         Layout (all numbers big-endian, <tt>varint</tt> = unsigned LEB128, <tt>ref</tt> = varint index + 1 in the
+ *         string dictionary, <tt>0</tt> for <tt>null</tt>):
+ *         <pre>
+ *         int MAGIC, short VERSION
+ *         varint stringCount, { varint byteLength, UTF-8 bytes }
+ *         varint descriptionCount, { ref description, ref cleaned, varint ruleCount, { rule } }
+ *         varint postCount, { long postId, post, varint signCount, { sign } }
+ *         </pre>
+ *         Each distinct string and each distinct parsed description is written once and shared again on load. The
+ *         format does not rely on {@link java.io.Serializable}; any change to it must bump {@link #VERSION}.
+ */
+final class RoadParkingSignSnapshot {
+
+    static final int MAGIC = 0x4A525353; // "JRSS"
+    static final short VERSION = 3;
+
+    private static final byte NULL_BOOLEAN = 2;
+
+    private RoadParkingSignSnapshot() {
+    }
+
+    static void write(TreeMap<Long, RoadPost> roadPosts, DataOutputStream out) throws IOException {
+        Dictionary dictionary = new Dictionary();
+        for (RoadPost roadPost : roadPosts.values()) dictionary.addPost(roadPost);
+
+        out.writeInt(MAGIC);
+        out.writeShort(VERSION);
+
+        writeVarInt(out, dictionary.strings.size());
+        for (String string : dictionary.strings.keySet()) {
+            byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+            writeVarInt(out, bytes.length);
+            out.write(bytes);
+        }
+
+        writeVarInt(out, dictionary.descriptions.size());
+        for (RpaSignDesc description : dictionary.descriptions.keySet()) {
+            writeRef(out, dictionary, description.getStrDescription());
+            writeRef(out, dictionary, description.getStrDescriptionCleaned());
+            writeVarInt(out, description.getRpaSignDescRules().size());
+            for (RpaSignDescRule rule : description.getRpaSignDescRules()) writeRule(out, dictionary, rule);
+        }
+
+        writeVarInt(out, roadPosts.size());
+        for (Map.Entry<Long, RoadPost> entry : roadPosts.entrySet()) {
+            out.writeLong(entry.getKey());
+            writePost(out, dictionary, entry.getValue());
+        }
+        out.flush();
+    }
+
+    static TreeMap<Long, RoadPost> read(DataInputStream in) throws IOException, RoadParkingSignException {
+        if (in.readInt() != MAGIC) throw new RoadParkingSignException("Not a road parking sign snapshot");
+        short version = in.readShort();
+        if (version != VERSION)
+            throw new RoadParkingSignException("Unsupported snapshot version: " + version + " (expected " + VERSION + ")");
+
+        String[] strings = new String[readVarInt(in)];
+        byte[] buffer = new byte[256];
+        for (int i = 0; i < strings.length; i++) {
+            int length = readVarInt(in);
+            if (buffer.length < length) buffer = new byte[Math.max(length, buffer.length * 2)];
+            in.readFully(buffer, 0, length);
+            strings[i] = new String(buffer, 0, length, StandardCharsets.UTF_8);
+        }
+
+        RpaSignDesc[] descriptions = new RpaSignDesc[readVarInt(in)];
+        for (int i = 0; i < descriptions.length; i++) {
+            String strDescription = readRef(in, strings);
+            String strDescriptionCleaned = readRef(in, strings);
+            int ruleCount = readVarInt(in);
+            List<RpaSignDescRule> rules = new ArrayList<>(ruleCount);
+            for (int j = 0; j < ruleCount; j++) rules.add(readRule(in, strings));
+            descriptions[i] = new RpaSignDesc(strDescriptionCleaned, strDescription, rules);
+        }
+
+        TreeMap<Long, RoadPost> roadPosts = new TreeMap<>();
+        int postCount = readVarInt(in);
+        for (int i = 0; i < postCount; i++) {
+            long postId = in.readLong();
+            roadPosts.put(postId, readPost(in, strings, descriptions));
+        }
+        return roadPosts;
+    }
+
+    private static void writeRule(DataOutputStream out, Dictionary dictionary, RpaSignDescRule rule)
+            throws IOException {
+        out.writeBoolean(rule.isParkingAuthorized());
+        out.writeBoolean(rule.isAllTimesExcept());
+
+        writeVarInt(out, rule.getListDurationMinutes().size());
+        for (DurationMinutes duration : rule.getListDurationMinutes()) writeVarInt(out, duration.getDuration());
+
+        writeVarInt(out, rule.getListDailyTimeRange().size());
+        for (DailyTimeRange timeRange : rule.getListDailyTimeRange()) {
+            writeVarInt(out, timeRange.getStart().toSecondOfDay());
+            writeVarInt(out, timeRange.getEnd().toSecondOfDay());
+        }
+
+        writeVarInt(out, rule.getListDay().size());
+        for (DayOfWeek day : rule.getListDay()) out.writeByte(day.getValue());
+
+        writeVarInt(out, rule.getListAnnualMonthRange().size());
+        for (AnnualMonthRange monthRange : rule.getListAnnualMonthRange()) {
+            writeMonthDay(out, monthRange.getStart());
+            writeMonthDay(out, monthRange.getEnd());
+        }
+
+        writeRef(out, dictionary, rule.getAdditionalMetaData());
+    }
+
+    private static RpaSignDescRule readRule(DataInputStream in, String[] strings) throws IOException {
+        boolean parkingAuthorized = in.readBoolean();
+        boolean allTimesExcept = in.readBoolean();
+
+        int count = readVarInt(in);
+        List<DurationMinutes> durations = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) durations.add(new DurationMinutes(readVarInt(in)));
+
+        count = readVarInt(in);
+        List<DailyTimeRange> timeRanges = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            LocalTime start = LocalTime.ofSecondOfDay(readVarInt(in));
+            LocalTime end = LocalTime.ofSecondOfDay(readVarInt(in));
+            timeRanges.add(DailyTimeRange.of(start, end));
+        }
+
+        count = readVarInt(in);
+        List<DayOfWeek> days = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) days.add(DayOfWeek.of(in.readByte()));
+
+        count = readVarInt(in);
+        List<AnnualMonthRange> monthRanges = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            MonthDay start = readMonthDay(in);
+            MonthDay end = readMonthDay(in);
+            monthRanges.add(AnnualMonthRange.of(start, end));
+        }
+
+        String additionalMetaData = readRef(in, strings);
+        return new RpaSignDescRule(parkingAuthorized, allTimesExcept, durations, timeRanges, days, monthRanges,
+                additionalMetaData);
+    }
+
+    private static void writePost(DataOutputStream out, Dictionary dictionary, RoadPost roadPost) throws IOException {
+        out.writeInt(roadPost.getVersion());
+        out.writeBoolean(roadPost.getConceptionDate() != null);
+        if (roadPost.getConceptionDate() != null) out.writeLong(roadPost.getConceptionDate().toEpochDay());
+        out.writeByte(roadPost.isOnStreet() == null ? NULL_BOOLEAN : roadPost.isOnStreet() ? 1 : 0);
+        writeRef(out, dictionary, roadPost.getRtpDescription());
+        writeRef(out, dictionary, roadPost.getDistrictName());
+        out.writeBoolean(roadPost.getCoordinate() != null);
+        if (roadPost.getCoordinate() != null) {
+            out.writeDouble(roadPost.getCoordinate().getLat());
+            out.writeDouble(roadPost.getCoordinate().getLon());
+        }
+
+        writeVarInt(out, roadPost.getRoadSigns().size());
+        for (RoadSign roadSign : roadPost.getRoadSigns()) writeSign(out, dictionary, roadSign);
+    }
+
+    private static RoadPost readPost(DataInputStream in, String[] strings, RpaSignDesc[] descriptions)
+            throws IOException {
+        int version = in.readInt();
+        LocalDate conceptionDate = in.readBoolean() ? LocalDate.ofEpochDay(in.readLong()) : null;
+        byte onStreet = in.readByte();
+        Boolean isOnStreet = onStreet == NULL_BOOLEAN ? null : onStreet == 1;
+        String rtpDescription = readRef(in, strings);
+        String districtName = readRef(in, strings);
+        Coordinate coordinate = in.readBoolean() ? new Coordinate(in.readDouble(), in.readDouble()) : null;
+
+        int signCount = readVarInt(in);
+        List<RoadSign> roadSigns = new ArrayList<>(signCount);
+        for (int i = 0; i < signCount; i++) roadSigns.add(readSign(in, strings, descriptions));
+
+        return new RoadPost(version, conceptionDate, isOnStreet, rtpDescription, districtName, coordinate, roadSigns);
+    }
+
+    private static void writeSign(DataOutputStream out, Dictionary dictionary, RoadSign roadSign) throws IOException {
+        out.writeInt(roadSign.getPosition());
+        out.writeLong(roadSign.getId());
+        out.writeInt(roadSign.getArrowCode());
+        writeRef(out, dictionary, roadSign.getToponymic());
+        writeRef(out, dictionary, roadSign.getCategoryDescription());
+        out.writeByte(roadSign.getRepDescription() == null ? -1 : roadSign.getRepDescription().ordinal());
+
+        RpaSign rpaSign = roadSign.getRpaSign();
+        out.writeBoolean(rpaSign != null);
+        if (rpaSign != null) {
+            out.writeLong(rpaSign.getId());
+            writeRef(out, dictionary, RpaSignCodeRegistry.getName(rpaSign.getCodeId()));
+            RpaSignDesc description = rpaSign.getDescription();
+            writeVarInt(out, description != null ? dictionary.descriptions.get(description) + 1 : 0);
+        }
+    }
+
+    private static RoadSign readSign(DataInputStream in, String[] strings, RpaSignDesc[] descriptions)
+            throws IOException {
+        int position = in.readInt();
+        long id = in.readLong();
+        int arrowCode = in.readInt();
+        String toponymic = readRef(in, strings);
+        String categoryDescription = readRef(in, strings);
+        byte repDescription = in.readByte();
+
+        RpaSign rpaSign = null;
+        if (in.readBoolean()) {
+            long rpaId = in.readLong();
+            String codeName = readRef(in, strings);
+            int descriptionIndex = readVarInt(in);
+            rpaSign = new RpaSign(rpaId,
+                    codeName != null ? RpaSignCodeRegistry.fromName(codeName) : RpaSignCode.NULL.ordinal(),
+                    descriptionIndex > 0 ? descriptions[descriptionIndex - 1] : null);
+        }
+
+        return new RoadSign(position, id, rpaSign, arrowCode, toponymic, categoryDescription,
+                repDescription < 0 ? null : RoadSign.RepDescription.values()[repDescription]);
+    }
+
+    private static void writeMonthDay(DataOutputStream out, MonthDay monthDay) throws IOException {
+        out.writeByte(monthDay.getMonthValue());
+        out.writeByte(monthDay.getDayOfMonth());
+    }
+
+    private static MonthDay readMonthDay(DataInputStream in) throws IOException {
+        int month = in.readByte();
+        return MonthDay.of(month, in.readByte());
+    }
+
+    private static void writeRef(DataOutputStream out, Dictionary dictionary, String string) throws IOException {
+        writeVarInt(out, string != null ? dictionary.strings.get(string) + 1 : 0);
+    }
+
+    private static String readRef(DataInputStream in, String[] strings) throws IOException {
+        int ref = readVarInt(in);
+        return ref > 0 ? strings[ref - 1] : null;
+    }
+
+    private static void writeVarInt(DataOutputStream out, int value) throws IOException {
+        while ((value & ~0x7F) != 0) {
+            out.writeByte((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.writeByte(value);
+    }
+
+    private static int readVarInt(DataInputStream in) throws IOException {
+        int value = 0;
+        for (int shift = 0; shift < 32; shift += 7) {
+            byte b = in.readByte();
+            value |= (b & 0x7F) << shift;
+            if (b >= 0) return value;
+        }
+        throw new IOException("Corrupted snapshot: malformed varint");
+    }
+
+    /**
+     * Indexes, in order of first appearance, the distinct strings and parsed descriptions of the posts.
+     */
+    private static final class Dictionary {
+        private final Map<String, Integer> strings = new LinkedHashMap<>();
+        private final Map<RpaSignDesc, Integer> descriptions = new LinkedHashMap<>();
+
+        void addPost(RoadPost roadPost) {
+            addString(roadPost.getRtpDescription());
+            addString(roadPost.getDistrictName());
+            for (RoadSign roadSign : roadPost.getRoadSigns()) {
+                addString(roadSign.getToponymic());
+                addString(roadSign.getCategoryDescription());
+
+                RpaSign rpaSign = roadSign.getRpaSign();
+                if (rpaSign == null) continue;
+                addString(RpaSignCodeRegistry.getName(rpaSign.getCodeId()));
+                RpaSignDesc description = rpaSign.getDescription();
+                if (description != null && !descriptions.containsKey(description))
+                    addDescription(description);
+            }
+        }
+
+        private void addDescription(RpaSignDesc description) {
+            descriptions.put(description, descriptions.size());
+            addString(description.getStrDescription());
+            addString(description.getStrDescriptionCleaned());
+            for (RpaSignDescRule rule : description.getRpaSignDescRules()) addString(rule.getAdditionalMetaData());
+        }
+
+        private void addString(String string) {
+            if (string != null) strings.putIfAbsent(string, strings.size());
+        }
+    }
+}
@@ -1,10 +1,15 @@
 package org.jroadsign.canada.quebec.montreal;
 
+import org.jetbrains.annotations.NotNull;
+import org.jroadsign.canada.quebec.montreal.rpasign.RpaSignDesc;
+import org.jroadsign.canada.quebec.montreal.rpasign.rpasigndesc.RpaSignDescBitmap;
+import org.jroadsign.canada.quebec.montreal.rpasign.rpasigndesc.RpaSignDescTimeline;
 import org.jroadsign.common.Coordinate;
 import org.json.JSONArray;
 import org.json.JSONObject;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Objects;
@@ -22,7 +27,7 @@ public class RoadPost implements Comparable<RoadPost> {
     private final Coordinate coordinate; // Coordinate (WGS84) of the post
     private final String districtName; // District of the sign
     private final List<RoadSign> roadSigns;
-
+    private volatile RpaSignDescTimeline timeline; // built on first use, dropped when the signs change
 
     public RoadPost(int version, LocalDate conceptionDate, Boolean isOnStreet, String rtpDescription, String districtName,
                     Coordinate coordinate, List<RoadSign> roadSigns) {
@@ -37,6 +42,25 @@ public class RoadPost implements Comparable<RoadPost> {
         this.roadSigns = roadSigns;
     }
 
+    private RoadPost(RoadPost roadPost, List<RoadSign> roadSigns) {
+        this.version = roadPost.version;
+        this.conceptionDate = roadPost.conceptionDate;
+        this.isOnStreet = roadPost.isOnStreet;
+        this.rtpDescription = roadPost.rtpDescription;
+        this.districtName = roadPost.districtName;
+        this.coordinate = roadPost.coordinate;
+        this.roadSigns = roadSigns;
+        this.timeline = roadPost.timeline;
+    }
+
+    /**
+     * @return an equal post whose signs cannot be added nor removed, safe to share with concurrent readers. The signs
+     *         themselves are shared with this post.
+     */
+    public RoadPost toReadOnly() {
+        return new RoadPost(this, List.copyOf(roadSigns));
+    }
+
     public int getVersion() {
         return version;
     }
@@ -65,12 +89,56 @@ public class RoadPost implements Comparable<RoadPost> {
         return roadSigns;
     }
 
+    /**
+     * Returns when parking is allowed at the post, merging the descriptions of all its signs (see
+     * {@link RoadSignFilter} to keep only some of them). It is built on the first call, parsing the descriptions of
+     * lazy signs, and is the same timeline for all the posts whose signs allow parking at the same times.
+     *
+     * @return the timeline of the post
+     */
+    public RpaSignDescTimeline getTimeline() {
+        RpaSignDescTimeline result = timeline;
+        if (result == null) {
+            RpaSignDescBitmap bitmap = RpaSignDescBitmap.allowed(1);
+            for (RoadSign roadSign : roadSigns) {
+                RpaSignDesc description = roadSign.getRpaSign() != null ? roadSign.getRpaSign().getDescription() : null;
+                if (description != null) bitmap = bitmap.and(description.toBitmap(1));
+            }
+            result = RpaSignDescTimeline.of(bitmap);
+            timeline = result;
+        }
+        return result;
+    }
+
+    /**
+     * @see RpaSignDescTimeline#stateAt(LocalDateTime)
+     */
+    public boolean isParkingAllowed(@NotNull LocalDateTime dateTime) {
+        return getTimeline().stateAt(dateTime);
+    }
+
+    /**
+     * @see RpaSignDescTimeline#nextTransition(LocalDateTime)
+     */
+    public LocalDateTime nextTransition(@NotNull LocalDateTime dateTime) {
+        return getTimeline().nextTransition(dateTime);
+    }
+
+    /**
+     * Adds a sign, keeping the signs ordered by position as the constructor does.
+     *
+     * @param roadSign the sign to add
+     */
     public void addRoadSign(RoadSign roadSign) {
-        roadSigns.add(roadSign);
+        int index = roadSigns.size();
+        while (index > 0 && roadSigns.get(index - 1).getPosition() > roadSign.getPosition()) index--;
+        roadSigns.add(index, roadSign);
+        timeline = null;
     }
 
     public void removeRoadSign(RoadSign roadSign) {
         roadSigns.remove(roadSign);
+        timeline = null;
     }
 
     @Override
@@ -54,7 +54,21 @@ public class RoadSign implements Comparable<RoadSign> {
     private RepDescription repDescription; // Description of the REP (Regulation Explanation Panel) of the RoadSign
 
     public enum RepDescription {
-        REAL, REMOVED, ARCHIVED, IN_DESIGN
+        REAL, REMOVED, ARCHIVED, IN_DESIGN;
+
+        /**
+         * @param repDes the raw <tt>DESCRIPTION_REP</tt> of a sign
+         * @return its state, {@link #ARCHIVED} for any unknown value
+         */
+        public static RepDescription fromString(String repDes) {
+            if (repDes == null) return null;
+            return switch (repDes) {
+                case "Réel" -> REAL;
+                case "Enlevé" -> REMOVED;
+                case "En conception" -> IN_DESIGN;
+                default -> ARCHIVED;
+            };
+        }
     }
 
     public enum Direction {
@@ -73,6 +87,17 @@ public class RoadSign implements Comparable<RoadSign> {
         // this.image = this.repDescription != RepDescription.REEL ? emptyImage : setImage(rpa);
     }
 
+    public RoadSign(int position, long id, RpaSign rpaSign, int arrowCode, String toponymic, String categoryDescription,
+                    RepDescription repDescription) {
+        this.position = position;
+        this.id = id;
+        this.rpaSign = rpaSign;
+        this.arrowCode = arrowCode;
+        this.toponymic = toponymic;
+        this.categoryDescription = categoryDescription;
+        this.repDescription = repDescription;
+    }
+
     private BufferedImage setImage(RpaSign rpaSign) {
         BufferedImage img = null;
 
@@ -127,13 +152,8 @@ public class RoadSign implements Comparable<RoadSign> {
         return repDescription;
     }
 
-    private void setRepDescription(@NotNull String repDes) {
-        switch (repDes) {
-            case "Réel" -> repDescription = RepDescription.REAL;
-            case "Enlevé" -> repDescription = RepDescription.REMOVED;
-            case "En conception" -> repDescription = RepDescription.IN_DESIGN;
-            default -> repDescription = RepDescription.ARCHIVED;
-        }
+    private void setRepDescription(String repDes) {
+        repDescription = RepDescription.fromString(repDes);
     }
 
     public boolean isReal() {
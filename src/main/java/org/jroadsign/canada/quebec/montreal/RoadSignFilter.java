@@ -0,0 +1,112 @@
+package org.jroadsign.canada.quebec.montreal;
+
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * @author - <a href="https://github.com/muhamm-ad">muhamm-ad</a>
+ * @project JRoadSign
+ * @description Ingestion filter evaluated on the raw properties of each feature, before its {@link RpaSign} is built,
+ *         so a discarded feature is never cleaned nor parsed and its post is not created unless another sign keeps
+ *         it. Every criterion is optional; a feature is kept only if it matches all the criteria set.
+ */
+public class RoadSignFilter {
+
+    private EnumSet<RoadSign.RepDescription> repDescriptions;
+    private Set<String> districtNames;
+    private boolean hasBoundingBox;
+    private double minLatitude;
+    private double minLongitude;
+    private double maxLatitude;
+    private double maxLongitude;
+    private String[] codePrefixes;
+    private Boolean onStreet;
+
+    /**
+     * Keeps the signs whose <tt>DESCRIPTION_REP</tt> is one of the given states, e.g. {@link RoadSign.RepDescription#REAL}.
+     */
+    public RoadSignFilter setRepDescriptions(RoadSign.RepDescription first, RoadSign.RepDescription... others) {
+        this.repDescriptions = EnumSet.of(first, others);
+        return this;
+    }
+
+    /**
+     * Keeps the signs whose post is in one of the given boroughs (<tt>NOM_ARROND</tt>, exact match).
+     */
+    public RoadSignFilter setDistrictNames(String... districtNames) {
+        this.districtNames = new HashSet<>(Arrays.asList(districtNames));
+        return this;
+    }
+
+    /**
+     * Keeps the signs whose post is inside a bounding box, bounds included.
+     */
+    public RoadSignFilter setBoundingBox(double minLatitude, double minLongitude,
+                                         double maxLatitude, double maxLongitude) {
+        if (minLatitude > maxLatitude || minLongitude > maxLongitude)
+            throw new IllegalArgumentException("Invalid bounding box: [" + minLatitude + ", " + minLongitude +
+                    "] - [" + maxLatitude + ", " + maxLongitude + "]");
+        this.hasBoundingBox = true;
+        this.minLatitude = minLatitude;
+        this.minLongitude = minLongitude;
+        this.maxLatitude = maxLatitude;
+        this.maxLongitude = maxLongitude;
+        return this;
+    }
+
+    /**
+     * Keeps the signs whose <tt>CODE_RPA</tt> starts with one of the given prefixes (case-insensitive), e.g.
+     * <tt>"SB"</tt>, <tt>"SD"</tt>, <tt>"SV"</tt> or <tt>"SX"</tt>.
+     */
+    public RoadSignFilter setCodePrefixes(String... codePrefixes) {
+        this.codePrefixes = codePrefixes.clone();
+        return this;
+    }
+
+    /**
+     * Keeps the signs whose post has the given on-street flag (derived from <tt>PAS_SUR_RUE</tt>, see
+     * {@link RoadPost#isOnStreet()}).
+     */
+    public RoadSignFilter setOnStreet(boolean onStreet) {
+        this.onStreet = onStreet;
+        return this;
+    }
+
+    /**
+     * @param signRecord the raw properties of a feature
+     * @return <tt>true</tt> if the feature must be ingested
+     */
+    boolean accept(RoadSignRecord signRecord) {
+        if (onStreet != null && !onStreet.equals(signRecord.postIsOnStreet)) return false;
+        if (hasBoundingBox && (signRecord.postLatitude < minLatitude || signRecord.postLatitude > maxLatitude ||
+                signRecord.postLongitude < minLongitude || signRecord.postLongitude > maxLongitude))
+            return false;
+        if (repDescriptions != null && (signRecord.signRepDescription == null ||
+                !repDescriptions.contains(RoadSign.RepDescription.fromString(signRecord.signRepDescription))))
+            return false;
+        if (districtNames != null && !districtNames.contains(signRecord.postDistrictName)) return false;
+        return codePrefixes == null || hasCodePrefix(signRecord.signCodeRpa);
+    }
+
+    private boolean hasCodePrefix(String code) {
+        if (code == null) return false;
+        for (String prefix : codePrefixes) {
+            if (code.regionMatches(true, 0, prefix, 0, prefix.length())) return true;
+        }
+        return false;
+    }
+
+    @Override
+    public String toString() {
+        return "RoadSignFilter{" +
+                "repDescriptions=" + repDescriptions +
+                ", districtNames=" + districtNames +
+                (hasBoundingBox ? ", boundingBox=[" + minLatitude + ", " + minLongitude + "] - [" + maxLatitude +
+                        ", " + maxLongitude + "]" : "") +
+                ", codePrefixes=" + Arrays.toString(codePrefixes) +
+                ", onStreet=" + onStreet +
+                '}';
+    }
+}
@@ -0,0 +1,30 @@
+package org.jroadsign.canada.quebec.montreal;
+
+/**
+ * @author - <a href="https://github.com/muhamm-ad">muhamm-ad</a>
+ * @project JRoadSign
+ * @description Raw properties of one sign of the Montréal parking signs dataset, as read from a GeoJSON feature or
+ *         a CSV row. Nothing is cleaned or parsed yet: building the {@link RoadSign} and {@link RoadPost} objects is
+ *         left to {@link RoadParkingSign}.
+ */
+final class RoadSignRecord {
+
+    int signPosition;
+    long signId;
+    long signIdRpa;
+    String signDescRpa;
+    String signCodeRpa;
+    int signArrowCode;
+    String signToponymic;
+    String signCategoryDescription;
+    String signRepDescription;
+
+    long postId;
+    int postVersion;
+    String postStrDate;
+    Boolean postIsOnStreet;
+    String postRtpDescription;
+    double postLatitude;
+    double postLongitude;
+    String postDistrictName;
+}
@@ -1,10 +1,14 @@
 package org.jroadsign.canada.quebec.montreal;
 
 import org.jroadsign.canada.quebec.montreal.rpasign.RpaSignCode;
+import org.jroadsign.canada.quebec.montreal.rpasign.RpaSignCodeRegistry;
 import org.jroadsign.canada.quebec.montreal.rpasign.RpaSignDesc;
+import org.jroadsign.canada.quebec.montreal.rpasign.RpaSignDescCache;
 import org.jroadsign.canada.quebec.montreal.rpasign.rpasigndesc.RoadSignDescCleaner;
 import org.json.JSONObject;
 
+import java.util.Objects;
+
 /**
  * @author - <a href="https://github.com/muhamm-ad">muhamm-ad</a>
  * @project JRoadSign
@@ -14,32 +18,160 @@ public class RpaSign {
 
     private final long id;
     private final RpaSignCode code;
-    private final RpaSignDesc description;
+    private final int codeId; // in RpaSignCodeRegistry, so that unknown codes are kept
+    private final String strDescription;
+    private final RpaSignDescCache descriptionCache; // only used by lazy signs, may be null
+    private volatile RpaSignDesc description;
 
     public RpaSign(long id, RpaSignCode code, RpaSignDesc description) {
+        this(id, RpaSignCodeRegistry.getId(code), description);
+    }
+
+    /**
+     * @param id          the RPA id of the sign
+     * @param codeId      the ID of the code in {@link RpaSignCodeRegistry}
+     * @param description the parsed description
+     */
+    public RpaSign(long id, int codeId, RpaSignDesc description) {
         this.id = id;
         this.description = description;
-        this.code = code;
+        this.codeId = codeId;
+        this.code = RpaSignCodeRegistry.getCode(codeId);
+        this.strDescription = description != null ? description.getStrDescription() : null;
+        this.descriptionCache = null;
     }
 
     public RpaSign(long id, String sCode, String sDescription) {
         this.id = id;
-        this.code = RpaSignCode.fromString(sCode);
+        this.codeId = RpaSignCodeRegistry.getId(sCode);
+        this.code = RpaSignCodeRegistry.getCode(codeId);
+        this.strDescription = sDescription;
+        this.descriptionCache = null;
 
-        String sDescriptionCleaned = RoadSignDescCleaner.cleanDescription(sDescription, code);
+        String sDescriptionCleaned = RoadSignDescCleaner.cleanDescription(sDescription, codeId);
         this.description = new RpaSignDesc(sDescriptionCleaned, sDescription);
     }
 
+    /**
+     * Builds an RPA sign whose description is taken from a cache, so that signs sharing the same code and description
+     * are cleaned and parsed once and share the same {@link RpaSignDesc}.
+     *
+     * @param id               the RPA id of the sign
+     * @param sCode            the raw RPA code
+     * @param sDescription     the raw RPA description
+     * @param descriptionCache the cache of parsed descriptions
+     */
+    public RpaSign(long id, String sCode, String sDescription, RpaSignDescCache descriptionCache) {
+        this.id = id;
+        this.codeId = RpaSignCodeRegistry.getId(sCode);
+        this.code = RpaSignCodeRegistry.getCode(codeId);
+        this.strDescription = sDescription;
+        this.descriptionCache = null;
+        this.description = descriptionCache.get(codeId, sDescription);
+    }
+
+    private RpaSign(long id, int codeId, String sDescription, RpaSignDescCache descriptionCache) {
+        this.id = id;
+        this.codeId = codeId;
+        this.code = RpaSignCodeRegistry.getCode(codeId);
+        this.strDescription = sDescription;
+        this.descriptionCache = descriptionCache;
+    }
+
+    /**
+     * Builds an RPA sign that only keeps its raw code and description. The description is cleaned and parsed on the
+     * first call to {@link #getDescription()}, then kept, so consumers that never look at the rules never pay for
+     * parsing them.
+     *
+     * @param id               the RPA id of the sign
+     * @param sCode            the raw RPA code
+     * @param sDescription     the raw RPA description
+     * @param descriptionCache the cache used when the description is parsed, or <tt>null</tt> to parse it directly
+     * @return the lazy sign
+     */
+    public static RpaSign lazy(long id, String sCode, String sDescription, RpaSignDescCache descriptionCache) {
+        return new RpaSign(id, RpaSignCodeRegistry.getId(sCode), sDescription, descriptionCache);
+    }
+
     public long getId() {
         return id;
     }
 
+    /**
+     * @return the code, or {@link RpaSignCode#NULL} if it is unknown to {@link RpaSignCode} (see {@link #getStrCode()})
+     */
     public RpaSignCode getCode() {
         return code;
     }
 
+    /**
+     * @return the ID of the code in {@link RpaSignCodeRegistry}, known or not
+     */
+    public int getCodeId() {
+        return codeId;
+    }
+
+    /**
+     * @return the raw code, even if it is unknown to {@link RpaSignCode}, or <tt>null</tt> if the sign has none
+     */
+    public String getStrCode() {
+        return RpaSignCodeRegistry.getStr(codeId);
+    }
+
+    /**
+     * @return the raw description, available without parsing it.
+     */
+    public String getStrDescription() {
+        return strDescription;
+    }
+
+    /**
+     * Returns the parsed description. For a lazy sign, the first call parses it; concurrent first calls are safe and
+     * parse it once.
+     *
+     * @return the parsed description, or <tt>null</tt> if the sign has no description.
+     */
     public RpaSignDesc getDescription() {
-        return description;
+        RpaSignDesc result = description;
+        if (result == null && strDescription != null) {
+            synchronized (this) {
+                result = description;
+                if (result == null) {
+                    result = parseDescription();
+                    description = result;
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * @return <tt>true</tt> if the description has already been parsed.
+     */
+    public boolean isDescriptionParsed() {
+        return description != null;
+    }
+
+    private RpaSignDesc parseDescription() {
+        if (descriptionCache != null) return descriptionCache.get(codeId, strDescription);
+
+        String sDescriptionCleaned = RoadSignDescCleaner.cleanDescription(strDescription, codeId);
+        return new RpaSignDesc(sDescriptionCleaned, strDescription);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        RpaSign that = (RpaSign) o;
+        return id == that.id &&
+                codeId == that.codeId &&
+                Objects.equals(strDescription, that.strDescription);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id, codeId, strDescription);
     }
 
     @Override
@@ -47,18 +179,19 @@ public class RpaSign {
         return "RpaSign{" +
                 "id=" + id +
                 ", code=" + code +
-                ", description=" + description +
+                ", description=" + getDescription() +
                 '}';
     }
 
     public JSONObject toJson() {
         JSONObject json = new JSONObject();
+        RpaSignDesc rpaSignDesc = getDescription();
 
         json.put("id", id);
-        json.put("code", code != null ? code.getStr() : JSONObject.NULL);
-        json.put("description", description != null ? description.toJson() : JSONObject.NULL);
+        String strCode = getStrCode();
+        json.put("code", strCode != null ? strCode : JSONObject.NULL);
+        json.put("description", rpaSignDesc != null ? rpaSignDesc.toJson() : JSONObject.NULL);
 
         return json;
     }
 }
-
@@ -1,5 +1,8 @@
 package org.jroadsign.canada.quebec.montreal.rpasign;
 
+import java.util.HashMap;
+import java.util.Map;
+
 /**
  * @author - <a href="https://github.com/muhamm-ad">muhamm-ad</a>
  * @project JRoadSign
@@ -1180,24 +1183,55 @@ public enum RpaSignCode {
     SX_JO("SX-JO"),
     NULL(null);  // Special enum instance to represent null or unknown state
 
+    // every code, as is and case-folded, so that fromString is a hash lookup whatever the case of the code
+    private static final Map<String, RpaSignCode> BY_CODE = new HashMap<>();
+
+    static {
+        for (RpaSignCode rpaSignCode : values()) {
+            if (rpaSignCode.code == null) continue;
+            BY_CODE.putIfAbsent(rpaSignCode.code, rpaSignCode);
+            BY_CODE.putIfAbsent(fold(rpaSignCode.code), rpaSignCode);
+        }
+    }
+
     private final String code;
 
     RpaSignCode(String code) {
         this.code = code;
     }
 
+    /**
+     * @param code the code, in any case
+     * @return the code, or {@link #NULL} if the code is <tt>null</tt> or unknown
+     */
     public static RpaSignCode fromString(String code) {
         if (code == null) {
             return NULL;  // Return NULL instance for null inputs
         }
-        for (RpaSignCode rpaSignCode : RpaSignCode.values()) {
-            if (rpaSignCode.code != null && rpaSignCode.code.equalsIgnoreCase(code)) {
-                return rpaSignCode;
-            }
+        RpaSignCode rpaSignCode = BY_CODE.get(code);
+        if (rpaSignCode == null) rpaSignCode = BY_CODE.get(fold(code));
+        return rpaSignCode != null ? rpaSignCode : NULL;  // Return NULL if no match is found
+    }
+
+    /**
+     * Folds the case of a code, so that two codes are equal once folded if and only if they are equal ignoring case
+     * (as {@link String#equalsIgnoreCase}).
+     */
+    static String fold(String code) {
+        char[] folded = null;
+        for (int i = 0; i < code.length(); i++) {
+            char c = code.charAt(i);
+            char f = Character.toLowerCase(Character.toUpperCase(c));
+            if (f == c) continue;
+            if (folded == null) folded = code.toCharArray();
+            folded[i] = f;
         }
-        return NULL;  // Return NULL if no match is found
+        return folded != null ? new String(folded) : code;
     }
 
+    /**
+     * @return the code, or <tt>null</tt> for {@link #NULL}
+     */
     public String getStr() {
         return code;
     }
@@ -0,0 +1,149 @@
+package org.jroadsign.canada.quebec.montreal.rpasign;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * @author - <a href="https://github.com/muhamm-ad">muhamm-ad</a>
+ * @project JRoadSign
+ * @description Gives every RPA code an ID, including the codes the city added after {@link RpaSignCode}: a known
+ *         code has the ordinal of its constant, and an unknown one the next free ID the first time it is seen, which
+ *         it then keeps (whatever its case) as long as the registry lives. The strings of the unknown codes are
+ *         interned, so signs with the same unknown code share it. The registry is thread-safe; looking up a code
+ *         already seen never locks.
+ */
+public final class RpaSignCodeRegistry {
+
+    private static final RpaSignCode[] KNOWN_CODES = RpaSignCode.values();
+
+    // unknown codes, as seen and case-folded
+    private static final ConcurrentHashMap<String, Integer> UNKNOWN_IDS = new ConcurrentHashMap<>();
+    private static volatile String[] unknownCodes = new String[0];
+
+    private RpaSignCodeRegistry() {
+    }
+
+    /**
+     * @param code the raw code, in any case
+     * @return the ID of the code, the one of {@link RpaSignCode#NULL} if it is <tt>null</tt>
+     */
+    public static int getId(String code) {
+        RpaSignCode rpaSignCode = RpaSignCode.fromString(code);
+        if (rpaSignCode != RpaSignCode.NULL || code == null) return rpaSignCode.ordinal();
+
+        Integer id = UNKNOWN_IDS.get(code);
+        if (id == null) id = UNKNOWN_IDS.get(RpaSignCode.fold(code));
+        return id != null ? id : register(code);
+    }
+
+    /**
+     * @param code a code, may be <tt>null</tt>
+     * @return the ID of the code, the one of {@link RpaSignCode#NULL} if it is <tt>null</tt>
+     */
+    public static int getId(RpaSignCode code) {
+        return (code != null ? code : RpaSignCode.NULL).ordinal();
+    }
+
+    private static synchronized int register(String code) {
+        String folded = RpaSignCode.fold(code);
+        Integer id = UNKNOWN_IDS.get(folded);
+        if (id != null) return id;
+
+        String[] codes = Arrays.copyOf(unknownCodes, unknownCodes.length + 1);
+        codes[codes.length - 1] = code.intern();
+        id = KNOWN_CODES.length + codes.length - 1;
+        // The code is published before its ID, so whoever finds the ID can read it
+        unknownCodes = codes;
+        UNKNOWN_IDS.put(folded, id);
+        UNKNOWN_IDS.put(code, id);
+        return id;
+    }
+
+    /**
+     * @return <tt>true</tt> if the ID is the one of a constant of {@link RpaSignCode}
+     */
+    public static boolean isKnown(int id) {
+        return id >= 0 && id < KNOWN_CODES.length;
+    }
+
+    /**
+     * @return the constant of the ID, or {@link RpaSignCode#NULL} for an unknown code
+     * @throws IllegalArgumentException if no code has this ID
+     */
+    public static RpaSignCode getCode(int id) {
+        if (isKnown(id)) return KNOWN_CODES[id];
+        unknownCode(id);
+        return RpaSignCode.NULL;
+    }
+
+    /**
+     * @return the code of the ID (as first seen, for an unknown code), or <tt>null</tt> for {@link RpaSignCode#NULL}
+     * @throws IllegalArgumentException if no code has this ID
+     */
+    public static String getStr(int id) {
+        return isKnown(id) ? KNOWN_CODES[id].getStr() : unknownCode(id);
+    }
+
+    private static String unknownCode(int id) {
+        String[] codes = unknownCodes;
+        int index = id - KNOWN_CODES.length;
+        if (index < 0 || index >= codes.length) throw new IllegalArgumentException("Unknown RPA code ID: " + id);
+        return codes[index];
+    }
+
+    /**
+     * @return the name under which the code of the ID is stored: the name of its constant, or the code itself for an
+     *         unknown code
+     * @throws IllegalArgumentException if no code has this ID
+     */
+    public static String getName(int id) {
+        return isKnown(id) ? KNOWN_CODES[id].name() : unknownCode(id);
+    }
+
+    /**
+     * Reads a name written by {@link #getName(int)}. A name that is not the one of a constant of {@link RpaSignCode}
+     * is an unknown code.
+     *
+     * @return the ID of the code
+     */
+    public static int fromName(String name) {
+        try {
+            return RpaSignCode.valueOf(name).ordinal();
+        } catch (IllegalArgumentException e) {
+            return getId(name);
+        }
+    }
+
+    /**
+     * Looks up a name written by {@link #getName(int)} without registering it, for readers that must not grow the
+     * registry.
+     *
+     * @return the ID of the code, or <tt>-1</tt> for an unknown code not seen yet
+     */
+    public static int findName(String name) {
+        try {
+            return RpaSignCode.valueOf(name).ordinal();
+        } catch (IllegalArgumentException e) {
+            Integer id = UNKNOWN_IDS.get(name);
+            if (id == null) id = UNKNOWN_IDS.get(RpaSignCode.fold(name));
+            return id != null ? id : -1;
+        }
+    }
+
+    /**
+     * @return the number of unknown codes seen
+     */
+    public static int getUnknownCount() {
+        return unknownCodes.length;
+    }
+
+    /**
+     * @return the unknown codes seen, in the order of their IDs
+     */
+    public static List<String> getUnknownCodes() {
+        return Collections.unmodifiableList(new ArrayList<>(Arrays.asList(unknownCodes)));
+    }
+}
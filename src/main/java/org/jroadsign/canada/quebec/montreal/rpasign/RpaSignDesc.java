@@ -1,41 +1,77 @@
 package org.jroadsign.canada.quebec.montreal.rpasign;
 
+import org.jetbrains.annotations.NotNull;
+import org.jroadsign.canada.quebec.montreal.rpasign.rpasigndesc.RpaSignDescBitmap;
 import org.jroadsign.canada.quebec.montreal.rpasign.rpasigndesc.RpaSignDescRule;
+import org.jroadsign.canada.quebec.montreal.rpasign.rpasigndesc.RpaSignDescSchedule;
+import org.jroadsign.canada.quebec.montreal.rpasign.rpasigndesc.common.GlobalPatterns;
 import org.json.JSONArray;
 import org.json.JSONObject;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
-
-import static org.jroadsign.canada.quebec.montreal.rpasign.rpasigndesc.RoadSignDescCleaner.RULE_SEPARATOR;
+import java.util.Objects;
 
 /**
  * @author - <a href="https://github.com/muhamm-ad">muhamm-ad</a>
  * @project JRoadSign
+ * @description A description of a sign, with its rules, and what they allow over time (see
+ *         {@link RpaSignDescSchedule}).
  */
 public class RpaSignDesc {
     private final String strDescription;
     private final String strDescriptionCleaned;
     private final List<RpaSignDescRule> rpaSignDescRules;
+    private final RpaSignDescSchedule schedule;
 
+    /**
+     * @param strDescriptionCleaned a cleaned description; its rules are cleaned before being parsed if they are not
+     * @throws IllegalArgumentException if a rule is outside the grammar of the descriptions
+     * @see RpaSignDescRule#RpaSignDescRule(String)
+     */
     public RpaSignDesc(String strDescriptionCleaned) {
         this.strDescriptionCleaned = strDescriptionCleaned;
         this.strDescription = strDescriptionCleaned;
 
-        this.rpaSignDescRules = new ArrayList<>();
-        for (String strRule : strDescriptionCleaned.split(RULE_SEPARATOR)) {
-            this.rpaSignDescRules.add(new RpaSignDescRule(strRule));
-        }
+        this.rpaSignDescRules = parseRules(strDescriptionCleaned);
+        this.schedule = new RpaSignDescSchedule(rpaSignDescRules);
     }
 
+    /**
+     * @param strDescriptionCleaned a cleaned description; its rules are cleaned before being parsed if they are not
+     * @param strDescription        the raw description
+     * @throws IllegalArgumentException if a rule is outside the grammar of the descriptions
+     */
     public RpaSignDesc(String strDescriptionCleaned, String strDescription) {
         this.strDescriptionCleaned = strDescriptionCleaned;
         this.strDescription = strDescription;
 
-        this.rpaSignDescRules = new ArrayList<>();
-        for (String strRule : strDescriptionCleaned.split(RULE_SEPARATOR)) {
-            this.rpaSignDescRules.add(new RpaSignDescRule(strRule));
+        this.rpaSignDescRules = parseRules(strDescriptionCleaned);
+        this.schedule = new RpaSignDescSchedule(rpaSignDescRules);
+    }
+
+    /**
+     * Rebuilds an already parsed description, e.g. from a snapshot, without cleaning or parsing anything.
+     *
+     * @param strDescriptionCleaned the cleaned description
+     * @param strDescription        the raw description
+     * @param rpaSignDescRules      the rules parsed from the cleaned description
+     */
+    public RpaSignDesc(String strDescriptionCleaned, String strDescription, List<RpaSignDescRule> rpaSignDescRules) {
+        this.strDescriptionCleaned = strDescriptionCleaned;
+        this.strDescription = strDescription;
+        this.rpaSignDescRules = Collections.unmodifiableList(new ArrayList<>(rpaSignDescRules));
+        this.schedule = new RpaSignDescSchedule(this.rpaSignDescRules);
+    }
+
+    private static List<RpaSignDescRule> parseRules(String strDescriptionCleaned) {
+        List<RpaSignDescRule> rules = new ArrayList<>();
+        for (String strRule : GlobalPatterns.RULE_SEPARATOR.split(strDescriptionCleaned)) {
+            rules.add(new RpaSignDescRule(strRule));
         }
+        return Collections.unmodifiableList(rules);
     }
 
     public String getStrDescription() {
@@ -50,6 +86,55 @@ public class RpaSignDesc {
         return rpaSignDescRules;
     }
 
+    public RpaSignDescSchedule getSchedule() {
+        return schedule;
+    }
+
+    /**
+     * @see RpaSignDescSchedule#isParkingAllowed(LocalDateTime)
+     */
+    public boolean isParkingAllowed(@NotNull LocalDateTime dateTime) {
+        return schedule.isParkingAllowed(dateTime);
+    }
+
+    /**
+     * @see RpaSignDescSchedule#getMaxStayMinutes(LocalDateTime)
+     */
+    public int getMaxStayMinutes(@NotNull LocalDateTime dateTime) {
+        return schedule.getMaxStayMinutes(dateTime);
+    }
+
+    /**
+     * @see RpaSignDescSchedule#nextChange(LocalDateTime)
+     */
+    public LocalDateTime nextChange(@NotNull LocalDateTime dateTime) {
+        return schedule.nextChange(dateTime);
+    }
+
+    /**
+     * @param resolution the minutes of a bit of the weekly bitmaps, <tt>1</tt> or <tt>5</tt>
+     * @return when the rules allow parking, as one weekly bitmap per season
+     * @see RpaSignDescBitmap
+     */
+    public @NotNull RpaSignDescBitmap toBitmap(int resolution) {
+        return RpaSignDescBitmap.of(rpaSignDescRules, resolution);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        RpaSignDesc that = (RpaSignDesc) o;
+        return Objects.equals(strDescription, that.strDescription) &&
+                Objects.equals(strDescriptionCleaned, that.strDescriptionCleaned) &&
+                Objects.equals(rpaSignDescRules, that.rpaSignDescRules);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(strDescription, strDescriptionCleaned, rpaSignDescRules);
+    }
+
     @Override
     public String toString() {
         return "RpaSignDesc{" +
@@ -0,0 +1,225 @@
+package org.jroadsign.canada.quebec.montreal.rpasign;
+
+import org.jetbrains.annotations.NotNull;
+import org.jroadsign.canada.quebec.montreal.rpasign.rpasigndesc.CleanedDescriptionDictionary;
+import org.jroadsign.canada.quebec.montreal.rpasign.rpasigndesc.RoadSignDescCleaner;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.IntStream;
+
+/**
+ * @author - <a href="https://github.com/muhamm-ad">muhamm-ad</a>
+ * @project JRoadSign
+ * @description Cleans and parses a batch of (code, raw description) pairs, e.g. a column of a CSV export. Each
+ *         distinct pair is cleaned and parsed once, the distinct pairs in parallel, and the results come back in the
+ *         order of the batch, the same {@link Result} for the same pair. A pair that cannot be cleaned or parsed gets
+ *         a result holding an {@link ItemError} instead of stopping the batch.
+ */
+public final class RpaSignDescBatch {
+
+    private RpaSignDescBatch() {
+    }
+
+    /**
+     * @param items the pairs to clean and parse
+     * @return the result of each pair, in the order of the pairs
+     */
+    public static @NotNull List<Result> process(@NotNull Collection<Item> items) {
+        Item[] batch = items.toArray(new Item[0]);
+
+        Map<Key, Integer> uniqueIndexes = new HashMap<>();
+        List<Item> uniqueItems = new ArrayList<>();
+        int[] uniqueIndexOf = new int[batch.length];
+        for (int i = 0; i < batch.length; i++) {
+            Item item = batch[i];
+            Integer uniqueIndex = uniqueIndexes.putIfAbsent(new Key(item.codeId, item.strDescription),
+                    uniqueItems.size());
+            if (uniqueIndex == null) {
+                uniqueIndex = uniqueItems.size();
+                uniqueItems.add(item);
+            }
+            uniqueIndexOf[i] = uniqueIndex;
+        }
+
+        CleanedDescriptionDictionary dictionary = new CleanedDescriptionDictionary();
+        Result[] uniqueResults = new Result[uniqueItems.size()];
+        IntStream.range(0, uniqueResults.length).parallel()
+                .forEach(i -> uniqueResults[i] = process(uniqueItems.get(i), dictionary));
+
+        Result[] results = new Result[batch.length];
+        for (int i = 0; i < batch.length; i++) results[i] = uniqueResults[uniqueIndexOf[i]];
+        return Collections.unmodifiableList(Arrays.asList(results));
+    }
+
+    private static Result process(Item item, CleanedDescriptionDictionary dictionary) {
+        String strDescriptionCleaned;
+        try {
+            strDescriptionCleaned = RoadSignDescCleaner.cleanDescription(item.strDescription, item.codeId,
+                    dictionary);
+        } catch (RuntimeException e) {
+            return new Result(item, null, new ItemError(Stage.CLEANING, e));
+        }
+        try {
+            return new Result(item, new RpaSignDesc(strDescriptionCleaned, item.strDescription), null);
+        } catch (RuntimeException e) {
+            return new Result(item, null, new ItemError(Stage.PARSING, e));
+        }
+    }
+
+    /**
+     * A (code, raw description) pair of a batch.
+     */
+    public static final class Item {
+        private final int codeId;
+        private final String strDescription;
+
+        /**
+         * @param code           the raw code, possibly unknown to {@link RpaSignCode}
+         * @param strDescription the raw description
+         */
+        public Item(String code, String strDescription) {
+            this.codeId = RpaSignCodeRegistry.getId(code);
+            this.strDescription = strDescription;
+        }
+
+        public Item(RpaSignCode code, String strDescription) {
+            this.codeId = RpaSignCodeRegistry.getId(code);
+            this.strDescription = strDescription;
+        }
+
+        /**
+         * @return the ID of the code in {@link RpaSignCodeRegistry}
+         */
+        public int getCodeId() {
+            return codeId;
+        }
+
+        public String getStrCode() {
+            return RpaSignCodeRegistry.getStr(codeId);
+        }
+
+        public String getStrDescription() {
+            return strDescription;
+        }
+
+        @Override
+        public String toString() {
+            return "Item{" +
+                    "code=" + getStrCode() +
+                    ", strDescription='" + strDescription + '\'' +
+                    '}';
+        }
+    }
+
+    /**
+     * What a pair gave: its parsed description, or the error that prevented it.
+     */
+    public static final class Result {
+        private final Item item;
+        private final RpaSignDesc description;
+        private final ItemError error;
+
+        private Result(Item item, RpaSignDesc description, ItemError error) {
+            this.item = item;
+            this.description = description;
+            this.error = error;
+        }
+
+        /**
+         * @return the first pair of the batch that gave this result
+         */
+        public Item getItem() {
+            return item;
+        }
+
+        public boolean isSuccess() {
+            return error == null;
+        }
+
+        /**
+         * @return the parsed description, or <tt>null</tt> if the pair failed
+         */
+        public RpaSignDesc getDescription() {
+            return description;
+        }
+
+        /**
+         * @return the error of the pair, or <tt>null</tt> if it succeeded
+         */
+        public ItemError getError() {
+            return error;
+        }
+
+        @Override
+        public String toString() {
+            return "Result{" +
+                    "item=" + item +
+                    (isSuccess() ? ", description=" + description : ", error=" + error) +
+                    '}';
+        }
+    }
+
+    public enum Stage {
+        CLEANING,
+        PARSING
+    }
+
+    /**
+     * Why a pair failed: the stage that failed and the exception it threw.
+     */
+    public static final class ItemError {
+        private final Stage stage;
+        private final RuntimeException cause;
+
+        private ItemError(Stage stage, RuntimeException cause) {
+            this.stage = stage;
+            this.cause = cause;
+        }
+
+        public Stage getStage() {
+            return stage;
+        }
+
+        public String getMessage() {
+            return cause.getMessage();
+        }
+
+        public RuntimeException getCause() {
+            return cause;
+        }
+
+        @Override
+        public String toString() {
+            return stage + ": " + cause;
+        }
+    }
+
+    private static final class Key {
+        private final int codeId;
+        private final String strDescription;
+
+        private Key(int codeId, String strDescription) {
+            this.codeId = codeId;
+            this.strDescription = strDescription;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Key key)) return false;
+            return codeId == key.codeId && Objects.equals(strDescription, key.strDescription);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * codeId + Objects.hashCode(strDescription);
+        }
+    }
+}
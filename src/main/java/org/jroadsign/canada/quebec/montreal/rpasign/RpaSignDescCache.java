@@ -0,0 +1,122 @@
+package org.jroadsign.canada.quebec.montreal.rpasign;
+
+import org.jroadsign.canada.quebec.montreal.rpasign.rpasigndesc.CleanedDescriptionDictionary;
+import org.jroadsign.canada.quebec.montreal.rpasign.rpasigndesc.RoadSignDescCleaner;
+
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * @author - <a href="https://github.com/muhamm-ad">muhamm-ad</a>
+ * @project JRoadSign
+ * @description Interning cache of parsed descriptions, keyed by (<tt>CODE_RPA</tt>, <tt>DESCRIPTION_RPA</tt>).
+ *         Each distinct pair is cleaned and parsed exactly once, and the resulting {@link RpaSignDesc} is shared by
+ *         every sign referencing it, so callers must treat the returned descriptions (and their rules) as read-only.
+ *         The descriptions are cleaned through a {@link CleanedDescriptionDictionary} of the cache, so raw
+ *         descriptions cleaned the same way share their cleaned description, which goes away with the cache. The cache
+ *         is thread-safe.
+ */
+public class RpaSignDescCache {
+
+    private final ConcurrentHashMap<Key, RpaSignDesc> descriptions = new ConcurrentHashMap<>();
+    private volatile CleanedDescriptionDictionary dictionary = new CleanedDescriptionDictionary();
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+
+    /**
+     * Returns the parsed description of a (code, raw description) pair, cleaning and parsing it on the first request.
+     *
+     * @param code           the code of the sign
+     * @param strDescription the raw description of the sign
+     * @return the shared parsed description
+     */
+    public RpaSignDesc get(RpaSignCode code, String strDescription) {
+        return get(RpaSignCodeRegistry.getId(code), strDescription);
+    }
+
+    /**
+     * Returns the parsed description of a (code, raw description) pair, cleaning and parsing it on the first request.
+     *
+     * @param codeId         the ID of the code of the sign in {@link RpaSignCodeRegistry}
+     * @param strDescription the raw description of the sign
+     * @return the shared parsed description
+     */
+    public RpaSignDesc get(int codeId, String strDescription) {
+        Key key = new Key(codeId, strDescription);
+        RpaSignDesc description = descriptions.get(key);
+        if (description != null) {
+            hitCount.increment();
+            return description;
+        }
+
+        return descriptions.computeIfAbsent(key, k -> {
+            missCount.increment();
+            String strDescriptionCleaned = RoadSignDescCleaner.cleanDescription(k.strDescription, k.codeId,
+                    dictionary);
+            return new RpaSignDesc(strDescriptionCleaned, k.strDescription);
+        });
+    }
+
+    /**
+     * @return the number of requests answered from the cache. A request that waited for another thread to parse the
+     *         same pair counts as neither a hit nor a miss.
+     */
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+
+    /**
+     * @return the number of requests that cleaned and parsed a description.
+     */
+    public long getMissCount() {
+        return missCount.sum();
+    }
+
+    /**
+     * @return the number of distinct (code, description) pairs in the cache.
+     */
+    public int size() {
+        return descriptions.size();
+    }
+
+    public void clear() {
+        descriptions.clear();
+        dictionary = new CleanedDescriptionDictionary();
+        hitCount.reset();
+        missCount.reset();
+    }
+
+    @Override
+    public String toString() {
+        return "RpaSignDescCache{" +
+                "size=" + size() +
+                ", hitCount=" + getHitCount() +
+                ", missCount=" + getMissCount() +
+                '}';
+    }
+
+    private static final class Key {
+        private final int codeId;
+        private final String strDescription;
+        private final int hash;
+
+        Key(int codeId, String strDescription) {
+            this.codeId = codeId;
+            this.strDescription = strDescription;
+            this.hash = 31 * codeId + Objects.hashCode(strDescription);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Key key)) return false;
+            return codeId == key.codeId && Objects.equals(strDescription, key.strDescription);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
@@ -8,12 +8,19 @@ import org.json.JSONObject;
 
 import java.time.DateTimeException;
 import java.time.MonthDay;
+import java.util.List;
+import java.util.Objects;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 /**
  * @author - <a href="https://github.com/muhamm-ad">muhamm-ad</a>
  * @project JRoadSign
+ * @description A range [<tt>start</tt>, <tt>end</tt>] of the year. The constructors only build ranges within the
+ *         year, and throw a {@link StartAfterEndException} otherwise; {@link #of} and {@link #parse} also build ranges
+ *         that wrap around the new year (<tt>15 NOV AU 1 AVRIL</tt>), which {@link #split()} turns back into ranges
+ *         within the year. The ranges of a rule are read-only views of its {@link RpaSignDescRuleTimes}: their setters
+ *         throw.
  */
 public class AnnualMonthRange {
     public static final String MSG_ERR_INVALID_FORMAT_S_ARG =
@@ -24,25 +31,61 @@ public class AnnualMonthRange {
 
     private static final Pattern COMPILED_ANNUAL_MONTH_RANGE_PATTERN =
             Pattern.compile("^" + GlobalConfigs.ANNUAL_MONTH_RANGE_LITERAL_PATTERN_FIRST + "$");
-
+    private static final MonthDay START_OF_YEAR = MonthDay.of(1, 1);
+    private static final MonthDay END_OF_YEAR = MonthDay.of(12, 31);
 
     private Range<MonthDay> range;
+    private boolean readOnly;
 
     public AnnualMonthRange(@NotNull String sAnnualMonthRange) throws StartAfterEndException {
-        Matcher matcher = COMPILED_ANNUAL_MONTH_RANGE_PATTERN.matcher(sAnnualMonthRange);
-        if (!matcher.find())
-            throw new IllegalArgumentException(String.format(MSG_ERR_INVALID_FORMAT_S_ARG, sAnnualMonthRange));
-
-        MonthDay pStart = parseMonthDay(matcher.group(1), matcher.group(2));
-        MonthDay pEnd = parseMonthDay(matcher.group(3), matcher.group(4));
-
-        validateAndSetRange(pStart, pEnd);
+        Range<MonthDay> pRange = parseRange(sAnnualMonthRange);
+        validateAndSetRange(pRange.getStart(), pRange.getEnd());
     }
 
     public AnnualMonthRange(Range<MonthDay> oRange) throws StartAfterEndException {
         validateAndSetRange(oRange.getStart(), oRange.getEnd());
     }
 
+    private AnnualMonthRange(MonthDay start, MonthDay end) {
+        range = new Range<>(start, end);
+    }
+
+    /**
+     * @return the range from <tt>start</tt> to <tt>end</tt>, which wraps around the new year if <tt>start</tt> is
+     *         after <tt>end</tt>
+     */
+    public static @NotNull AnnualMonthRange of(@NotNull MonthDay start, @NotNull MonthDay end) {
+        return new AnnualMonthRange(start, end);
+    }
+
+    /**
+     * @return the same as {@link #of}, but read-only
+     */
+    static @NotNull AnnualMonthRange readOnly(@NotNull MonthDay start, @NotNull MonthDay end) {
+        AnnualMonthRange annualMonthRange = new AnnualMonthRange(start, end);
+        annualMonthRange.readOnly = true;
+        return annualMonthRange;
+    }
+
+    /**
+     * Same as {@link #AnnualMonthRange(String)}, but builds a range wrapping around the new year instead of throwing.
+     *
+     * @throws IllegalArgumentException if the range is not well formatted
+     */
+    public static @NotNull AnnualMonthRange parse(@NotNull String sAnnualMonthRange) {
+        Range<MonthDay> pRange = parseRange(sAnnualMonthRange);
+        return new AnnualMonthRange(pRange.getStart(), pRange.getEnd());
+    }
+
+    private static Range<MonthDay> parseRange(String sAnnualMonthRange) {
+        Matcher matcher = COMPILED_ANNUAL_MONTH_RANGE_PATTERN.matcher(sAnnualMonthRange);
+        if (!matcher.find())
+            throw new IllegalArgumentException(String.format(MSG_ERR_INVALID_FORMAT_S_ARG, sAnnualMonthRange));
+
+        return new Range<>(parseMonthDay(matcher.group(1), matcher.group(2)),
+                parseMonthDay(matcher.group(3), matcher.group(4)));
+    }
+
     private void validateRange(MonthDay start, MonthDay end) throws StartAfterEndException {
         if (start.isAfter(end))
             throw new StartAfterEndException(
@@ -54,7 +97,7 @@ public class AnnualMonthRange {
         range = new Range<>(start, end);
     }
 
-    private MonthDay parseMonthDay(String sDay, String sMonth) {
+    private static MonthDay parseMonthDay(String sDay, String sMonth) {
         int day = Integer.parseInt(sDay);
         int month = GlobalFunctions.convertMonthNameToNumber(sMonth);
 
@@ -65,20 +108,36 @@ public class AnnualMonthRange {
         }
     }
 
+    /**
+     * @return the range, or a copy of it if this range is read-only
+     */
     public Range<MonthDay> getRange() {
-        return range;
+        return readOnly ? new Range<>(range.getStart(), range.getEnd()) : range;
     }
 
+    /**
+     * @throws UnsupportedOperationException if this range is read-only
+     */
     public void setRange(Range<MonthDay> range) {
+        checkWritable();
         this.range = range;
     }
 
+    private void checkWritable() {
+        if (readOnly) throw new UnsupportedOperationException("Read-only month range of a rule: " + this);
+    }
+
     public MonthDay getStart() {
         return range.getStart();
     }
 
+    /**
+     * @throws StartAfterEndException        if the range is within the year and would no longer be
+     * @throws UnsupportedOperationException if this range is read-only
+     */
     public void setStart(MonthDay start) throws StartAfterEndException {
-        validateRange(start, range.getEnd());
+        checkWritable();
+        if (!isWrappingAround()) validateRange(start, range.getEnd());
         range.setStart(start);
     }
 
@@ -86,19 +145,50 @@ public class AnnualMonthRange {
         return range.getEnd();
     }
 
+    /**
+     * @throws StartAfterEndException        if the range is within the year and would no longer be
+     * @throws UnsupportedOperationException if this range is read-only
+     */
     public void setEnd(MonthDay end) throws StartAfterEndException {
-        validateRange(range.getStart(), end);
+        checkWritable();
+        if (!isWrappingAround()) validateRange(range.getStart(), end);
         range.setEnd(end);
     }
 
+    /**
+     * @return <tt>true</tt> if the range starts in a year and ends in the next one
+     */
+    public boolean isWrappingAround() {
+        return range.getStart().isAfter(range.getEnd());
+    }
+
+    /**
+     * @return the ranges within the year covering this one: the range itself, or for a range wrapping around the new
+     *         year, the range from its start to December 31 and the one from January 1 to its end
+     */
+    public @NotNull List<AnnualMonthRange> split() {
+        if (!isWrappingAround()) return List.of(this);
+        return List.of(new AnnualMonthRange(range.getStart(), END_OF_YEAR),
+                new AnnualMonthRange(START_OF_YEAR, range.getEnd()));
+    }
+
     public boolean isWithinRange(MonthDay oMonthDay) {
-        MonthDay start = range.getStart();
-        MonthDay end = range.getEnd();
-        if (start.isBefore(end) || start.equals(end)) {
-            return !oMonthDay.isBefore(start) && !oMonthDay.isAfter(end);
-        } else {
-            return !oMonthDay.isBefore(start) && oMonthDay.isAfter(end);
-        }
+        boolean afterStart = !oMonthDay.isBefore(range.getStart());
+        boolean beforeEnd = !oMonthDay.isAfter(range.getEnd());
+        return isWrappingAround() ? afterStart || beforeEnd : afterStart && beforeEnd;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        AnnualMonthRange that = (AnnualMonthRange) o;
+        return Objects.equals(range, that.range);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hashCode(range);
     }
 
     @Override
@@ -0,0 +1,266 @@
+package org.jroadsign.canada.quebec.montreal.rpasign.rpasigndesc;
+
+import org.jetbrains.annotations.NotNull;
+import org.jroadsign.canada.quebec.montreal.rpasign.RpaSignCode;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * @author - <a href="https://github.com/muhamm-ad">muhamm-ad</a>
+ * @project JRoadSign
+ * @description Bounded cache in front of {@link RoadSignDescCleaner#cleanDescription}, for the descriptions that
+ *         keep coming back (e.g. submitted online). A description found in the cache skips the cleaner entirely. The
+ *         cache holds either a maximum number of descriptions or a maximum number of characters (raw and cleaned
+ *         descriptions together), and evicts the least recently used ones beyond it. It is split into segments, each
+ *         with its own lock and its own share of the maximum, so that threads cleaning different descriptions seldom
+ *         wait for each other; the eviction order is therefore the one of the segment, not of the whole cache.
+ *         <p>
+ *         A missed description is cleaned by {@link RoadSignDescCleaner#cleanDescription(String, int)}, which keeps
+ *         nothing, so the cache is all the memory the cleaned descriptions take.
+ */
+public final class CleanedDescriptionCache {
+
+    private static final int MAX_SEGMENT_COUNT = Integer.highestOneBit(4 * Runtime.getRuntime().availableProcessors());
+    // weight a segment holds at least, so that a small cache keeps a single segment (and an exact LRU order)
+    private static final long MIN_SEGMENT_WEIGHT = 64;
+
+    private final boolean weighedByChars;
+    private final long maximumWeight;
+    private final Segment[] segments;
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private final LongAdder evictionCount = new LongAdder();
+    private final LongAdder loadNanos = new LongAdder();
+
+    private CleanedDescriptionCache(long maximumWeight, boolean weighedByChars) {
+        if (maximumWeight <= 0) throw new IllegalArgumentException("Invalid maximum: " + maximumWeight);
+        this.maximumWeight = maximumWeight;
+        this.weighedByChars = weighedByChars;
+
+        int segmentCount = (int) Math.max(1, Math.min(MAX_SEGMENT_COUNT,
+                Long.highestOneBit(maximumWeight / MIN_SEGMENT_WEIGHT)));
+        segments = new Segment[segmentCount];
+        for (int i = 0; i < segmentCount; i++) {
+            // the first segments take the rest of the division
+            long segmentWeight = maximumWeight / segmentCount + (i < maximumWeight % segmentCount ? 1 : 0);
+            segments[i] = new Segment(segmentWeight);
+        }
+    }
+
+    /**
+     * @param maximumSize the number of descriptions the cache holds at most
+     */
+    public static @NotNull CleanedDescriptionCache ofMaximumSize(long maximumSize) {
+        return new CleanedDescriptionCache(maximumSize, false);
+    }
+
+    /**
+     * @param maximumChars the number of characters, raw and cleaned descriptions together, the cache holds at most. A
+     *                     description too long for its segment is cleaned but not cached.
+     */
+    public static @NotNull CleanedDescriptionCache ofMaximumWeight(long maximumChars) {
+        return new CleanedDescriptionCache(maximumChars, true);
+    }
+
+    /**
+     * Same as {@link RoadSignDescCleaner#cleanDescription(String, RpaSignCode)}, through the cache.
+     */
+    public @NotNull String cleanDescription(@NotNull String strDescription, @NotNull RpaSignCode code) {
+        return cleanDescription(strDescription, code.ordinal());
+    }
+
+    /**
+     * Same as {@link RoadSignDescCleaner#cleanDescription(String, int)}, through the cache. Two threads missing the
+     * same description at once both clean it, and get the same cleaned description.
+     */
+    public @NotNull String cleanDescription(@NotNull String strDescription, int codeId) {
+        Key key = new Key(codeId, strDescription);
+        Segment segment = segments[(key.hash ^ (key.hash >>> 16)) & (segments.length - 1)];
+
+        String cleaned;
+        synchronized (segment) {
+            cleaned = segment.entries.get(key);
+        }
+        if (cleaned != null) {
+            hitCount.increment();
+            return cleaned;
+        }
+
+        missCount.increment();
+        long start = System.nanoTime();
+        cleaned = RoadSignDescCleaner.cleanDescription(strDescription, codeId);
+        loadNanos.add(System.nanoTime() - start);
+
+        int evicted;
+        synchronized (segment) {
+            evicted = segment.put(key, cleaned, weigh(key, cleaned));
+        }
+        if (evicted > 0) evictionCount.add(evicted);
+        return cleaned;
+    }
+
+    private long weigh(Key key, String cleaned) {
+        return weighedByChars ? key.strDescription.length() + cleaned.length() : 1;
+    }
+
+    /**
+     * @return the number of descriptions found in the cache
+     */
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+
+    /**
+     * @return the number of descriptions the cache had to clean
+     */
+    public long getMissCount() {
+        return missCount.sum();
+    }
+
+    /**
+     * @return the share of the descriptions found in the cache, <tt>1</tt> if none was asked yet
+     */
+    public double getHitRate() {
+        long hits = getHitCount();
+        long requests = hits + getMissCount();
+        return requests == 0 ? 1.0 : (double) hits / requests;
+    }
+
+    /**
+     * @return the number of descriptions evicted to stay within the maximum
+     */
+    public long getEvictionCount() {
+        return evictionCount.sum();
+    }
+
+    /**
+     * @return the total time, in nanoseconds, spent cleaning the descriptions missed
+     */
+    public long getTotalLoadNanos() {
+        return loadNanos.sum();
+    }
+
+    /**
+     * @return the mean time, in nanoseconds, spent cleaning a description missed
+     */
+    public double getAverageLoadNanos() {
+        long misses = getMissCount();
+        return misses == 0 ? 0.0 : (double) getTotalLoadNanos() / misses;
+    }
+
+    /**
+     * @return the maximum number of descriptions, or of characters, the cache holds
+     */
+    public long getMaximumWeight() {
+        return maximumWeight;
+    }
+
+    /**
+     * @return the number of descriptions, or of characters, the cache holds
+     */
+    public long getWeight() {
+        long weight = 0;
+        for (Segment segment : segments) {
+            synchronized (segment) {
+                weight += segment.weight;
+            }
+        }
+        return weight;
+    }
+
+    /**
+     * @return the number of descriptions the cache holds
+     */
+    public int size() {
+        int size = 0;
+        for (Segment segment : segments) {
+            synchronized (segment) {
+                size += segment.entries.size();
+            }
+        }
+        return size;
+    }
+
+    public void clear() {
+        for (Segment segment : segments) {
+            synchronized (segment) {
+                segment.entries.clear();
+                segment.weight = 0;
+            }
+        }
+        hitCount.reset();
+        missCount.reset();
+        evictionCount.reset();
+        loadNanos.reset();
+    }
+
+    @Override
+    public String toString() {
+        return "CleanedDescriptionCache{" +
+                "size=" + size() +
+                ", weight=" + getWeight() +
+                ", maximumWeight=" + maximumWeight +
+                ", hitRate=" + getHitRate() +
+                ", evictionCount=" + getEvictionCount() +
+                ", averageLoadNanos=" + getAverageLoadNanos() +
+                '}';
+    }
+
+    private final class Segment {
+        // from the least to the most recently used
+        private final LinkedHashMap<Key, String> entries = new LinkedHashMap<>(16, 0.75f, true);
+        private final long maximumWeight;
+        private long weight;
+
+        private Segment(long maximumWeight) {
+            this.maximumWeight = maximumWeight;
+        }
+
+        /**
+         * @return the number of descriptions evicted
+         */
+        private int put(Key key, String cleaned, long entryWeight) {
+            if (entryWeight > maximumWeight) return 0;
+            String previous = entries.put(key, cleaned);
+            weight += entryWeight - (previous != null ? weigh(key, previous) : 0);
+
+            int evicted = 0;
+            Iterator<Map.Entry<Key, String>> iterator = entries.entrySet().iterator();
+            while (weight > maximumWeight) {
+                Map.Entry<Key, String> eldest = iterator.next();
+                weight -= weigh(eldest.getKey(), eldest.getValue());
+                iterator.remove();
+                evicted++;
+            }
+            return evicted;
+        }
+    }
+
+    private static final class Key {
+        private final int codeId;
+        private final String strDescription;
+        private final int hash;
+
+        private Key(int codeId, String strDescription) {
+            this.codeId = codeId;
+            this.strDescription = strDescription;
+            this.hash = 31 * codeId + strDescription.hashCode();
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Key key)) return false;
+            return codeId == key.codeId && Objects.equals(strDescription, key.strDescription);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package org.jroadsign.canada.quebec.montreal.rpasign.rpasigndesc;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * @author - <a href="https://github.com/muhamm-ad">muhamm-ad</a>
+ * @project JRoadSign
+ * @description Dictionary of the cleaned descriptions, keyed by the characters of a normalized description (held in
+ *         a scratch buffer) and a code. Each distinct key gets a dense ID, from <tt>0</tt>, that stays valid as long
+ *         as the dictionary lives. Looking a key up neither locks nor allocates; adding one is synchronized.
+ *         <p>
+ *         The dictionary never forgets a description, so it belongs to a bounded scope, such as a load
+ *         ({@link org.jroadsign.canada.quebec.montreal.rpasign.RpaSignDescCache}) or a batch, and goes away with it.
+ */
+public final class CleanedDescriptionDictionary {
+
+    private static final int INITIAL_CAPACITY = 1024;
+
+    private static final class Entry {
+        private final char[] chars;
+        private final int code;
+        private final int hash;
+        private final int id;
+
+        private Entry(char[] chars, int code, int hash, int id) {
+            this.chars = chars;
+            this.code = code;
+            this.hash = hash;
+            this.id = id;
+        }
+    }
+
+    // open addressing with linear probing, at most half full
+    private volatile AtomicReferenceArray<Entry> table = new AtomicReferenceArray<>(INITIAL_CAPACITY);
+    private volatile AtomicReferenceArray<String> descriptions = new AtomicReferenceArray<>(INITIAL_CAPACITY / 2);
+    private volatile int size;
+
+    private static int hash(char[] chars, int length, int code) {
+        int hash = code;
+        for (int i = 0; i < length; i++) hash = 31 * hash + chars[i];
+        return hash ^ (hash >>> 16);
+    }
+
+    /**
+     * @return the ID of the key, or <tt>-1</tt> if it was never added
+     */
+    int find(char[] chars, int length, int code) {
+        return find(table, chars, length, code, hash(chars, length, code));
+    }
+
+    private static int find(AtomicReferenceArray<Entry> table, char[] chars, int length, int code, int hash) {
+        int mask = table.length() - 1;
+        for (int i = hash & mask; ; i = (i + 1) & mask) {
+            Entry entry = table.get(i);
+            if (entry == null) return -1;
+            if (entry.hash == hash && entry.code == code
+                    && Arrays.equals(entry.chars, 0, entry.chars.length, chars, 0, length)) return entry.id;
+        }
+    }
+
+    /**
+     * Adds a key with its cleaned description, unless another thread did it first.
+     *
+     * @return the ID of the key
+     */
+    synchronized int add(char[] chars, int length, int code, String description) {
+        int hash = hash(chars, length, code);
+        int id = find(table, chars, length, code, hash);
+        if (id >= 0) return id;
+
+        id = size;
+        if (id == descriptions.length()) {
+            AtomicReferenceArray<String> grown = new AtomicReferenceArray<>(id * 2);
+            for (int i = 0; i < id; i++) grown.set(i, descriptions.get(i));
+            descriptions = grown;
+        }
+        // The description is published before the entry, so whoever finds the ID can read it
+        descriptions.set(id, description);
+
+        if ((id + 1) * 2 > table.length()) {
+            AtomicReferenceArray<Entry> grown = new AtomicReferenceArray<>(table.length() * 2);
+            for (int i = 0; i < table.length(); i++) {
+                Entry entry = table.get(i);
+                if (entry != null) insert(grown, entry);
+            }
+            table = grown;
+        }
+        insert(table, new Entry(Arrays.copyOf(chars, length), code, hash, id));
+        size = id + 1;
+        return id;
+    }
+
+    private static void insert(AtomicReferenceArray<Entry> table, Entry entry) {
+        int mask = table.length() - 1;
+        int i = entry.hash & mask;
+        while (table.get(i) != null) i = (i + 1) & mask;
+        table.set(i, entry);
+    }
+
+    /**
+     * @param id the ID returned by {@link RoadSignDescCleaner#cleanDescriptionId}
+     * @return the cleaned description with this ID
+     * @throws IllegalArgumentException if no description has this ID
+     */
+    public @NotNull String get(int id) {
+        AtomicReferenceArray<String> descriptions = this.descriptions;
+        String description = id >= 0 && id < descriptions.length() ? descriptions.get(id) : null;
+        if (description == null) throw new IllegalArgumentException("Unknown cleaned description ID: " + id);
+        return description;
+    }
+
+    /**
+     * @return the number of distinct cleaned descriptions (per cleaning strategy) in the dictionary
+     */
+    public int size() {
+        return size;
+    }
+}
@@ -8,12 +8,18 @@ import org.json.JSONObject;
 import java.time.DateTimeException;
 import java.time.Duration;
 import java.time.LocalTime;
+import java.util.List;
+import java.util.Objects;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 /**
  * @author - <a href="https://github.com/muhamm-ad">muhamm-ad</a>
  * @project JRoadSign
+ * @description A range [<tt>start</tt>, <tt>end</tt>) of the day. The constructors only build ranges within the day,
+ *         and throw a {@link StartAfterEndException} otherwise; {@link #of} and {@link #parse} also build ranges that
+ *         wrap around midnight (<tt>22H-2H</tt>), which {@link #split()} turns back into ranges within the day.
+ *         The ranges of a rule are read-only views of its {@link RpaSignDescRuleTimes}: their setters throw.
  */
 public class DailyTimeRange {
 
@@ -26,24 +32,61 @@ public class DailyTimeRange {
             "Start time `%s` is after end time `%s`. DailyTimeRange should be within the same day.";
     private static final Pattern COMPILED_DAY_TIME_RANGE_PATTERN = Pattern.compile(
             "^" + FORMATED_DAY_TIME_RANGE_PATTERN + "$");
+    private static final LocalTime START_OF_DAY = LocalTime.MIN;
+    private static final LocalTime END_OF_DAY = LocalTime.MAX;
 
     private Range<LocalTime> range;
+    private boolean readOnly;
 
     public DailyTimeRange(@NotNull String sDailyTimeRange) throws StartAfterEndException {
-        Matcher matcher = COMPILED_DAY_TIME_RANGE_PATTERN.matcher(sDailyTimeRange);
-        if (!matcher.find())
-            throw new IllegalArgumentException(String.format(MSG_ERR_INVALID_FORMAT_S_ARG, sDailyTimeRange));
-
-        LocalTime pStart = parseTime(matcher.group(1), matcher.group(2));
-        LocalTime pEnd = parseTime(matcher.group(3), matcher.group(4));
-
-        validateAndSetRange(pStart, pEnd);
+        Range<LocalTime> pRange = parseRange(sDailyTimeRange);
+        validateAndSetRange(pRange.getStart(), pRange.getEnd());
     }
 
     public DailyTimeRange(Range<LocalTime> oRange) throws StartAfterEndException {
         validateAndSetRange(oRange.getStart(), oRange.getEnd());
     }
 
+    private DailyTimeRange(LocalTime start, LocalTime end) {
+        range = new Range<>(start, end);
+    }
+
+    /**
+     * @return the range from <tt>start</tt> to <tt>end</tt>, which wraps around midnight if <tt>start</tt> is after
+     *         <tt>end</tt>
+     */
+    public static @NotNull DailyTimeRange of(@NotNull LocalTime start, @NotNull LocalTime end) {
+        return new DailyTimeRange(start, end);
+    }
+
+    /**
+     * @return the same as {@link #of}, but read-only
+     */
+    static @NotNull DailyTimeRange readOnly(@NotNull LocalTime start, @NotNull LocalTime end) {
+        DailyTimeRange dailyTimeRange = new DailyTimeRange(start, end);
+        dailyTimeRange.readOnly = true;
+        return dailyTimeRange;
+    }
+
+    /**
+     * Same as {@link #DailyTimeRange(String)}, but builds a range wrapping around midnight instead of throwing.
+     *
+     * @throws IllegalArgumentException if the range is not well formatted
+     */
+    public static @NotNull DailyTimeRange parse(@NotNull String sDailyTimeRange) {
+        Range<LocalTime> pRange = parseRange(sDailyTimeRange);
+        return new DailyTimeRange(pRange.getStart(), pRange.getEnd());
+    }
+
+    private static Range<LocalTime> parseRange(String sDailyTimeRange) {
+        Matcher matcher = COMPILED_DAY_TIME_RANGE_PATTERN.matcher(sDailyTimeRange);
+        if (!matcher.find())
+            throw new IllegalArgumentException(String.format(MSG_ERR_INVALID_FORMAT_S_ARG, sDailyTimeRange));
+
+        return new Range<>(parseTime(matcher.group(1), matcher.group(2)),
+                parseTime(matcher.group(3), matcher.group(4)));
+    }
+
     private void validateRange(LocalTime start, LocalTime end) throws StartAfterEndException {
         if (start.isAfter(end))
             throw new StartAfterEndException(
@@ -55,7 +98,7 @@ public class DailyTimeRange {
         range = new Range<>(start, end);
     }
 
-    private LocalTime parseTime(String sHour, String sMinute) {
+    private static LocalTime parseTime(String sHour, String sMinute) {
         int h = Integer.parseInt(sHour);
         int m = (sMinute != null && !sMinute.isEmpty()) ? Integer.parseInt(sMinute) : 0;
 
@@ -66,20 +109,36 @@ public class DailyTimeRange {
         }
     }
 
+    /**
+     * @return the range, or a copy of it if this range is read-only
+     */
     public Range<LocalTime> getRange() {
-        return range;
+        return readOnly ? new Range<>(range.getStart(), range.getEnd()) : range;
     }
 
+    /**
+     * @throws UnsupportedOperationException if this range is read-only
+     */
     public void setRange(Range<LocalTime> range) {
+        checkWritable();
         this.range = range;
     }
 
+    private void checkWritable() {
+        if (readOnly) throw new UnsupportedOperationException("Read-only time range of a rule: " + this);
+    }
+
     public LocalTime getStart() {
         return range.getStart();
     }
 
+    /**
+     * @throws StartAfterEndException        if the range is within the day and would no longer be
+     * @throws UnsupportedOperationException if this range is read-only
+     */
     public void setStart(LocalTime start) throws StartAfterEndException {
-        validateRange(start, range.getEnd());
+        checkWritable();
+        if (!isWrappingAround()) validateRange(start, range.getEnd());
         range.setStart(start);
     }
 
@@ -87,17 +146,57 @@ public class DailyTimeRange {
         return range.getEnd();
     }
 
+    /**
+     * @throws StartAfterEndException        if the range is within the day and would no longer be
+     * @throws UnsupportedOperationException if this range is read-only
+     */
     public void setEnd(LocalTime end) throws StartAfterEndException {
-        validateRange(range.getStart(), end);
+        checkWritable();
+        if (!isWrappingAround()) validateRange(range.getStart(), end);
         range.setEnd(end);
     }
 
+    /**
+     * @return <tt>true</tt> if the range starts on a day and ends on the next one
+     */
+    public boolean isWrappingAround() {
+        return range.getStart().isAfter(range.getEnd());
+    }
+
+    /**
+     * @return the ranges within the day covering this one: the range itself, or for a range wrapping around midnight,
+     *         the range from its start to the end of the day ({@link LocalTime#MAX}) and the one from 00:00 to its
+     *         end. Only {@link LocalTime#MAX} itself, the last nanosecond of the day, is within this range but not
+     *         within the ranges returned.
+     */
+    public @NotNull List<DailyTimeRange> split() {
+        if (!isWrappingAround()) return List.of(this);
+        return List.of(new DailyTimeRange(range.getStart(), END_OF_DAY),
+                new DailyTimeRange(START_OF_DAY, range.getEnd()));
+    }
+
     public Duration getDuration() {
-        return Duration.between(range.getStart(), range.getEnd());
+        Duration duration = Duration.between(range.getStart(), range.getEnd());
+        return isWrappingAround() ? duration.plusDays(1) : duration;
     }
 
     public boolean isWithinRange(LocalTime time) {
-        return (time.equals(range.getStart()) || time.isAfter(range.getStart())) && time.isBefore(range.getEnd());
+        boolean afterStart = !time.isBefore(range.getStart());
+        boolean beforeEnd = time.isBefore(range.getEnd());
+        return isWrappingAround() ? afterStart || beforeEnd : afterStart && beforeEnd;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        DailyTimeRange that = (DailyTimeRange) o;
+        return Objects.equals(range, that.range);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hashCode(range);
     }
 
     @Override
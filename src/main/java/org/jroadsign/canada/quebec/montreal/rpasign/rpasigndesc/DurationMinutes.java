@@ -9,6 +9,8 @@ import java.util.regex.Pattern;
 /**
  * @author - <a href="https://github.com/muhamm-ad">muhamm-ad</a>
  * @project JRoadSign
+ * @description A duration in minutes. The durations of a rule are read-only views of its
+ *         {@link RpaSignDescRuleTimes}: their setter throws.
  */
 public class DurationMinutes {
     private static final String MSG_ERR_INVALID_FORMAT_S_ARG =
@@ -18,6 +20,7 @@ public class DurationMinutes {
             "^" + String.format(GlobalConfigs.DURATION_PATTERN, " ") + "$");
 
     private int duration;
+    private boolean readOnly;
 
     public DurationMinutes(@NotNull String sDurationMinutes) {
         Matcher matcher = COMPILED_DURATION_PATTERN.matcher(sDurationMinutes);
@@ -32,11 +35,24 @@ public class DurationMinutes {
         this.duration = validateDuration(durationMinutes);
     }
 
+    /**
+     * @return the same as {@link #DurationMinutes(int)}, but read-only
+     */
+    static @NotNull DurationMinutes readOnly(int durationMinutes) {
+        DurationMinutes durationMinutesView = new DurationMinutes(durationMinutes);
+        durationMinutesView.readOnly = true;
+        return durationMinutesView;
+    }
+
     public int getDuration() {
         return duration;
     }
 
+    /**
+     * @throws UnsupportedOperationException if this duration is read-only
+     */
     public void setDuration(int duration) {
+        if (readOnly) throw new UnsupportedOperationException("Read-only duration of a rule: " + this);
         this.duration = validateDuration(duration);
     }
 
@@ -47,6 +63,19 @@ public class DurationMinutes {
         return durationToValidate;
     }
 
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        DurationMinutes that = (DurationMinutes) o;
+        return duration == that.duration;
+    }
+
+    @Override
+    public int hashCode() {
+        return Integer.hashCode(duration);
+    }
+
     @Override
     public String toString() {
         return "DurationMinutes = " + duration;
@@ -1,5 +1,7 @@
 package org.jroadsign.canada.quebec.montreal.rpasign.rpasigndesc;
 
+import java.util.Objects;
+
 /**
  * @author - <a href="https://github.com/muhamm-ad">muhamm-ad</a>
  * @project JRoadSign
@@ -30,6 +32,19 @@ public class Range<T> {
         this.end = end;
     }
 
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        Range<?> that = (Range<?>) o;
+        return Objects.equals(start, that.start) && Objects.equals(end, that.end);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(start, end);
+    }
+
     @Override
     public String toString() {
         return "{start=" + start + ", end=" + end + "}";
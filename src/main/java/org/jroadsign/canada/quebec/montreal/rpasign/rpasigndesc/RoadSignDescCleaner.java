@@ -2,14 +2,14 @@ package org.jroadsign.canada.quebec.montreal.rpasign.rpasigndesc;
 
 import org.jetbrains.annotations.NotNull;
 import org.jroadsign.canada.quebec.montreal.rpasign.RpaSignCode;
-import org.jroadsign.canada.quebec.montreal.rpasign.rpasigndesc.common.GlobalConfigs;
+import org.jroadsign.canada.quebec.montreal.rpasign.RpaSignCodeRegistry;
+import org.jroadsign.canada.quebec.montreal.rpasign.rpasigndesc.common.GlobalPatterns;
 
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
-import java.util.Map;
+import java.util.Locale;
 import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 /**
  * @author - <a href="https://github.com/muhamm-ad">muhamm-ad</a>
@@ -22,104 +22,298 @@ public class RoadSignDescCleaner {
 
     public static final String RULE_SEPARATOR = " & ";
 
+    private static final String STAT_INT = "STAT INT ";
+
+    private static final ThreadLocal<Scratch> SCRATCH = ThreadLocal.withInitial(Scratch::new);
+
     /**
      * This method Cleans up the given description by performing several operations on it.
      * It normalizes the string to upper case, removes possible prefixes, extra spaces, unwanted characters,
      * misspellings, and adds spaces where needed.
+     * <p>
+     * The characters are normalized in one loop, in a scratch buffer of the thread; the words are then cleaned in
+     * one pass of {@link RpaSignDescLexer}, and only the codes whose {@link RoadSignDescCleaningStrategy} reformats
+     * their descriptions into several rules use regular expressions (precompiled in {@link GlobalPatterns}). Nothing
+     * is kept once the description is cleaned: {@link #cleanDescription(String, int, CleanedDescriptionDictionary)}
+     * shares the descriptions cleaned the same way within a dictionary owned by the caller.
      *
      * @param strDescription The original description to be cleaned.
      * @param code           The RpaSignCode used to determine if a specific cleaning operation is required.
      * @return A cleaned version of the original description.
      */
     public static @NotNull String cleanDescription(@NotNull String strDescription, @NotNull RpaSignCode code) {
-        String cleanedDescription = strDescription.toUpperCase().trim();
-        cleanedDescription = handleNoParking(removeUnnecessaryCharacters(cleanedDescription));
+        return cleanDescription(strDescription, code.ordinal());
+    }
 
-        if (code.getStr().startsWith("S") && !cleanedDescription.startsWith("\\P")) {
-            cleanedDescription = "\\P " + cleanedDescription;
-        }
+    /**
+     * Cleans up the given description as {@link #cleanDescription(String, RpaSignCode)} does, for a code given by its
+     * ID in {@link RpaSignCodeRegistry}. The description of a code unknown to {@link RpaSignCode} is cleaned in the
+     * generic way.
+     *
+     * @param strDescription The original description to be cleaned.
+     * @param codeId         The ID of the code in {@link RpaSignCodeRegistry}.
+     * @return A cleaned version of the original description.
+     * @throws IllegalArgumentException if no code has this ID
+     */
+    public static @NotNull String cleanDescription(@NotNull String strDescription, int codeId) {
+        Scratch scratch = SCRATCH.get();
+        RoadSignDescCleaningStrategy strategy = normalizeCharacters(strDescription, codeId, scratch, null);
+        return cleanWords(scratch.toString(), strategy, null);
+    }
 
-        for (Map.Entry<String, String> entry : GlobalConfigs.DAY_OF_WEEK_PATTERN_MAP.entrySet()) {
-            String abbreviation = entry.getValue().trim();
-            cleanedDescription = cleanedDescription.replaceAll(entry.getKey(), abbreviation).trim();
+    /**
+     * Cleans up the given description as {@link #cleanDescription(String, int)} does, through a dictionary of the
+     * cleaned descriptions: a description normalized to a form already in the dictionary is not cleaned again, and
+     * gets the same string without allocating anything.
+     *
+     * @param strDescription The original description to be cleaned.
+     * @param codeId         The ID of the code in {@link RpaSignCodeRegistry}.
+     * @param dictionary     The dictionary of the cleaned descriptions, e.g. the one of a load.
+     * @return A cleaned version of the original description.
+     * @throws IllegalArgumentException if no code has this ID
+     */
+    public static @NotNull String cleanDescription(@NotNull String strDescription, int codeId,
+                                                   @NotNull CleanedDescriptionDictionary dictionary) {
+        return dictionary.get(cleanDescriptionId(strDescription, codeId, dictionary, null));
+    }
+
+    /**
+     * Cleans up the given description as {@link #cleanDescription(String, int, CleanedDescriptionDictionary)} does,
+     * and counts it in the statistics.
+     *
+     * @param strDescription The original description to be cleaned.
+     * @param codeId         The ID of the code in {@link RpaSignCodeRegistry}.
+     * @param dictionary     The dictionary of the cleaned descriptions, e.g. the one of a load.
+     * @param statistics     The statistics counting the description and the run of its strategy.
+     * @return A cleaned version of the original description.
+     * @throws IllegalArgumentException if no code has this ID
+     */
+    public static @NotNull String cleanDescription(@NotNull String strDescription, int codeId,
+                                                   @NotNull CleanedDescriptionDictionary dictionary,
+                                                   @NotNull RoadSignDescCleaningStatistics statistics) {
+        return dictionary.get(cleanDescriptionId(strDescription, codeId, dictionary, statistics));
+    }
+
+    /**
+     * Cleans up the given description as {@link #cleanDescription} does, but returns the ID of the cleaned
+     * description in the dictionary. Two descriptions cleaned the same way for codes with the same
+     * {@link RoadSignDescCleaningStrategy} share an ID.
+     *
+     * @param strDescription The original description to be cleaned.
+     * @param code           The RpaSignCode used to determine if a specific cleaning operation is required.
+     * @param dictionary     The dictionary of the cleaned descriptions.
+     * @return the ID of the cleaned description, to be read with {@link CleanedDescriptionDictionary#get(int)}
+     */
+    public static int cleanDescriptionId(@NotNull String strDescription, @NotNull RpaSignCode code,
+                                         @NotNull CleanedDescriptionDictionary dictionary) {
+        return cleanDescriptionId(strDescription, code.ordinal(), dictionary);
+    }
+
+    /**
+     * Cleans up the given description as {@link #cleanDescriptionId(String, RpaSignCode,
+     * CleanedDescriptionDictionary)} does, for a code given by its ID in {@link RpaSignCodeRegistry}.
+     *
+     * @param strDescription The original description to be cleaned.
+     * @param codeId         The ID of the code in {@link RpaSignCodeRegistry}.
+     * @param dictionary     The dictionary of the cleaned descriptions.
+     * @return the ID of the cleaned description, to be read with {@link CleanedDescriptionDictionary#get(int)}
+     * @throws IllegalArgumentException if no code has this ID
+     */
+    public static int cleanDescriptionId(@NotNull String strDescription, int codeId,
+                                         @NotNull CleanedDescriptionDictionary dictionary) {
+        return cleanDescriptionId(strDescription, codeId, dictionary, null);
+    }
+
+    private static int cleanDescriptionId(@NotNull String strDescription, int codeId,
+                                          @NotNull CleanedDescriptionDictionary dictionary,
+                                          RoadSignDescCleaningStatistics statistics) {
+        Scratch scratch = SCRATCH.get();
+        RoadSignDescCleaningStrategy strategy = normalizeCharacters(strDescription, codeId, scratch, statistics);
+        int id = dictionary.find(scratch.chars, scratch.length, strategy.ordinal());
+        if (id >= 0) return id;
+        return dictionary.add(scratch.chars, scratch.length, strategy.ordinal(),
+                cleanWords(scratch.toString(), strategy, statistics));
+    }
+
+    /**
+     * Normalizes the characters of a description into the scratch buffer.
+     *
+     * @param statistics the statistics counting the description, or <tt>null</tt>
+     * @return the cleaning strategy of the code
+     */
+    private static @NotNull RoadSignDescCleaningStrategy normalizeCharacters(
+            @NotNull String strDescription, int codeId, @NotNull Scratch scratch,
+            RoadSignDescCleaningStatistics statistics) {
+        RpaSignCode code = RpaSignCodeRegistry.getCode(codeId);
+        String strCode = RpaSignCodeRegistry.getStr(codeId);
+
+        removeUnnecessaryCharacters(strDescription, scratch);
+        handleNoParking(scratch);
+        // RpaSignCode.NULL has no code
+        if (strCode != null && strCode.regionMatches(true, 0, "S", 0, 1) && !scratch.startsWith("\\P", 0)) {
+            scratch.insert("\\P ");
+            scratch.trim();
         }
 
-        cleanedDescription = correctSpelling(cleanedDescription);
-        cleanedDescription = insertSpacesWhereNeeded(cleanedDescription);
-
-        cleanedDescription = switch (code) {
-            case SLR_ST_75
-                // ex : "\P 9H À 17H LUN MER VEN 15 NOV AU 15 MARS; 11H À 12H MERCREDI 15 MARS AU 15 NOV"
-                    -> cleanedDescription.replace(";", RULE_SEPARATOR + "\\P");
-
-            case SLR_ST_82, SLR_ST_84, SLR_ST_98
-                // ex : "\P LUN MER VEN 8H À 12H - MAR JEU 13H À 17H"
-                // ex : "\P 9H À 17H MAR JEU 15 NOV AU 15 MARS - 11H À 12H JEUDI 15 MARS AU 15 NOV"
-                    -> cleanedDescription.replace(" -", RULE_SEPARATOR + "\\P");
-
-            case SS_JM
-                // ex : "\P 07h-16h LUN A VEN ET 07h-12h SAMEDI"
-                    -> cleanedDescription.replace("ET", RULE_SEPARATOR + "\\P");
-
-            case SD_OP
-                // ex : "\P 18h-24h LUN A VEN  +  08h-24h SAM ET DIM"
-                    -> cleanedDescription.replace("+", RULE_SEPARATOR + "\\P");
-
-            case SLR_ST_80, SLR_ST_81, SLR_ST_111, SLR_ST_172, SLR_ST_174, SLR_ST_175
-                // ex : "\P 17H MAR À 17H MER; 17H JEU À 17H VEN; 17H SAM À 17H LUN"
-                // ex : "\P 17H MAR À 17H MER; \P 17H JEU À 17H VEN; \P 17H SAM À 17H LUN"
-                // ex : "\P 120 MIN - LUN 17H À MAR 17H - MER 17H À JEU 17H - VEN 17H À SAM 17H"
-                    -> reformatDailyTimeIntervals_1(cleanedDescription);
-            case SB_NX, SB_NX_A, SB_NY, SB_NY_A
-                // ex : "\P 23h30-00h30  MAR A MER, VEN A SAM  1 MARS AU 1 DEC. "
-                    -> reformatDailyTimeIntervals_2(cleanedDescription);
-
-            case SLR_ST_79, SLR_ST_105, SLR_ST_106, SLR_ST_107, SLR_ST_135
-                // ex : "\P 8H À 12H LUN MER VEN 13H À 18H MAR JEU"
-                // ex : "\P MAR JEU 8H À 12H LUN MER VEN 14H À 17H"
-                // ex : "\P 30 MIN - MAR MER VEN - 9H À 16H30 - LUN JEU - 12H À 16H30"
-                    -> reformatDailyTimeIntervals_3(cleanedDescription);
-
-            default -> cleanedDescription;
-        };
-
-        return cleanedDescription.trim();
+        if (statistics != null) statistics.countCode(code);
+        return RoadSignDescCleaningStrategy.of(code);
+    }
+
+    /**
+     * Cleans the words of a description whose characters were normalized, then splits it into several rules with the
+     * strategy of its code.
+     */
+    private static @NotNull String cleanWords(@NotNull String description,
+                                              @NotNull RoadSignDescCleaningStrategy strategy,
+                                              RoadSignDescCleaningStatistics statistics) {
+        String cleanedDescription = new RpaSignDescLexer(description).getText();
+        if (statistics == null) return strategy.apply(cleanedDescription).trim();
+
+        long start = System.nanoTime();
+        String reformatted = strategy.apply(cleanedDescription);
+        statistics.countRun(strategy, System.nanoTime() - start);
+        return reformatted.trim();
+    }
+
+    /**
+     * Tells whether upper-casing each character of the description on its own gives the same result as
+     * {@link String#toUpperCase()}: it does for the Latin-1 characters, but <tt>ß</tt>, outside of the Turkic and
+     * Lithuanian locales.
+     */
+    private static boolean isUpperCasedPerCharacter(@NotNull String description) {
+        String language = Locale.getDefault().getLanguage();
+        if (language.equals("tr") || language.equals("az") || language.equals("lt")) return false;
+        for (int i = 0; i < description.length(); i++) {
+            char c = description.charAt(i);
+            if (c > '\u00FF' || c == 'ß') return false;
+        }
+        return true;
     }
 
     /**
-     * This method removes unnecessary characters from the given description.
+     * This method upper-cases the given description and removes unnecessary characters from it, into the scratch
+     * buffer and in a single loop: dots become spaces, commas and ampersands semicolons, whitespaces are collapsed,
+     * accented capitals lose their accent and <tt>1ER</tt> becomes <tt>1</tt>.
      *
      * @param description The original description to be cleaned.
-     * @return A cleaned version of the original description.
+     * @param scratch     The buffer receiving the cleaned description.
      */
-    private static @NotNull String removeUnnecessaryCharacters(@NotNull String description) {
-        return description
-                .replace(".", " ")
-                .replace(",", ";")
-                .replaceAll("\\s+", " ")
-                .replace("É", "E")
-                .replace("È", "E")
-                .replace("Ê", "E")
-                .replace("À", "A")
-                .replace("1ER", "1")
-                .replace("&", ";")
-                .trim();
+    private static void removeUnnecessaryCharacters(@NotNull String description, @NotNull Scratch scratch) {
+        boolean perCharacter = isUpperCasedPerCharacter(description);
+        if (!perCharacter) description = description.toUpperCase();
+
+        int start = 0;
+        int end = description.length();
+        while (start < end && description.charAt(start) <= ' ') start++;
+        while (end > start && description.charAt(end - 1) <= ' ') end--;
+
+        char[] cleaned = scratch.reserve(end - start);
+        int length = 0;
+        int replaced = 0; // no "1ER" can start before, it was already replaced
+        boolean space = false;
+
+        for (int i = start; i < end; i++) {
+            char c = description.charAt(i);
+            if (perCharacter) c = Character.toUpperCase(c);
+            if (c == '.') c = ' ';
+
+            if (c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r') {
+                if (!space) cleaned[length++] = ' ';
+                space = true;
+                continue;
+            }
+            space = false;
+
+            switch (c) {
+                case 'É', 'È', 'Ê' -> c = 'E';
+                case 'À' -> c = 'A';
+                case ',', '&' -> c = ';';
+                default -> {
+                }
+            }
+
+            if (c == 'R' && length - 2 >= replaced && cleaned[length - 1] == 'E' && cleaned[length - 2] == '1') {
+                length--;
+                replaced = length;
+                continue;
+            }
+            cleaned[length++] = c;
+        }
+
+        scratch.length = length;
+        scratch.trim();
     }
 
     /**
-     * This method handles the authorization case of parking.
+     * This method handles the authorization case of parking, in the scratch buffer.
      *
-     * @param description The original description to be handled.
-     * @return The description after handling the authorization case with '\P'.
+     * @param scratch The buffer holding the description to be handled, with '\P' afterward.
      */
-    private static @NotNull String handleNoParking(@NotNull String description) {
-        return description
-                .replace("(NO PARKING)", "\\P")
-                .replace("/P", "\\P")
-                .replace("\\P EXCEPTE", "\\P EN TOUT TEMPS EXCEPTE")
-                .replaceAll("^EXCEPTE", "EN TOUT TEMPS EXCEPTE")
-                .replaceAll("STAT\\.? INT\\.? (DE\\s*)?", "\\\\P ")
-                .trim();
+    private static void handleNoParking(@NotNull Scratch scratch) {
+        scratch.replace("(NO PARKING)", "\\P");
+        scratch.replace("/P", "\\P");
+        scratch.replace("\\P EXCEPTE", "\\P EN TOUT TEMPS EXCEPTE");
+        if (scratch.startsWith("EXCEPTE", 0)) scratch.insert("EN TOUT TEMPS ");
+        replaceStatInt(scratch);
+        scratch.trim();
+    }
+
+    /**
+     * Replaces <tt>STAT. INT.</tt> (without the dots, which were already removed) and a following <tt>DE</tt> by
+     * <tt>\P</tt>.
+     */
+    private static void replaceStatInt(@NotNull Scratch scratch) {
+        int index = scratch.indexOf(STAT_INT, 0);
+        if (index < 0) return;
+
+        char[] chars = scratch.chars;
+        int length = scratch.length;
+        // "STAT INT " (9 characters) becomes "\P " (3 characters): the result is never longer
+        char[] replaced = scratch.reserveSpare(length);
+        int replacedLength = 0;
+        int from = 0;
+        while (index >= 0) {
+            int end = index + STAT_INT.length();
+            if (scratch.startsWith("DE", end)) {
+                end += 2;
+                while (end < length && chars[end] == ' ') end++;
+            }
+            System.arraycopy(chars, from, replaced, replacedLength, index - from);
+            replacedLength += index - from;
+            replaced[replacedLength++] = '\\';
+            replaced[replacedLength++] = 'P';
+            replaced[replacedLength++] = ' ';
+            from = end;
+            index = scratch.indexOf(STAT_INT, from);
+        }
+        System.arraycopy(chars, from, replaced, replacedLength, length - from);
+        scratch.swap(replacedLength + length - from);
+    }
+
+    /**
+     * Splits a description into rules at each occurrence of the separator, each new rule starting with <tt>\P</tt>
+     * unless it already does, e.g. <tt>\P 9H-17H; 18H-20H; \P 21H-22H</tt> with <tt>;</tt> gives
+     * <tt>\P 9H-17H &amp; \P 18H-20H &amp; \P 21H-22H</tt>.
+     *
+     * @param description The description to split.
+     * @param separator   The text between two rules.
+     * @return The rules joined by {@link #RULE_SEPARATOR}.
+     */
+    static @NotNull String splitRules(@NotNull String description, @NotNull String separator) {
+        int index = description.indexOf(separator);
+        if (index < 0) return description;
+
+        StringBuilder rules = new StringBuilder(description.length() + 16);
+        int from = 0;
+        for (; index >= 0; index = description.indexOf(separator, from)) {
+            rules.append(description, from, index).append(RULE_SEPARATOR);
+            from = index + separator.length();
+            int next = from;
+            while (next < description.length() && description.charAt(next) == ' ') next++;
+            if (description.startsWith("\\P", next)) from = next;
+            else rules.append("\\P");
+        }
+        return rules.append(description, from, description.length()).toString();
     }
 
     /**
@@ -136,29 +330,21 @@ public class RoadSignDescCleaner {
      * @param description The original description.
      * @return The description with the day-hour string reformatted.
      */
-    private static @NotNull String reformatDailyTimeIntervals_1(@NotNull String description) {
+    static @NotNull String reformatDailyTimeIntervals_1(@NotNull String description) {
         String descCopy = description;
         boolean isParkingAuthorized = !description.startsWith("\\P");
 
-        String durationPrefixPattern = "(\\d+\\s*MIN)(?:\\s*-\\s*)?";
-        Pattern durationPattern = Pattern.compile(durationPrefixPattern, Pattern.CASE_INSENSITIVE | Pattern.UNICODE_CASE);
-
         String extractedDurationPrefix = "";
 
-        Matcher durationMatcher = durationPattern.matcher(descCopy);
+        Matcher durationMatcher = GlobalPatterns.matcher(GlobalPatterns.DURATION_PREFIX, descCopy);
         if (durationMatcher.find()) {
             extractedDurationPrefix = durationMatcher.group(1);
             descCopy = descCopy.substring(durationMatcher.end()).trim();  // Remove the duration prefix from the descCopy
         }
+        GlobalPatterns.release(durationMatcher);
 
-        String timePattern = "(\\d{1,2}\\s*H\\s*(?:\\d{1,2})?)";
-        String dayPattern = "(" + GlobalConfigs.WEEKLY_DAYS_PATTERN + ")";
-
-        String fullIntervalPattern1 = timePattern + "\\s*" + dayPattern + "\\s*(?:AU?)\\s*" + timePattern + "\\s*" + dayPattern;
-        String fullIntervalPattern2 = dayPattern + "\\s*" + timePattern + "\\s*(?:À|A)\\s*" + dayPattern + "\\s*" + timePattern;
-
-        Matcher matcher1 = Pattern.compile(fullIntervalPattern1, Pattern.CASE_INSENSITIVE | Pattern.UNICODE_CASE).matcher(descCopy);
-        Matcher matcher2 = Pattern.compile(fullIntervalPattern2, Pattern.CASE_INSENSITIVE | Pattern.UNICODE_CASE).matcher(descCopy);
+        Matcher matcher1 = GlobalPatterns.matcher(GlobalPatterns.TIME_DAY_TO_TIME_DAY, descCopy);
+        Matcher matcher2 = GlobalPatterns.matcher(GlobalPatterns.DAY_TIME_TO_DAY_TIME, descCopy);
 
         Matcher selectedMatcher;
         boolean isPattern1Matched = matcher1.find();
@@ -167,6 +353,7 @@ public class RoadSignDescCleaner {
         } else if (matcher2.find()) {
             selectedMatcher = matcher2;
         } else {
+            GlobalPatterns.release(matcher1, matcher2);
             return description;
         }
 
@@ -209,6 +396,7 @@ public class RoadSignDescCleaner {
                 }
             }
         } while (selectedMatcher.find());
+        GlobalPatterns.release(matcher1, matcher2);
 
         String finalDescription = reformatted.toString().trim();
         return finalDescription.isEmpty() ? description : finalDescription;
@@ -232,18 +420,7 @@ public class RoadSignDescCleaner {
         boolean isParkingAuthorized = !description.startsWith("\\P");
         descCopy = descCopy.replace("\\P", "").trim();
 
-        String timePattern = "\\d{1,2}\\s*H\\s*(?:\\d{1,2})?";
-        String timeIntervalPattern = timePattern + "\\s*(?:-|A)" + timePattern;
-
-        String dayIntervalPattern = "(?:" + GlobalConfigs.WEEKLY_DAYS_PATTERN + ")\\s*(?:AU?)\\s*(?:" + GlobalConfigs.WEEKLY_DAYS_PATTERN + ")";
-
-        String dayMonthPattern = GlobalConfigs.TWO_DIGIT + "\\s*(?:" + GlobalConfigs.ANNUAL_MONTH_PATTERN + ")";
-        String monthDayPattern = "(?:" + GlobalConfigs.ANNUAL_MONTH_PATTERN + ")\\s*" + GlobalConfigs.TWO_DIGIT;
-        String monthIntervalPattern = "(?:" + dayMonthPattern + "\\s*(?:AU?)\\s*" + dayMonthPattern + ")|(?:" + monthDayPattern + "\\s*(?:AU?)\\s*" + monthDayPattern + ")";
-
-        String pattern = "^(" + timeIntervalPattern + ")\\s*(" + dayIntervalPattern + "\\s*(?:;|,)\\s*" + dayIntervalPattern + ")\\s*(" + monthIntervalPattern + ")\\s*";
-
-        Matcher matcher = Pattern.compile(pattern, Pattern.CASE_INSENSITIVE | Pattern.UNICODE_CASE).matcher(descCopy);
+        Matcher matcher = GlobalPatterns.matcher(GlobalPatterns.TIME_DAY_INTERVALS_MONTHS, descCopy);
 
         StringBuilder reformatted = new StringBuilder();
         String finalDescription = "";
@@ -263,6 +440,7 @@ public class RoadSignDescCleaner {
                         .append(monthsInterval);
             }
         }
+        GlobalPatterns.release(matcher);
 
         finalDescription = reformatted.toString().trim();
         return (finalDescription.isEmpty()) ? description : finalDescription;
@@ -282,7 +460,7 @@ public class RoadSignDescCleaner {
      * @param description The original description string.
      * @return The reformatted description with detailed day and time intervals.
      */
-    private static @NotNull String reformatDailyTimeIntervals_2(@NotNull String description) {
+    static @NotNull String reformatDailyTimeIntervals_2(@NotNull String description) {
 
         String desc = reformatDailyTimeIntervals_2_helper(description);
         if (desc.equalsIgnoreCase(description)) return description;
@@ -290,22 +468,11 @@ public class RoadSignDescCleaner {
         StringBuilder reformatted = new StringBuilder();
         String finalDescription = "";
 
-        String timePattern = "\\d{1,2}\\s*H\\s*(?:\\d{1,2})?";
-        String timeIntervalPattern = "(" + timePattern + ")\\s*(?:-|A)(" + timePattern + ")";
-
-        String dayIntervalPattern = "(" + GlobalConfigs.WEEKLY_DAYS_PATTERN + ")\\s*(?:AU?)\\s*(" + GlobalConfigs.WEEKLY_DAYS_PATTERN + ")";
-
-        String dayMonthPattern = GlobalConfigs.TWO_DIGIT + "\\s*(?:" + GlobalConfigs.ANNUAL_MONTH_PATTERN + ")";
-        String monthDayPattern = "(?:" + GlobalConfigs.ANNUAL_MONTH_PATTERN + ")\\s*" + GlobalConfigs.TWO_DIGIT;
-        String monthIntervalPattern = "((?:" + dayMonthPattern + "\\s*(?:AU?)\\s*" + dayMonthPattern + ")|(?:" + monthDayPattern + "\\s*(?:AU?)\\s*" + monthDayPattern + "))";
-
-        String sPattern = "(?:\\\\P)?\\s*" + timeIntervalPattern + "\\s*" + dayIntervalPattern + "\\s*" + monthIntervalPattern;
-        Pattern pattern = Pattern.compile(sPattern, Pattern.CASE_INSENSITIVE | Pattern.UNICODE_CASE);
         String startDay, startTime, endDay, endTime, monthInterval;
 
         for (String rule : desc.split(";")) {
             boolean isParkingAuthorized = !description.startsWith("\\P");
-            Matcher matcher = pattern.matcher(rule.trim());
+            Matcher matcher = GlobalPatterns.matcher(GlobalPatterns.TIME_DAY_INTERVAL_MONTHS, rule.trim());
             if (matcher.find()) {
                 startTime = matcher.group(1).trim();
                 endTime = matcher.group(2).trim();
@@ -333,6 +500,7 @@ public class RoadSignDescCleaner {
                     reformatted.append(" ").append(monthInterval);
                 }
             }
+            GlobalPatterns.release(matcher);
         }
 
         finalDescription = reformatted.toString().trim();
@@ -352,31 +520,23 @@ public class RoadSignDescCleaner {
      * @param description The original description.
      * @return The reformatted description.
      */
-    private static @NotNull String reformatDailyTimeIntervals_3(@NotNull String description) {
+    static @NotNull String reformatDailyTimeIntervals_3(@NotNull String description) {
         String descCopy = description;
         boolean isParkingAuthorized = !descCopy.startsWith("\\P");
         descCopy = descCopy.replace("\\P", "").trim();
 
         // Extract the duration prefix if present
-        String durationPrefixPattern = "(\\d+\\s*MIN)(?:\\s*-\\s*)?";
-        Pattern durationPattern = Pattern.compile(durationPrefixPattern, Pattern.CASE_INSENSITIVE | Pattern.UNICODE_CASE);
-
         String extractedDurationPrefix = "";
-        Matcher durationMatcher = durationPattern.matcher(descCopy);
+        Matcher durationMatcher = GlobalPatterns.matcher(GlobalPatterns.DURATION_PREFIX, descCopy);
         if (durationMatcher.find()) {
             extractedDurationPrefix = durationMatcher.group(1);
             descCopy = descCopy.substring(durationMatcher.end()).trim();  // Remove the duration prefix from the description
         }
+        GlobalPatterns.release(durationMatcher);
 
-        descCopy = descCopy.replaceAll("(\\s)?-(\\s)?", " ");
+        descCopy = GlobalPatterns.replaceAll(descCopy, GlobalPatterns.OPTIONALLY_SPACED_DASH, " ");
 
-        String timeRangePattern = "\\d{1,2}\\s*H\\s*(?:\\d{1,2})?\\s*(?:À|A)\\s*\\d{1,2}\\s*H\\s*(?:\\d{1,2})?";
-        String dayPattern = "(?:(?:" + GlobalConfigs.WEEKLY_DAYS_PATTERN + ")\\s*)+";
-
-        String timeDayPattern = "(" + timeRangePattern + "\\s*" + dayPattern + ")";
-        String dayTimePattern = "(" + dayPattern + "\\s*" + timeRangePattern + ")";
-
-        Matcher matcher = Pattern.compile(timeDayPattern + "|" + dayTimePattern, Pattern.CASE_INSENSITIVE | Pattern.UNICODE_CASE).matcher(descCopy);
+        Matcher matcher = GlobalPatterns.matcher(GlobalPatterns.TIME_RANGE_DAYS, descCopy);
 
         StringBuilder reformatted = new StringBuilder();
         while (matcher.find()) {
@@ -386,6 +546,7 @@ public class RoadSignDescCleaner {
                     .append(extractedDurationPrefix.isEmpty() ? "" : extractedDurationPrefix + " ")
                     .append(matcher.group().trim());
         }
+        GlobalPatterns.release(matcher);
 
         return reformatted.isEmpty() ? description : reformatted.toString().trim();
     }
@@ -421,33 +582,8 @@ public class RoadSignDescCleaner {
     }
 
     /**
-     * This method corrects misspelled names in the description.
-     *
-     * @param description The original description.
-     * @return The description with corrected names.
-     */
-    private static @NotNull String correctSpelling(@NotNull String description) {
-        return description.replace("AVIL", GlobalConfigs.APRIL)
-                .replace("AVRILS", GlobalConfigs.APRIL)
-                .replace("MRS", GlobalConfigs.MARCH)
-                .replace("MARSL", GlobalConfigs.MARCH)
-                .replace("VEMDREDI", GlobalConfigs.FRIDAY);
-    }
-
-    /**
-     * This method inserts spaces where needed in the given description.
-     *
-     * @param description The original description.
-     * @return The description with spaces added where needed.
-     */
-    private static @NotNull String insertSpacesWhereNeeded(@NotNull String description) {
-        description = insertSpaceBetweenLetterAndNumber(description);
-        description = insertSpaceBetweenDayAndMonth(description);
-        return description;
-    }
-
-    /**
-     * This method inserts a space between a letter and a digit if one does not exist, except 'H' for times
+     * This method inserts a space between a letter and a digit if one does not exist, except 'H' for times.
+     * {@link #cleanDescription} does it while lexing; this is the step on its own.
      *
      * @param description The original description.
      * @return The description with spaces added between letters (except H or h) and digits.
@@ -459,8 +595,7 @@ public class RoadSignDescCleaner {
                 .replaceAll("(\\d) ([Hh]) ([\\d-])", "$1$2$3")
                 .replaceAll("(\\d) ([Hh])", "$1$2"); // for times*/
 
-        Pattern letterNumberPattern = Pattern.compile("(\\p{L})(\\d)");
-        Matcher letterNumberMatcher = letterNumberPattern.matcher(description);
+        Matcher letterNumberMatcher = GlobalPatterns.matcher(GlobalPatterns.LETTER_NUMBER, description);
 
         StringBuilder formattedDescription = new StringBuilder();
         while (letterNumberMatcher.find()) {
@@ -469,26 +604,21 @@ public class RoadSignDescCleaner {
                         formattedDescription, letterNumberMatcher.group(1) + " " + letterNumberMatcher.group(2));
         }
         letterNumberMatcher.appendTail(formattedDescription);
+        GlobalPatterns.release(letterNumberMatcher);
         return formattedDescription.toString();
     }
 
     /**
      * This method adds a space between the day and month in the description if necessary.
      * It handles both "day-month" and "month-day" formats.
+     * {@link #cleanDescription} does it while lexing; this is the step on its own.
      *
      * @param description The original description.
      * @return The description with spaces added between day and month.
      */
     private static @NotNull String insertSpaceBetweenDayAndMonth(@NotNull String description) {
-        // Define patterns to match both "day-month" and "month-day" formats
-        String dayMonthPattern = "(" + GlobalConfigs.TWO_DIGIT + ")(" + GlobalConfigs.ANNUAL_MONTH_PATTERN + ")";
-        String monthDayPattern = "(" + GlobalConfigs.ANNUAL_MONTH_PATTERN + ")(" + GlobalConfigs.TWO_DIGIT + ")";
-
-        Pattern combinedPattern = Pattern.compile(
-                "\\b(" + dayMonthPattern + "|" + monthDayPattern + ")\\b",
-                Pattern.CASE_INSENSITIVE | Pattern.UNICODE_CASE);
-
-        Matcher dateMatcher = combinedPattern.matcher(description);
+        // Match both "day-month" and "month-day" formats
+        Matcher dateMatcher = GlobalPatterns.matcher(GlobalPatterns.DAY_MONTH_STUCK, description);
 
         StringBuilder formattedDescription = new StringBuilder();
         while (dateMatcher.find()) {
@@ -499,8 +629,108 @@ public class RoadSignDescCleaner {
             }
         }
         dateMatcher.appendTail(formattedDescription);
+        GlobalPatterns.release(dateMatcher);
         return formattedDescription.toString();
     }
 
+    /**
+     * Scratch buffer of a thread, holding a description while its characters are cleaned. Each step writes into the
+     * spare array when it changes the length of the description, then swaps both arrays, so that nothing is
+     * allocated once the arrays are large enough.
+     */
+    private static final class Scratch {
+        private char[] chars = new char[256];
+        private char[] spare = new char[256];
+        private int length;
+
+        /**
+         * @return the main array, with room for at least <tt>capacity</tt> characters; its content is lost
+         */
+        char[] reserve(int capacity) {
+            if (chars.length < capacity) chars = new char[Math.max(capacity, chars.length * 2)];
+            return chars;
+        }
+
+        /**
+         * @return the spare array, with room for at least <tt>capacity</tt> characters
+         */
+        char[] reserveSpare(int capacity) {
+            if (spare.length < capacity) spare = new char[Math.max(capacity, spare.length * 2)];
+            return spare;
+        }
+
+        /**
+         * Makes the spare array, holding <tt>length</tt> characters, the main one.
+         */
+        void swap(int length) {
+            char[] swapped = chars;
+            chars = spare;
+            spare = swapped;
+            this.length = length;
+        }
+
+        boolean startsWith(String prefix, int from) {
+            if (from < 0 || from + prefix.length() > length) return false;
+            for (int i = 0; i < prefix.length(); i++)
+                if (chars[from + i] != prefix.charAt(i)) return false;
+            return true;
+        }
+
+        int indexOf(String target, int from) {
+            for (int i = from; i + target.length() <= length; i++)
+                if (startsWith(target, i)) return i;
+            return -1;
+        }
+
+        /**
+         * Same as {@link String#replace(CharSequence, CharSequence)}.
+         */
+        void replace(String target, String replacement) {
+            int index = indexOf(target, 0);
+            if (index < 0) return;
+
+            int growth = Math.max(0, replacement.length() - target.length());
+            char[] replaced = reserveSpare(length + (length / target.length()) * growth);
+            int replacedLength = 0;
+            int from = 0;
+            while (index >= 0) {
+                System.arraycopy(chars, from, replaced, replacedLength, index - from);
+                replacedLength += index - from;
+                replacement.getChars(0, replacement.length(), replaced, replacedLength);
+                replacedLength += replacement.length();
+                from = index + target.length();
+                index = indexOf(target, from);
+            }
+            System.arraycopy(chars, from, replaced, replacedLength, length - from);
+            swap(replacedLength + length - from);
+        }
 
+        /**
+         * Inserts the prefix at the start of the buffer.
+         */
+        void insert(String prefix) {
+            char[] inserted = reserveSpare(prefix.length() + length);
+            prefix.getChars(0, prefix.length(), inserted, 0);
+            System.arraycopy(chars, 0, inserted, prefix.length(), length);
+            swap(prefix.length() + length);
+        }
+
+        /**
+         * Same as {@link String#trim()}.
+         */
+        void trim() {
+            int start = 0;
+            while (start < length && chars[start] <= ' ') start++;
+            while (length > start && chars[length - 1] <= ' ') length--;
+            if (start > 0) {
+                System.arraycopy(chars, start, chars, 0, length - start);
+                length -= start;
+            }
+        }
+
+        @Override
+        public String toString() {
+            return new String(chars, 0, length);
+        }
+    }
 }
@@ -0,0 +1,114 @@
+package org.jroadsign.canada.quebec.montreal.rpasign.rpasigndesc;
+
+import org.jetbrains.annotations.NotNull;
+import org.jroadsign.canada.quebec.montreal.rpasign.RpaSignCode;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * @author - <a href="https://github.com/muhamm-ad">muhamm-ad</a>
+ * @project JRoadSign
+ * @description Counts of the descriptions cleaned through
+ *         {@link RoadSignDescCleaner#cleanDescription(String, int, CleanedDescriptionDictionary,
+ *         RoadSignDescCleaningStatistics)}: the runs of each {@link RoadSignDescCleaningStrategy} and the time they
+ *         took, and the descriptions cleaned for each code. Nothing is counted unless statistics are given to the
+ *         cleaner, and each statistics only counts what it was given for. They are thread-safe.
+ */
+public final class RoadSignDescCleaningStatistics {
+
+    private static final RoadSignDescCleaningStrategy[] STRATEGIES = RoadSignDescCleaningStrategy.values();
+
+    private final LongAdder[] runCounts = new LongAdder[STRATEGIES.length];
+    private final LongAdder[] runNanos = new LongAdder[STRATEGIES.length];
+    private final Map<RpaSignCode, LongAdder> codeCounts = new EnumMap<>(RpaSignCode.class);
+
+    public RoadSignDescCleaningStatistics() {
+        for (int i = 0; i < STRATEGIES.length; i++) {
+            runCounts[i] = new LongAdder();
+            runNanos[i] = new LongAdder();
+        }
+        for (RpaSignCode code : RpaSignCode.values()) codeCounts.put(code, new LongAdder());
+    }
+
+    /**
+     * Counts a description cleaned for the code, whether or not its strategy had to run.
+     */
+    void countCode(RpaSignCode code) {
+        if (code != null) codeCounts.get(code).increment();
+    }
+
+    /**
+     * Counts a run of the strategy and its time.
+     */
+    void countRun(@NotNull RoadSignDescCleaningStrategy strategy, long nanos) {
+        runCounts[strategy.ordinal()].increment();
+        runNanos[strategy.ordinal()].add(nanos);
+    }
+
+    /**
+     * @return the number of times the strategy ran; a description found in the dictionary does not run it again
+     */
+    public long getRunCount(@NotNull RoadSignDescCleaningStrategy strategy) {
+        return runCounts[strategy.ordinal()].sum();
+    }
+
+    /**
+     * @return the total time, in nanoseconds, the strategy ran for
+     */
+    public long getRunNanos(@NotNull RoadSignDescCleaningStrategy strategy) {
+        return runNanos[strategy.ordinal()].sum();
+    }
+
+    /**
+     * @return the number of descriptions cleaned for the code since the last reset
+     */
+    public long getCodeCount(@NotNull RpaSignCode code) {
+        return codeCounts.get(code).sum();
+    }
+
+    /**
+     * @return the codes for which descriptions were cleaned, with their strategy
+     */
+    public @NotNull Map<RpaSignCode, RoadSignDescCleaningStrategy> getCodesHit() {
+        Map<RpaSignCode, RoadSignDescCleaningStrategy> codesHit = new EnumMap<>(RpaSignCode.class);
+        for (Map.Entry<RpaSignCode, LongAdder> entry : codeCounts.entrySet()) {
+            if (entry.getValue().sum() > 0)
+                codesHit.put(entry.getKey(), RoadSignDescCleaningStrategy.of(entry.getKey()));
+        }
+        return Collections.unmodifiableMap(codesHit);
+    }
+
+    /**
+     * Resets the counts and times of every strategy and code.
+     */
+    public void reset() {
+        for (int i = 0; i < STRATEGIES.length; i++) {
+            runCounts[i].reset();
+            runNanos[i].reset();
+        }
+        for (LongAdder count : codeCounts.values()) count.reset();
+    }
+
+    /**
+     * @return a line per strategy that ran, with its number of runs, its mean time and its codes hit
+     */
+    public @NotNull String getReport() {
+        Map<RpaSignCode, RoadSignDescCleaningStrategy> codesHit = getCodesHit();
+        StringBuilder report = new StringBuilder();
+        for (RoadSignDescCleaningStrategy strategy : STRATEGIES) {
+            long count = getRunCount(strategy);
+            if (count == 0) continue;
+            report.append(strategy).append(": ").append(count).append(" runs, ")
+                    .append(getRunNanos(strategy) / count).append(" ns/run, codes");
+            for (Map.Entry<RpaSignCode, RoadSignDescCleaningStrategy> entry : codesHit.entrySet()) {
+                if (entry.getValue() == strategy)
+                    report.append(' ').append(entry.getKey()).append('=').append(getCodeCount(entry.getKey()));
+            }
+            report.append('\n');
+        }
+        return report.toString();
+    }
+}
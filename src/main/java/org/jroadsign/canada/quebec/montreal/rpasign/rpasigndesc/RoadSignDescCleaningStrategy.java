@@ -0,0 +1,110 @@
+package org.jroadsign.canada.quebec.montreal.rpasign.rpasigndesc;
+
+import org.jetbrains.annotations.NotNull;
+import org.jroadsign.canada.quebec.montreal.rpasign.RpaSignCode;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.function.UnaryOperator;
+
+/**
+ * @author - <a href="https://github.com/muhamm-ad">muhamm-ad</a>
+ * @project JRoadSign
+ * @description The last step of {@link RoadSignDescCleaner#cleanDescription}, which splits into several rules the
+ *         descriptions of the codes that need it. Each code is given its strategy once, in a registry read by
+ *         {@link #of(RpaSignCode)}; a fix for a new code is a new constant (or a new entry for an existing one).
+ *         The strategies splitting at a separator start each new rule with <tt>\P</tt> unless it already does.
+ *         The strategies keep no state: the runs, their time and the descriptions cleaned for each code are counted,
+ *         on demand, by a {@link RoadSignDescCleaningStatistics} given to the cleaner.
+ */
+public enum RoadSignDescCleaningStrategy {
+
+    /**
+     * Leaves the description as it is
+     */
+    GENERIC(description -> description),
+
+    /**
+     * ex : "\P 9H À 17H LUN MER VEN 15 NOV AU 15 MARS; 11H À 12H MERCREDI 15 MARS AU 15 NOV"
+     */
+    SEMICOLON_SEPARATED_RULES(description -> RoadSignDescCleaner.splitRules(description, ";"),
+            RpaSignCode.SLR_ST_75),
+
+    /**
+     * ex : "\P LUN MER VEN 8H À 12H - MAR JEU 13H À 17H"
+     * ex : "\P 9H À 17H MAR JEU 15 NOV AU 15 MARS - 11H À 12H JEUDI 15 MARS AU 15 NOV"
+     */
+    DASH_SEPARATED_RULES(description -> RoadSignDescCleaner.splitRules(description, " -"),
+            RpaSignCode.SLR_ST_82, RpaSignCode.SLR_ST_84, RpaSignCode.SLR_ST_98),
+
+    /**
+     * ex : "\P 07h-16h LUN A VEN ET 07h-12h SAMEDI"
+     */
+    ET_SEPARATED_RULES(description -> RoadSignDescCleaner.splitRules(description, "ET"),
+            RpaSignCode.SS_JM),
+
+    /**
+     * ex : "\P 18h-24h LUN A VEN  +  08h-24h SAM ET DIM"
+     */
+    PLUS_SEPARATED_RULES(description -> RoadSignDescCleaner.splitRules(description, "+"),
+            RpaSignCode.SD_OP),
+
+    /**
+     * ex : "\P 17H MAR À 17H MER; 17H JEU À 17H VEN; 17H SAM À 17H LUN"
+     * ex : "\P 120 MIN - LUN 17H À MAR 17H - MER 17H À JEU 17H - VEN 17H À SAM 17H"
+     */
+    OVERNIGHT_INTERVALS(RoadSignDescCleaner::reformatDailyTimeIntervals_1,
+            RpaSignCode.SLR_ST_80, RpaSignCode.SLR_ST_81, RpaSignCode.SLR_ST_111, RpaSignCode.SLR_ST_172,
+            RpaSignCode.SLR_ST_174, RpaSignCode.SLR_ST_175),
+
+    /**
+     * ex : "\P 23h30-00h30  MAR A MER, VEN A SAM  1 MARS AU 1 DEC. "
+     */
+    OVERNIGHT_DAY_INTERVALS(RoadSignDescCleaner::reformatDailyTimeIntervals_2,
+            RpaSignCode.SB_NX, RpaSignCode.SB_NX_A, RpaSignCode.SB_NY, RpaSignCode.SB_NY_A),
+
+    /**
+     * ex : "\P 8H À 12H LUN MER VEN 13H À 18H MAR JEU"
+     * ex : "\P 30 MIN - MAR MER VEN - 9H À 16H30 - LUN JEU - 12H À 16H30"
+     */
+    TIME_AND_DAYS_GROUPS(RoadSignDescCleaner::reformatDailyTimeIntervals_3,
+            RpaSignCode.SLR_ST_79, RpaSignCode.SLR_ST_105, RpaSignCode.SLR_ST_106, RpaSignCode.SLR_ST_107,
+            RpaSignCode.SLR_ST_135);
+
+    private static final Map<RpaSignCode, RoadSignDescCleaningStrategy> STRATEGIES =
+            new EnumMap<>(RpaSignCode.class);
+
+    static {
+        for (RpaSignCode code : RpaSignCode.values()) STRATEGIES.put(code, GENERIC);
+        for (RoadSignDescCleaningStrategy strategy : values()) {
+            for (RpaSignCode code : strategy.codes) {
+                if (STRATEGIES.get(code) != GENERIC)
+                    throw new IllegalStateException("Two cleaning strategies for " + code);
+                STRATEGIES.put(code, strategy);
+            }
+        }
+    }
+
+    private final UnaryOperator<String> reformatter;
+    private final RpaSignCode[] codes;
+
+    RoadSignDescCleaningStrategy(UnaryOperator<String> reformatter, RpaSignCode... codes) {
+        this.reformatter = reformatter;
+        this.codes = codes;
+    }
+
+    /**
+     * @param code the code of a sign
+     * @return the strategy of the code
+     */
+    public static @NotNull RoadSignDescCleaningStrategy of(@NotNull RpaSignCode code) {
+        return STRATEGIES.get(code);
+    }
+
+    /**
+     * Runs the strategy on a description whose words are cleaned.
+     */
+    @NotNull String apply(@NotNull String description) {
+        return reformatter.apply(description);
+    }
+}
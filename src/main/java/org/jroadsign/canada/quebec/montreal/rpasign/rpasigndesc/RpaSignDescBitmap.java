@@ -0,0 +1,307 @@
+package org.jroadsign.canada.quebec.montreal.rpasign.rpasigndesc;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.function.BinaryOperator;
+
+/**
+ * @author - <a href="https://github.com/muhamm-ad">muhamm-ad</a>
+ * @project JRoadSign
+ * @description When a rule, a description or several of them allow parking, compiled into a {@link WeeklyBitmap}
+ *         per season. The seasons cut the year where the month ranges of the rules start and end, so telling whether
+ *         parking is allowed at a time is finding its season and testing a bit. Combining bitmaps (e.g. all the signs
+ *         of a post) combines the weekly bitmaps of their seasons word by word.
+ *         <p>
+ *         The week of a day is built from the season of the day and the one of the day before, which the hours after
+ *         midnight of a time range started the day before follow. March 1 follows February 29 in leap years only,
+ *         so it has a week of its own in the other years when the two differ. The bitmaps of 1 minute thus agree
+ *         with {@link RpaSignDescSchedule}; a bit of 5 minutes holds what holds at its first minute.
+ *         <p>
+ *         The bitmaps are built interned: equal bitmaps, and equal weekly bitmaps within them, are shared across the
+ *         city for as long as one of them is in use, so the bitmaps of a dataset reloaded are not kept.
+ */
+public final class RpaSignDescBitmap {
+
+    private static final WeakInterner<RpaSignDescBitmap> INTERNED = new WeakInterner<>();
+
+    // day of a leap year (from 0 for January 1) of the first day of each month
+    private static final int[] FIRST_DAY_OF_MONTH = {0, 31, 60, 91, 121, 152, 182, 213, 244, 274, 305, 335};
+    private static final int DAYS_PER_YEAR = 366;
+    // season key of each day of a leap year
+    private static final int[] SEASON_KEYS = new int[DAYS_PER_YEAR];
+
+    static {
+        for (int month = 1; month <= 12; month++) {
+            int end = month == 12 ? DAYS_PER_YEAR : FIRST_DAY_OF_MONTH[month];
+            for (int day = FIRST_DAY_OF_MONTH[month - 1]; day < end; day++)
+                SEASON_KEYS[day] = RpaSignDescRule.seasonKey(month, day - FIRST_DAY_OF_MONTH[month - 1] + 1);
+        }
+    }
+
+    private static final RpaSignDescBitmap ALLOWED_1 = newAllowed(1);
+    private static final RpaSignDescBitmap ALLOWED_5 = newAllowed(5);
+
+    private final int resolution;
+    // day of a leap year of the first day of each season, from 0
+    private final int[] seasonStarts;
+    private final WeeklyBitmap[] bitmaps;
+    // the week of March 1 in the years without February 29
+    private final WeeklyBitmap commonYearMarchFirst;
+    private final int hash;
+    // the timeline built from this bitmap once interned, see RpaSignDescTimeline#of
+    private volatile RpaSignDescTimeline timeline;
+
+    private RpaSignDescBitmap(int resolution, int[] seasonStarts, WeeklyBitmap[] bitmaps,
+                              WeeklyBitmap commonYearMarchFirst) {
+        this.resolution = resolution;
+        this.seasonStarts = seasonStarts;
+        this.bitmaps = bitmaps;
+        this.commonYearMarchFirst = commonYearMarchFirst;
+        this.hash = 31 * (31 * (31 * resolution + Arrays.hashCode(seasonStarts)) + Arrays.hashCode(bitmaps))
+                + commonYearMarchFirst.hashCode();
+    }
+
+    /**
+     * @param resolution the minutes of a bit, <tt>1</tt> or <tt>5</tt>
+     * @return the bitmap allowing parking at all times
+     */
+    public static @NotNull RpaSignDescBitmap allowed(int resolution) {
+        if (resolution == 1) return ALLOWED_1;
+        return resolution == 5 ? ALLOWED_5 : newAllowed(resolution);
+    }
+
+    private static RpaSignDescBitmap newAllowed(int resolution) {
+        WeeklyBitmap full = WeeklyBitmap.full(resolution);
+        return new RpaSignDescBitmap(resolution, new int[]{0}, new WeeklyBitmap[]{full}, full).intern();
+    }
+
+    /**
+     * @param resolution the minutes of a bit, <tt>1</tt> or <tt>5</tt>
+     * @return when the rule allows parking
+     */
+    public static @NotNull RpaSignDescBitmap of(@NotNull RpaSignDescRule rule, int resolution) {
+        if (rule.getActiveStayLimit() > 0) return allowed(resolution);
+
+        // the week of a day only depends on whether the day and the day before are in the season of the rule
+        WeeklyBitmap[] weeks = new WeeklyBitmap[4];
+        List<Integer> seasonStarts = new ArrayList<>();
+        List<WeeklyBitmap> bitmaps = new ArrayList<>();
+        for (int day = 0; day < DAYS_PER_YEAR; day++) {
+            WeeklyBitmap week = week(rule, SEASON_KEYS[day], SEASON_KEYS[day == 0 ? DAYS_PER_YEAR - 1 : day - 1],
+                    resolution, weeks);
+            if (day > 0 && week == bitmaps.get(bitmaps.size() - 1)) continue;
+            seasonStarts.add(day);
+            bitmaps.add(week);
+        }
+        WeeklyBitmap commonYearMarchFirst = week(rule, SEASON_KEYS[dayOfYear(3, 1)], SEASON_KEYS[dayOfYear(2, 28)],
+                resolution, weeks);
+        return new RpaSignDescBitmap(resolution, seasonStarts.stream().mapToInt(Integer::intValue).toArray(),
+                bitmaps.toArray(new WeeklyBitmap[0]), commonYearMarchFirst).intern();
+    }
+
+    /**
+     * @param resolution the minutes of a bit, <tt>1</tt> or <tt>5</tt>
+     * @return when all the rules allow parking
+     */
+    public static @NotNull RpaSignDescBitmap of(@NotNull List<RpaSignDescRule> rules, int resolution) {
+        RpaSignDescBitmap bitmap = allowed(resolution);
+        for (RpaSignDescRule rule : rules) bitmap = bitmap.and(of(rule, resolution));
+        return bitmap;
+    }
+
+    /**
+     * @param weeks the weeks already built, by whether the day and the day before are in season
+     * @return the week of a rule forbidding parking, on days of the season key following the previous season key
+     */
+    private static WeeklyBitmap week(RpaSignDescRule rule, int seasonKey, int previousSeasonKey, int resolution,
+                                     WeeklyBitmap[] weeks) {
+        int index = (rule.isInSeason(seasonKey) ? 2 : 0) | (rule.isInSeason(previousSeasonKey) ? 1 : 0);
+        if (weeks[index] == null) weeks[index] = restrictedBitmap(rule, seasonKey, previousSeasonKey, resolution);
+        return weeks[index];
+    }
+
+    private static WeeklyBitmap restrictedBitmap(RpaSignDescRule rule, int seasonKey, int previousSeasonKey,
+                                                 int resolution) {
+        BitSet boundaries = new BitSet(RpaSignDescRule.MINUTES_PER_DAY);
+        boundaries.set(0);
+        rule.collectDayBoundaries(boundaries);
+        int[] minutes = boundaries.stream().toArray();
+
+        long[] forbidden = WeeklyBitmap.newWords(resolution);
+        for (int dayOfWeek = 0; dayOfWeek < 7; dayOfWeek++) {
+            for (int i = 0; i < minutes.length; i++) {
+                // the rule applies or not from a boundary to the next one
+                if (!rule.isActive(dayOfWeek, minutes[i], seasonKey, previousSeasonKey)) continue;
+                int end = i + 1 < minutes.length ? minutes[i + 1] : RpaSignDescRule.MINUTES_PER_DAY;
+                int dayStart = dayOfWeek * RpaSignDescRule.MINUTES_PER_DAY;
+                WeeklyBitmap.set(forbidden, resolution, dayStart + minutes[i], dayStart + end);
+            }
+        }
+        return new WeeklyBitmap(resolution, forbidden).not().intern();
+    }
+
+    /**
+     * @return <tt>true</tt> if parking is allowed at the time
+     */
+    public boolean isParkingAllowed(@NotNull LocalDateTime dateTime) {
+        return getWeeklyBitmap(dateTime.toLocalDate()).get(WeeklyBitmap.minuteOfWeek(dateTime));
+    }
+
+    /**
+     * @return the week of the date
+     */
+    public @NotNull WeeklyBitmap getWeeklyBitmap(@NotNull LocalDate date) {
+        if (isCommonYearMarchFirst(date)) return commonYearMarchFirst;
+        return bitmaps[season(date.getMonthValue(), date.getDayOfMonth())];
+    }
+
+    /**
+     * @return the week of the season of the day, in a leap year
+     */
+    public @NotNull WeeklyBitmap getWeeklyBitmap(int month, int dayOfMonth) {
+        return bitmaps[season(month, dayOfMonth)];
+    }
+
+    static boolean isCommonYearMarchFirst(LocalDate date) {
+        return date.getMonthValue() == 3 && date.getDayOfMonth() == 1 && !date.isLeapYear();
+    }
+
+    /**
+     * @return the week of March 1 in the years without February 29
+     */
+    WeeklyBitmap getCommonYearMarchFirst() {
+        return commonYearMarchFirst;
+    }
+
+    private int season(int month, int dayOfMonth) {
+        int day = dayOfYear(month, dayOfMonth);
+        int season = 0;
+        while (season + 1 < seasonStarts.length && seasonStarts[season + 1] <= day) season++;
+        return season;
+    }
+
+    /**
+     * @return the day of a leap year of the date, from <tt>0</tt> for January 1
+     */
+    static int dayOfYear(int month, int dayOfMonth) {
+        return FIRST_DAY_OF_MONTH[month - 1] + dayOfMonth - 1;
+    }
+
+    /**
+     * @return the day of a leap year, from <tt>0</tt>, of the first day of the season
+     */
+    int getSeasonStart(int season) {
+        return seasonStarts[season];
+    }
+
+    WeeklyBitmap getSeasonBitmap(int season) {
+        return bitmaps[season];
+    }
+
+    /**
+     * @return the number of seasons, <tt>1</tt> when parking does not depend on the day of the year
+     */
+    public int getSeasonCount() {
+        return seasonStarts.length;
+    }
+
+    public int getResolution() {
+        return resolution;
+    }
+
+    /**
+     * @return when both bitmaps allow parking
+     */
+    public @NotNull RpaSignDescBitmap and(@NotNull RpaSignDescBitmap other) {
+        return combine(other, WeeklyBitmap::and);
+    }
+
+    /**
+     * @return when one of the bitmaps allows parking
+     */
+    public @NotNull RpaSignDescBitmap or(@NotNull RpaSignDescBitmap other) {
+        return combine(other, WeeklyBitmap::or);
+    }
+
+    private RpaSignDescBitmap combine(RpaSignDescBitmap other, BinaryOperator<WeeklyBitmap> operator) {
+        if (other.resolution != resolution)
+            throw new IllegalArgumentException("Resolutions differ: " + resolution + " and " + other.resolution);
+
+        List<Integer> seasonStarts = new ArrayList<>();
+        List<WeeklyBitmap> bitmaps = new ArrayList<>();
+        int i = 0;
+        int j = 0;
+        while (i < this.seasonStarts.length || j < other.seasonStarts.length) {
+            int start = Math.min(i < this.seasonStarts.length ? this.seasonStarts[i] : DAYS_PER_YEAR,
+                    j < other.seasonStarts.length ? other.seasonStarts[j] : DAYS_PER_YEAR);
+            if (i < this.seasonStarts.length && this.seasonStarts[i] == start) i++;
+            if (j < other.seasonStarts.length && other.seasonStarts[j] == start) j++;
+
+            // the seasons starting at the latest at this day
+            WeeklyBitmap bitmap = operator.apply(this.bitmaps[i - 1], other.bitmaps[j - 1]).intern();
+            if (!bitmaps.isEmpty() && bitmaps.get(bitmaps.size() - 1) == bitmap) continue;
+            seasonStarts.add(start);
+            bitmaps.add(bitmap);
+        }
+        WeeklyBitmap marchFirst = operator.apply(commonYearMarchFirst, other.commonYearMarchFirst).intern();
+        return new RpaSignDescBitmap(resolution, seasonStarts.stream().mapToInt(Integer::intValue).toArray(),
+                bitmaps.toArray(new WeeklyBitmap[0]), marchFirst).intern();
+    }
+
+    /**
+     * @return the bitmap equal to this one shared by all the interned bitmaps
+     */
+    public @NotNull RpaSignDescBitmap intern() {
+        return INTERNED.intern(this);
+    }
+
+    /**
+     * @return the timeline of this bitmap of 1 minute, built the first time
+     */
+    @NotNull RpaSignDescTimeline getTimeline() {
+        RpaSignDescTimeline built = timeline;
+        if (built == null) {
+            synchronized (this) {
+                built = timeline;
+                if (built == null) timeline = built = new RpaSignDescTimeline(this);
+            }
+        }
+        return built;
+    }
+
+    /**
+     * @return the number of distinct bitmaps interned and still in use
+     */
+    public static int getInternedCount() {
+        return INTERNED.size();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof RpaSignDescBitmap that)) return false;
+        return resolution == that.resolution && hash == that.hash && Arrays.equals(seasonStarts, that.seasonStarts)
+                && Arrays.equals(bitmaps, that.bitmaps) && commonYearMarchFirst.equals(that.commonYearMarchFirst);
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+
+    @Override
+    public String toString() {
+        return "RpaSignDescBitmap{" +
+                "resolution=" + resolution +
+                ", seasonStarts=" + Arrays.toString(seasonStarts) +
+                ", bitmaps=" + Arrays.toString(bitmaps) +
+                ", commonYearMarchFirst=" + commonYearMarchFirst +
+                '}';
+    }
+}
@@ -0,0 +1,396 @@
+package org.jroadsign.canada.quebec.montreal.rpasign.rpasigndesc;
+
+import org.jetbrains.annotations.NotNull;
+import org.jroadsign.canada.quebec.montreal.rpasign.rpasigndesc.common.GlobalConfigs;
+import org.jroadsign.canada.quebec.montreal.rpasign.rpasigndesc.common.KeywordNormalizer;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * @author - <a href="https://github.com/muhamm-ad">muhamm-ad</a>
+ * @project JRoadSign
+ * @description Single-pass lexer for upper-cased RPA descriptions. While scanning, it applies the word-level
+ *         cleaning steps (full day names to abbreviations, spelling corrections, a space between a letter and a
+ *         number or between a day of month and a month) and emits typed tokens whose offsets refer to the resulting
+ *         text, available with {@link #getText()}.
+ *         <p>
+ *         Words follow the regular-expression definition of <tt>\b</tt>: runs of ASCII letters, digits and
+ *         underscores. Other characters are copied as they are.
+ */
+public final class RpaSignDescLexer {
+
+    public enum TokenType {
+        /**
+         * <tt>\P</tt>
+         */
+        NO_PARKING,
+        /**
+         * <tt>9H</tt>, <tt>09H30</tt>, <tt>9 H</tt>
+         */
+        TIME,
+        /**
+         * <tt>LUN</tt> to <tt>DIM</tt>
+         */
+        DAY,
+        /**
+         * <tt>JANV</tt>, <tt>MARS</tt>, <tt>AVRIL</tt>, ...
+         */
+        MONTH,
+        /**
+         * A number next to a month
+         */
+        DAY_OF_MONTH,
+        /**
+         * <tt>60 MIN</tt>, <tt>120MIN</tt>
+         */
+        DURATION,
+        /**
+         * <tt>A</tt>, <tt>AU</tt>, <tt>ET</tt>, <tt>-</tt>
+         */
+        RANGE_DELIM,
+        /**
+         * <tt>EN TOUT TEMPS</tt>, <tt>JOURS D'ECOLE</tt>, <tt>JOURS DE CLASSE</tt>, <tt>WEEKEND</tt>
+         */
+        EXPRESSION,
+        /**
+         * <tt>;</tt> or <tt>&amp;</tt>
+         */
+        SEPARATOR,
+        /**
+         * Anything else
+         */
+        WORD
+    }
+
+    public static final class Token {
+        private final TokenType type;
+        private final int start;
+        private final int end;
+        private final String text;
+
+        private Token(TokenType type, int start, int end, String text) {
+            this.type = type;
+            this.start = start;
+            this.end = end;
+            this.text = text;
+        }
+
+        public TokenType getType() {
+            return type;
+        }
+
+        /**
+         * @return the offset of the first character in {@link RpaSignDescLexer#getText()}
+         */
+        public int getStart() {
+            return start;
+        }
+
+        /**
+         * @return the offset after the last character in {@link RpaSignDescLexer#getText()}
+         */
+        public int getEnd() {
+            return end;
+        }
+
+        public String getText() {
+            return text;
+        }
+
+        @Override
+        public String toString() {
+            return type + "(" + text + ")";
+        }
+    }
+
+    // The months spelled the same in full are not rewritten by KeywordNormalizer.ANNUAL_MONTHS
+    private static final Set<String> MONTH_NAMES = new HashSet<>(KeywordNormalizer.ANNUAL_MONTHS.getKeywords());
+    private static final Set<String> RANGE_DELIMITERS = new HashSet<>(Arrays.asList("A", "AU", "ET"));
+
+    static {
+        MONTH_NAMES.addAll(Arrays.asList(GlobalConfigs.MARCH, GlobalConfigs.MAY, GlobalConfigs.JUNE,
+                GlobalConfigs.AUGUST));
+    }
+
+    private final StringBuilder out;
+    private TokenType[] types = new TokenType[16];
+    private int[] starts = new int[16];
+    private int[] ends = new int[16];
+    private int size;
+    private final String text;
+
+    /**
+     * Scans the description once.
+     *
+     * @param description an upper-cased description
+     */
+    public RpaSignDescLexer(@NotNull String description) {
+        out = new StringBuilder(description.length() + 8);
+        scan(description);
+        text = out.toString();
+        group();
+    }
+
+    /**
+     * @return the description after the word-level cleaning steps
+     */
+    public String getText() {
+        return text;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public TokenType getType(int index) {
+        return types[index];
+    }
+
+    public int getStart(int index) {
+        return starts[index];
+    }
+
+    public int getEnd(int index) {
+        return ends[index];
+    }
+
+    public String getText(int index) {
+        return text.substring(starts[index], ends[index]);
+    }
+
+    public List<Token> getTokens() {
+        List<Token> tokens = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) tokens.add(new Token(types[i], starts[i], ends[i], getText(i)));
+        return Collections.unmodifiableList(tokens);
+    }
+
+    private static boolean isWordChar(char c) {
+        return (c >= 'A' && c <= 'Z') || (c >= 'a' && c <= 'z') || (c >= '0' && c <= '9') || c == '_';
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private static boolean isAsciiLetter(char c) {
+        return (c >= 'A' && c <= 'Z') || (c >= 'a' && c <= 'z');
+    }
+
+    private void scan(String description) {
+        int length = description.length();
+        int i = 0;
+        while (i < length) {
+            char c = description.charAt(i);
+            if (isWordChar(c)) {
+                int end = i + 1;
+                while (end < length && isWordChar(description.charAt(end))) end++;
+                word(description.substring(i, end));
+                i = end;
+            } else if (c == '\\' && i + 1 < length && description.charAt(i + 1) == 'P'
+                    && (i + 2 == length || !isWordChar(description.charAt(i + 2)))) {
+                add(TokenType.NO_PARKING, out.length(), out.length() + 2);
+                out.append("\\P");
+                i += 2;
+            } else {
+                if (!Character.isWhitespace(c) && !Character.isSpaceChar(c)) {
+                    TokenType type = switch (c) {
+                        case ';', '&' -> TokenType.SEPARATOR;
+                        case '-' -> TokenType.RANGE_DELIM;
+                        default -> TokenType.WORD;
+                    };
+                    add(type, out.length(), out.length() + 1);
+                }
+                out.append(c);
+                i++;
+            }
+        }
+    }
+
+    /**
+     * Cleans a word, then splits it where a letter (except the <tt>H</tt> of a time) is followed by a number.
+     */
+    private void word(String word) {
+        String day = KeywordNormalizer.WEEKLY_DAYS.getReplacement(word);
+        if (day != null) word = day;
+        word = KeywordNormalizer.SPELLING_CORRECTIONS.normalize(word);
+
+        int start = 0;
+        if (isDigit(word.charAt(0)) && !out.isEmpty()) {
+            int previous = Character.codePointBefore(out, out.length());
+            if (Character.isLetter(previous) && previous != 'H' && previous != 'h') out.append(' ');
+        }
+        for (int i = 1; i < word.length(); i++) {
+            char previous = word.charAt(i - 1);
+            if (isDigit(word.charAt(i)) && isAsciiLetter(previous) && previous != 'H' && previous != 'h') {
+                segment(word, start, i);
+                out.append(' ');
+                start = i;
+            }
+        }
+        segment(word, start, word.length());
+    }
+
+    /**
+     * Emits a part of a word, separating a day of month stuck to a month (<tt>1AVRIL</tt>).
+     */
+    private void segment(String word, int start, int end) {
+        int digits = 0;
+        while (start + digits < end && isDigit(word.charAt(start + digits))) digits++;
+
+        if ((digits == 1 || digits == 2) && end - start > digits
+                && MONTH_NAMES.contains(word.substring(start + digits, end))) {
+            emit(word, start, start + digits);
+            out.append(' ');
+            emit(word, start + digits, end);
+            return;
+        }
+
+        if (digits == 0) {
+            int letters = end - start;
+            while (letters > 0 && isDigit(word.charAt(start + letters - 1))) letters--;
+            int trailing = end - start - letters;
+            if ((trailing == 1 || trailing == 2) && letters > 0
+                    && MONTH_NAMES.contains(word.substring(start, start + letters))) {
+                emit(word, start, start + letters);
+                out.append(' ');
+                emit(word, start + letters, end);
+                return;
+            }
+        }
+
+        emit(word, start, end);
+    }
+
+    private void emit(String word, int start, int end) {
+        int tokenStart = out.length();
+        out.append(word, start, end);
+        add(classify(word, start, end), tokenStart, out.length());
+    }
+
+    private static TokenType classify(String word, int start, int end) {
+        String part = start == 0 && end == word.length() ? word : word.substring(start, end);
+        if (KeywordNormalizer.WEEKLY_DAYS.getReplacement(part) != null) return TokenType.DAY;
+        if (MONTH_NAMES.contains(part)) return TokenType.MONTH;
+        if (RANGE_DELIMITERS.contains(part)) return TokenType.RANGE_DELIM;
+
+        int digits = 0;
+        while (start + digits < end && isDigit(word.charAt(start + digits))) digits++;
+        if (digits == 0) return part.equals("WEEKEND") ? TokenType.EXPRESSION : TokenType.WORD;
+        if (digits <= 2 && isTimeSuffix(word, start + digits, end)) return TokenType.TIME;
+        if (end - start - digits == 3 && word.startsWith("MIN", start + digits)) return TokenType.DURATION;
+        return TokenType.WORD;
+    }
+
+    /**
+     * @return whether the characters are <tt>H</tt>, optionally followed by one or two digits
+     */
+    private static boolean isTimeSuffix(CharSequence s, int start, int end) {
+        int length = end - start;
+        if (length < 1 || length > 3 || s.charAt(start) != 'H') return false;
+        for (int i = start + 1; i < end; i++) if (!isDigit(s.charAt(i))) return false;
+        return true;
+    }
+
+    private void add(TokenType type, int start, int end) {
+        if (size == types.length) {
+            types = Arrays.copyOf(types, size * 2);
+            starts = Arrays.copyOf(starts, size * 2);
+            ends = Arrays.copyOf(ends, size * 2);
+        }
+        types[size] = type;
+        starts[size] = start;
+        ends[size] = end;
+        size++;
+    }
+
+    /**
+     * Second pass over the tokens: joins the characters of a word (<tt>D'UN</tt>), multi-word expressions, durations
+     * and times split by a space, and tells days of month from other numbers.
+     */
+    private void group() {
+        int count = 0;
+        for (int i = 0; i < size; i++) {
+            if (count > 0 && types[i] == TokenType.WORD && types[count - 1] == TokenType.WORD
+                    && ends[count - 1] == starts[i] && !isNumber(count - 1) && !isNumber(i)) {
+                ends[count - 1] = ends[i];
+            } else {
+                move(i, count++);
+            }
+        }
+        size = count;
+
+        count = 0;
+        for (int i = 0; i < size; i++) {
+            int next = expressionEnd(i);
+            if (next == i && isNumber(i) && i + 1 < size) {
+                if (types[i + 1] == TokenType.WORD && textEquals(i + 1, "MIN")) {
+                    types[i] = TokenType.DURATION;
+                    next = i + 1;
+                } else if (ends[i] - starts[i] <= 2 && types[i + 1] == TokenType.WORD
+                        && isTimeSuffix(out, starts[i + 1], ends[i + 1])) {
+                    types[i] = TokenType.TIME;
+                    next = i + 1;
+                }
+            } else if (next != i) {
+                types[i] = TokenType.EXPRESSION;
+            }
+            move(i, count);
+            ends[count++] = ends[next];
+            i = next;
+        }
+        size = count;
+
+        for (int i = 0; i < size; i++) {
+            if (!isNumber(i)) continue;
+            boolean nextToMonth = (i > 0 && types[i - 1] == TokenType.MONTH)
+                    || (i + 1 < size && types[i + 1] == TokenType.MONTH);
+            if (nextToMonth && ends[i] - starts[i] <= 2) types[i] = TokenType.DAY_OF_MONTH;
+        }
+    }
+
+    /**
+     * @return the index of the last token of the expression starting at the token, or the token itself
+     */
+    private int expressionEnd(int i) {
+        if (types[i] != TokenType.WORD) return i;
+        if (textEquals(i, "EN") && followedBy(i, "TOUT", "TEMPS")) {
+            return followedBy(i + 2, "EXCEPTE") ? i + 3 : i + 2;
+        }
+        if (textEquals(i, "JOURS")) {
+            if (followedBy(i, "D'ECOLE") || followedBy(i, "D'ECOLES")) return i + 1;
+            if (followedBy(i, "DE", "CLASSE") || followedBy(i, "D", "CLASSE")) return i + 2;
+        }
+        return i;
+    }
+
+    private boolean followedBy(int i, String... words) {
+        for (String word : words) {
+            i++;
+            if (i >= size || types[i] != TokenType.WORD || !textEquals(i, word)) return false;
+        }
+        return true;
+    }
+
+    private boolean textEquals(int i, String s) {
+        if (ends[i] - starts[i] != s.length()) return false;
+        for (int j = 0; j < s.length(); j++) if (out.charAt(starts[i] + j) != s.charAt(j)) return false;
+        return true;
+    }
+
+    private boolean isNumber(int i) {
+        if (types[i] != TokenType.WORD) return false;
+        for (int j = starts[i]; j < ends[i]; j++) if (!isDigit(out.charAt(j))) return false;
+        return true;
+    }
+
+    private void move(int from, int to) {
+        types[to] = types[from];
+        starts[to] = starts[from];
+        ends[to] = ends[from];
+    }
+}
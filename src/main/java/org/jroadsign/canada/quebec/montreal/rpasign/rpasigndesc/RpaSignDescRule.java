@@ -2,162 +2,250 @@ package org.jroadsign.canada.quebec.montreal.rpasign.rpasigndesc;
 
 import org.jetbrains.annotations.NotNull;
 import org.jroadsign.canada.quebec.montreal.rpasign.rpasigndesc.common.GlobalConfigs;
-import org.jroadsign.canada.quebec.montreal.rpasign.rpasigndesc.exceptions.StartAfterEndException;
-import org.jroadsign.canada.quebec.montreal.rpasign.rpasigndesc.exceptions.WeeklyRangeExpException;
+import org.jroadsign.canada.quebec.montreal.rpasign.rpasigndesc.exceptions.RpaSignDescSyntaxException;
 import org.json.JSONArray;
 import org.json.JSONObject;
 
 import java.time.DayOfWeek;
-import java.time.LocalTime;
+import java.time.LocalDateTime;
 import java.time.MonthDay;
-import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.List;
 import java.util.Objects;
 
 /**
  * @author - <a href="https://github.com/muhamm-ad">muhamm-ad</a>
  * @project JRoadSign
+ * @description A rule of a description. A rule keeps its durations, time ranges, days and month ranges as
+ *         {@link RpaSignDescRuleTimes}, primitives shared by all the rules having the same ones; its lists are views
+ *         built from them on each call. From them, it tells, without allocating, whether it applies at a given time
+ *         and what it allows then ({@link #isActive(LocalDateTime)}, {@link #isParkingAllowed(LocalDateTime)} and
+ *         {@link #getMaxStayMinutes(LocalDateTime)}). A rule <tt>EN TOUT TEMPS EXCEPTE</tt> applies outside its
+ *         times instead (see {@link #isAllTimesExcept()}).
  */
 public class RpaSignDescRule {
 
-    private static final MonthDay START_OF_MONTH_DAY = MonthDay.of(1, 1);
-    private static final MonthDay END_OF_MONTH_DAY = MonthDay.of(12, 31);
-    private static final LocalTime START_OF_DAY_HOUR = LocalTime.of(0, 0);
-    private static final LocalTime END_OF_DAY_HOUR = LocalTime.of(23, 59);
+    /**
+     * What {@link #getMaxStayMinutes(LocalDateTime)} returns when the stay is not limited.
+     */
+    public static final int NO_STAY_LIMIT = Integer.MAX_VALUE;
 
-    private boolean parkingAuthorized;
-    private final List<DurationMinutes> listDurationMinutes = new ArrayList<>();
-    private final List<DailyTimeRange> listDailyTimeRange = new ArrayList<>();
-    private List<DayOfWeek> listDay = new ArrayList<>();
-    private final List<AnnualMonthRange> listAnnualMonthRange = new ArrayList<>();
-    private String additionalMetaData = "";
+    static final int MINUTES_PER_DAY = 24 * 60;
 
-    public RpaSignDescRule(String strRuleDesc) {
-        RpaSignDescParser rpaSignDescParser = new RpaSignDescParser(strRuleDesc);
-
-        this.parkingAuthorized = rpaSignDescParser.isParkingAuthorized();
-        initDurationMinutesList(rpaSignDescParser);
-        initDailyTimeRangeList(rpaSignDescParser);
-        initListDay(rpaSignDescParser);
-        initAnnualMonthRangeList(rpaSignDescParser);
-        initAdditionalInfo(rpaSignDescParser);
-    }
-
-    private void initDurationMinutesList(@NotNull RpaSignDescParser rpaSignDescParser) {
-        if (rpaSignDescParser.getDurationMinutes() != null) {
-            String[] tabDurationsMinutes = rpaSignDescParser.getDurationMinutes().split(";");
-            for (String element : tabDurationsMinutes)
-                listDurationMinutes.add(new DurationMinutes(element.trim()));
-        }
-    }
+    private final boolean parkingAuthorized;
+    private final boolean allTimesExcept;
+    private final RpaSignDescRuleTimes times;
+    // whether the rule applies outside its times: an exception to no times at all is not one to when it applies
+    private final boolean inverted;
+    private final String additionalMetaData;
 
-    private void initDailyTimeRangeList(@NotNull RpaSignDescParser rpaSignDescParser) {
-        if (rpaSignDescParser.getDailyTimeRange() != null) {
-            for (String s : rpaSignDescParser.getDailyTimeRange().split(";")) {
-                try {
-                    listDailyTimeRange.add(new DailyTimeRange(s));
-                } catch (StartAfterEndException e1) {
-                    if (hasRange(e1)) {
-                        try {
-                            Range<LocalTime> pastRange = (Range<LocalTime>) e1.getRange();
-                            Range<LocalTime> newRange1 = new Range<>(pastRange.getStart(), END_OF_DAY_HOUR);
-                            Range<LocalTime> newRange2 = new Range<>(START_OF_DAY_HOUR, pastRange.getEnd());
-                            listDailyTimeRange.add(new DailyTimeRange(newRange1));
-                            listDailyTimeRange.add(new DailyTimeRange(newRange2));
-                        } catch (StartAfterEndException e2) {
-                            throwInvalidFormatArg(DailyTimeRange.MSG_ERR_INVALID_FORMAT_S_ARG, s);
-                        }
-                    } else {
-                        throwInvalidFormatArg(DailyTimeRange.MSG_ERR_INVALID_FORMAT_S_ARG, s);
-                    }
-                }
-            }
-        }
-    }
-
-    private void initListDay(@NotNull RpaSignDescParser rpaSignDescParser) {
+    /**
+     * Parses a rule of a description with {@link RpaSignDescRuleParser}, cleaning it first if it is not cleaned, as
+     * {@link RoadSignDescCleaner} cleans a description of no code. Once built, a rule is read-only, so it can be
+     * shared by all the signs having the same description.
+     *
+     * @param strRuleDesc a single rule of a description, usually cleaned
+     * @throws IllegalArgumentException if the rule is outside the grammar of the descriptions, e.g. a time of
+     *                                  <tt>25H</tt>
+     */
+    public RpaSignDescRule(String strRuleDesc) {
+        RpaSignDescRuleParser ruleParser;
         try {
-            if (rpaSignDescParser.getWeeklyDayRange() != null) {
-                listDay = new WeeklyDays(rpaSignDescParser.getWeeklyDayRange()).getDays().stream().toList();
-            }
-        } catch (WeeklyRangeExpException e1) {
-            listDay = e1.getWeeklyDays().getDays().stream().toList();
-            if (Objects.requireNonNull(e1.getExpression()) == WeekRangeExpression.ALL_TIMES_EXCEPT) {
-                this.parkingAuthorized = true;
-            }
+            ruleParser = new RpaSignDescRuleParser(strRuleDesc);
+        } catch (RpaSignDescSyntaxException e) {
+            throw new IllegalArgumentException(e.getMessage(), e);
         }
+        this.parkingAuthorized = ruleParser.isParkingAuthorized();
+        this.allTimesExcept = ruleParser.isAllTimesExcept();
+        this.times = RpaSignDescRuleTimes.of(ruleParser.getDurationMinutes(), ruleParser.getDailyTimeRanges(),
+                ruleParser.getDays(), ruleParser.getAnnualMonthRanges());
+        this.inverted = allTimesExcept && !times.isAlways();
+        this.additionalMetaData = ruleParser.getAdditionalInfo();
     }
 
-    private void initAnnualMonthRangeList(@NotNull RpaSignDescParser rpaSignDescParser) {
-        if (rpaSignDescParser.getAnnualMonthRange() != null) {
-            for (String s : rpaSignDescParser.getAnnualMonthRange().split(";")) {
-                try {
-                    listAnnualMonthRange.add(new AnnualMonthRange(s));
-                } catch (StartAfterEndException e1) {
-                    if (hasRange(e1)) {
-                        try {
-                            Range<MonthDay> pastRange = (Range<MonthDay>) e1.getRange();
-                            Range<MonthDay> newRange1 = new Range<>(pastRange.getStart(), END_OF_MONTH_DAY);
-                            Range<MonthDay> newRange2 = new Range<>(START_OF_MONTH_DAY, pastRange.getEnd());
-                            listAnnualMonthRange.add(new AnnualMonthRange(newRange1));
-                            listAnnualMonthRange.add(new AnnualMonthRange(newRange2));
-                        } catch (StartAfterEndException e2) {
-                            throwInvalidFormatArg(AnnualMonthRange.MSG_ERR_INVALID_FORMAT_S_ARG, s);
-                        }
-                    } else {
-                        throwInvalidFormatArg(AnnualMonthRange.MSG_ERR_INVALID_FORMAT_S_ARG, s);
-                    }
-                }
-            }
-        }
+    /**
+     * Rebuilds an already parsed rule, e.g. from a snapshot, without parsing anything. The lists are read into
+     * {@link RpaSignDescRuleTimes}, the time ranges to the minute.
+     */
+    public RpaSignDescRule(boolean parkingAuthorized, boolean allTimesExcept,
+                           List<DurationMinutes> listDurationMinutes, List<DailyTimeRange> listDailyTimeRange,
+                           List<DayOfWeek> listDay, List<AnnualMonthRange> listAnnualMonthRange,
+                           String additionalMetaData) {
+        this.parkingAuthorized = parkingAuthorized;
+        this.allTimesExcept = allTimesExcept;
+        this.times = RpaSignDescRuleTimes.of(listDurationMinutes, listDailyTimeRange, listDay, listAnnualMonthRange);
+        this.inverted = allTimesExcept && !times.isAlways();
+        this.additionalMetaData = additionalMetaData;
     }
 
-    private void initAdditionalInfo(RpaSignDescParser rpaSignDescParser) {
-        if (rpaSignDescParser.getAdditionalInfo() != null) {
-            additionalMetaData = rpaSignDescParser.getAdditionalInfo();
-        }
-    }
-
-    private boolean hasRange(@NotNull StartAfterEndException exception) {
-        return exception.getRange() != null && exception.getRange() instanceof Range;
+    /**
+     * Same as {@link #RpaSignDescRule(boolean, boolean, List, List, List, List, String)} for a rule which is not
+     * <tt>EN TOUT TEMPS EXCEPTE</tt>.
+     */
+    public RpaSignDescRule(boolean parkingAuthorized, List<DurationMinutes> listDurationMinutes,
+                           List<DailyTimeRange> listDailyTimeRange, List<DayOfWeek> listDay,
+                           List<AnnualMonthRange> listAnnualMonthRange, String additionalMetaData) {
+        this(parkingAuthorized, false, listDurationMinutes, listDailyTimeRange, listDay, listAnnualMonthRange,
+                additionalMetaData);
     }
 
-    private static void throwInvalidFormatArg(String msgErrInvalidFormatSArg, String element) {
-        throw new IllegalArgumentException(String.format(msgErrInvalidFormatSArg, element));
+    /**
+     * @return a key ordering the days of the year as {@link MonthDay} does
+     */
+    static int seasonKey(int month, int dayOfMonth) {
+        return month << 5 | dayOfMonth;
     }
 
     public boolean isParkingAuthorized() {
         return parkingAuthorized;
     }
 
+    /**
+     * @return <tt>true</tt> for a rule <tt>EN TOUT TEMPS EXCEPTE</tt>, which applies at all times except during its
+     *         days, time ranges and month ranges: <tt>\P EN TOUT TEMPS EXCEPTE 9H-17H LUN AU VEN</tt> forbids parking
+     *         but from 9:00 to 17:00 on weekdays. Without any of them (<tt>\P EN TOUT TEMPS EXCEPTE AUTOBUS</tt>), the
+     *         exception is not about time and the rule applies at all times.
+     */
+    public boolean isAllTimesExcept() {
+        return allTimesExcept;
+    }
+
+    /**
+     * @return a new unmodifiable list of read-only durations, see {@link RpaSignDescRuleTimes}
+     */
     public List<DurationMinutes> getListDurationMinutes() {
-        return listDurationMinutes;
+        return times.getListDurationMinutes();
     }
 
+    /**
+     * @return a new unmodifiable list of read-only time ranges, see {@link RpaSignDescRuleTimes}
+     */
     public List<DailyTimeRange> getListDailyTimeRange() {
-        return listDailyTimeRange;
+        return times.getListDailyTimeRange();
     }
 
+    /**
+     * @return the days, in the order they were listed, see {@link RpaSignDescRuleTimes}
+     */
     public List<DayOfWeek> getListDay() {
-        return listDay;
+        return times.getListDay();
     }
 
+    /**
+     * @return a new unmodifiable list of read-only month ranges, see {@link RpaSignDescRuleTimes}
+     */
     public List<AnnualMonthRange> getListAnnualMonthRange() {
-        return listAnnualMonthRange;
+        return times.getListAnnualMonthRange();
+    }
+
+    public RpaSignDescRuleTimes getTimes() {
+        return times;
     }
 
     public String getAdditionalMetaData() {
         return additionalMetaData;
     }
 
+    /**
+     * @return <tt>true</tt> if the rule applies at the time
+     */
+    public boolean isActive(@NotNull LocalDateTime dateTime) {
+        long epochDay = dateTime.toLocalDate().toEpochDay();
+        int seasonKey = times.hasSeasonRanges() ? RpaSignDescSchedule.seasonKey(epochDay) : 0;
+        int previousSeasonKey = times.hasSeasonRanges() ? RpaSignDescSchedule.seasonKey(epochDay - 1) : 0;
+        return isActive(dateTime.getDayOfWeek().ordinal(), dateTime.getHour() * 60 + dateTime.getMinute(),
+                seasonKey, previousSeasonKey);
+    }
+
+    /**
+     * @return <tt>true</tt> unless the rule forbids parking at the time
+     */
+    public boolean isParkingAllowed(@NotNull LocalDateTime dateTime) {
+        return getMaxStayMinutes(dateTime) > 0;
+    }
+
+    /**
+     * @return the longest stay, in minutes, the rule allows at the time, {@link #NO_STAY_LIMIT} if it does not apply
+     * @see #getActiveStayLimit()
+     */
+    public int getMaxStayMinutes(@NotNull LocalDateTime dateTime) {
+        return isActive(dateTime) ? getActiveStayLimit() : NO_STAY_LIMIT;
+    }
+
+    /**
+     * @return the longest stay, in minutes, the rule allows while it applies: the shortest of its durations
+     *         (<tt>\P 60 MIN</tt> limits parking), or else <tt>0</tt> if parking is not authorized (<tt>\P</tt>
+     *         forbids it), or else {@link #NO_STAY_LIMIT}
+     */
+    int getActiveStayLimit() {
+        int stayLimit = times.getStayLimit();
+        if (stayLimit != NO_STAY_LIMIT || parkingAuthorized) return stayLimit;
+        return 0;
+    }
+
+    /**
+     * @return <tt>true</tt> if the rule applies at the time, see {@link RpaSignDescRuleTimes#isActive(int, int, int,
+     *         int)}
+     */
+    boolean isActive(int dayOfWeek, int minuteOfDay, int seasonKey, int previousSeasonKey) {
+        return times.isActive(dayOfWeek, minuteOfDay, seasonKey, previousSeasonKey) != inverted;
+    }
+
+    /**
+     * @return <tt>true</tt> if the day is in a month range of the rule, or the rule has none
+     */
+    boolean isInSeason(int seasonKey) {
+        return times.isInSeason(seasonKey);
+    }
+
+    /**
+     * @param resolution the minutes of a bit of the weekly bitmaps, <tt>1</tt> or <tt>5</tt>
+     * @return when the rule allows parking, as one weekly bitmap per season
+     * @see RpaSignDescBitmap
+     */
+    public @NotNull RpaSignDescBitmap toBitmap(int resolution) {
+        return RpaSignDescBitmap.of(this, resolution);
+    }
+
+    /**
+     * @see RpaSignDescRuleTimes#collectDayBoundaries(BitSet)
+     */
+    void collectDayBoundaries(@NotNull BitSet minutes) {
+        times.collectDayBoundaries(minutes);
+    }
+
+    /**
+     * @see RpaSignDescRuleTimes#collectSeasonBoundaries(BitSet)
+     */
+    void collectSeasonBoundaries(@NotNull BitSet seasonKeys) {
+        times.collectSeasonBoundaries(seasonKeys);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        RpaSignDescRule that = (RpaSignDescRule) o;
+        return parkingAuthorized == that.parkingAuthorized &&
+                allTimesExcept == that.allTimesExcept &&
+                times.equals(that.times) &&
+                Objects.equals(additionalMetaData, that.additionalMetaData);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(parkingAuthorized, allTimesExcept, times, additionalMetaData);
+    }
+
     @Override
     public String toString() {
         return "RpaSignDescRule{" +
                 "parkingAuthorized=" + parkingAuthorized +
-                ", listDurationMinutes=" + listDurationMinutes +
-                ", listDailyTimeRange=" + listDailyTimeRange +
-                ", listDay=" + listDay +
-                ", listAnnualMonthRange=" + listAnnualMonthRange +
+                ", allTimesExcept=" + allTimesExcept +
+                ", listDurationMinutes=" + getListDurationMinutes() +
+                ", listDailyTimeRange=" + getListDailyTimeRange() +
+                ", listDay=" + getListDay() +
+                ", listAnnualMonthRange=" + getListAnnualMonthRange() +
                 ", additionalMetaData='" + additionalMetaData + '\'' +
                 '}';
     }
@@ -165,31 +253,32 @@ public class RpaSignDescRule {
     public JSONObject toJson() {
         JSONObject json = new JSONObject();
         json.put("parkingAuthorized", parkingAuthorized);
+        json.put("allTimesExcept", allTimesExcept);
 
         // Convert listDurationMinutes to a JSONArray of integers
         JSONArray durationArray = new JSONArray();
-        for (DurationMinutes duration : listDurationMinutes) {
+        for (DurationMinutes duration : getListDurationMinutes()) {
             durationArray.put(duration.getDuration());
         }
         json.put("listDurationMinutes", durationArray);
 
         // Convert listDailyTimeRange to a JSONArray of JSON objects
         JSONArray dailyTimeRangeArray = new JSONArray();
-        for (DailyTimeRange timeRange : listDailyTimeRange) {
+        for (DailyTimeRange timeRange : getListDailyTimeRange()) {
             dailyTimeRangeArray.put(timeRange.toJson());
         }
         json.put("listDailyTimeRange", dailyTimeRangeArray);
 
         // Convert listDay to a JSONArray of strings (day abbreviations)
         JSONArray dayArray = new JSONArray();
-        for (DayOfWeek day : listDay) {
+        for (DayOfWeek day : getListDay()) {
             dayArray.put(GlobalConfigs.DAY_OF_WEEK_ABREVIATIONS_MAP.get(day));
         }
         json.put("listDay", dayArray);
 
         // Convert listAnnualMonthRange to a JSONArray of JSON objects
         JSONArray annualMonthRangeArray = new JSONArray();
-        for (AnnualMonthRange monthRange : listAnnualMonthRange) {
+        for (AnnualMonthRange monthRange : getListAnnualMonthRange()) {
             annualMonthRangeArray.put(monthRange.toJson());
         }
         json.put("listAnnualMonthRange", annualMonthRangeArray);
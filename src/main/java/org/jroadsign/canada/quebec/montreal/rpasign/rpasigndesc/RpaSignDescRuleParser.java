@@ -0,0 +1,391 @@
+package org.jroadsign.canada.quebec.montreal.rpasign.rpasigndesc;
+
+import org.jetbrains.annotations.NotNull;
+import org.jroadsign.canada.quebec.montreal.rpasign.RpaSignCode;
+import org.jroadsign.canada.quebec.montreal.rpasign.rpasigndesc.RpaSignDescLexer.TokenType;
+import org.jroadsign.canada.quebec.montreal.rpasign.rpasigndesc.RpaSignDescSpan.Field;
+import org.jroadsign.canada.quebec.montreal.rpasign.rpasigndesc.common.GlobalConfigs;
+import org.jroadsign.canada.quebec.montreal.rpasign.rpasigndesc.common.GlobalFunctions;
+import org.jroadsign.canada.quebec.montreal.rpasign.rpasigndesc.common.GlobalPatterns;
+import org.jroadsign.canada.quebec.montreal.rpasign.rpasigndesc.common.KeywordNormalizer;
+import org.jroadsign.canada.quebec.montreal.rpasign.rpasigndesc.exceptions.RpaSignDescSyntaxException;
+
+import java.time.DateTimeException;
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import java.time.Month;
+import java.time.MonthDay;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.jroadsign.canada.quebec.montreal.rpasign.rpasigndesc.RpaSignDescRule.MINUTES_PER_DAY;
+
+/**
+ * @author - <a href="https://github.com/muhamm-ad">muhamm-ad</a>
+ * @project JRoadSign
+ * @description Recursive-descent parser building the values of an {@link RpaSignDescRule} straight from the
+ *         tokens of {@link RpaSignDescLexer}:
+ *         <pre>
+ *         rule       := NO_PARKING? item*
+ *         item       := duration | timeRange | days | monthRange | ";" | "&amp;" | "ET" | NO_PARKING | other
+ *         duration   := NUMBER "MIN"                                           60 MIN
+ *         timeRange  := TIME ("-" | "A" | "AU") TIME                           9H-17H30
+ *         days       := DAY (delimiter DAY)* | EXPRESSION                      LUN AU VEN, EN TOUT TEMPS
+ *         monthRange := DAY_OF_MONTH? MONTH delimiter DAY_OF_MONTH? MONTH      1 AVRIL AU 1 DEC
+ *                     | MONTH DAY_OF_MONTH? delimiter MONTH DAY_OF_MONTH?      MARS 01 A DEC 01
+ *         </pre>
+ *         Days joined by <tt>AU</tt> or <tt>A</tt> are a range and days joined by <tt>ET</tt> a list; days joined by
+ *         dashes are a range when there are two of them (<tt>LUN-VEN</tt>) and a list otherwise
+ *         (<tt>LUN-MER-VEN</tt>). A month range without its first day starts on the first day of the month, and one
+ *         without its last day ends on the last day of the month. The minutes of a time only belong to its token, so
+ *         <tt>9H-10H 1 MAI</tt> ends at 10:00. <tt>EN TOUT TEMPS EXCEPTE</tt> makes the rule apply outside the times
+ *         that follow it (see {@link RpaSignDescRule#isAllTimesExcept()}). Only a leading <tt>\P</tt> forbids
+ *         parking; one after the start, e.g. the second of <tt>\P \P 9H-17H</tt>, is redundant and skipped.
+ *         <p>
+ *         Each item is recorded as a {@link RpaSignDescSpan} of its tokens, the consecutive other tokens as one.
+ *         Any other token is additional information. A rule which is not cleaned is first cleaned as
+ *         {@link RoadSignDescCleaner} cleans a description of no code, and a rule whose times or dates do not exist
+ *         is rejected with a {@link RpaSignDescSyntaxException} giving the position of the offending token in the
+ *         cleaned rule.
+ */
+public final class RpaSignDescRuleParser {
+
+    private static final LocalTime END_OF_DAY = LocalTime.of(23, 59);
+    private static final int MAX_CLEANINGS = 3;
+
+    private final String rule;
+    private final RpaSignDescLexer lexer;
+    private final int size;
+    private int index;
+
+    private boolean parkingAuthorized = true;
+    private boolean allTimesExcept;
+    private final List<DurationMinutes> durationMinutes = new ArrayList<>();
+    private final List<DailyTimeRange> dailyTimeRanges = new ArrayList<>();
+    private final List<AnnualMonthRange> annualMonthRanges = new ArrayList<>();
+    private final Set<DayOfWeek> days = new LinkedHashSet<>();
+    private final StringBuilder otherTokens = new StringBuilder();
+    private final List<RpaSignDescSpan> spans = new ArrayList<>();
+    // the token after the last other token, whose span the next other token extends
+    private int otherTokensEnd = -1;
+
+    /**
+     * Parses a single rule of a description, cleaning it first if it is not cleaned.
+     *
+     * @param rule a single rule of a description, usually cleaned
+     * @throws RpaSignDescSyntaxException if the rule is outside the grammar
+     */
+    RpaSignDescRuleParser(@NotNull String rule) throws RpaSignDescSyntaxException {
+        RpaSignDescLexer ruleLexer = new RpaSignDescLexer(rule);
+        // a word split from another one, like LUNDI in LUNDI9H, is only rewritten by the next cleaning
+        for (int cleanings = 0; uncleanedPosition(rule, ruleLexer) >= 0; cleanings++) {
+            String cleaned = RoadSignDescCleaner.cleanDescription(rule, RpaSignCode.NULL);
+            if (cleaned.equals(rule) || cleanings == MAX_CLEANINGS)
+                throw new RpaSignDescSyntaxException("Rule not cleaned", rule, uncleanedPosition(rule, ruleLexer));
+            rule = cleaned;
+            ruleLexer = new RpaSignDescLexer(rule);
+        }
+        this.rule = rule;
+        lexer = ruleLexer;
+        size = lexer.size();
+
+        parseRule();
+    }
+
+    /**
+     * @param rule a single rule of a description, usually cleaned
+     * @return the parsed rule
+     * @throws RpaSignDescSyntaxException if the rule is outside the grammar
+     */
+    public static RpaSignDescRule parse(@NotNull String rule) throws RpaSignDescSyntaxException {
+        RpaSignDescRuleParser parser = new RpaSignDescRuleParser(rule);
+        return new RpaSignDescRule(parser.parkingAuthorized, parser.allTimesExcept, parser.durationMinutes,
+                parser.dailyTimeRanges, parser.getDays(), parser.annualMonthRanges, parser.getAdditionalInfo());
+    }
+
+    boolean isParkingAuthorized() {
+        return parkingAuthorized;
+    }
+
+    boolean isAllTimesExcept() {
+        return allTimesExcept;
+    }
+
+    List<DurationMinutes> getDurationMinutes() {
+        return durationMinutes;
+    }
+
+    List<DailyTimeRange> getDailyTimeRanges() {
+        return dailyTimeRanges;
+    }
+
+    List<DayOfWeek> getDays() {
+        return List.copyOf(days);
+    }
+
+    List<AnnualMonthRange> getAnnualMonthRanges() {
+        return annualMonthRanges;
+    }
+
+    /**
+     * @return the rule parsed, cleaned if it was not
+     */
+    String getRule() {
+        return rule;
+    }
+
+    /**
+     * @return where each item was read in {@link #getRule()}, in the order of the rule
+     */
+    List<RpaSignDescSpan> getSpans() {
+        return Collections.unmodifiableList(spans);
+    }
+
+    /**
+     * @return the tokens no item took, without their punctuation, their leading <tt>DE</tt>, <tt>DU</tt> or
+     *         <tt>ET</tt> and their trailing <tt>DE</tt>, <tt>DU</tt> or <tt>MAX</tt>, or an empty string if nothing
+     *         else is left or what is left is to be ignored
+     */
+    String getAdditionalInfo() {
+        if (otherTokens.isEmpty()) return "";
+        String additionalInfo = GlobalPatterns.replaceAll(otherTokens.toString(), GlobalPatterns.NON_ALPHANUMERIC, " ");
+        additionalInfo = GlobalPatterns.replaceAll(additionalInfo, GlobalPatterns.WHITESPACES, " ");
+        additionalInfo = GlobalPatterns.replaceAll(additionalInfo, GlobalPatterns.DIMENSIONS, "$1 X $2");
+        additionalInfo = GlobalPatterns.replaceAll(additionalInfo, GlobalPatterns.TRAILING_DE, "");
+        additionalInfo = GlobalPatterns.replaceAll(additionalInfo, GlobalPatterns.TRAILING_DU, "");
+        additionalInfo = GlobalPatterns.replaceAll(additionalInfo, GlobalPatterns.LEADING_DE, "");
+        additionalInfo = GlobalPatterns.replaceAll(additionalInfo, GlobalPatterns.LEADING_DU, "");
+        additionalInfo = GlobalPatterns.replaceAll(additionalInfo, GlobalPatterns.LEADING_ET, "");
+        additionalInfo = GlobalPatterns.replaceAll(additionalInfo, GlobalPatterns.TRAILING_MAX, "").trim();
+
+        return GlobalConfigs.LIST_OF_METADATA_TO_IGNORE.contains(additionalInfo) ? "" : additionalInfo;
+    }
+
+    /**
+     * Finds where the cleaning would still change a rule: the lexer rewrites day names and splits glued words, and
+     * the cleaned descriptions are upper-cased, spaces being their only whitespace.
+     *
+     * @return the position of the first character the cleaning would change, or <tt>-1</tt> if the rule is cleaned
+     */
+    private static int uncleanedPosition(String rule, RpaSignDescLexer lexer) {
+        String text = lexer.getText();
+        int position = 0;
+        while (position < rule.length() && position < text.length() && rule.charAt(position) == text.charAt(position)
+                && !Character.isLowerCase(rule.charAt(position))
+                && (rule.charAt(position) == ' ' || !Character.isWhitespace(rule.charAt(position)))) position++;
+        return position < rule.length() || position < text.length() ? position : -1;
+    }
+
+    private RpaSignDescSyntaxException error(String message, int token) {
+        return new RpaSignDescSyntaxException(message, rule, token < size ? lexer.getStart(token) : rule.length());
+    }
+
+    private TokenType type(int token) {
+        return token < size ? lexer.getType(token) : null;
+    }
+
+    private String text(int token) {
+        return lexer.getText(token);
+    }
+
+    // rule := NO_PARKING? item*
+    private void parseRule() throws RpaSignDescSyntaxException {
+        if (type(0) == TokenType.NO_PARKING) {
+            parkingAuthorized = false;
+            index = 1;
+        }
+        while (index < size) item();
+    }
+
+    private void item() throws RpaSignDescSyntaxException {
+        switch (type(index)) {
+            case DURATION -> duration();
+            case TIME -> {
+                if (!timeRange()) other();
+            }
+            case DAY -> days();
+            case EXPRESSION -> expression();
+            case DAY_OF_MONTH, MONTH -> {
+                if (!monthRange()) other();
+            }
+            case SEPARATOR -> index++;
+            case RANGE_DELIM -> {
+                if (text(index).equals("ET")) index++;
+                else other();
+            }
+            case NO_PARKING -> index++;
+            default -> other();
+        }
+    }
+
+    // duration := NUMBER "MIN"
+    private void duration() throws RpaSignDescSyntaxException {
+        String text = text(index);
+        int digits = 0;
+        while (isDigit(text.charAt(digits))) digits++;
+        if (digits > 9) throw error("Invalid duration", index);
+
+        durationMinutes.add(new DurationMinutes(Integer.parseInt(text, 0, digits, 10)));
+        index++;
+        addSpan(Field.DURATION_MINUTES, index - 1, index);
+    }
+
+    // timeRange := TIME ("-" | "A" | "AU") TIME
+    private boolean timeRange() throws RpaSignDescSyntaxException {
+        int first = index;
+        int last = first + 2;
+        if (!isTimeDelimiter(first + 1) || type(last) != TokenType.TIME) return false;
+
+        int start = minuteOfDay(first) % MINUTES_PER_DAY;
+        int end = minuteOfDay(last) % MINUTES_PER_DAY;
+
+        dailyTimeRanges.add(DailyTimeRange.of(LocalTime.of(start / 60, start % 60),
+                end == 0 ? END_OF_DAY : LocalTime.of(end / 60, end % 60)));
+        index = last + 1;
+        addSpan(Field.DAILY_TIME_RANGE, first, index);
+        return true;
+    }
+
+    private boolean isTimeDelimiter(int token) {
+        if (type(token) != TokenType.RANGE_DELIM) return false;
+        String delimiter = text(token);
+        return delimiter.equals("-") || delimiter.equals("A") || delimiter.equals("AU");
+    }
+
+    /**
+     * @return the minute of the day of a time token, like <tt>9H</tt>, <tt>09H30</tt> or <tt>9 H</tt>, from 0 to
+     *         <tt>24 * 60</tt>
+     */
+    private int minuteOfDay(int token) throws RpaSignDescSyntaxException {
+        String text = text(token);
+        int hour = 0;
+        int i = 0;
+        for (; isDigit(text.charAt(i)); i++) hour = hour * 10 + text.charAt(i) - '0';
+        int minute = 0;
+        for (i = text.indexOf('H') + 1; i < text.length(); i++) minute = minute * 10 + text.charAt(i) - '0';
+        if (hour > 24 || minute > 59 || (hour == 24 && minute > 0)) throw error("Invalid time", token);
+        return hour * 60 + minute;
+    }
+
+    // days := DAY (delimiter DAY)*
+    private void days() {
+        int first = index;
+        List<DayOfWeek> chain = new ArrayList<>();
+        List<String> delimiters = new ArrayList<>();
+        chain.add(GlobalFunctions.convertToDayOfWeek(text(index)));
+        while (type(index + 1) == TokenType.RANGE_DELIM && type(index + 2) == TokenType.DAY) {
+            delimiters.add(text(index + 1));
+            chain.add(GlobalFunctions.convertToDayOfWeek(text(index + 2)));
+            index += 2;
+        }
+        index++;
+        addSpan(Field.WEEKLY_DAY_RANGE, first, index);
+
+        days.add(chain.get(0));
+        for (int i = 0; i < delimiters.size(); i++) {
+            String delimiter = delimiters.get(i);
+            boolean range = delimiter.equals("A") || delimiter.equals("AU")
+                    || (delimiter.equals("-") && !isDash(delimiters, i - 1) && !isDash(delimiters, i + 1));
+            if (range) addDayRange(chain.get(i), chain.get(i + 1));
+            else days.add(chain.get(i + 1));
+        }
+    }
+
+    private static boolean isDash(List<String> delimiters, int i) {
+        return i >= 0 && i < delimiters.size() && delimiters.get(i).equals("-");
+    }
+
+    private void addDayRange(DayOfWeek from, DayOfWeek to) {
+        for (DayOfWeek day = from; ; day = day.plus(1)) {
+            days.add(day);
+            if (day == to) return;
+        }
+    }
+
+    // days := EXPRESSION
+    private void expression() throws RpaSignDescSyntaxException {
+        switch (String.join(" ", GlobalPatterns.SPACES.split(text(index)))) {
+            case "EN TOUT TEMPS" -> addDayRange(DayOfWeek.MONDAY, DayOfWeek.SUNDAY);
+            case "EN TOUT TEMPS EXCEPTE" -> allTimesExcept = true;
+            case "JOURS D'ECOLE", "JOURS D'ECOLES", "JOURS DE CLASSE", "JOURS D CLASSE" ->
+                    addDayRange(DayOfWeek.MONDAY, DayOfWeek.FRIDAY);
+            case "WEEKEND" -> addDayRange(DayOfWeek.SATURDAY, DayOfWeek.SUNDAY);
+            default -> throw error("Unsupported expression", index);
+        }
+        index++;
+        addSpan(Field.WEEKLY_DAY_RANGE, index - 1, index);
+    }
+
+    // monthRange := DAY_OF_MONTH? MONTH delimiter DAY_OF_MONTH? MONTH | MONTH DAY_OF_MONTH? delimiter MONTH DAY_OF_MONTH?
+    private boolean monthRange() throws RpaSignDescSyntaxException {
+        int first = index;
+        int token = index;
+        int startDay = -1;
+        if (type(token) == TokenType.DAY_OF_MONTH) startDay = Integer.parseInt(text(token++));
+        if (type(token) != TokenType.MONTH) return false;
+        int startMonth = monthNumber(text(token++));
+        if (startDay < 0 && isTrailingDayOfMonth(token)) startDay = Integer.parseInt(text(token++));
+
+        if (type(token) != TokenType.RANGE_DELIM) return false;
+        token++;
+
+        int endDay = -1;
+        if (type(token) == TokenType.DAY_OF_MONTH) endDay = Integer.parseInt(text(token++));
+        if (type(token) != TokenType.MONTH) return false;
+        int endMonth = monthNumber(text(token++));
+        if (endDay < 0 && isTrailingDayOfMonth(token)) endDay = Integer.parseInt(text(token++));
+
+        try {
+            MonthDay start = MonthDay.of(startMonth, startDay < 0 ? 1 : startDay);
+            MonthDay end = MonthDay.of(endMonth, endDay < 0 ? Month.of(endMonth).maxLength() : endDay);
+            annualMonthRanges.add(AnnualMonthRange.of(start, end));
+        } catch (DateTimeException e) {
+            throw error("Invalid date", first);
+        }
+        index = token;
+        addSpan(Field.ANNUAL_MONTH_RANGE, first, index);
+        return true;
+    }
+
+    /**
+     * @return the number of a month token, like <tt>JANV</tt> or <tt>MARS</tt>
+     */
+    private static int monthNumber(String month) {
+        String replacement = KeywordNormalizer.ANNUAL_MONTHS.getReplacement(month);
+        return GlobalFunctions.convertMonthNameToNumber(replacement == null ? month : replacement.trim());
+    }
+
+    /**
+     * @return whether the token is the day of the month before it, and not the one of the month after it
+     */
+    private boolean isTrailingDayOfMonth(int token) {
+        return type(token) == TokenType.DAY_OF_MONTH && type(token + 1) != TokenType.MONTH;
+    }
+
+    // other := any other token, kept as additional information
+    private void other() {
+        if (!otherTokens.isEmpty()) otherTokens.append(' ');
+        otherTokens.append(text(index));
+        int start = lexer.getStart(index);
+        if (index == otherTokensEnd) start = spans.remove(spans.size() - 1).getStart();
+        int end = lexer.getEnd(index);
+        spans.add(new RpaSignDescSpan(Field.ADDITIONAL_INFO, start, end, rule.substring(start, end)));
+        otherTokensEnd = ++index;
+    }
+
+    /**
+     * Records the span of the tokens [<tt>first</tt>, <tt>end</tt>) of an item.
+     */
+    private void addSpan(Field field, int first, int end) {
+        int start = lexer.getStart(first);
+        int last = lexer.getEnd(end - 1);
+        spans.add(new RpaSignDescSpan(field, start, last, rule.substring(start, last)));
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+}
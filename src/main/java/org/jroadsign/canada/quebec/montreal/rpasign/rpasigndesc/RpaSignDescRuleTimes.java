@@ -0,0 +1,283 @@
+package org.jroadsign.canada.quebec.montreal.rpasign.rpasigndesc;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import java.time.Month;
+import java.time.MonthDay;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.List;
+
+import static org.jroadsign.canada.quebec.montreal.rpasign.rpasigndesc.RpaSignDescRule.MINUTES_PER_DAY;
+import static org.jroadsign.canada.quebec.montreal.rpasign.rpasigndesc.RpaSignDescRule.NO_STAY_LIMIT;
+
+/**
+ * @author - <a href="https://github.com/muhamm-ad">muhamm-ad</a>
+ * @project JRoadSign
+ * @description The durations, time ranges, days and month ranges of a rule as primitives: minutes of the day and
+ *         days of the year (see {@link RpaSignDescRule#seasonKey(int, int)}) in <tt>short</tt>s, and the days in a
+ *         mask of 7 bits, next to the order they were listed in. The lists of {@link DurationMinutes},
+ *         {@link DailyTimeRange}, {@link DayOfWeek} and {@link AnnualMonthRange} of a rule are views built from them.
+ *         <p>
+ *         The times are immutable and built interned, so all the rules having the same times share them for as long
+ *         as one of those rules is in use. They tell, without allocating, whether a rule applies at a given time: on
+ *         its days, during its time ranges and in its month ranges, each missing list meaning "always". The part
+ *         after midnight of a time range wrapping around it belongs to the day it started on, and a time range ending
+ *         at 23:59 ends at midnight. Times are read to the minute.
+ */
+public final class RpaSignDescRuleTimes {
+
+    private static final WeakInterner<RpaSignDescRuleTimes> INTERNED = new WeakInterner<>();
+    private static final short[] NO_RANGES = new short[0];
+    private static final int[] NO_DURATIONS = new int[0];
+    private static final int ALL_DAYS = 0x7F;
+    private static final LocalTime END_OF_DAY = LocalTime.of(23, 59);
+
+    private final int[] durations;
+    // (start, end) minutes of the day, an end at 23:59 being midnight (1440)
+    private final short[] timeRanges;
+    // DayOfWeek values of the days listed, without repeats, 3 bits each from the lowest ones
+    private final int days;
+    // bit i for DayOfWeek.of(i + 1), every day when none is listed
+    private final byte dayMask;
+    // (start, end) season keys
+    private final short[] seasonRanges;
+    private final int stayLimit;
+    private final int hash;
+
+    private RpaSignDescRuleTimes(int[] durations, short[] timeRanges, int days, short[] seasonRanges) {
+        this.durations = durations;
+        this.timeRanges = timeRanges;
+        this.days = days;
+        this.seasonRanges = seasonRanges;
+
+        int mask = 0;
+        for (int rest = days; rest != 0; rest >>>= 3) mask |= 1 << (rest & 7) - 1;
+        this.dayMask = (byte) (mask == 0 ? ALL_DAYS : mask);
+
+        int limit = NO_STAY_LIMIT;
+        for (int duration : durations) limit = Math.min(limit, duration);
+        this.stayLimit = limit;
+
+        this.hash = 31 * (31 * (31 * Arrays.hashCode(durations) + Arrays.hashCode(timeRanges)) + days)
+                + Arrays.hashCode(seasonRanges);
+    }
+
+    /**
+     * @return the interned times of the lists, the time ranges being read to the minute
+     */
+    public static @NotNull RpaSignDescRuleTimes of(@NotNull List<DurationMinutes> listDurationMinutes,
+                                                   @NotNull List<DailyTimeRange> listDailyTimeRange,
+                                                   @NotNull List<DayOfWeek> listDay,
+                                                   @NotNull List<AnnualMonthRange> listAnnualMonthRange) {
+        int[] durations = listDurationMinutes.isEmpty() ? NO_DURATIONS : new int[listDurationMinutes.size()];
+        for (int i = 0; i < durations.length; i++) durations[i] = listDurationMinutes.get(i).getDuration();
+
+        short[] timeRanges = listDailyTimeRange.isEmpty() ? NO_RANGES : new short[2 * listDailyTimeRange.size()];
+        for (int i = 0; i < listDailyTimeRange.size(); i++) {
+            DailyTimeRange timeRange = listDailyTimeRange.get(i);
+            timeRanges[2 * i] = (short) minuteOfDay(timeRange.getStart());
+            timeRanges[2 * i + 1] = (short) (timeRange.getEnd().equals(END_OF_DAY)
+                    ? MINUTES_PER_DAY : minuteOfDay(timeRange.getEnd()));
+        }
+
+        int days = 0;
+        int shift = 0;
+        int listed = 0;
+        for (DayOfWeek day : listDay) {
+            if ((listed & 1 << day.ordinal()) != 0) continue;
+            listed |= 1 << day.ordinal();
+            days |= day.getValue() << shift;
+            shift += 3;
+        }
+
+        short[] seasonRanges = listAnnualMonthRange.isEmpty() ? NO_RANGES
+                : new short[2 * listAnnualMonthRange.size()];
+        for (int i = 0; i < listAnnualMonthRange.size(); i++) {
+            AnnualMonthRange monthRange = listAnnualMonthRange.get(i);
+            seasonRanges[2 * i] = (short) seasonKey(monthRange.getStart());
+            seasonRanges[2 * i + 1] = (short) seasonKey(monthRange.getEnd());
+        }
+
+        RpaSignDescRuleTimes times = new RpaSignDescRuleTimes(durations, timeRanges, days, seasonRanges);
+        return INTERNED.intern(times);
+    }
+
+    private static int minuteOfDay(LocalTime time) {
+        return time.getHour() * 60 + time.getMinute();
+    }
+
+    private static int seasonKey(MonthDay monthDay) {
+        return RpaSignDescRule.seasonKey(monthDay.getMonthValue(), monthDay.getDayOfMonth());
+    }
+
+    /**
+     * @return a new unmodifiable list of read-only durations
+     */
+    public @NotNull List<DurationMinutes> getListDurationMinutes() {
+        if (durations.length == 0) return List.of();
+        List<DurationMinutes> list = new ArrayList<>(durations.length);
+        for (int duration : durations) list.add(DurationMinutes.readOnly(duration));
+        return Collections.unmodifiableList(list);
+    }
+
+    /**
+     * @return a new unmodifiable list of read-only time ranges
+     */
+    public @NotNull List<DailyTimeRange> getListDailyTimeRange() {
+        if (timeRanges.length == 0) return List.of();
+        List<DailyTimeRange> list = new ArrayList<>(timeRanges.length / 2);
+        for (int i = 0; i < timeRanges.length; i += 2)
+            list.add(DailyTimeRange.readOnly(localTime(timeRanges[i]), localTime(timeRanges[i + 1])));
+        return Collections.unmodifiableList(list);
+    }
+
+    private static LocalTime localTime(int minuteOfDay) {
+        if (minuteOfDay == MINUTES_PER_DAY) return END_OF_DAY;
+        return LocalTime.of(minuteOfDay / 60, minuteOfDay % 60);
+    }
+
+    /**
+     * @return the days, in the order they were listed
+     */
+    public @NotNull List<DayOfWeek> getListDay() {
+        if (days == 0) return List.of();
+        List<DayOfWeek> list = new ArrayList<>(7);
+        for (int rest = days; rest != 0; rest >>>= 3) list.add(DayOfWeek.of(rest & 7));
+        return Collections.unmodifiableList(list);
+    }
+
+    /**
+     * @return a new unmodifiable list of read-only month ranges
+     */
+    public @NotNull List<AnnualMonthRange> getListAnnualMonthRange() {
+        if (seasonRanges.length == 0) return List.of();
+        List<AnnualMonthRange> list = new ArrayList<>(seasonRanges.length / 2);
+        for (int i = 0; i < seasonRanges.length; i += 2)
+            list.add(AnnualMonthRange.readOnly(monthDay(seasonRanges[i]), monthDay(seasonRanges[i + 1])));
+        return Collections.unmodifiableList(list);
+    }
+
+    private static MonthDay monthDay(int seasonKey) {
+        return MonthDay.of(seasonKey >>> 5, seasonKey & 31);
+    }
+
+    /**
+     * @return the shortest of the durations, or {@link RpaSignDescRule#NO_STAY_LIMIT} if there is none
+     */
+    int getStayLimit() {
+        return stayLimit;
+    }
+
+    boolean hasSeasonRanges() {
+        return seasonRanges.length > 0;
+    }
+
+    /**
+     * @return <tt>true</tt> if there are no days, time ranges nor month ranges, so that a rule applies at all times
+     */
+    boolean isAlways() {
+        return days == 0 && timeRanges.length == 0 && seasonRanges.length == 0;
+    }
+
+    /**
+     * @param dayOfWeek         the day, from <tt>0</tt> for Monday
+     * @param minuteOfDay       the minute of the day
+     * @param seasonKey         the season key of the day
+     * @param previousSeasonKey the season key of the day before
+     * @return <tt>true</tt> if the rule applies at the time
+     */
+    boolean isActive(int dayOfWeek, int minuteOfDay, int seasonKey, int previousSeasonKey) {
+        if (timeRanges.length == 0) return isActiveOn(dayOfWeek, seasonKey);
+
+        for (int i = 0; i < timeRanges.length; i += 2) {
+            int start = timeRanges[i];
+            int end = timeRanges[i + 1];
+            if (start <= end) {
+                if (minuteOfDay >= start && minuteOfDay < end && isActiveOn(dayOfWeek, seasonKey)) return true;
+            } else if (minuteOfDay >= start) {
+                if (isActiveOn(dayOfWeek, seasonKey)) return true;
+            } else if (minuteOfDay < end) {
+                if (isActiveOn(dayOfWeek == 0 ? 6 : dayOfWeek - 1, previousSeasonKey)) return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean isActiveOn(int dayOfWeek, int seasonKey) {
+        return (dayMask & 1 << dayOfWeek) != 0 && isInSeason(seasonKey);
+    }
+
+    /**
+     * @return <tt>true</tt> if the day is in a month range, or there is none
+     */
+    boolean isInSeason(int seasonKey) {
+        if (seasonRanges.length == 0) return true;
+
+        for (int i = 0; i < seasonRanges.length; i += 2) {
+            int start = seasonRanges[i];
+            int end = seasonRanges[i + 1];
+            if (start <= end ? seasonKey >= start && seasonKey <= end : seasonKey >= start || seasonKey <= end)
+                return true;
+        }
+        return false;
+    }
+
+    /**
+     * Adds to the set the minutes of the day at which the rule may start or stop applying, other than midnight.
+     */
+    void collectDayBoundaries(@NotNull BitSet minutes) {
+        for (short minute : timeRanges) {
+            if (minute < MINUTES_PER_DAY) minutes.set(minute);
+        }
+    }
+
+    /**
+     * Adds to the set the season keys of the days on which the rule may start or stop applying: the first day of
+     * each month range and the day after its last one.
+     */
+    void collectSeasonBoundaries(@NotNull BitSet seasonKeys) {
+        for (int i = 0; i < seasonRanges.length; i += 2) {
+            seasonKeys.set(seasonRanges[i]);
+            int month = seasonRanges[i + 1] >>> 5;
+            int day = seasonRanges[i + 1] & 31;
+            // February 28 is followed by February 29, which is March 1 in the years without it
+            if (day < Month.of(month).maxLength()) seasonKeys.set(RpaSignDescRule.seasonKey(month, day + 1));
+            else seasonKeys.set(RpaSignDescRule.seasonKey(month == 12 ? 1 : month + 1, 1));
+        }
+    }
+
+    /**
+     * @return the number of distinct times interned and still in use
+     */
+    public static int getInternedCount() {
+        return INTERNED.size();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof RpaSignDescRuleTimes that)) return false;
+        return hash == that.hash && days == that.days && Arrays.equals(durations, that.durations)
+                && Arrays.equals(timeRanges, that.timeRanges) && Arrays.equals(seasonRanges, that.seasonRanges);
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+
+    @Override
+    public String toString() {
+        return "RpaSignDescRuleTimes{" +
+                "durations=" + Arrays.toString(durations) +
+                ", timeRanges=" + Arrays.toString(timeRanges) +
+                ", days=" + getListDay() +
+                ", seasonRanges=" + Arrays.toString(seasonRanges) +
+                '}';
+    }
+}
@@ -0,0 +1,209 @@
+package org.jroadsign.canada.quebec.montreal.rpasign.rpasigndesc;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.BitSet;
+import java.util.List;
+
+import static org.jroadsign.canada.quebec.montreal.rpasign.rpasigndesc.RpaSignDescRule.MINUTES_PER_DAY;
+import static org.jroadsign.canada.quebec.montreal.rpasign.rpasigndesc.RpaSignDescRule.NO_STAY_LIMIT;
+
+/**
+ * @author - <a href="https://github.com/muhamm-ad">muhamm-ad</a>
+ * @project JRoadSign
+ * @description What the rules of a description allow over time: the longest stay at a time is the shortest one
+ *         allowed by the rules applying then (see {@link RpaSignDescRule#getMaxStayMinutes(LocalDateTime)}), and
+ *         parking is forbidden when it is <tt>0</tt>. A time is read to the minute.
+ *         Except {@link #nextChange(LocalDateTime)}, the queries do not allocate.
+ *         <p>
+ *         The next change is searched from one minute at which a rule may start or stop applying to the next: within
+ *         a season (days on which every rule is in or out of its month ranges), what the rules allow repeats every
+ *         week, so once a whole week of the season was searched the search skips to the next season.
+ */
+public final class RpaSignDescSchedule {
+
+    /**
+     * What {@link #minutesUntilNextChange(LocalDateTime)} returns when what the rules allow never changes.
+     */
+    public static final long NO_CHANGE = -1;
+
+    // days searched in a season before skipping to the next one: a whole week, plus the day it started on
+    private static final int SEASON_SEARCHED_DAYS = 8;
+    // every season of the year, each searched for a whole week
+    private static final int SEARCHED_DAYS = 366 + SEASON_SEARCHED_DAYS;
+
+    // the rules, and the longest stay each rule allows while it applies
+    private final RpaSignDescRule[] rules;
+    private final int[] stayLimits;
+    // minutes of the day at which a rule may start or stop applying, sorted, from 0
+    private final int[] dayBoundaries;
+    // season keys of the days on which a rule may start or stop applying, sorted
+    private final int[] seasonBoundaries;
+    private final BitSet seasonBoundarySet = new BitSet();
+
+    public RpaSignDescSchedule(@NotNull List<RpaSignDescRule> rules) {
+        this.rules = rules.toArray(new RpaSignDescRule[0]);
+        stayLimits = new int[rules.size()];
+
+        BitSet minutes = new BitSet(MINUTES_PER_DAY);
+        minutes.set(0);
+        for (int i = 0; i < this.rules.length; i++) {
+            RpaSignDescRule rule = this.rules[i];
+            stayLimits[i] = rule.getActiveStayLimit();
+            rule.collectDayBoundaries(minutes);
+            rule.collectSeasonBoundaries(seasonBoundarySet);
+        }
+        // in the years without February 29, what starts on it starts on March 1
+        if (seasonBoundarySet.get(RpaSignDescRule.seasonKey(2, 29)))
+            seasonBoundarySet.set(RpaSignDescRule.seasonKey(3, 1));
+        dayBoundaries = minutes.stream().toArray();
+        seasonBoundaries = seasonBoundarySet.stream().toArray();
+    }
+
+    /**
+     * @return <tt>true</tt> unless a rule forbids parking at the time
+     */
+    public boolean isParkingAllowed(@NotNull LocalDateTime dateTime) {
+        return getMaxStayMinutes(dateTime) > 0;
+    }
+
+    /**
+     * @return the longest stay, in minutes, the rules allow at the time: <tt>0</tt> if parking is forbidden,
+     *         {@link RpaSignDescRule#NO_STAY_LIMIT} if no rule limits it
+     */
+    public int getMaxStayMinutes(@NotNull LocalDateTime dateTime) {
+        return maxStay(dateTime.toLocalDate().toEpochDay(), minuteOfDay(dateTime));
+    }
+
+    /**
+     * @return the number of minutes from the start of the minute of the time to the next change of the longest stay
+     *         allowed (including parking becoming forbidden or allowed), or {@link #NO_CHANGE}
+     */
+    public long minutesUntilNextChange(@NotNull LocalDateTime dateTime) {
+        long day = dateTime.toLocalDate().toEpochDay();
+        int minute = minuteOfDay(dateTime);
+        long from = day * MINUTES_PER_DAY + minute;
+        long lastDay = day + SEARCHED_DAYS;
+        int maxStay = maxStay(day, minute);
+
+        int searchedDays = 0;
+        while (true) {
+            minute = nextDayBoundary(minute);
+            if (minute == MINUTES_PER_DAY) {
+                day++;
+                minute = 0;
+                if (seasonBoundaries.length > 0 && seasonBoundarySet.get(seasonKey(day))) {
+                    searchedDays = 0;
+                } else if (++searchedDays > SEASON_SEARCHED_DAYS) {
+                    if (seasonBoundaries.length == 0) return NO_CHANGE;
+                    day = nextSeasonBoundary(day);
+                    searchedDays = 0;
+                }
+                if (day > lastDay) return NO_CHANGE;
+            }
+            if (maxStay(day, minute) != maxStay) return day * MINUTES_PER_DAY + minute - from;
+        }
+    }
+
+    /**
+     * @return the time of the next change of the longest stay allowed, or <tt>null</tt> if it never changes
+     */
+    public LocalDateTime nextChange(@NotNull LocalDateTime dateTime) {
+        long minutes = minutesUntilNextChange(dateTime);
+        return minutes == NO_CHANGE ? null : dateTime.truncatedTo(ChronoUnit.MINUTES).plusMinutes(minutes);
+    }
+
+    private int maxStay(long epochDay, int minuteOfDay) {
+        int dayOfWeek = Math.floorMod(epochDay + 3, 7); // 1970-01-01 was a Thursday
+        int seasonKey = 0;
+        int previousSeasonKey = 0;
+        if (seasonBoundaries.length > 0) {
+            seasonKey = seasonKey(epochDay);
+            previousSeasonKey = seasonKey(epochDay - 1);
+        }
+
+        int maxStay = NO_STAY_LIMIT;
+        for (int i = 0; i < rules.length; i++) {
+            if (rules[i].isActive(dayOfWeek, minuteOfDay, seasonKey, previousSeasonKey))
+                maxStay = Math.min(maxStay, stayLimits[i]);
+        }
+        return maxStay;
+    }
+
+    private int nextDayBoundary(int minute) {
+        for (int boundary : dayBoundaries) {
+            if (boundary > minute) return boundary;
+        }
+        return MINUTES_PER_DAY;
+    }
+
+    /**
+     * @return the first day, from the given one, on which a rule may start or stop applying
+     */
+    private long nextSeasonBoundary(long epochDay) {
+        long date = civilDate(epochDay);
+        long year = date >> 9;
+        int key = (int) (date & 0x1FF);
+
+        int next = seasonBoundaries[0];
+        for (int boundary : seasonBoundaries) {
+            if (boundary >= key) {
+                next = boundary;
+                break;
+            }
+        }
+        if (next < key) year++;
+        int month = next >>> 5;
+        int dayOfMonth = next & 31;
+        if (month == 2 && dayOfMonth == 29 && !isLeapYear(year)) {
+            month = 3;
+            dayOfMonth = 1;
+        }
+        return epochDay(year, month, dayOfMonth);
+    }
+
+    private static int minuteOfDay(LocalDateTime dateTime) {
+        return dateTime.getHour() * 60 + dateTime.getMinute();
+    }
+
+    /**
+     * @return the season key of the day, see {@link RpaSignDescRule#seasonKey(int, int)}
+     */
+    static int seasonKey(long epochDay) {
+        return (int) (civilDate(epochDay) & 0x1FF);
+    }
+
+    /**
+     * Converts a day to its date without allocating, as {@link java.time.LocalDate#ofEpochDay} does.
+     *
+     * @return the year, shifted left by 9 bits, and the season key of the day
+     */
+    private static long civilDate(long epochDay) {
+        // days from March 1 of year 0, whose 400-year eras all have the same number of days
+        long days = epochDay + 719468;
+        long era = Math.floorDiv(days, 146097);
+        long dayOfEra = days - era * 146097;
+        long yearOfEra = (dayOfEra - dayOfEra / 1460 + dayOfEra / 36524 - dayOfEra / 146096) / 365;
+        long dayOfYear = dayOfEra - (365 * yearOfEra + yearOfEra / 4 - yearOfEra / 100); // from March 1
+        long shiftedMonth = (5 * dayOfYear + 2) / 153;
+        int dayOfMonth = (int) (dayOfYear - (153 * shiftedMonth + 2) / 5 + 1);
+        int month = (int) (shiftedMonth < 10 ? shiftedMonth + 3 : shiftedMonth - 9);
+        long year = yearOfEra + era * 400 + (month <= 2 ? 1 : 0);
+        return year << 9 | RpaSignDescRule.seasonKey(month, dayOfMonth);
+    }
+
+    private static long epochDay(long year, int month, int dayOfMonth) {
+        long shiftedYear = month <= 2 ? year - 1 : year;
+        long era = Math.floorDiv(shiftedYear, 400);
+        long yearOfEra = shiftedYear - era * 400;
+        long dayOfYear = (153 * (month > 2 ? month - 3 : month + 9) + 2) / 5 + dayOfMonth - 1;
+        long dayOfEra = yearOfEra * 365 + yearOfEra / 4 - yearOfEra / 100 + dayOfYear;
+        return era * 146097 + dayOfEra - 719468;
+    }
+
+    private static boolean isLeapYear(long year) {
+        return (year & 3) == 0 && (year % 100 != 0 || year % 400 == 0);
+    }
+}
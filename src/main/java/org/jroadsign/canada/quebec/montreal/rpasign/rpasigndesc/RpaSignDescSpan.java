@@ -0,0 +1,73 @@
+package org.jroadsign.canada.quebec.montreal.rpasign.rpasigndesc;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Objects;
+
+/**
+ * @author - <a href="https://github.com/muhamm-ad">muhamm-ad</a>
+ * @project JRoadSign
+ * @description Where {@link RpaSignDescParser} found a piece of information: the range [<tt>start</tt>,
+ *         <tt>end</tt>) of the tokens read in the rule parsed ({@link RpaSignDescParser#getRule()}), and their text.
+ */
+public final class RpaSignDescSpan {
+
+    public enum Field {
+        DURATION_MINUTES,
+        DAILY_TIME_RANGE,
+        WEEKLY_DAY_RANGE,
+        ANNUAL_MONTH_RANGE,
+        ADDITIONAL_INFO
+    }
+
+    private final Field field;
+    private final int start;
+    private final int end;
+    private final String text;
+
+    RpaSignDescSpan(@NotNull Field field, int start, int end, @NotNull String text) {
+        this.field = field;
+        this.start = start;
+        this.end = end;
+        this.text = text;
+    }
+
+    public @NotNull Field getField() {
+        return field;
+    }
+
+    /**
+     * @return the index of the first character of the span in the description
+     */
+    public int getStart() {
+        return start;
+    }
+
+    /**
+     * @return the index after the last character of the span in the description
+     */
+    public int getEnd() {
+        return end;
+    }
+
+    public @NotNull String getText() {
+        return text;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof RpaSignDescSpan that)) return false;
+        return start == that.start && end == that.end && field == that.field && text.equals(that.text);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(field, start, end, text);
+    }
+
+    @Override
+    public String toString() {
+        return field + "[" + start + ", " + end + ")='" + text + '\'';
+    }
+}
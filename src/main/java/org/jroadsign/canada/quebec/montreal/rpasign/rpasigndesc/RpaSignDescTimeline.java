@@ -0,0 +1,192 @@
+package org.jroadsign.canada.quebec.montreal.rpasign.rpasigndesc;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.Year;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.jroadsign.canada.quebec.montreal.rpasign.rpasigndesc.WeeklyBitmap.MINUTES_PER_WEEK;
+
+/**
+ * @author - <a href="https://github.com/muhamm-ad">muhamm-ad</a>
+ * @project JRoadSign
+ * @description The minutes of the week at which parking becomes allowed or forbidden, sorted, for each season of a
+ *         {@link RpaSignDescBitmap} of 1 minute. Whether parking is allowed at a time, and when that next changes,
+ *         are a binary search in the week of the season of the time.
+ *         <p>
+ *         A timeline is built once per distinct bitmap and shared, e.g. by all the posts whose signs allow parking at
+ *         the same times (see {@link #of(RpaSignDescBitmap)}). It is kept by its interned bitmap, so it lives as long
+ *         as either is in use.
+ */
+public final class RpaSignDescTimeline {
+
+    private static final LocalDate LEAP_YEAR_START = LocalDate.of(2000, 1, 1);
+
+    // day of a leap year of the first day of each season, from 0
+    private final int[] seasonStarts;
+    // whether parking is allowed on Sunday at 23:59, before the first minute of the week
+    private final boolean[] weekEndStates;
+    // minutes of the week at which parking becomes allowed or forbidden, sorted
+    private final int[][] transitions;
+    // the interned bitmap the timeline was built from, kept so that it stays shared while the timeline is used
+    private final RpaSignDescBitmap bitmap;
+    // the index, after the seasons, of the week of March 1 in the years without February 29, or -1 if it is the
+    // week of its season
+    private final int commonYearMarchFirst;
+
+    RpaSignDescTimeline(RpaSignDescBitmap bitmap) {
+        this.bitmap = bitmap;
+        int seasonCount = bitmap.getSeasonCount();
+        WeeklyBitmap[] weeks = new WeeklyBitmap[seasonCount + 1];
+        for (int season = 0; season < seasonCount; season++) weeks[season] = bitmap.getSeasonBitmap(season);
+        weeks[seasonCount] = bitmap.getCommonYearMarchFirst();
+        boolean ownMarchFirst = weeks[seasonCount] != bitmap.getWeeklyBitmap(3, 1);
+        if (!ownMarchFirst) weeks = Arrays.copyOf(weeks, seasonCount);
+        commonYearMarchFirst = ownMarchFirst ? seasonCount : -1;
+
+        seasonStarts = new int[seasonCount];
+        weekEndStates = new boolean[weeks.length];
+        transitions = new int[weeks.length][];
+        for (int season = 0; season < seasonCount; season++) seasonStarts[season] = bitmap.getSeasonStart(season);
+
+        for (int index = 0; index < weeks.length; index++) {
+            WeeklyBitmap week = weeks[index];
+            int sameWeek = 0;
+            while (sameWeek < index && weeks[sameWeek] != week) sameWeek++;
+            if (sameWeek < index) {
+                weekEndStates[index] = weekEndStates[sameWeek];
+                transitions[index] = transitions[sameWeek];
+                continue;
+            }
+
+            boolean state = week.get(MINUTES_PER_WEEK - 1);
+            weekEndStates[index] = state;
+            List<Integer> minutes = new ArrayList<>();
+            for (int minute = 0; minute < MINUTES_PER_WEEK; minute++) {
+                if (week.get(minute) == state) continue;
+                state = !state;
+                minutes.add(minute);
+            }
+            transitions[index] = minutes.stream().mapToInt(Integer::intValue).toArray();
+        }
+    }
+
+    /**
+     * @param bitmap a bitmap of 1 minute
+     * @return the timeline of the bitmap, shared by all the bitmaps equal to it
+     * @throws IllegalArgumentException if the bitmap is not of 1 minute
+     */
+    public static @NotNull RpaSignDescTimeline of(@NotNull RpaSignDescBitmap bitmap) {
+        if (bitmap.getResolution() != 1)
+            throw new IllegalArgumentException(
+                    "Invalid resolution: " + bitmap.getResolution() + " (expected 1 minute)");
+        return bitmap.intern().getTimeline();
+    }
+
+    /**
+     * @return <tt>true</tt> if parking is allowed at the time
+     */
+    public boolean stateAt(@NotNull LocalDateTime dateTime) {
+        int season = season(dateTime.toLocalDate());
+        int[] seasonTransitions = transitions[season];
+        if (seasonTransitions.length == 0) return weekEndStates[season];
+
+        // the state changed at each transition up to the minute of the time
+        int count = transitionsUntil(seasonTransitions, WeeklyBitmap.minuteOfWeek(dateTime));
+        return weekEndStates[season] ^ (count & 1) != 0;
+    }
+
+    /**
+     * @return the time, to the minute, at which parking next becomes allowed or forbidden after the time, or
+     *         <tt>null</tt> if it never does
+     */
+    public LocalDateTime nextTransition(@NotNull LocalDateTime dateTime) {
+        LocalDateTime from = dateTime.truncatedTo(ChronoUnit.MINUTES);
+        boolean state = stateAt(from);
+
+        // every season of the year at most once, one of them cut around March 1
+        for (int i = 0; i <= seasonStarts.length + 2; i++) {
+            LocalDate date = from.toLocalDate();
+            int season = season(date);
+            LocalDateTime seasonEnd = seasonStarts.length > 1 ? nextSeasonStart(date, season).atStartOfDay() : null;
+
+            int[] seasonTransitions = transitions[season];
+            if (seasonTransitions.length > 0) {
+                int minute = WeeklyBitmap.minuteOfWeek(from);
+                int next = transitionsUntil(seasonTransitions, minute);
+                int minutes = next < seasonTransitions.length
+                        ? seasonTransitions[next] - minute
+                        : seasonTransitions[0] + MINUTES_PER_WEEK - minute;
+                LocalDateTime transition = from.plusMinutes(minutes);
+                if (seasonEnd == null || transition.isBefore(seasonEnd)) return transition;
+            }
+            if (seasonEnd == null) return null;
+
+            from = seasonEnd;
+            if (stateAt(from) != state) return from;
+        }
+        return null;
+    }
+
+    /**
+     * @return the number of transitions at or before the minute of the week
+     */
+    private static int transitionsUntil(int[] seasonTransitions, int minuteOfWeek) {
+        int index = Arrays.binarySearch(seasonTransitions, minuteOfWeek);
+        return index >= 0 ? index + 1 : -index - 1;
+    }
+
+    /**
+     * @return the index of the week of the date: its season, or the week of March 1 in the years without February 29
+     */
+    private int season(LocalDate date) {
+        if (commonYearMarchFirst >= 0 && RpaSignDescBitmap.isCommonYearMarchFirst(date)) return commonYearMarchFirst;
+        int index = Arrays.binarySearch(seasonStarts,
+                RpaSignDescBitmap.dayOfYear(date.getMonthValue(), date.getDayOfMonth()));
+        return index >= 0 ? index : -index - 2;
+    }
+
+    /**
+     * @return the first day of the season following the one of the date, or the day the week of March 1 in the years
+     *         without February 29 starts or ends before it
+     */
+    private LocalDate nextSeasonStart(LocalDate date, int season) {
+        if (season == commonYearMarchFirst) return date.plusDays(1);
+        LocalDate next = nextSeasonStart(season, date.getYear());
+        if (commonYearMarchFirst < 0) return next;
+
+        LocalDate marchFirst = LocalDate.of(date.getMonthValue() < 3 ? date.getYear() : date.getYear() + 1, 3, 1);
+        return !marchFirst.isLeapYear() && marchFirst.isBefore(next) ? marchFirst : next;
+    }
+
+    private LocalDate nextSeasonStart(int season, int year) {
+        int dayOfYear = season + 1 < seasonStarts.length ? seasonStarts[season + 1] : seasonStarts[0];
+        if (season + 1 == seasonStarts.length) year++;
+
+        LocalDate day = LEAP_YEAR_START.plusDays(dayOfYear);
+        // in the years without February 29, what starts on it starts on March 1
+        if (day.getMonthValue() == 2 && day.getDayOfMonth() == 29 && !Year.isLeap(year))
+            return LocalDate.of(year, 3, 1);
+        return LocalDate.of(year, day.getMonthValue(), day.getDayOfMonth());
+    }
+
+    /**
+     * @return the number of seasons, <tt>1</tt> when parking does not depend on the day of the year
+     */
+    public int getSeasonCount() {
+        return seasonStarts.length;
+    }
+
+    @Override
+    public String toString() {
+        return "RpaSignDescTimeline{" +
+                "seasonStarts=" + Arrays.toString(seasonStarts) +
+                ", transitions=" + Arrays.deepToString(transitions) +
+                '}';
+    }
+}
@@ -0,0 +1,70 @@
+package org.jroadsign.canada.quebec.montreal.rpasign.rpasigndesc;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * @author - <a href="https://github.com/muhamm-ad">muhamm-ad</a>
+ * @project JRoadSign
+ * @description The values equal to each other shared through {@link #intern(Object)}, held weakly: a value stays
+ *         interned as long as something else uses it, and its entry is dropped once the garbage collector clears it,
+ *         so a dataset reloaded does not keep the values of the datasets before it. It is thread-safe.
+ */
+final class WeakInterner<T> {
+
+    private final ConcurrentHashMap<Key<T>, Key<T>> interned = new ConcurrentHashMap<>();
+    private final ReferenceQueue<T> cleared = new ReferenceQueue<>();
+
+    /**
+     * @return the value equal to the given one shared by all the interned values, the given one if there is none
+     */
+    @NotNull T intern(@NotNull T value) {
+        expunge();
+        Key<T> key = new Key<>(value, cleared);
+        while (true) {
+            Key<T> existing = interned.putIfAbsent(key, key);
+            if (existing == null) return value;
+            T shared = existing.get();
+            if (shared != null) return shared;
+            interned.remove(existing, existing);
+        }
+    }
+
+    /**
+     * @return the number of distinct values interned and still in use
+     */
+    int size() {
+        expunge();
+        return interned.size();
+    }
+
+    private void expunge() {
+        for (Object key; (key = cleared.poll()) != null; ) interned.remove(key, key);
+    }
+
+    private static final class Key<T> extends WeakReference<T> {
+
+        private final int hash;
+
+        Key(T value, ReferenceQueue<T> queue) {
+            super(value, queue);
+            hash = value.hashCode();
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Key<?> that) || hash != that.hash) return false;
+            Object value = get();
+            return value != null && value.equals(that.get());
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
@@ -0,0 +1,173 @@
+package org.jroadsign.canada.quebec.montreal.rpasign.rpasigndesc;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+
+/**
+ * @author - <a href="https://github.com/muhamm-ad">muhamm-ad</a>
+ * @project JRoadSign
+ * @description The minutes of a week, from Monday 00:00, at which something holds (e.g. parking is allowed), one
+ *         bit per minute or per 5 minutes. A bit of 5 minutes holds what holds at its first minute. A bitmap is
+ *         immutable; combining bitmaps works on whole words, and {@link #intern()} shares equal bitmaps for as long
+ *         as one of them is in use.
+ */
+public final class WeeklyBitmap {
+
+    public static final int MINUTES_PER_WEEK = 7 * RpaSignDescRule.MINUTES_PER_DAY;
+
+    private static final WeakInterner<WeeklyBitmap> INTERNED = new WeakInterner<>();
+    private static final WeeklyBitmap FULL_1 = newFull(1);
+    private static final WeeklyBitmap FULL_5 = newFull(5);
+
+    private final int resolution;
+    private final long[] words;
+    private final int hash;
+
+    WeeklyBitmap(int resolution, long[] words) {
+        this.resolution = resolution;
+        this.words = words;
+        this.hash = 31 * resolution + Arrays.hashCode(words);
+    }
+
+    /**
+     * @param resolution the minutes of a bit, <tt>1</tt> or <tt>5</tt>
+     * @return the bitmap with every bit set
+     */
+    public static @NotNull WeeklyBitmap full(int resolution) {
+        if (resolution == 1) return FULL_1;
+        return resolution == 5 ? FULL_5 : newFull(resolution);
+    }
+
+    private static WeeklyBitmap newFull(int resolution) {
+        long[] words = newWords(resolution);
+        set(words, resolution, 0, MINUTES_PER_WEEK);
+        return new WeeklyBitmap(resolution, words).intern();
+    }
+
+    /**
+     * @throws IllegalArgumentException if the resolution is neither <tt>1</tt> nor <tt>5</tt>
+     */
+    static long[] newWords(int resolution) {
+        if (resolution != 1 && resolution != 5)
+            throw new IllegalArgumentException("Invalid resolution: " + resolution + " (expected 1 or 5 minutes)");
+        return new long[(MINUTES_PER_WEEK / resolution + 63) / 64];
+    }
+
+    /**
+     * Sets the bits whose first minute of the week is in [<tt>from</tt>, <tt>to</tt>).
+     */
+    static void set(long[] words, int resolution, int from, int to) {
+        int fromBit = (from + resolution - 1) / resolution;
+        int toBit = (to + resolution - 1) / resolution;
+        if (fromBit >= toBit) return;
+
+        int fromWord = fromBit >>> 6;
+        int toWord = (toBit - 1) >>> 6;
+        long fromMask = -1L << fromBit;
+        long toMask = -1L >>> -toBit;
+        if (fromWord == toWord) {
+            words[fromWord] |= fromMask & toMask;
+            return;
+        }
+        words[fromWord] |= fromMask;
+        for (int word = fromWord + 1; word < toWord; word++) words[word] = -1L;
+        words[toWord] |= toMask;
+    }
+
+    /**
+     * @return the minutes of a bit
+     */
+    public int getResolution() {
+        return resolution;
+    }
+
+    /**
+     * @param minuteOfWeek the minute of the week, from <tt>0</tt> for Monday 00:00
+     */
+    public boolean get(int minuteOfWeek) {
+        int bit = minuteOfWeek / resolution;
+        return (words[bit >>> 6] & 1L << bit) != 0;
+    }
+
+    public boolean get(@NotNull LocalDateTime dateTime) {
+        return get(minuteOfWeek(dateTime));
+    }
+
+    static int minuteOfWeek(LocalDateTime dateTime) {
+        return dateTime.getDayOfWeek().ordinal() * RpaSignDescRule.MINUTES_PER_DAY
+                + dateTime.getHour() * 60 + dateTime.getMinute();
+    }
+
+    /**
+     * @return the number of minutes of the week set
+     */
+    public int getMinuteCount() {
+        int count = 0;
+        for (long word : words) count += Long.bitCount(word);
+        return count * resolution;
+    }
+
+    public @NotNull WeeklyBitmap and(@NotNull WeeklyBitmap other) {
+        checkResolution(other);
+        long[] result = new long[words.length];
+        for (int i = 0; i < words.length; i++) result[i] = words[i] & other.words[i];
+        return new WeeklyBitmap(resolution, result);
+    }
+
+    public @NotNull WeeklyBitmap or(@NotNull WeeklyBitmap other) {
+        checkResolution(other);
+        long[] result = new long[words.length];
+        for (int i = 0; i < words.length; i++) result[i] = words[i] | other.words[i];
+        return new WeeklyBitmap(resolution, result);
+    }
+
+    public @NotNull WeeklyBitmap not() {
+        long[] result = new long[words.length];
+        for (int i = 0; i < words.length; i++) result[i] = ~words[i];
+        // the bits after the end of the week stay clear
+        int bitCount = MINUTES_PER_WEEK / resolution;
+        if (bitCount % 64 != 0) result[result.length - 1] &= (1L << bitCount) - 1;
+        return new WeeklyBitmap(resolution, result);
+    }
+
+    private void checkResolution(WeeklyBitmap other) {
+        if (other.resolution != resolution)
+            throw new IllegalArgumentException("Resolutions differ: " + resolution + " and " + other.resolution);
+    }
+
+    /**
+     * @return the bitmap equal to this one shared by all the interned bitmaps
+     */
+    public @NotNull WeeklyBitmap intern() {
+        return INTERNED.intern(this);
+    }
+
+    /**
+     * @return the number of distinct bitmaps interned and still in use
+     */
+    public static int getInternedCount() {
+        return INTERNED.size();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof WeeklyBitmap that)) return false;
+        return resolution == that.resolution && hash == that.hash && Arrays.equals(words, that.words);
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+
+    @Override
+    public String toString() {
+        return "WeeklyBitmap{" +
+                "resolution=" + resolution +
+                ", minuteCount=" + getMinuteCount() +
+                '}';
+    }
+}
@@ -0,0 +1,184 @@
+package org.jroadsign.canada.quebec.montreal.rpasign.rpasigndesc.common;
+
+import org.jroadsign.canada.quebec.montreal.rpasign.rpasigndesc.RoadSignDescCleaner;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * @author - <a href="https://github.com/muhamm-ad">muhamm-ad</a>
+ * @project JRoadSign
+ * @description Registry of the regular expressions used to clean and parse the RPA descriptions, each compiled once
+ *         when the class is loaded instead of on every description (or every <tt>String.replaceAll</tt> call).
+ *         {@link #matcher(Pattern, CharSequence)} hands out one {@link Matcher} per pattern of the registry and per
+ *         thread, reset on the new input; {@link #release(Matcher...)} resets it on an empty input once used, so that it
+ *         does not keep the last description alive.
+ */
+public class GlobalPatterns {
+
+    private GlobalPatterns() {
+    }
+
+    private static final int CASE_INSENSITIVE = Pattern.CASE_INSENSITIVE | Pattern.UNICODE_CASE;
+
+    private static final List<Pattern> PATTERNS = new ArrayList<>();
+
+    // index of each pattern of the registry in PATTERNS and in the matchers of a thread
+    private static final Map<Pattern, Integer> INDEXES = new IdentityHashMap<>();
+
+    private static final ThreadLocal<Matcher[]> MATCHERS = ThreadLocal.withInitial(() -> new Matcher[PATTERNS.size()]);
+
+    private static Pattern compile(String regex, int flags) {
+        Pattern pattern = Pattern.compile(regex, flags);
+        INDEXES.put(pattern, PATTERNS.size());
+        PATTERNS.add(pattern);
+        return pattern;
+    }
+
+    private static Pattern compile(String regex) {
+        return compile(regex, 0);
+    }
+
+
+    /******************************************** Common **********************************************/
+    public static final Pattern WHITESPACES = compile("\\s+");
+    public static final Pattern SPACES = compile(" +");
+    // the cleaning leaves some rules separated by a semicolon, e.g. "\P 9H-17H; \P 60 MIN"
+    public static final Pattern RULE_SEPARATOR = compile(
+            Pattern.quote(RoadSignDescCleaner.RULE_SEPARATOR) + "|\\s*;\\s*(?=\\\\P(\\s|$))");
+
+
+    /******************************************** RpaSignDescRuleParser *******************************/
+    public static final Pattern NON_ALPHANUMERIC = compile("[^\\p{L}\\p{N}\\s]");
+    public static final Pattern DIMENSIONS = compile("(\\d+)\\s*X\\s*(\\d+)");
+    public static final Pattern TRAILING_DE = compile("\\s+DE\\s*$");
+    public static final Pattern TRAILING_DU = compile("\\s+DU\\s*$");
+    public static final Pattern LEADING_DE = compile("^\\s*DE\\s+");
+    public static final Pattern LEADING_DU = compile("^\\s*DU\\s+");
+    public static final Pattern LEADING_ET = compile("^\\s*ET\\s+");
+    public static final Pattern TRAILING_MAX = compile("\\s*MAX\\s*$");
+
+
+    /******************************************** RoadSignDescCleaner *********************************/
+    private static final String CLEANER_TIME = "\\d{1,2}\\s*H\\s*(?:\\d{1,2})?";
+    private static final String CLEANER_DAY = "(" + GlobalConfigs.WEEKLY_DAYS_PATTERN + ")";
+    private static final String CLEANER_DAY_MONTH =
+            GlobalConfigs.TWO_DIGIT + "\\s*(?:" + GlobalConfigs.ANNUAL_MONTH_PATTERN + ")";
+    private static final String CLEANER_MONTH_DAY =
+            "(?:" + GlobalConfigs.ANNUAL_MONTH_PATTERN + ")\\s*" + GlobalConfigs.TWO_DIGIT;
+    private static final String CLEANER_MONTH_INTERVAL =
+            "(?:" + CLEANER_DAY_MONTH + "\\s*(?:AU?)\\s*" + CLEANER_DAY_MONTH + ")|(?:"
+                    + CLEANER_MONTH_DAY + "\\s*(?:AU?)\\s*" + CLEANER_MONTH_DAY + ")";
+    private static final String CLEANER_DAY_INTERVAL =
+            "(?:" + GlobalConfigs.WEEKLY_DAYS_PATTERN + ")\\s*(?:AU?)\\s*(?:" + GlobalConfigs.WEEKLY_DAYS_PATTERN + ")";
+    private static final String CLEANER_TIME_RANGE = CLEANER_TIME + "\\s*(?:À|A)\\s*" + CLEANER_TIME;
+    private static final String CLEANER_DAYS = "(?:(?:" + GlobalConfigs.WEEKLY_DAYS_PATTERN + ")\\s*)+";
+
+    public static final Pattern DURATION_PREFIX = compile("(\\d+\\s*MIN)(?:\\s*-\\s*)?", CASE_INSENSITIVE);
+    // ex : "17H MAR À 17H MER"
+    public static final Pattern TIME_DAY_TO_TIME_DAY = compile(
+            "(" + CLEANER_TIME + ")\\s*" + CLEANER_DAY + "\\s*(?:AU?)\\s*(" + CLEANER_TIME + ")\\s*" + CLEANER_DAY,
+            CASE_INSENSITIVE);
+    // ex : "LUN 17H À MAR 17H"
+    public static final Pattern DAY_TIME_TO_DAY_TIME = compile(
+            CLEANER_DAY + "\\s*(" + CLEANER_TIME + ")\\s*(?:À|A)\\s*" + CLEANER_DAY + "\\s*(" + CLEANER_TIME + ")",
+            CASE_INSENSITIVE);
+    // ex : "23H30-00H30 MAR A MER; VEN A SAM 1 MARS AU 1 DEC"
+    public static final Pattern TIME_DAY_INTERVALS_MONTHS = compile(
+            "^(" + CLEANER_TIME + "\\s*(?:-|A)" + CLEANER_TIME + ")\\s*(" + CLEANER_DAY_INTERVAL + "\\s*(?:;|,)\\s*"
+                    + CLEANER_DAY_INTERVAL + ")\\s*(" + CLEANER_MONTH_INTERVAL + ")\\s*", CASE_INSENSITIVE);
+    // ex : "\P 23H30-00H30 MAR A MER 1 MARS AU 1 DEC"
+    public static final Pattern TIME_DAY_INTERVAL_MONTHS = compile(
+            "(?:\\\\P)?\\s*(" + CLEANER_TIME + ")\\s*(?:-|A)(" + CLEANER_TIME + ")\\s*"
+                    + "(" + GlobalConfigs.WEEKLY_DAYS_PATTERN + ")\\s*(?:AU?)\\s*(" + GlobalConfigs.WEEKLY_DAYS_PATTERN
+                    + ")\\s*(" + CLEANER_MONTH_INTERVAL + ")", CASE_INSENSITIVE);
+    public static final Pattern OPTIONALLY_SPACED_DASH = compile("(\\s)?-(\\s)?");
+    // ex : "8H À 12H LUN MER VEN" or "MAR JEU 8H À 12H"
+    public static final Pattern TIME_RANGE_DAYS = compile(
+            "(" + CLEANER_TIME_RANGE + "\\s*" + CLEANER_DAYS + ")|(" + CLEANER_DAYS + "\\s*" + CLEANER_TIME_RANGE + ")",
+            CASE_INSENSITIVE);
+    public static final Pattern LETTER_NUMBER = compile("(\\p{L})(\\d)");
+    public static final Pattern DAY_MONTH_STUCK = compile(
+            "\\b((" + GlobalConfigs.TWO_DIGIT + ")(" + GlobalConfigs.ANNUAL_MONTH_PATTERN + ")|("
+                    + GlobalConfigs.ANNUAL_MONTH_PATTERN + ")(" + GlobalConfigs.TWO_DIGIT + "))\\b", CASE_INSENSITIVE);
+
+
+    /**
+     * Returns the matcher of the given pattern for the current thread, reset on the given input. It is shared by
+     * every caller on the thread, so it must not be kept once another call may use the same pattern, and should be
+     * given back to {@link #release(Matcher...)} once used.
+     *
+     * @param pattern a pattern of this registry (any other pattern gets a new matcher, which is not cached)
+     * @param input   the character sequence to be matched
+     * @return the matcher, reset on <tt>input</tt>
+     */
+    public static Matcher matcher(Pattern pattern, CharSequence input) {
+        Integer index = INDEXES.get(pattern);
+        if (index == null) return pattern.matcher(input);
+
+        Matcher[] matchers = MATCHERS.get();
+        Matcher matcher = matchers[index];
+        if (matcher == null) {
+            matcher = pattern.matcher(input);
+            matchers[index] = matcher;
+            return matcher;
+        }
+        return matcher.reset(input);
+    }
+
+    /**
+     * Resets the matchers on an empty input, so that the matchers of the thread do not keep their last input.
+     */
+    public static void release(Matcher... matchers) {
+        for (Matcher matcher : matchers) matcher.reset("");
+    }
+
+    /**
+     * Same as <tt>input.replaceAll(regex, replacement)</tt>, with the precompiled pattern and the thread's matcher.
+     */
+    public static String replaceAll(String input, Pattern pattern, String replacement) {
+        Matcher matcher = matcher(pattern, input);
+        String result = matcher.replaceAll(replacement);
+        release(matcher);
+        return result;
+    }
+
+    /**
+     * Same as <tt>input.replaceFirst(regex, replacement)</tt>, with the precompiled pattern and the thread's matcher.
+     */
+    public static String replaceFirst(String input, Pattern pattern, String replacement) {
+        Matcher matcher = matcher(pattern, input);
+        String result = matcher.replaceFirst(replacement);
+        release(matcher);
+        return result;
+    }
+
+    /**
+     * @return all the patterns of the registry
+     */
+    public static List<Pattern> getPatterns() {
+        return Collections.unmodifiableList(PATTERNS);
+    }
+
+    /**
+     * Loads the registry, which compiles all its patterns, and runs each of them once on the current thread so that
+     * the first descriptions do not pay for the compilation nor for the creation of the matchers. The matchers
+     * belong to the thread: each thread parsing descriptions (e.g. each worker of a pool) warms up on its own.
+     *
+     * @return the number of patterns of the registry
+     */
+    public static int warmUp() {
+        String sample = "\\P 60 MIN 9H-17H LUN AU VEN 1 AVRIL AU 1 DEC";
+        for (Pattern pattern : PATTERNS) {
+            Matcher matcher = matcher(pattern, sample);
+            matcher.find();
+            release(matcher);
+        }
+        return PATTERNS.size();
+    }
+}
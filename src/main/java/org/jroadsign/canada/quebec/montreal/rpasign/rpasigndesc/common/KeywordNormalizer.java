@@ -0,0 +1,241 @@
+package org.jroadsign.canada.quebec.montreal.rpasign.rpasigndesc.common;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+
+/**
+ * @author - <a href="https://github.com/muhamm-ad">muhamm-ad</a>
+ * @project JRoadSign
+ * @description Rewrites a set of keywords (e.g. <tt>LUNDI</tt> and <tt>LUN</tt> into <tt>LUN</tt>) in one pass over a
+ *         string, with an Aho-Corasick automaton compiled from the keywords. Where keywords overlap, the leftmost
+ *         match wins, then the longest one, so the result never depends on the order of the keywords. With word
+ *         boundaries, a keyword is only rewritten when it is not preceded nor followed by a word character
+ *         (<tt>[A-Za-z0-9_]</tt>, as the <tt>\b</tt> of the regular expressions), e.g. <tt>MARDI</tt> and
+ *         <tt>MAR</tt> are rewritten but <tt>MARS</tt> is not.
+ */
+public class KeywordNormalizer {
+
+    private static final int ALPHABET_SIZE = 128;
+
+    /**
+     * French day names, with or without their abbreviation, rewritten into their abbreviation on word boundaries
+     */
+    public static final KeywordNormalizer WEEKLY_DAYS = new KeywordNormalizer(Map.ofEntries(
+            Map.entry(GlobalConfigs.MONDAY, GlobalConfigs.MONDAY),
+            Map.entry("LUNDI", GlobalConfigs.MONDAY),
+            Map.entry(GlobalConfigs.TUESDAY, GlobalConfigs.TUESDAY),
+            Map.entry("MARDI", GlobalConfigs.TUESDAY),
+            Map.entry(GlobalConfigs.WEDNESDAY, GlobalConfigs.WEDNESDAY),
+            Map.entry("MERCREDI", GlobalConfigs.WEDNESDAY),
+            Map.entry(GlobalConfigs.THURSDAY, GlobalConfigs.THURSDAY),
+            Map.entry("JEUDI", GlobalConfigs.THURSDAY),
+            Map.entry(GlobalConfigs.FRIDAY, GlobalConfigs.FRIDAY),
+            Map.entry("VENDREDI", GlobalConfigs.FRIDAY),
+            Map.entry(GlobalConfigs.SATURDAY, GlobalConfigs.SATURDAY),
+            Map.entry("SAMEDI", GlobalConfigs.SATURDAY),
+            Map.entry(GlobalConfigs.SUNDAY, GlobalConfigs.SUNDAY),
+            Map.entry("DIMANCHE", GlobalConfigs.SUNDAY)), true);
+
+    /**
+     * French month names of {@link GlobalConfigs#ANNUAL_MONTH_ABBREVIATIONS_MAP}, rewritten into their abbreviation
+     * surrounded by spaces. There is no word boundary, so that months stuck to a day or a delimiter (e.g.
+     * <tt>1JANVIER AU</tt> or <tt>SEPTAU</tt>) are split from it.
+     */
+    public static final KeywordNormalizer ANNUAL_MONTHS = new KeywordNormalizer(Map.ofEntries(
+            Map.entry("JAN", " " + GlobalConfigs.JANUARY + " "),
+            Map.entry("JANV", " " + GlobalConfigs.JANUARY + " "),
+            Map.entry("JANVIER", " " + GlobalConfigs.JANUARY + " "),
+            Map.entry("FEV", " " + GlobalConfigs.FEBRUARY + " "),
+            Map.entry("FEVRIER", " " + GlobalConfigs.FEBRUARY + " "),
+            Map.entry("AVR", " " + GlobalConfigs.APRIL + " "),
+            Map.entry("AVRIL", " " + GlobalConfigs.APRIL + " "),
+            Map.entry("JUIL", " " + GlobalConfigs.JULY + " "),
+            Map.entry("JUILLET", " " + GlobalConfigs.JULY + " "),
+            Map.entry("SEPT", " " + GlobalConfigs.SEPTEMBER + " "),
+            Map.entry("SEPTEMBRE", " " + GlobalConfigs.SEPTEMBER + " "),
+            Map.entry("OCT", " " + GlobalConfigs.OCTOBER + " "),
+            Map.entry("OCTOBRE", " " + GlobalConfigs.OCTOBER + " "),
+            Map.entry("NOV", " " + GlobalConfigs.NOVEMBER + " "),
+            Map.entry("NOVEMBRE", " " + GlobalConfigs.NOVEMBER + " "),
+            Map.entry("DEC", " " + GlobalConfigs.DECEMBER + " "),
+            Map.entry("DECEMBRE", " " + GlobalConfigs.DECEMBER + " ")), false);
+
+    /**
+     * Misspelled month and day names found in the descriptions, corrected anywhere in a word. <tt>MRSL</tt> is the
+     * <tt>MRS</tt> of a misspelled <tt>MARSL</tt>.
+     */
+    public static final KeywordNormalizer SPELLING_CORRECTIONS = new KeywordNormalizer(Map.ofEntries(
+            Map.entry("AVIL", GlobalConfigs.APRIL),
+            Map.entry("AVRILS", GlobalConfigs.APRIL),
+            Map.entry("MRS", GlobalConfigs.MARCH),
+            Map.entry("MARSL", GlobalConfigs.MARCH),
+            Map.entry("MRSL", GlobalConfigs.MARCH),
+            Map.entry("VEMDREDI", GlobalConfigs.FRIDAY)), false);
+
+    private final Map<String, String> keywords;
+    private final boolean wordBounded;
+    // goto function of the automaton: the state reached from a state (row) with an ASCII character (column)
+    private final int[][] transitions;
+    // length of the prefix of a keyword each state stands for
+    private final int[] depths;
+    // replacement of the keyword ending at each state, or null
+    private final String[] replacements;
+    // longest proper suffix of each state that ends a keyword, or -1
+    private final int[] outputLinks;
+
+    /**
+     * @param keywords    the keywords, in ASCII, with their replacement
+     * @param wordBounded if <tt>true</tt>, a keyword is only rewritten between word boundaries
+     * @throws IllegalArgumentException if a keyword is empty or not in ASCII
+     */
+    public KeywordNormalizer(@NotNull Map<String, String> keywords, boolean wordBounded) {
+        this.keywords = Map.copyOf(keywords);
+        this.wordBounded = wordBounded;
+
+        List<int[]> trie = new ArrayList<>();
+        List<Integer> trieDepths = new ArrayList<>();
+        Map<Integer, String> keywordReplacements = new HashMap<>();
+        trie.add(newState());
+        trieDepths.add(0);
+        for (Map.Entry<String, String> entry : keywords.entrySet()) {
+            String keyword = entry.getKey();
+            if (keyword.isEmpty()) throw new IllegalArgumentException("Empty keyword");
+            int state = 0;
+            for (int i = 0; i < keyword.length(); i++) {
+                char c = keyword.charAt(i);
+                if (c >= ALPHABET_SIZE) throw new IllegalArgumentException("Keyword not in ASCII: " + keyword);
+                if (trie.get(state)[c] < 0) {
+                    trie.get(state)[c] = trie.size();
+                    trie.add(newState());
+                    trieDepths.add(i + 1);
+                }
+                state = trie.get(state)[c];
+            }
+            keywordReplacements.put(state, entry.getValue());
+        }
+
+        int size = trie.size();
+        this.transitions = trie.toArray(new int[0][]);
+        this.depths = new int[size];
+        this.replacements = new String[size];
+        this.outputLinks = new int[size];
+        for (int state = 0; state < size; state++) {
+            depths[state] = trieDepths.get(state);
+            replacements[state] = keywordReplacements.get(state);
+        }
+
+        // Breadth-first, turn the trie into the automaton: a missing transition follows the failure link
+        int[] failures = new int[size];
+        outputLinks[0] = -1;
+        Queue<Integer> queue = new ArrayDeque<>();
+        for (int c = 0; c < ALPHABET_SIZE; c++) {
+            int next = transitions[0][c];
+            if (next < 0) {
+                transitions[0][c] = 0;
+            } else {
+                failures[next] = 0;
+                outputLinks[next] = -1;
+                queue.add(next);
+            }
+        }
+        while (!queue.isEmpty()) {
+            int state = queue.poll();
+            for (int c = 0; c < ALPHABET_SIZE; c++) {
+                int next = transitions[state][c];
+                if (next < 0) {
+                    transitions[state][c] = transitions[failures[state]][c];
+                    continue;
+                }
+                int failure = transitions[failures[state]][c];
+                failures[next] = failure;
+                outputLinks[next] = replacements[failure] != null ? failure : outputLinks[failure];
+                queue.add(next);
+            }
+        }
+    }
+
+    /**
+     * @return the replacement of the keyword, or <tt>null</tt> if the word is not a keyword
+     */
+    public String getReplacement(@NotNull String word) {
+        return keywords.get(word);
+    }
+
+    /**
+     * @return the keywords, unmodifiable
+     */
+    public @NotNull Set<String> getKeywords() {
+        return keywords.keySet();
+    }
+
+    private static int[] newState() {
+        int[] state = new int[ALPHABET_SIZE];
+        Arrays.fill(state, -1);
+        return state;
+    }
+
+    private static boolean isWordCharacter(char c) {
+        return (c >= 'A' && c <= 'Z') || (c >= 'a' && c <= 'z') || (c >= '0' && c <= '9') || c == '_';
+    }
+
+    private boolean isBounded(String text, int start, int end) {
+        return !wordBounded || ((start == 0 || !isWordCharacter(text.charAt(start - 1)))
+                && (end == text.length() || !isWordCharacter(text.charAt(end))));
+    }
+
+    /**
+     * Rewrites every keyword of the given text into its replacement, in one pass.
+     *
+     * @param text the text to normalize
+     * @return the normalized text, or <tt>text</tt> itself if it has no keyword
+     */
+    public @NotNull String normalize(@NotNull String text) {
+        StringBuilder normalized = null;
+        int copied = 0;
+        int state = 0;
+        int matchStart = -1;
+        int matchEnd = -1;
+        String matchReplacement = null;
+
+        int i = 0;
+        while (i < text.length()) {
+            char c = text.charAt(i);
+            state = c < ALPHABET_SIZE ? transitions[state][c] : 0;
+            i++;
+
+            // Every keyword ending here: the state itself, then its suffixes, from the longest to the shortest
+            int output = replacements[state] != null ? state : outputLinks[state];
+            for (; output >= 0; output = outputLinks[output]) {
+                int start = i - depths[output];
+                if (matchStart >= 0 && start > matchStart) break;
+                if (!isBounded(text, start, i)) continue;
+                // ends are visited in increasing order, so a match starting at the same place is longer
+                matchStart = start;
+                matchEnd = i;
+                matchReplacement = replacements[output];
+            }
+
+            // The match is final once no later match can start before or where it does
+            if (matchStart >= 0 && (i - depths[state] > matchStart || i == text.length())) {
+                if (normalized == null) normalized = new StringBuilder(text.length() + 16);
+                normalized.append(text, copied, matchStart).append(matchReplacement);
+                copied = matchEnd;
+                // Start over after the match, as no other match may overlap it
+                i = matchEnd;
+                state = 0;
+                matchStart = -1;
+            }
+        }
+
+        if (normalized == null) return text;
+        return normalized.append(text, copied, text.length()).toString();
+    }
+}
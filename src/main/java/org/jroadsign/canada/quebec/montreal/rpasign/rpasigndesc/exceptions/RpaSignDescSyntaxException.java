@@ -0,0 +1,29 @@
+package org.jroadsign.canada.quebec.montreal.rpasign.rpasigndesc.exceptions;
+
+/**
+ * A rule outside the grammar of the descriptions. It has no stack trace: the rule and the position tell where the
+ * error is.
+ */
+public class RpaSignDescSyntaxException extends Exception {
+    private static final long serialVersionUID = 1L;
+
+    private final String rule;
+    private final int position;
+
+    public RpaSignDescSyntaxException(String message, String rule, int position) {
+        super(message + " at position " + position + " in `" + rule + "`", null, false, false);
+        this.rule = rule;
+        this.position = position;
+    }
+
+    public String getRule() {
+        return rule;
+    }
+
+    /**
+     * @return the offset of the offending character in the rule
+     */
+    public int getPosition() {
+        return position;
+    }
+}
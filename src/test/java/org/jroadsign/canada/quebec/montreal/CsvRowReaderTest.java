@@ -0,0 +1,57 @@
+package org.jroadsign.canada.quebec.montreal;
+
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author - <a href="https://github.com/muhamm-ad">muhamm-ad</a>
+ * @project JRoadSign
+ */
+public class CsvRowReaderTest {
+
+    @Test
+    public void whenQuotedFields_thenDelimitersQuotesAndLineBreaksArePreserved() throws IOException {
+        CsvRowReader reader = new CsvRowReader(new StringReader(
+                "\uFEFFPOTEAU_ID_POT,DESCRIPTION_RPA\r\n" +
+                        "1,\"\\P 9H-17H LUN, MER ET VEN\"\r\n" +
+                        "2,\"STAT. INT. \"\"JOURS D'ÉCOLE\"\"\nÉTÉ\"\n" +
+                        "3,\n"), ',');
+
+        assertTrue(reader.nextRow());
+        assertEquals("POTEAU_ID_POT", reader.getString(0));
+
+        assertTrue(reader.nextRow());
+        assertEquals(1, reader.getLong(0));
+        assertEquals("\\P 9H-17H LUN, MER ET VEN", reader.getString(1));
+
+        assertTrue(reader.nextRow());
+        assertEquals(2, reader.getLong(0));
+        assertEquals("STAT. INT. \"JOURS D'ÉCOLE\"\nÉTÉ", reader.getString(1));
+
+        assertTrue(reader.nextRow());
+        assertEquals(2, reader.getFieldCount());
+        assertNull(reader.getString(1));
+
+        assertFalse(reader.nextRow());
+    }
+
+    @Test
+    public void whenNumericFields_thenParsedFromBuffer() throws IOException {
+        CsvRowReader reader = new CsvRowReader(new StringReader("-12,12.0,45.5,abc,-7.,12.5,12.05,1.0e3"), ',');
+
+        assertTrue(reader.nextRow());
+        assertEquals(-12, reader.getLong(0));
+        assertEquals(12, reader.getInt(1));
+        assertEquals(45.5, reader.getDouble(2), 0);
+        assertThrows(NumberFormatException.class, () -> reader.getLong(3));
+        assertEquals(-7, reader.getLong(4));
+        assertThrows(NumberFormatException.class, () -> reader.getLong(5));
+        assertThrows(NumberFormatException.class, () -> reader.getLong(6));
+        assertThrows(NumberFormatException.class, () -> reader.getLong(7));
+        assertThrows(NumberFormatException.class, () -> reader.getLong(8));
+    }
+}
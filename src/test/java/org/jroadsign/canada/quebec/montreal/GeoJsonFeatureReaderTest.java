@@ -0,0 +1,101 @@
+package org.jroadsign.canada.quebec.montreal;
+
+import org.json.JSONArray;
+import org.json.JSONException;
+import org.json.JSONObject;
+import org.junit.Test;
+
+import java.io.StringReader;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author - <a href="https://github.com/muhamm-ad">muhamm-ad</a>
+ * @project JRoadSign
+ */
+public class GeoJsonFeatureReaderTest {
+
+    private static final String COLLECTION = "{\"type\": \"FeatureCollection\", \"name\": \"signalisation\"," +
+            " \"crs\": {\"type\": \"name\", \"properties\": {\"name\": \"urn:ogc:def:crs:OGC:1.3:CRS84\"}}," +
+            " \"features\": [" +
+            "{\"type\": \"Feature\", \"properties\": {\"POTEAU_ID_POT\": 1, \"DESCRIPTION_RPA\": \"\\\\P 9H-17H\"}," +
+            " \"geometry\": {\"type\": \"Point\", \"coordinates\": [-73.5, 45.5]}}, " +
+            "{\"type\": \"Feature\", \"properties\": {\"POTEAU_ID_POT\": 2, \"DESCRIPTION_RPA\": null}," +
+            " \"geometry\": null}" +
+            "], \"bbox\": [0, 0, 0, 0]}";
+
+    private static GeoJsonFeatureReader reader(String json) {
+        return new GeoJsonFeatureReader(new StringReader(json), "features", "properties");
+    }
+
+    private static int readAll(String json) {
+        GeoJsonFeatureReader reader = reader(json);
+        int count = 0;
+        while (reader.nextFeature() != null) count++;
+        return count;
+    }
+
+    @Test
+    public void whenFeatures_thenSameAsWholeDocument() {
+        JSONArray features = new JSONObject(COLLECTION).getJSONArray("features");
+        GeoJsonFeatureReader reader = reader(COLLECTION);
+
+        for (int i = 0; i < features.length(); i++) {
+            JSONObject properties = reader.nextProperties();
+            assertNotNull(properties);
+            assertTrue(features.getJSONObject(i).getJSONObject("properties").similar(properties));
+        }
+        assertNull(reader.nextProperties());
+        assertNull(reader.nextProperties());
+    }
+
+    @Test
+    public void whenFeaturesKeyIsNotFirst_thenPreviousMembersAreSkipped() {
+        GeoJsonFeatureReader reader = reader(
+                "{\"crs\": {\"features\": [1]}, \"other\": [{}, \"]\"], \"features\": [{\"properties\": {\"a\": 1}}]}");
+
+        assertEquals(1, reader.nextProperties().getInt("a"));
+        assertNull(reader.nextProperties());
+    }
+
+    @Test
+    public void whenEmptyFeatures_thenNoFeature() {
+        assertNull(reader("{\"type\": \"FeatureCollection\", \"features\": []}").nextFeature());
+        assertNull(reader("{\"type\": \"FeatureCollection\", \"features\": [ ]}").nextFeature());
+    }
+
+    @Test
+    public void whenNoFeatures_thenNoFeature() {
+        assertNull(reader("{\"type\": \"FeatureCollection\"}").nextFeature());
+        assertNull(reader("{}").nextFeature());
+    }
+
+    @Test
+    public void whenMissingComma_thenSyntaxError() {
+        GeoJsonFeatureReader reader = reader("{\"features\": [{\"properties\": {}}{\"properties\": {}}]}");
+
+        assertNotNull(reader.nextFeature());
+        assertThrows(JSONException.class, reader::nextFeature);
+    }
+
+    @Test
+    public void whenMisplacedComma_thenSyntaxError() {
+        assertThrows(JSONException.class, () -> reader("{\"features\": [,{\"properties\": {}}]}").nextFeature());
+
+        GeoJsonFeatureReader trailing = reader("{\"features\": [{\"properties\": {}},]}");
+        assertNotNull(trailing.nextFeature());
+        assertThrows(JSONException.class, trailing::nextFeature);
+    }
+
+    @Test
+    public void whenMalformed_thenSyntaxError() {
+        assertThrows(JSONException.class, () -> readAll("[]"));
+        assertThrows(JSONException.class, () -> readAll("{\"features\": {}}"));
+        assertThrows(JSONException.class, () -> readAll("{\"features\": [1]}"));
+        assertThrows(JSONException.class, () -> readAll("{\"features\": [{\"properties\": {}}"));
+        assertThrows(JSONException.class, () -> readAll("{\"type\" \"FeatureCollection\"}"));
+        assertThrows(JSONException.class, () -> readAll("{\"type\": \"FeatureCollection\""));
+        assertThrows(JSONException.class, () -> readAll("{, \"features\": []}"));
+        assertThrows(JSONException.class, () -> readAll("{\"type\": 1 \"features\": []}"));
+    }
+}
@@ -0,0 +1,88 @@
+package org.jroadsign.canada.quebec.montreal;
+
+import org.jroadsign.canada.quebec.montreal.rpasign.RpaSignCode;
+import org.jroadsign.common.Coordinate;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TreeMap;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author - <a href="https://github.com/muhamm-ad">muhamm-ad</a>
+ * @project JRoadSign
+ */
+public class MappedRoadPostStoreTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private static TreeMap<Long, RoadPost> roadPosts() {
+        List<RoadSign> signs1 = new ArrayList<>();
+        signs1.add(new RoadSign(2, 11, new RpaSign(1011, "SD-TT", "\\P 22h-06h 1 AVRIL AU 30 NOV"), 3,
+                null, "STATIONNEMENT", "Réel"));
+        signs1.add(new RoadSign(1, 10, new RpaSign(1010, "SB-AA", "\\P 09h-17h LUN AU VEN"), 2,
+                "RUE X", "STATIONNEMENT", "Enlevé"));
+        List<RoadSign> signs2 = new ArrayList<>();
+        signs2.add(new RoadSign(1, 12, null, 0, null, null, "Réel"));
+
+        TreeMap<Long, RoadPost> roadPosts = new TreeMap<>();
+        roadPosts.put(42L, new RoadPost(3, LocalDate.of(2019, 5, 17), true, "1- Tige et panneaux", "Ville-Marie",
+                new Coordinate(45.5, -73.56), signs1));
+        roadPosts.put(7L, new RoadPost(1, null, null, null, null, new Coordinate(45.6, -73.6), signs2));
+        return roadPosts;
+    }
+
+    @Test
+    public void whenPostsMapped_thenViewsReadTheWrittenValues() throws Exception {
+        TreeMap<Long, RoadPost> roadPosts = roadPosts();
+        File file = folder.newFile("posts.rpstore");
+        new RoadParkingSign(roadPosts).writePostStore(file);
+
+        try (MappedRoadPostStore store = RoadParkingSign.openPostStore(file)) {
+            assertEquals(2, store.getPostCount());
+            assertEquals(3, store.getSignCount());
+
+            MappedRoadPostStore.PostView post = store.newPostView();
+            MappedRoadPostStore.SignView sign = store.newSignView();
+            assertFalse(post.seek(8));
+            assertTrue(post.seek(42));
+            assertEquals(3, post.getVersion());
+            assertEquals(LocalDate.of(2019, 5, 17), post.getConceptionDate());
+            assertEquals(Boolean.TRUE, post.isOnStreet());
+            assertEquals(45.5, post.getLatitude(), 0);
+            assertEquals(-73.56, post.getLongitude(), 0);
+            assertEquals("Ville-Marie", post.getDistrictName());
+            assertEquals(2, post.getSignCount());
+
+            post.sign(0, sign);
+            assertEquals(10, sign.getId());
+            assertEquals(1, sign.getPosition());
+            assertEquals(RpaSignCode.SB_AA, sign.getRpaCode());
+            assertEquals("\\P 09h-17h LUN AU VEN", sign.getRpaDescription());
+            assertEquals(RoadSign.RepDescription.REMOVED, sign.getRepDescription());
+            assertSame(post.getDistrictName(), post.getDistrictName());
+
+            assertTrue(post.seek(7));
+            assertNull(post.getConceptionDate());
+            assertNull(post.isOnStreet());
+            assertFalse(post.sign(0, sign).hasRpaSign());
+
+            assertEquals(roadPosts.get(42L), post.moveTo(1).toRoadPost(null));
+            assertEquals(roadPosts.get(7L), post.moveTo(0).toRoadPost(null));
+        }
+    }
+
+    @Test
+    public void whenNotAPostStore_thenRoadParkingSignException() throws Exception {
+        File file = folder.newFile("posts.rpstore");
+
+        assertThrows(RoadParkingSignException.class, () -> RoadParkingSign.openPostStore(file));
+    }
+}
@@ -0,0 +1,80 @@
+package org.jroadsign.canada.quebec.montreal;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author - <a href="https://github.com/muhamm-ad">muhamm-ad</a>
+ * @project JRoadSign
+ */
+public class RoadParkingSignChangeSetTest {
+
+    private static final String HEADER = "POTEAU_ID_POT,POTEAU_VERSION_POT,DATE_CONCEPTION_POT,PANNEAU_ID_PAN," +
+            "PANNEAU_ID_RPA,POSITION_POP,DESCRIPTION_RPA,CODE_RPA,FLECHE_PAN,DESCRIPTION_REP,NOM_ARROND," +
+            "Longitude,Latitude\n";
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private File csv(String name, String... rows) throws IOException {
+        File file = folder.newFile(name);
+        Files.writeString(file.toPath(), HEADER + String.join("\n", rows) + "\n");
+        return file;
+    }
+
+    @Test
+    public void whenDeltaApplied_thenOnlyChangesReportedAndPostsEqualToFullLoad() throws Exception {
+        File oldRelease = csv("old.csv",
+                "1,1,2019-05-17,10,110,1,\\P 09h-17h LUN AU VEN,SB-AA,2,Réel,Verdun,-73.56,45.51",
+                "1,1,2019-05-17,11,111,2,\\P 22h-06h 1 AVRIL AU 30 NOV,SD-TT,3,Réel,Verdun,-73.56,45.51",
+                "2,1,2019-05-17,12,110,1,\\P 09h-17h LUN AU VEN,SB-AA,2,Réel,Verdun,-73.57,45.52",
+                "3,4,2019-05-17,13,110,1,\\P 09h-17h LUN AU VEN,SB-AA,2,Réel,Verdun,-73.58,45.53");
+        File newRelease = csv("new.csv",
+                "1,1,2019-05-17,10,110,1,\\P 09h-17h LUN AU VEN,SB-AA,2,Réel,Verdun,-73.56,45.51",
+                "1,1,2019-05-17,11,111,2,\\P 22h-06h 1 AVRIL AU 30 NOV,SD-TT,3,Réel,Verdun,-73.56,45.51",
+                "3,5,2019-05-17,13,110,1,\\P 08h-10h LUN AU VEN,SB-AA,2,Réel,Verdun,-73.58,45.53",
+                "3,5,2019-05-17,14,111,2,\\P 22h-06h 1 AVRIL AU 30 NOV,SD-TT,3,Réel,Verdun,-73.58,45.53",
+                "4,1,2019-05-17,15,110,1,\\P 09h-17h LUN AU VEN,SB-AA,2,Réel,Verdun,-73.59,45.54");
+
+        RoadParkingSign roadParkingSign = new RoadParkingSign(oldRelease);
+        RoadPost unchangedPost = roadParkingSign.getRoadPosts().get(1L);
+
+        RoadParkingSignChangeSet changeSet = roadParkingSign.applyDelta(newRelease, new RoadParkingSignOptions());
+
+        assertEquals(new RoadParkingSign(newRelease).getRoadPosts(), roadParkingSign.getRoadPosts());
+        assertSame(unchangedPost, roadParkingSign.getRoadPosts().get(1L));
+        assertEquals(1, changeSet.getAddedPosts().size());
+        assertTrue(changeSet.getAddedPosts().containsKey(4L));
+        assertEquals(1, changeSet.getUpdatedPosts().size());
+        assertTrue(changeSet.getUpdatedPosts().containsKey(3L));
+        assertEquals(1, changeSet.getRemovedPosts().size());
+        assertTrue(changeSet.getRemovedPosts().containsKey(2L));
+        assertEquals(2, changeSet.getAddedSigns().size()); // sign 14 and the sign of post 4
+        assertEquals(1, changeSet.getUpdatedSigns().size());
+        assertEquals(13, changeSet.getUpdatedSigns().get(0).getId());
+        assertEquals(1, changeSet.getRemovedSigns().size());
+        assertEquals(12, changeSet.getRemovedSigns().get(0).getId());
+
+        assertTrue(roadParkingSign.applyDelta(newRelease, new RoadParkingSignOptions()).isEmpty());
+    }
+
+    @Test
+    public void whenSignWithoutRepDescriptionUnchanged_thenKept() throws Exception {
+        File release = csv("release.csv",
+                "1,1,2019-05-17,10,110,1,\\P 09h-17h LUN AU VEN,SB-AA,2,,Verdun,-73.56,45.51");
+
+        RoadParkingSign roadParkingSign = new RoadParkingSign(release);
+        RoadSign roadSign = roadParkingSign.getRoadPosts().get(1L).getRoadSigns().get(0);
+        assertNull(roadSign.getRepDescription());
+
+        assertTrue(roadParkingSign.applyDelta(release, new RoadParkingSignOptions()).isEmpty());
+        assertSame(roadSign, roadParkingSign.getRoadPosts().get(1L).getRoadSigns().get(0));
+    }
+}
@@ -0,0 +1,97 @@
+package org.jroadsign.canada.quebec.montreal;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author - <a href="https://github.com/muhamm-ad">muhamm-ad</a>
+ * @project JRoadSign
+ */
+public class RoadParkingSignHolderTest {
+
+    private static final String HEADER = "POTEAU_ID_POT,POTEAU_VERSION_POT,PANNEAU_ID_PAN,PANNEAU_ID_RPA,POSITION_POP," +
+            "DESCRIPTION_RPA,CODE_RPA,FLECHE_PAN,DESCRIPTION_REP,Longitude,Latitude\n";
+    private static final String ROW = ",1,%d,110,1,\\P 09h-17h LUN AU VEN,SB-AA,2,Réel,-73.56,45.51\n";
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private static void writePosts(File file, int count) throws IOException {
+        StringBuilder csv = new StringBuilder(HEADER);
+        for (int i = 1; i <= count; i++) csv.append(i).append(String.format(ROW, i));
+        Files.writeString(file.toPath(), csv);
+    }
+
+    @Test
+    public void whenReloaded_thenReadersKeepTheirConsistentDataset() throws Exception {
+        File file = folder.newFile("signs.csv");
+        writePosts(file, 2);
+
+        try (RoadParkingSignHolder holder = new RoadParkingSignHolder()) {
+            assertEquals(0, holder.get().size());
+            holder.reload(file, new RoadParkingSignOptions());
+            RoadParkingSignDataset first = holder.get();
+
+            writePosts(file, 3);
+            holder.reload(file, new RoadParkingSignOptions());
+
+            assertEquals(2, first.size());
+            assertEquals(3, holder.get().size());
+            assertEquals(2, holder.getSwapCount());
+            assertThrows(UnsupportedOperationException.class, () -> first.getRoadPosts().remove(1L));
+            assertThrows(UnsupportedOperationException.class,
+                    () -> first.getRoadPost(1L).addRoadSign(first.getRoadPost(2L).getRoadSigns().get(0)));
+        }
+    }
+
+    @Test
+    public void whenReloadFails_thenCurrentDatasetKept() throws Exception {
+        File file = folder.newFile("signs.csv");
+        writePosts(file, 2);
+
+        try (RoadParkingSignHolder holder = new RoadParkingSignHolder()) {
+            RoadParkingSignDataset dataset = holder.reload(file, new RoadParkingSignOptions());
+
+            assertThrows(RoadParkingSignException.class,
+                    () -> holder.reload(new File(folder.getRoot(), "missing.csv"), new RoadParkingSignOptions()));
+            assertSame(dataset, holder.get());
+        }
+    }
+
+    @Test
+    public void whenReloadCannotReadTheFile_thenCurrentDatasetKept() throws Exception {
+        File file = folder.newFile("signs.csv");
+        writePosts(file, 2);
+
+        try (RoadParkingSignHolder holder = new RoadParkingSignHolder()) {
+            RoadParkingSignDataset dataset = holder.reload(file, new RoadParkingSignOptions());
+
+            File directory = folder.newFolder("signs.geojson");
+            assertThrows(RoadParkingSignException.class, () -> holder.reload(directory, new RoadParkingSignOptions()));
+            assertSame(dataset, holder.get());
+            assertEquals(2, holder.get().size());
+            assertEquals(1, holder.getSwapCount());
+        }
+    }
+
+    @Test(timeout = 20000)
+    public void whenWatchedFileModified_thenDatasetRebuiltInBackground() throws Exception {
+        File file = folder.newFile("signs.csv");
+        writePosts(file, 2);
+
+        try (RoadParkingSignHolder holder = new RoadParkingSignHolder()) {
+            holder.reload(file, new RoadParkingSignOptions());
+            holder.watch(file, new RoadParkingSignOptions());
+
+            writePosts(file, 4);
+            while (holder.get().size() != 4) Thread.sleep(50);
+        }
+    }
+}
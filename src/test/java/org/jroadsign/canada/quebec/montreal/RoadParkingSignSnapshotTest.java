@@ -0,0 +1,69 @@
+package org.jroadsign.canada.quebec.montreal;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author - <a href="https://github.com/muhamm-ad">muhamm-ad</a>
+ * @project JRoadSign
+ */
+public class RoadParkingSignSnapshotTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private static String feature(long postId, int position, long signId, String code, String description) {
+        return "{\"type\":\"Feature\",\"properties\":{" +
+                "\"POTEAU_ID_POT\":" + postId + ",\"POSITION_POP\":" + position + ",\"PANNEAU_ID_PAN\":" + signId +
+                ",\"PANNEAU_ID_RPA\":" + (signId + 1000) + ",\"DESCRIPTION_RPA\":\"" + description + "\"" +
+                ",\"CODE_RPA\":\"" + code + "\",\"FLECHE_PAN\":2,\"TOPONYME_PAN\":null" +
+                ",\"DESCRIPTION_CAT\":\"STATIONNEMENT\",\"POTEAU_VERSION_POT\":1" +
+                ",\"DATE_CONCEPTION_POT\":\"2019-05-17\",\"DESCRIPTION_REP\":\"Réel\"" +
+                ",\"DESCRIPTION_RTP\":\"1- Tige et panneaux\",\"NOM_ARROND\":\"Ville-Marie\"" +
+                ",\"Longitude\":-73.56,\"Latitude\":45.5" + postId + "}}";
+    }
+
+    private File writeGeoJson() throws IOException {
+        File file = folder.newFile("signs.geojson");
+        Files.writeString(file.toPath(), "{\"type\":\"FeatureCollection\",\"features\":[" +
+                feature(1, 1, 10, "SB-AA", "\\\\P 09h-17h LUN AU VEN") + "," +
+                feature(1, 2, 11, "SD-TT", "\\\\P 22h-06h 1 AVRIL AU 30 NOV") + "," +
+                feature(2, 1, 12, "SB-AA", "\\\\P 09h-17h LUN AU VEN") + "," +
+                feature(2, 2, 13, "SB-ZZ-NEW", "\\\\P 08h-12h LUN") + "," +
+                feature(2, 3, 14, "SB-AA", "\\\\P EN TOUT TEMPS EXCEPTE 9H-17H LUN AU VEN") + "]}");
+        return file;
+    }
+
+    @Test
+    public void whenSnapshotReloaded_thenEqualToGeoJsonPath() throws Exception {
+        RoadParkingSign fromGeoJson = new RoadParkingSign(writeGeoJson());
+        File snapshot = folder.newFile("signs" + RoadParkingSign.SNAPSHOT_EXTENSION);
+        fromGeoJson.writeSnapshot(snapshot);
+
+        RoadParkingSign fromSnapshot = RoadParkingSign.readSnapshot(snapshot);
+
+        assertEquals(2, fromSnapshot.getRoadPosts().size());
+        assertEquals(fromGeoJson.getRoadPosts(), fromSnapshot.getRoadPosts());
+        assertEquals(fromGeoJson.toJson().toString(), fromSnapshot.toJson().toString());
+        assertEquals(fromGeoJson.getRoadPosts(), new RoadParkingSign(snapshot).getRoadPosts());
+
+        // Parsed descriptions are dictionary-encoded, so identical ones are shared again after loading
+        assertSame(fromSnapshot.getRoadPosts().get(1L).getRoadSigns().get(0).getRpaSign().getDescription(),
+                fromSnapshot.getRoadPosts().get(2L).getRoadSigns().get(0).getRpaSign().getDescription());
+    }
+
+    @Test
+    public void whenNotASnapshot_thenRoadParkingSignException() throws Exception {
+        File file = folder.newFile("other" + RoadParkingSign.SNAPSHOT_EXTENSION);
+        Files.writeString(file.toPath(), "not a snapshot");
+
+        assertThrows(RoadParkingSignException.class, () -> RoadParkingSign.readSnapshot(file));
+    }
+}
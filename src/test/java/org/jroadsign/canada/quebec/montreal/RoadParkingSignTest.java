@@ -0,0 +1,117 @@
+package org.jroadsign.canada.quebec.montreal;
+
+import org.json.JSONArray;
+import org.json.JSONObject;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author - <a href="https://github.com/muhamm-ad">muhamm-ad</a>
+ * @project JRoadSign
+ */
+public class RoadParkingSignTest {
+
+    private static final String[] COLUMNS = {"POTEAU_ID_POT", "POTEAU_VERSION_POT", "DATE_CONCEPTION_POT",
+            "PAS_SUR_RUE", "DESCRIPTION_RTP", "Longitude", "Latitude", "NOM_ARROND", "PANNEAU_ID_PAN",
+            "PANNEAU_ID_RPA", "DESCRIPTION_RPA", "CODE_RPA", "FLECHE_PAN", "TOPONYME_PAN", "DESCRIPTION_CAT",
+            "POSITION_POP", "DESCRIPTION_REP"};
+
+    private static final Object[][] ROWS = {
+            {1, 1, "2019-05-17", null, "Poteau de bois", -73.56, 45.51, "Verdun", 10, 110,
+                    "\\P 09h-17h LUN AU VEN", "SB-AA", 2, null, "STATIONNEMENT", 1, "Réel"},
+            {1, 1, "2019-05-17", null, "Poteau de bois", -73.56, 45.51, "Verdun", 11, 111,
+                    "\\P 22h-06h 1 AVRIL AU 30 NOV", "SD-TT", 3, "Rue Wellington", "STATIONNEMENT", 2, "Réel"},
+            {2, 3, "2021-01-04", null, "Poteau métal", -73.57, 45.52, "Ville-Marie", 12, 112,
+                    "\\P EXCEPTE 7h-9h 16h-18h LUN, MER ET VEN", "SS-JM", 0, null, "STATIONNEMENT", 1, "Réel"},
+            {3, 1, "NaT", null, null, -73.58, 45.53, "Outremont", 13, 113,
+                    "STAT. INT. EN TOUT TEMPS", "R-TA", 8, null, "STATIONNEMENT", 1, "Réel"},
+    };
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private File csv() throws IOException {
+        return csv("signs.csv", ROWS);
+    }
+
+    private File csv(String name, Object[]... rows) throws IOException {
+        StringBuilder csv = new StringBuilder(String.join(",", COLUMNS)).append('\n');
+        for (Object[] row : rows) {
+            for (int i = 0; i < row.length; i++) {
+                if (i > 0) csv.append(',');
+                if (row[i] == null) continue;
+                String value = row[i].toString();
+                csv.append(value.contains(",") ? '"' + value + '"' : value);
+            }
+            csv.append('\n');
+        }
+        File file = folder.newFile(name);
+        Files.writeString(file.toPath(), csv);
+        return file;
+    }
+
+    private File geoJson() throws IOException {
+        JSONArray features = new JSONArray();
+        for (Object[] row : ROWS) {
+            JSONObject properties = new JSONObject();
+            for (int i = 0; i < row.length; i++) properties.put(COLUMNS[i], row[i] == null ? JSONObject.NULL : row[i]);
+            features.put(new JSONObject().put("type", "Feature").put("properties", properties));
+        }
+        File file = folder.newFile("signs.geojson");
+        Files.writeString(file.toPath(),
+                new JSONObject().put("type", "FeatureCollection").put("features", features).toString());
+        return file;
+    }
+
+    @Test
+    public void whenSameDatasetAsCsvAndGeoJson_thenSamePosts() throws Exception {
+        RoadParkingSign fromCsv = new RoadParkingSign(csv());
+        RoadParkingSign fromGeoJson = new RoadParkingSign(geoJson());
+
+        assertEquals(3, fromCsv.getRoadPosts().size());
+        assertEquals(2, fromCsv.getRoadPosts().get(1L).getRoadSigns().size());
+        assertEquals(fromGeoJson.getRoadPosts(), fromCsv.getRoadPosts());
+        assertTrue(fromGeoJson.toJson().similar(fromCsv.toJson()));
+    }
+
+    @Test
+    public void whenParallel_thenSamePostsAsSequential() throws Exception {
+        Object[][] rows = new Object[2000][];
+        for (int i = 0; i < rows.length; i++) {
+            Object[] row = ROWS[i % ROWS.length].clone();
+            row[0] = i / 3; // several signs per post, built in different chunks and batches
+            row[8] = i;
+            row[15] = i % 3 + 1;
+            row[10] = "\\P " + (i % 12 + 6) + "h-" + (i % 5 + 19) + "h LUN AU VEN";
+            rows[i] = row;
+        }
+        File file = csv("many.csv", rows);
+
+        RoadParkingSign sequential = new RoadParkingSign(file, new RoadParkingSignOptions().setParallelism(1));
+        RoadParkingSign parallel = new RoadParkingSign(file,
+                new RoadParkingSignOptions().setParallelism(4).setBatchSize(700).setWarmUpPatterns(true));
+
+        assertEquals(667, sequential.getRoadPosts().size());
+        assertEquals(sequential.getRoadPosts(), parallel.getRoadPosts());
+        assertTrue(sequential.toJson().similar(parallel.toJson()));
+    }
+
+    @Test
+    public void whenSameSignTwice_thenAddedOnce() throws Exception {
+        Object[] other = ROWS[0].clone();
+        other[8] = 14;
+        RoadParkingSign roadParkingSign = new RoadParkingSign(csv("duplicates.csv", ROWS[0], ROWS[0], other));
+
+        RoadPost roadPost = roadParkingSign.getRoadPosts().get(1L);
+        assertEquals(2, roadPost.getRoadSigns().size());
+        assertEquals(10, roadPost.getRoadSigns().get(0).getId());
+        assertEquals(14, roadPost.getRoadSigns().get(1).getId());
+    }
+}
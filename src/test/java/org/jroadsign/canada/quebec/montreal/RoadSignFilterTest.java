@@ -0,0 +1,58 @@
+package org.jroadsign.canada.quebec.montreal;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author - <a href="https://github.com/muhamm-ad">muhamm-ad</a>
+ * @project JRoadSign
+ */
+public class RoadSignFilterTest {
+
+    private static RoadSignRecord record(String repDescription, String districtName, String codeRpa) {
+        RoadSignRecord signRecord = new RoadSignRecord();
+        signRecord.signRepDescription = repDescription;
+        signRecord.postDistrictName = districtName;
+        signRecord.signCodeRpa = codeRpa;
+        signRecord.postIsOnStreet = true;
+        signRecord.postLatitude = 45.5;
+        signRecord.postLongitude = -73.56;
+        return signRecord;
+    }
+
+    @Test
+    public void whenNoCriteria_thenEveryRecordAccepted() {
+        assertTrue(new RoadSignFilter().accept(record(null, null, null)));
+    }
+
+    @Test
+    public void whenAllCriteriaSet_thenRecordMustMatchEachOfThem() {
+        RoadSignFilter filter = new RoadSignFilter()
+                .setRepDescriptions(RoadSign.RepDescription.REAL)
+                .setDistrictNames("Ville-Marie", "Verdun")
+                .setBoundingBox(45.4, -73.7, 45.6, -73.5)
+                .setCodePrefixes("SB", "SD")
+                .setOnStreet(true);
+
+        assertTrue(filter.accept(record("Réel", "Verdun", "sd-tt")));
+        assertFalse(filter.accept(record("Enlevé", "Verdun", "SD-TT")));
+        assertFalse(filter.accept(record(null, "Verdun", "SD-TT")));
+        assertFalse(filter.accept(record("Réel", "Outremont", "SD-TT")));
+        assertFalse(filter.accept(record("Réel", "Verdun", "SV-AA")));
+        assertFalse(filter.accept(record("Réel", "Verdun", null)));
+
+        RoadSignRecord outside = record("Réel", "Verdun", "SD-TT");
+        outside.postLatitude = 45.7;
+        assertFalse(filter.accept(outside));
+
+        RoadSignRecord notOnStreet = record("Réel", "Verdun", "SD-TT");
+        notOnStreet.postIsOnStreet = false;
+        assertFalse(filter.accept(notOnStreet));
+    }
+
+    @Test
+    public void whenInvalidBoundingBox_thenIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new RoadSignFilter().setBoundingBox(46, -73, 45, -74));
+    }
+}
@@ -0,0 +1,64 @@
+package org.jroadsign.canada.quebec.montreal;
+
+import org.jroadsign.canada.quebec.montreal.rpasign.RpaSignCode;
+import org.jroadsign.canada.quebec.montreal.rpasign.RpaSignDesc;
+import org.jroadsign.canada.quebec.montreal.rpasign.RpaSignDescCache;
+import org.jroadsign.canada.quebec.montreal.rpasign.rpasigndesc.RpaSignDescRule;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author - <a href="https://github.com/muhamm-ad">muhamm-ad</a>
+ * @project JRoadSign
+ */
+public class RpaSignTest {
+
+    @Test
+    public void whenLazySign_thenDescriptionParsedOnFirstAccess() {
+        RpaSignDescCache cache = new RpaSignDescCache();
+        RpaSign sign = RpaSign.lazy(1, "SB-AA", "\\P 09h-17h LUN AU VEN", cache);
+
+        assertFalse(sign.isDescriptionParsed());
+        assertEquals(RpaSignCode.SB_AA, sign.getCode());
+        assertEquals("\\P 09h-17h LUN AU VEN", sign.getStrDescription());
+        assertEquals(0, cache.size());
+
+        RpaSignDesc description = sign.getDescription();
+
+        assertTrue(sign.isDescriptionParsed());
+        assertSame(description, sign.getDescription());
+        assertSame(description, cache.get(RpaSignCode.SB_AA, "\\P 09h-17h LUN AU VEN"));
+        assertEquals("\\P 09H-17H LUN AU VEN", description.getStrDescriptionCleaned());
+    }
+
+    @Test
+    public void whenLazySignWithoutCache_thenSameDescriptionAsEagerSign() {
+        RpaSign lazy = RpaSign.lazy(1, "SB-AA", "\\P 09h-17h LUN AU VEN", null);
+        RpaSign eager = new RpaSign(1, "SB-AA", "\\P 09h-17h LUN AU VEN");
+
+        assertEquals(eager.toJson().toString(), lazy.toJson().toString());
+    }
+
+    @Test
+    public void whenUnknownCode_thenKeptAndCleanedTheGenericWay() {
+        RpaSign sign = new RpaSign(1, "SB-UNKNOWN", "09h-17h LUN AU VEN");
+
+        assertEquals(RpaSignCode.NULL, sign.getCode());
+        assertEquals("SB-UNKNOWN", sign.getStrCode());
+        assertEquals(sign.getCodeId(), RpaSign.lazy(2, "sb-unknown", "", null).getCodeId());
+        assertEquals("SB-UNKNOWN", sign.toJson().getString("code"));
+        assertEquals("\\P 09H-17H LUN AU VEN", sign.getDescription().getStrDescriptionCleaned());
+    }
+
+    @Test
+    public void whenRulesSplitAtSemicolonsStartWithNoParking_thenEachRuleParsed() {
+        RpaSign sign = new RpaSign(1, "SLR-ST-75", "\\P 17H MAR À 17H MER; \\P 17H JEU À 17H VEN");
+
+        assertEquals("\\P 17H MAR A 17H MER & \\P 17H JEU A 17H VEN",
+                sign.getDescription().getStrDescriptionCleaned());
+        assertEquals(2, sign.getDescription().getRpaSignDescRules().size());
+        for (RpaSignDescRule rule : sign.getDescription().getRpaSignDescRules())
+            assertFalse(rule.isParkingAuthorized());
+    }
+}
@@ -0,0 +1,66 @@
+package org.jroadsign.canada.quebec.montreal.rpasign;
+
+import org.jroadsign.canada.quebec.montreal.rpasign.rpasigndesc.RoadSignDescCleaner;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author - <a href="https://github.com/muhamm-ad">muhamm-ad</a>
+ * @project JRoadSign
+ */
+public class RpaSignCodeRegistryTest {
+
+    @Test
+    public void whenKnownCode_thenFoundWhateverTheCase() {
+        assertEquals(RpaSignCode.SB_AA, RpaSignCode.fromString("SB-AA"));
+        assertEquals(RpaSignCode.SB_AA, RpaSignCode.fromString("sb-aa"));
+        assertEquals(RpaSignCode.SLR_ST_47, RpaSignCode.fromString("SLR-ST-47"));
+        assertEquals(RpaSignCode.SB_JA_A_plus_F, RpaSignCode.fromString("sb-ja-a+f"));
+        assertEquals(RpaSignCode.NULL, RpaSignCode.fromString(null));
+        assertEquals(RpaSignCode.NULL, RpaSignCode.fromString("SB-AA "));
+
+        assertEquals(RpaSignCode.SB_AA.ordinal(), RpaSignCodeRegistry.getId("Sb-Aa"));
+        assertEquals(RpaSignCode.NULL.ordinal(), RpaSignCodeRegistry.getId((String) null));
+        assertTrue(RpaSignCodeRegistry.isKnown(RpaSignCode.SB_AA.ordinal()));
+    }
+
+    @Test
+    public void whenUnknownCode_thenStableIdAndInternedCode() {
+        int id = RpaSignCodeRegistry.getId(new String("SX-TEST-NEW"));
+
+        assertFalse(RpaSignCodeRegistry.isKnown(id));
+        assertEquals(id, RpaSignCodeRegistry.getId("sx-test-new"));
+        assertNotEquals(id, RpaSignCodeRegistry.getId("SX-TEST-OTHER"));
+        assertSame("SX-TEST-NEW", RpaSignCodeRegistry.getStr(id));
+        assertEquals(RpaSignCode.NULL, RpaSignCodeRegistry.getCode(id));
+        assertTrue(RpaSignCodeRegistry.getUnknownCodes().contains("SX-TEST-NEW"));
+        assertEquals(id, RpaSignCodeRegistry.fromName(RpaSignCodeRegistry.getName(id)));
+        assertEquals(RpaSignCode.SB_AA.ordinal(), RpaSignCodeRegistry.fromName(RpaSignCode.SB_AA.name()));
+
+        assertThrows(IllegalArgumentException.class, () -> RpaSignCodeRegistry.getStr(-1));
+        assertThrows(IllegalArgumentException.class,
+                () -> RpaSignCodeRegistry.getStr(RpaSignCode.values().length + RpaSignCodeRegistry.getUnknownCount()));
+    }
+
+    @Test
+    public void whenNameLookedUp_thenNotRegistered() {
+        int id = RpaSignCodeRegistry.getId("SX-TEST-FOUND");
+        int unknownCount = RpaSignCodeRegistry.getUnknownCount();
+
+        assertEquals(id, RpaSignCodeRegistry.findName("sx-test-found"));
+        assertEquals(RpaSignCode.SB_AA.ordinal(), RpaSignCodeRegistry.findName(RpaSignCode.SB_AA.name()));
+        assertEquals(-1, RpaSignCodeRegistry.findName("SX-TEST-NEVER-SEEN"));
+        assertEquals(unknownCount, RpaSignCodeRegistry.getUnknownCount());
+        assertFalse(RpaSignCodeRegistry.getUnknownCodes().contains("SX-TEST-NEVER-SEEN"));
+    }
+
+    @Test
+    public void whenUnknownOrNullCode_thenDescriptionCleanedTheGenericWay() {
+        int id = RpaSignCodeRegistry.getId("SX-TEST-CLEANED");
+
+        assertEquals("\\P 09H-17H LUN AU VEN", RoadSignDescCleaner.cleanDescription("09h-17h lundi au ven", id));
+        assertEquals("09H-17H LUN AU VEN", RoadSignDescCleaner.cleanDescription("09h-17h lundi au ven",
+                RpaSignCode.NULL));
+    }
+}
@@ -0,0 +1,68 @@
+package org.jroadsign.canada.quebec.montreal.rpasign;
+
+import org.jroadsign.canada.quebec.montreal.rpasign.rpasigndesc.RoadSignDescCleaner;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author - <a href="https://github.com/muhamm-ad">muhamm-ad</a>
+ * @project JRoadSign
+ */
+public class RpaSignDescBatchTest {
+
+    @Test
+    public void whenBatchProcessed_thenResultsInInputOrder() {
+        List<RpaSignDescBatch.Item> items = List.of(
+                new RpaSignDescBatch.Item("SD-OP", "\\P 18h-24h LUN A VEN  +  08h-24h SAM ET DIM"),
+                new RpaSignDescBatch.Item(RpaSignCode.SB_AA, "\\P 09h-17h LUN AU VEN"),
+                new RpaSignDescBatch.Item("sd-op", "\\P 18h-24h LUN A VEN  +  08h-24h SAM ET DIM"));
+
+        List<RpaSignDescBatch.Result> results = RpaSignDescBatch.process(items);
+
+        assertEquals(3, results.size());
+        for (int i = 0; i < items.size(); i++) {
+            RpaSignDescBatch.Result result = results.get(i);
+            assertTrue(result.isSuccess());
+            String description = items.get(i).getStrDescription();
+            assertEquals(new RpaSignDesc(RoadSignDescCleaner.cleanDescription(description, items.get(i).getCodeId()),
+                    description), result.getDescription());
+        }
+        assertEquals(2, results.get(0).getDescription().getRpaSignDescRules().size());
+        assertSame(results.get(0), results.get(2)); // same code, whatever its case
+    }
+
+    @Test
+    public void whenPairFails_thenErrorInsteadOfException() {
+        List<RpaSignDescBatch.Item> items = new ArrayList<>();
+        items.add(new RpaSignDescBatch.Item(RpaSignCode.SB_AA, null));
+        items.add(new RpaSignDescBatch.Item(RpaSignCode.SB_AA, "\\P 09h-17h LUN AU VEN"));
+
+        List<RpaSignDescBatch.Result> results = RpaSignDescBatch.process(items);
+
+        assertFalse(results.get(0).isSuccess());
+        assertNull(results.get(0).getDescription());
+        assertEquals(RpaSignDescBatch.Stage.CLEANING, results.get(0).getError().getStage());
+        assertTrue(results.get(1).isSuccess());
+        assertNull(results.get(1).getError());
+    }
+
+    @Test
+    public void whenBatchLarge_thenEachDistinctPairParsedOnce() {
+        List<RpaSignDescBatch.Item> items = new ArrayList<>();
+        for (int i = 0; i < 5000; i++)
+            items.add(new RpaSignDescBatch.Item(RpaSignCode.SB_AA, "\\P " + (i % 50 + 1) + " MIN"));
+
+        List<RpaSignDescBatch.Result> results = RpaSignDescBatch.process(items);
+
+        assertEquals(5000, results.size());
+        for (int i = 0; i < 5000; i++) {
+            assertSame(results.get(i % 50), results.get(i));
+            assertEquals(i % 50 + 1, results.get(i).getDescription().getRpaSignDescRules().get(0)
+                    .getListDurationMinutes().get(0).getDuration());
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package org.jroadsign.canada.quebec.montreal.rpasign;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author - <a href="https://github.com/muhamm-ad">muhamm-ad</a>
+ * @project JRoadSign
+ */
+public class RpaSignDescCacheTest {
+
+    @Test
+    public void whenSameCodeAndDescription_thenParsedOnceAndShared() {
+        RpaSignDescCache cache = new RpaSignDescCache();
+
+        RpaSignDesc first = cache.get(RpaSignCode.SB_AA, "\\P 09h-17h LUN AU VEN");
+        RpaSignDesc second = cache.get(RpaSignCode.SB_AA, "\\P 09h-17h LUN AU VEN");
+        RpaSignDesc other = cache.get(RpaSignCode.SB_AB, "\\P 09h-17h LUN AU VEN");
+
+        assertSame(first, second);
+        assertNotSame(first, other);
+        assertEquals(2, cache.size());
+        assertEquals(1, cache.getHitCount());
+        assertEquals(2, cache.getMissCount());
+        assertEquals("\\P 09H-17H LUN AU VEN", first.getStrDescriptionCleaned());
+    }
+
+    @Test
+    public void whenSharedDescription_thenRulesAreReadOnly() {
+        RpaSignDesc description = new RpaSignDescCache().get(RpaSignCode.SB_AA, "\\P 09h-17h LUN AU VEN");
+
+        assertThrows(UnsupportedOperationException.class, () -> description.getRpaSignDescRules().clear());
+        assertThrows(UnsupportedOperationException.class,
+                () -> description.getRpaSignDescRules().get(0).getListDailyTimeRange().clear());
+    }
+}
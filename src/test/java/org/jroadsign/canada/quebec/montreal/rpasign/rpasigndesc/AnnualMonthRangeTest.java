@@ -4,6 +4,7 @@ import org.jroadsign.canada.quebec.montreal.rpasign.rpasigndesc.exceptions.Start
 import org.junit.Test;
 
 import java.time.MonthDay;
+import java.util.List;
 
 import static org.junit.Assert.*;
 
@@ -111,4 +112,22 @@ public class AnnualMonthRangeTest {
             fail("StartAfterEndException was thrown: " + e.getMessage());
         }
     }
-}
\ No newline at end of file
+
+    @Test
+    public void whenRangeWrapsAroundNewYear_thenWithinRangeAcrossIt() throws StartAfterEndException {
+        AnnualMonthRange range = AnnualMonthRange.parse("15 NOV - 01 AVR");
+
+        assertTrue(range.isWrappingAround());
+        assertTrue(range.isWithinRange(MonthDay.of(11, 15)));
+        assertTrue(range.isWithinRange(MonthDay.of(12, 31)));
+        assertTrue(range.isWithinRange(MonthDay.of(1, 1)));
+        assertTrue(range.isWithinRange(MonthDay.of(4, 1)));
+        assertFalse(range.isWithinRange(MonthDay.of(4, 2)));
+        assertFalse(range.isWithinRange(MonthDay.of(11, 14)));
+
+        assertEquals(List.of(new AnnualMonthRange("15 NOV - 31 DEC"), new AnnualMonthRange("01 JAN - 01 AVR")),
+                range.split());
+        assertEquals(range, AnnualMonthRange.of(MonthDay.of(11, 15), MonthDay.of(4, 1)));
+        assertEquals(List.of(new AnnualMonthRange("01 JAN - 31 DEC")), new AnnualMonthRange("01 JAN - 31 DEC").split());
+    }
+}
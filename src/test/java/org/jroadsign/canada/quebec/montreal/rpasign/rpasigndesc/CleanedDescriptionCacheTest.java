@@ -0,0 +1,75 @@
+package org.jroadsign.canada.quebec.montreal.rpasign.rpasigndesc;
+
+import org.jroadsign.canada.quebec.montreal.rpasign.RpaSignCode;
+import org.junit.Test;
+
+import java.util.stream.IntStream;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author - <a href="https://github.com/muhamm-ad">muhamm-ad</a>
+ * @project JRoadSign
+ */
+public class CleanedDescriptionCacheTest {
+
+    @Test
+    public void whenDescriptionCachedAgain_thenHitWithSameCleanedDescription() {
+        CleanedDescriptionCache cache = CleanedDescriptionCache.ofMaximumSize(100);
+        String description = "\\P 18h-24h LUN A VEN  +  08h-24h SAM ET DIM";
+
+        String cleaned = cache.cleanDescription(description, RpaSignCode.SD_OP);
+        assertEquals(RoadSignDescCleaner.cleanDescription(description, RpaSignCode.SD_OP), cleaned);
+        assertSame(cleaned, cache.cleanDescription(description, RpaSignCode.SD_OP));
+
+        assertEquals(1, cache.getHitCount());
+        assertEquals(1, cache.getMissCount());
+        assertEquals(0.5, cache.getHitRate(), 0.0);
+        assertTrue(cache.getTotalLoadNanos() > 0);
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    public void whenMaximumSizeReached_thenLeastRecentlyUsedEvicted() {
+        CleanedDescriptionCache cache = CleanedDescriptionCache.ofMaximumSize(2);
+        cache.cleanDescription("\\P 08h-09h LUN", RpaSignCode.SB_AA);
+        cache.cleanDescription("\\P 09h-10h MAR", RpaSignCode.SB_AA);
+        cache.cleanDescription("\\P 08h-09h LUN", RpaSignCode.SB_AA);
+        cache.cleanDescription("\\P 10h-11h MER", RpaSignCode.SB_AA);
+
+        assertEquals(2, cache.size());
+        assertEquals(1, cache.getEvictionCount());
+        cache.cleanDescription("\\P 08h-09h LUN", RpaSignCode.SB_AA);
+        assertEquals(2, cache.getHitCount());
+        cache.cleanDescription("\\P 09h-10h MAR", RpaSignCode.SB_AA);
+        assertEquals(4, cache.getMissCount());
+    }
+
+    @Test
+    public void whenMaximumWeightReached_thenCharactersBounded() {
+        CleanedDescriptionCache cache = CleanedDescriptionCache.ofMaximumWeight(40);
+        String description = "\\P 08h-09h LUN";
+        String cleaned = cache.cleanDescription(description, RpaSignCode.SB_AA);
+        assertEquals(description.length() + cleaned.length(), cache.getWeight());
+
+        cache.cleanDescription("\\P 09h-10h MAR", RpaSignCode.SB_AA);
+        assertEquals(1, cache.size());
+        assertEquals(1, cache.getEvictionCount());
+        assertTrue(cache.getWeight() <= cache.getMaximumWeight());
+
+        cache.cleanDescription("\\P 09h-10h MAR 15 NOV AU 15 MARS 15 MIN", RpaSignCode.SB_AA);
+        assertEquals(1, cache.size()); // too long to be cached
+    }
+
+    @Test
+    public void whenCleanedConcurrently_thenWithinMaximum() {
+        CleanedDescriptionCache cache = CleanedDescriptionCache.ofMaximumSize(1000);
+        IntStream.range(0, 20_000).parallel().forEach(i ->
+                assertEquals(RoadSignDescCleaner.cleanDescription("\\P " + i % 3000 + " MIN", RpaSignCode.SB_AA),
+                        cache.cleanDescription("\\P " + i % 3000 + " MIN", RpaSignCode.SB_AA)));
+
+        assertTrue(cache.size() <= 1000);
+        assertEquals(20_000, cache.getHitCount() + cache.getMissCount());
+        assertTrue(cache.getEvictionCount() <= cache.getMissCount() - cache.size());
+    }
+}
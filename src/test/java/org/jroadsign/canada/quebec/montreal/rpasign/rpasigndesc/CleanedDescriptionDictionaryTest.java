@@ -0,0 +1,73 @@
+package org.jroadsign.canada.quebec.montreal.rpasign.rpasigndesc;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author - <a href="https://github.com/muhamm-ad">muhamm-ad</a>
+ * @project JRoadSign
+ */
+public class CleanedDescriptionDictionaryTest {
+
+    private static int add(CleanedDescriptionDictionary dictionary, String key, int code) {
+        return dictionary.add(key.toCharArray(), key.length(), code, key + "#" + code);
+    }
+
+    @Test
+    public void whenKeysAdded_thenDenseIdsFoundByContentAndCode() {
+        CleanedDescriptionDictionary dictionary = new CleanedDescriptionDictionary();
+        char[] buffer = "\\P 9H-17H LUN AU VEN and what follows in the buffer".toCharArray();
+
+        assertEquals(-1, dictionary.find(buffer, 20, 0));
+        assertEquals(0, dictionary.add(buffer, 20, 0, "\\P 9H-17H LUN AU VEN"));
+        assertEquals(0, dictionary.find("\\P 9H-17H LUN AU VEN".toCharArray(), 20, 0));
+        assertEquals(-1, dictionary.find(buffer, 20, 1));
+        assertEquals(-1, dictionary.find(buffer, 21, 0));
+        assertEquals(1, dictionary.add(buffer, 20, 1, "\\P 9H-17H LUN AU VEN"));
+        assertEquals(0, dictionary.add(buffer, 20, 0, "ignored"));
+        assertEquals("\\P 9H-17H LUN AU VEN", dictionary.get(0));
+        assertEquals(2, dictionary.size());
+        assertThrows(IllegalArgumentException.class, () -> dictionary.get(2));
+    }
+
+    @Test
+    public void whenDictionaryGrows_thenIdsKept() {
+        CleanedDescriptionDictionary dictionary = new CleanedDescriptionDictionary();
+        for (int i = 0; i < 5000; i++) assertEquals(i, add(dictionary, "RULE " + i, i % 3));
+
+        for (int i = 0; i < 5000; i++) {
+            String key = "RULE " + i;
+            assertEquals(i, dictionary.find(key.toCharArray(), key.length(), i % 3));
+            assertEquals(key + "#" + i % 3, dictionary.get(i));
+        }
+    }
+
+    @Test
+    public void whenKeysAddedConcurrently_thenOneIdPerKey() throws Exception {
+        CleanedDescriptionDictionary dictionary = new CleanedDescriptionDictionary();
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<int[]>> futures = new ArrayList<>();
+            for (int t = 0; t < 4; t++) {
+                futures.add(executor.submit(() -> {
+                    int[] ids = new int[2000];
+                    for (int i = 0; i < ids.length; i++) ids[i] = add(dictionary, "RULE " + i, 0);
+                    return ids;
+                }));
+            }
+            int[] ids = futures.get(0).get();
+            for (Future<int[]> future : futures) assertArrayEquals(ids, future.get());
+            assertEquals(2000, dictionary.size());
+            for (int i = 0; i < ids.length; i++) assertEquals("RULE " + i + "#0", dictionary.get(ids[i]));
+        } finally {
+            executor.shutdown();
+        }
+    }
+}
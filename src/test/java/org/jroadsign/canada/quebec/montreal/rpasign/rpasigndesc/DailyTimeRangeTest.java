@@ -5,6 +5,7 @@ import org.junit.Test;
 
 import java.time.Duration;
 import java.time.LocalTime;
+import java.util.List;
 
 import static org.junit.Assert.*;
 
@@ -130,4 +131,36 @@ public class DailyTimeRangeTest {
             fail("StartAfterEndException was thrown: " + e.getMessage());
         }
     }
+
+    @Test
+    public void whenRangeWrapsAroundMidnight_thenWithinRangeAcrossIt() throws StartAfterEndException {
+        DailyTimeRange dailyTimeRange = DailyTimeRange.parse("22H00-02H00");
+
+        assertTrue(dailyTimeRange.isWrappingAround());
+        assertEquals(Duration.ofHours(4), dailyTimeRange.getDuration());
+        assertTrue(dailyTimeRange.isWithinRange(LocalTime.of(22, 0)));
+        assertTrue(dailyTimeRange.isWithinRange(LocalTime.of(23, 59, 30)));
+        assertTrue(dailyTimeRange.isWithinRange(LocalTime.of(1, 59)));
+        assertFalse(dailyTimeRange.isWithinRange(LocalTime.of(2, 0)));
+        assertFalse(dailyTimeRange.isWithinRange(LocalTime.of(12, 0)));
+
+        List<DailyTimeRange> split = dailyTimeRange.split();
+        assertEquals(List.of(DailyTimeRange.of(LocalTime.of(22, 0), LocalTime.MAX), new DailyTimeRange("00H00-02H00")),
+                split);
+        for (LocalTime time : List.of(LocalTime.of(22, 0), LocalTime.of(23, 59), LocalTime.of(23, 59, 30),
+                LocalTime.MIDNIGHT, LocalTime.of(1, 59, 59), LocalTime.of(2, 0), LocalTime.NOON)) {
+            assertEquals(dailyTimeRange.isWithinRange(time), split.stream().anyMatch(part -> part.isWithinRange(time)));
+        }
+        assertEquals(dailyTimeRange, DailyTimeRange.of(LocalTime.of(22, 0), LocalTime.of(2, 0)));
+    }
+
+    @Test
+    public void whenRangeWithinDay_thenParsedAsByConstructor() throws StartAfterEndException {
+        DailyTimeRange dailyTimeRange = DailyTimeRange.parse("08H00-10H00");
+
+        assertFalse(dailyTimeRange.isWrappingAround());
+        assertEquals(new DailyTimeRange("08H00-10H00"), dailyTimeRange);
+        assertEquals(List.of(dailyTimeRange), dailyTimeRange.split());
+        assertThrows(IllegalArgumentException.class, () -> DailyTimeRange.parse("25H00-27H00"));
+    }
 }
@@ -1,7 +1,11 @@
 package org.jroadsign.canada.quebec.montreal.rpasign.rpasigndesc;
 
 import junit.framework.TestCase;
+import org.jroadsign.canada.quebec.montreal.rpasign.RpaSignCode;
 
+import com.sun.management.HotSpotDiagnosticMXBean;
+
+import java.lang.management.ManagementFactory;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 
@@ -12,7 +16,17 @@ import java.lang.reflect.Method;
 public class RoadSignDescCleanerTest extends TestCase {
 
     public void testCleanDescription() {
-        // TODO : Add tests
+        RpaSignCode code = RpaSignCode.SB_AA;
+        assertEquals("\\P 09H-17H LUN AU VEN", RoadSignDescCleaner.cleanDescription("\\P 09h-17h LUN AU VEN", code));
+        assertEquals("\\P 8H-9H LUN MER VEN", RoadSignDescCleaner.cleanDescription("STAT. INT. 8h-9h LUN. MER. VEN.", code));
+        assertEquals("\\P 9H A 17H", RoadSignDescCleaner.cleanDescription("STAT. INT. DE 9H À 17H", code));
+        assertEquals("\\P 9H-17H LUN", RoadSignDescCleaner.cleanDescription("(NO PARKING) 9H-17H LUNDI", code));
+        assertEquals("\\P EN TOUT TEMPS EXCEPTE 9H-17H LUN AU VEN",
+                RoadSignDescCleaner.cleanDescription("EXCEPTE 9H-17H LUN AU VEN", code));
+        assertEquals("\\P 10H-12H VEN 1 MARS AU 1 DEC",
+                RoadSignDescCleaner.cleanDescription("\\P 10H-12H VEN1MARS AU 1 DÉC", code));
+        assertEquals("\\P 9H-17H LUN MER VEN 1 AVRIL AU 30 NOVEMBRE",
+                RoadSignDescCleaner.cleanDescription("\\P 9H-17H LUNDI MERCREDI VENDREDI 1ER AVRIL AU 30 NOVEMBRE", code));
     }
 
     public void testReformatDailyTimeIntervals_1() throws NoSuchMethodException, InvocationTargetException, IllegalAccessException {
@@ -165,4 +179,72 @@ public class RoadSignDescCleanerTest extends TestCase {
         assertEquals("\\P DEC 01 A AVRIL 02", method.invoke(null, "\\P DEC 01 A AVRIL02"));
         assertEquals("\\P JUIN 01 A JUIL 01", method.invoke(null, "\\P JUIN01 A JUIL01"));
     }
+
+    public void testCleanDescriptionId() {
+        CleanedDescriptionDictionary dictionary = new CleanedDescriptionDictionary();
+        int id = RoadSignDescCleaner.cleanDescriptionId("\\P 9h-17h lundi au ven.", RpaSignCode.SB_AA, dictionary);
+
+        assertEquals(id, RoadSignDescCleaner.cleanDescriptionId("  \\P 9H-17H  LUNDI AU VEN ", RpaSignCode.SB_AA,
+                dictionary));
+        assertEquals("\\P 9H-17H LUN AU VEN", dictionary.get(id));
+        assertSame(dictionary.get(id), RoadSignDescCleaner.cleanDescription("\\P 9H-17H LUNDI AU VEN",
+                RpaSignCode.SB_AA.ordinal(), dictionary));
+        assertFalse(id == RoadSignDescCleaner.cleanDescriptionId("\\P 9H-17H LUNDI AU VEN", RpaSignCode.SD_OP,
+                dictionary));
+        assertEquals(2, dictionary.size());
+        assertEquals(0, new CleanedDescriptionDictionary().size());
+
+        try {
+            dictionary.get(-1);
+            fail();
+        } catch (IllegalArgumentException ignored) {
+        }
+    }
+
+    /**
+     * @return <tt>true</tt> if the loops of the test are compiled by C2 with escape analysis, which the absence of
+     *         garbage depends on: not with a JVM agent (e.g. a coverage agent), in interpreted mode or on another JVM
+     */
+    private static boolean isCompiledWithEscapeAnalysis() {
+        for (String argument : ManagementFactory.getRuntimeMXBean().getInputArguments()) {
+            if (argument.startsWith("-javaagent") || argument.startsWith("-agentlib")
+                    || argument.startsWith("-agentpath") || argument.equals("-Xint"))
+                return false;
+        }
+        if (ManagementFactory.getCompilationMXBean() == null) return false;
+        try {
+            HotSpotDiagnosticMXBean hotSpot = ManagementFactory.getPlatformMXBean(HotSpotDiagnosticMXBean.class);
+            return hotSpot != null && Boolean.parseBoolean(hotSpot.getVMOption("DoEscapeAnalysis").getValue())
+                    && hotSpot.getVMOption("TieredStopAtLevel").getValue().equals("4");
+        } catch (IllegalArgumentException e) { // not HotSpot, or without C2
+            return false;
+        }
+    }
+
+    public void testCleanDescriptionWithoutGarbage() {
+        if (!isCompiledWithEscapeAnalysis()) return;
+        if (!(ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean threadMXBean)
+                || !threadMXBean.isThreadAllocatedMemorySupported() || !threadMXBean.isThreadAllocatedMemoryEnabled())
+            return;
+
+        String[] descriptions = {"\\P 09h-17h LUN AU VEN", "STAT. INT. 8h-9h LUN. MER. VEN.", "(NO PARKING) 9H-17H LUNDI",
+                "EXCEPTE 9H-17H LUN AU VEN", "\\P 9H-17H LUNDI MERCREDI VENDREDI 1ER AVRIL AU 30 NOVEMBRE",
+                "60 min 9h-18h lun à ven", "\\P 10H-12H VEN1MARS AU 1 DÉC"};
+        CleanedDescriptionDictionary dictionary = new CleanedDescriptionDictionary();
+        int codeId = RpaSignCode.SB_AA.ordinal();
+        int count = 0;
+        for (int i = 0; i < 20_000; i++) // warm up, so that the buffers are large enough and the loop is compiled
+            for (String description : descriptions)
+                count += RoadSignDescCleaner.cleanDescription(description, codeId, dictionary).length();
+
+        long before = threadMXBean.getCurrentThreadAllocatedBytes();
+        int iterations = 10_000;
+        for (int i = 0; i < iterations; i++)
+            for (String description : descriptions)
+                count += RoadSignDescCleaner.cleanDescription(description, codeId, dictionary).length();
+        long allocated = threadMXBean.getCurrentThreadAllocatedBytes() - before;
+
+        assertTrue(count > 0);
+        assertTrue(allocated + " bytes allocated", allocated / (iterations * descriptions.length) < 8);
+    }
 }
\ No newline at end of file
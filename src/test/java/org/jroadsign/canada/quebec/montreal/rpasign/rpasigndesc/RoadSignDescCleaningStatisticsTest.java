@@ -0,0 +1,53 @@
+package org.jroadsign.canada.quebec.montreal.rpasign.rpasigndesc;
+
+import org.jroadsign.canada.quebec.montreal.rpasign.RpaSignCode;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author - <a href="https://github.com/muhamm-ad">muhamm-ad</a>
+ * @project JRoadSign
+ */
+public class RoadSignDescCleaningStatisticsTest {
+
+    private static final String DESCRIPTION = "\\P 18H-23H LUN A VEN + 08H-23H SAM";
+
+    @Test
+    public void whenDescriptionsCleaned_thenCodesAndStrategiesCounted() {
+        RoadSignDescCleaningStatistics statistics = new RoadSignDescCleaningStatistics();
+        CleanedDescriptionDictionary dictionary = new CleanedDescriptionDictionary();
+        int codeId = RpaSignCode.SD_OP.ordinal();
+
+        // the second description is found in the dictionary, so that the strategy runs once
+        RoadSignDescCleaner.cleanDescription(DESCRIPTION, codeId, dictionary, statistics);
+        RoadSignDescCleaner.cleanDescription(DESCRIPTION, codeId, dictionary, statistics);
+
+        assertEquals(2, statistics.getCodeCount(RpaSignCode.SD_OP));
+        assertEquals(1, statistics.getRunCount(RoadSignDescCleaningStrategy.PLUS_SEPARATED_RULES));
+        assertEquals(0, statistics.getRunCount(RoadSignDescCleaningStrategy.GENERIC));
+        assertEquals(RoadSignDescCleaningStrategy.PLUS_SEPARATED_RULES,
+                statistics.getCodesHit().get(RpaSignCode.SD_OP));
+        assertEquals(1, statistics.getCodesHit().size());
+        assertTrue(statistics.getReport().startsWith("PLUS_SEPARATED_RULES: 1 runs, "));
+        assertTrue(statistics.getReport().endsWith(" SD_OP=2\n"));
+
+        statistics.reset();
+        assertEquals(0, statistics.getCodeCount(RpaSignCode.SD_OP));
+        assertEquals("", statistics.getReport());
+    }
+
+    @Test
+    public void whenCleanedWithoutStatistics_thenNothingCounted() {
+        RoadSignDescCleaningStatistics statistics = new RoadSignDescCleaningStatistics();
+        int codeId = RpaSignCode.SD_OP.ordinal();
+
+        RoadSignDescCleaner.cleanDescription(DESCRIPTION, codeId);
+        RoadSignDescCleaner.cleanDescription(DESCRIPTION, codeId, new CleanedDescriptionDictionary());
+        RoadSignDescCleaner.cleanDescription(DESCRIPTION, codeId, new CleanedDescriptionDictionary(),
+                new RoadSignDescCleaningStatistics());
+
+        assertEquals(0, statistics.getCodeCount(RpaSignCode.SD_OP));
+        assertTrue(statistics.getCodesHit().isEmpty());
+    }
+}
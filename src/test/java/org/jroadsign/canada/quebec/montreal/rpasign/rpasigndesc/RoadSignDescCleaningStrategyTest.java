@@ -0,0 +1,45 @@
+package org.jroadsign.canada.quebec.montreal.rpasign.rpasigndesc;
+
+import org.jroadsign.canada.quebec.montreal.rpasign.RpaSignCode;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author - <a href="https://github.com/muhamm-ad">muhamm-ad</a>
+ * @project JRoadSign
+ */
+public class RoadSignDescCleaningStrategyTest {
+
+    @Test
+    public void whenCodeLooked_thenItsStrategyOrGeneric() {
+        assertEquals(RoadSignDescCleaningStrategy.SEMICOLON_SEPARATED_RULES,
+                RoadSignDescCleaningStrategy.of(RpaSignCode.SLR_ST_75));
+        assertEquals(RoadSignDescCleaningStrategy.DASH_SEPARATED_RULES,
+                RoadSignDescCleaningStrategy.of(RpaSignCode.SLR_ST_84));
+        assertEquals(RoadSignDescCleaningStrategy.OVERNIGHT_DAY_INTERVALS,
+                RoadSignDescCleaningStrategy.of(RpaSignCode.SB_NY_A));
+        assertEquals(RoadSignDescCleaningStrategy.TIME_AND_DAYS_GROUPS,
+                RoadSignDescCleaningStrategy.of(RpaSignCode.SLR_ST_135));
+        assertEquals(RoadSignDescCleaningStrategy.GENERIC, RoadSignDescCleaningStrategy.of(RpaSignCode.SB_AA));
+        for (RpaSignCode code : RpaSignCode.values())
+            assertNotNull(code.toString(), RoadSignDescCleaningStrategy.of(code));
+    }
+
+    @Test
+    public void whenApplied_thenSplitIntoRules() {
+        assertEquals("\\P 18H-24H LUN A VEN   & \\P  08H-24H SAM ET DIM",
+                RoadSignDescCleaningStrategy.PLUS_SEPARATED_RULES.apply("\\P 18H-24H LUN A VEN  +  08H-24H SAM ET DIM"));
+        String description = "\\P 9H-17H LUN AU VEN";
+        assertSame(description, RoadSignDescCleaningStrategy.GENERIC.apply(description));
+    }
+
+    @Test
+    public void whenRuleAlreadyForbidsParking_thenNoSecondNoParking() {
+        assertEquals("\\P 17H MAR A 17H MER & \\P 17H JEU A 17H VEN & \\P 17H SAM A 17H LUN",
+                RoadSignDescCleaningStrategy.SEMICOLON_SEPARATED_RULES.apply(
+                        "\\P 17H MAR A 17H MER; \\P 17H JEU A 17H VEN; 17H SAM A 17H LUN"));
+        assertEquals("\\P 9H-17H LUN & \\P 8H-9H MAR",
+                RoadSignDescCleaningStrategy.DASH_SEPARATED_RULES.apply("\\P 9H-17H LUN - \\P 8H-9H MAR"));
+    }
+}
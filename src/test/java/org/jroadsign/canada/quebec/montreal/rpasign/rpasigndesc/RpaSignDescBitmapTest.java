@@ -0,0 +1,117 @@
+package org.jroadsign.canada.quebec.montreal.rpasign.rpasigndesc;
+
+import org.jroadsign.canada.quebec.montreal.rpasign.RpaSignCode;
+import org.jroadsign.canada.quebec.montreal.rpasign.RpaSignDesc;
+import org.junit.Test;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author - <a href="https://github.com/muhamm-ad">muhamm-ad</a>
+ * @project JRoadSign
+ */
+public class RpaSignDescBitmapTest {
+
+    private static RpaSignDesc desc(String strDescription) {
+        return new RpaSignDesc(RoadSignDescCleaner.cleanDescription(strDescription, RpaSignCode.SB_AA),
+                strDescription);
+    }
+
+    @Test
+    public void whenNoParkingOnWeekdays_thenBitsClearDuringRange() {
+        RpaSignDescBitmap bitmap = desc("\\P 09h-17h LUN AU VEN").toBitmap(1);
+
+        assertEquals(1, bitmap.getSeasonCount());
+        assertFalse(bitmap.isParkingAllowed(LocalDateTime.of(2024, 6, 3, 10, 30)));
+        assertTrue(bitmap.isParkingAllowed(LocalDateTime.of(2024, 6, 3, 17, 0)));
+        assertTrue(bitmap.isParkingAllowed(LocalDateTime.of(2024, 6, 8, 10, 30)));
+        assertEquals(WeeklyBitmap.MINUTES_PER_WEEK - 5 * 480, bitmap.getWeeklyBitmap(6, 3).getMinuteCount());
+    }
+
+    @Test
+    public void whenRangeWrapsAroundMidnight_thenNightBelongsToDayItStarted() {
+        RpaSignDescBitmap bitmap = desc("\\P 22h-02h LUN").toBitmap(1);
+
+        assertFalse(bitmap.isParkingAllowed(LocalDateTime.of(2024, 6, 3, 23, 0)));
+        assertFalse(bitmap.isParkingAllowed(LocalDateTime.of(2024, 6, 4, 1, 59)));
+        assertTrue(bitmap.isParkingAllowed(LocalDateTime.of(2024, 6, 3, 1, 0)));
+    }
+
+    @Test
+    public void whenRuleSeasonal_thenOneWeeklyBitmapPerSeason() {
+        RpaSignDescBitmap bitmap = desc("\\P 15 NOV AU 1 AVRIL").toBitmap(5);
+
+        assertEquals(3, bitmap.getSeasonCount());
+        assertTrue(bitmap.isParkingAllowed(LocalDateTime.of(2024, 6, 1, 12, 0)));
+        assertFalse(bitmap.isParkingAllowed(LocalDateTime.of(2025, 1, 15, 12, 0)));
+        assertFalse(bitmap.isParkingAllowed(LocalDateTime.of(2024, 4, 1, 23, 59)));
+        assertTrue(bitmap.isParkingAllowed(LocalDateTime.of(2024, 4, 2, 0, 0)));
+        assertSame(bitmap.getWeeklyBitmap(1, 1), bitmap.getWeeklyBitmap(12, 31));
+    }
+
+    @Test
+    public void whenParkingLimited_thenAllowed() {
+        assertSame(RpaSignDescBitmap.allowed(1), desc("60 MIN 09h-17h").toBitmap(1));
+    }
+
+    @Test
+    public void whenCombined_thenSeasonsMerged() {
+        RpaSignDescBitmap winter = desc("\\P 15 NOV AU 1 AVRIL").toBitmap(1);
+        RpaSignDescBitmap weekdays = desc("\\P 09h-17h LUN AU VEN").toBitmap(1);
+        RpaSignDescBitmap both = winter.and(weekdays);
+
+        assertEquals(3, both.getSeasonCount());
+        assertFalse(both.isParkingAllowed(LocalDateTime.of(2025, 1, 18, 12, 0)));
+        assertFalse(both.isParkingAllowed(LocalDateTime.of(2024, 6, 3, 12, 0)));
+        assertTrue(both.isParkingAllowed(LocalDateTime.of(2024, 6, 8, 12, 0)));
+        assertSame(winter, winter.and(winter.or(weekdays)));
+        assertSame(RpaSignDescBitmap.allowed(1), winter.or(RpaSignDescBitmap.allowed(1)));
+    }
+
+    @Test
+    public void whenSameRules_thenSameBitmap() {
+        assertSame(desc("\\P 09h-17h LUN AU VEN").toBitmap(5), desc("\\P 09h - 17h LUN AU VEN").toBitmap(5));
+        assertSame(desc("\\P 15 NOV AU 1 AVRIL").toBitmap(5).getWeeklyBitmap(1, 1),
+                desc("\\P EN TOUT TEMPS").toBitmap(5).getWeeklyBitmap(6, 1));
+    }
+
+    @Test
+    public void whenBitmapBuilt_thenAgreesWithSchedule() {
+        RpaSignDesc desc = desc("\\P 07h30-08h33 LUN MER; \\P 23h-01h SAM");
+        RpaSignDescBitmap bitmap = desc.toBitmap(1);
+
+        for (LocalDateTime dateTime = LocalDateTime.of(2024, 6, 3, 0, 0);
+             dateTime.isBefore(LocalDateTime.of(2024, 6, 10, 0, 0)); dateTime = dateTime.plusMinutes(1)) {
+            assertEquals(dateTime.toString(), desc.isParkingAllowed(dateTime), bitmap.isParkingAllowed(dateTime));
+        }
+    }
+
+    @Test
+    public void whenSeasonStartsOrEndsAfterNight_thenAgreesWithSchedule() {
+        String[] descriptions = {"\\P 22h-02h 15 NOV AU 1 AVRIL", "\\P 23h-01h LUN-MER-VEN 1 DEC AU 28 FEV",
+                "\\P 20h-06h 29 FEV AU 2 MARS", "\\P EN TOUT TEMPS EXCEPTE 22h-02h 1 AVRIL AU 30 NOV"};
+        LocalDate[] boundaries = {LocalDate.of(2023, 11, 15), LocalDate.of(2023, 12, 1), LocalDate.of(2024, 2, 29),
+                LocalDate.of(2024, 3, 1), LocalDate.of(2024, 3, 3), LocalDate.of(2024, 4, 1), LocalDate.of(2024, 4, 2),
+                LocalDate.of(2024, 12, 1), LocalDate.of(2025, 3, 1), LocalDate.of(2025, 3, 3),
+                LocalDate.of(2025, 4, 2), LocalDate.of(2025, 12, 1)};
+
+        for (String description : descriptions) {
+            RpaSignDesc desc = desc(description);
+            RpaSignDescBitmap bitmap = desc.toBitmap(1);
+            RpaSignDescTimeline timeline = RpaSignDescTimeline.of(bitmap);
+            for (LocalDate boundary : boundaries) {
+                for (LocalDateTime dateTime = boundary.minusDays(1).atStartOfDay();
+                     dateTime.isBefore(boundary.plusDays(1).atStartOfDay()); dateTime = dateTime.plusMinutes(1)) {
+                    String message = description + " at " + dateTime;
+                    assertEquals(message, desc.isParkingAllowed(dateTime), bitmap.isParkingAllowed(dateTime));
+                    assertEquals(message, desc.isParkingAllowed(dateTime), timeline.stateAt(dateTime));
+                }
+                LocalDateTime night = boundary.minusDays(1).atTime(12, 0);
+                assertEquals(description + " from " + night, desc.nextChange(night), timeline.nextTransition(night));
+            }
+        }
+    }
+}
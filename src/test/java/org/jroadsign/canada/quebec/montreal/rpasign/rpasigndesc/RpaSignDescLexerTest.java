@@ -0,0 +1,72 @@
+package org.jroadsign.canada.quebec.montreal.rpasign.rpasigndesc;
+
+import org.jroadsign.canada.quebec.montreal.rpasign.rpasigndesc.RpaSignDescLexer.TokenType;
+import org.jroadsign.canada.quebec.montreal.rpasign.rpasigndesc.common.KeywordNormalizer;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author - <a href="https://github.com/muhamm-ad">muhamm-ad</a>
+ * @project JRoadSign
+ */
+public class RpaSignDescLexerTest {
+
+    private static List<String> tokens(RpaSignDescLexer lexer) {
+        List<String> tokens = new ArrayList<>();
+        for (RpaSignDescLexer.Token token : lexer.getTokens()) tokens.add(token.toString());
+        return tokens;
+    }
+
+    @Test
+    public void whenDescriptionLexed_thenTypedTokens() {
+        RpaSignDescLexer lexer = new RpaSignDescLexer("\\P 60 MIN 9H-17H30 LUNDI AU VEN 1 AVRIL AU 1 DEC; EN TOUT TEMPS");
+
+        assertEquals("\\P 60 MIN 9H-17H30 LUN AU VEN 1 AVRIL AU 1 DEC; EN TOUT TEMPS", lexer.getText());
+        assertEquals(List.of("NO_PARKING(\\P)", "DURATION(60 MIN)", "TIME(9H)", "RANGE_DELIM(-)", "TIME(17H30)",
+                "DAY(LUN)", "RANGE_DELIM(AU)", "DAY(VEN)", "DAY_OF_MONTH(1)", "MONTH(AVRIL)", "RANGE_DELIM(AU)",
+                "DAY_OF_MONTH(1)", "MONTH(DEC)", "SEPARATOR(;)", "EXPRESSION(EN TOUT TEMPS)"), tokens(lexer));
+        assertEquals(TokenType.DAY, lexer.getType(5));
+        assertEquals("LUN", lexer.getText(5));
+    }
+
+    @Test
+    public void whenWordsStuckTogether_thenSplit() {
+        assertEquals("VEN 1 MARS AU 1 DEC", new RpaSignDescLexer("VEN1MARS AU 1DEC").getText());
+        assertEquals("1 AVRIL 9H30", new RpaSignDescLexer("1AVRIL 9H30").getText());
+        assertEquals("1 AVR AU 1 MARS", new RpaSignDescLexer("1AVIL AU 1MRS").getText());
+    }
+
+    @Test
+    public void whenWordOnlyLooksLikeADay_thenKept() {
+        RpaSignDescLexer lexer = new RpaSignDescLexer("MARS MARDIS LUNDI_ LUNDI");
+
+        assertEquals("MARS MARDIS LUNDI_ LUN", lexer.getText());
+        assertEquals(List.of("MONTH(MARS)", "WORD(MARDIS)", "WORD(LUNDI_)", "DAY(LUN)"), tokens(lexer));
+    }
+
+    @Test
+    public void whenExpressionsAndOtherWords_thenGrouped() {
+        RpaSignDescLexer lexer = new RpaSignDescLexer("JOURS D'ECOLE EXCEPTE D'UN PERMIS # 123 WEEKEND");
+
+        assertEquals(List.of("EXPRESSION(JOURS D'ECOLE)", "WORD(EXCEPTE)", "WORD(D'UN)", "WORD(PERMIS)", "WORD(#)",
+                "WORD(123)", "EXPRESSION(WEEKEND)"), tokens(lexer));
+    }
+
+    @Test
+    public void whenKeywordsOfTheNormalizers_thenSameCleaning() {
+        for (String day : KeywordNormalizer.WEEKLY_DAYS.getKeywords()) {
+            RpaSignDescLexer lexer = new RpaSignDescLexer(day);
+            assertEquals(KeywordNormalizer.WEEKLY_DAYS.normalize(day), lexer.getText());
+            assertEquals(TokenType.DAY, lexer.getType(0));
+        }
+        for (String misspelled : KeywordNormalizer.SPELLING_CORRECTIONS.getKeywords()) {
+            assertEquals(KeywordNormalizer.SPELLING_CORRECTIONS.normalize(misspelled),
+                    new RpaSignDescLexer(misspelled).getText());
+        }
+        assertEquals("1 MARS AU VEN", new RpaSignDescLexer("1MRSL AU VEMDREDI").getText());
+    }
+}
@@ -0,0 +1,78 @@
+package org.jroadsign.canada.quebec.montreal.rpasign.rpasigndesc;
+
+import org.junit.Test;
+
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author - <a href="https://github.com/muhamm-ad">muhamm-ad</a>
+ * @project JRoadSign
+ */
+public class RpaSignDescParserTest {
+
+    private static void assertSpans(String rule, RpaSignDescSpan... expected) {
+        List<RpaSignDescSpan> spans = new RpaSignDescParser(rule).getSpans();
+
+        assertEquals(List.of(expected), spans);
+        for (int i = 0; i < spans.size(); i++) {
+            RpaSignDescSpan span = spans.get(i);
+            assertEquals(span.getText(), rule.substring(span.getStart(), span.getEnd()));
+            assertEquals(span.getText(), span.getText().trim());
+            if (i > 0) assertTrue(span.toString(), spans.get(i - 1).getEnd() < span.getStart());
+        }
+    }
+
+    @Test
+    public void whenParsed_thenSpansOfTheDescription() {
+        String description = "\\P 60 MIN 9H-17H LUN AU VEN 1 AVRIL AU 1 DEC PANONCEAU";
+        assertSpans(description,
+                new RpaSignDescSpan(RpaSignDescSpan.Field.DURATION_MINUTES, 3, 9, "60 MIN"),
+                new RpaSignDescSpan(RpaSignDescSpan.Field.DAILY_TIME_RANGE, 10, 16, "9H-17H"),
+                new RpaSignDescSpan(RpaSignDescSpan.Field.WEEKLY_DAY_RANGE, 17, 27, "LUN AU VEN"),
+                new RpaSignDescSpan(RpaSignDescSpan.Field.ANNUAL_MONTH_RANGE, 28, 44, "1 AVRIL AU 1 DEC"),
+                new RpaSignDescSpan(RpaSignDescSpan.Field.ADDITIONAL_INFO, 45, 54, "PANONCEAU"));
+
+        RpaSignDescParser parser = new RpaSignDescParser(description);
+        assertEquals("PANONCEAU", parser.getAdditionalInfo());
+        assertEquals("LUN AU VEN", parser.getWeeklyDayRange());
+        assertThrows(UnsupportedOperationException.class, () -> parser.getSpans().clear());
+    }
+
+    @Test
+    public void whenTimeFollowedByDayOfMonth_thenSpansDoNotOverlap() {
+        assertSpans("\\P 9H-10H 1 MAI AU 1 OCT LUN",
+                new RpaSignDescSpan(RpaSignDescSpan.Field.DAILY_TIME_RANGE, 3, 9, "9H-10H"),
+                new RpaSignDescSpan(RpaSignDescSpan.Field.ANNUAL_MONTH_RANGE, 10, 24, "1 MAI AU 1 OCT"),
+                new RpaSignDescSpan(RpaSignDescSpan.Field.WEEKLY_DAY_RANGE, 25, 28, "LUN"));
+    }
+
+    @Test
+    public void whenTimeFollowedByDays_thenSpansTrimmed() {
+        assertSpans("\\P 8H-9H LUN-MER-VEN",
+                new RpaSignDescSpan(RpaSignDescSpan.Field.DAILY_TIME_RANGE, 3, 8, "8H-9H"),
+                new RpaSignDescSpan(RpaSignDescSpan.Field.WEEKLY_DAY_RANGE, 9, 20, "LUN-MER-VEN"));
+    }
+
+    @Test
+    public void whenWordsNextToEachOther_thenOneSpanOfAdditionalInfo() {
+        assertSpans("\\P 10 X 10 9H-17H PANONCEAU",
+                new RpaSignDescSpan(RpaSignDescSpan.Field.ADDITIONAL_INFO, 3, 10, "10 X 10"),
+                new RpaSignDescSpan(RpaSignDescSpan.Field.DAILY_TIME_RANGE, 11, 17, "9H-17H"),
+                new RpaSignDescSpan(RpaSignDescSpan.Field.ADDITIONAL_INFO, 18, 27, "PANONCEAU"));
+    }
+
+    @Test
+    public void whenNotCleaned_thenSpansOfTheCleanedRule() {
+        RpaSignDescParser parser = new RpaSignDescParser("\\P EXCEPTE 9H-17H 1 mars au 1 dec");
+
+        assertEquals("\\P EN TOUT TEMPS EXCEPTE 9H-17H 1 MARS AU 1 DEC", parser.getRule());
+        assertEquals(List.of(
+                new RpaSignDescSpan(RpaSignDescSpan.Field.WEEKLY_DAY_RANGE, 3, 24, "EN TOUT TEMPS EXCEPTE"),
+                new RpaSignDescSpan(RpaSignDescSpan.Field.DAILY_TIME_RANGE, 25, 31, "9H-17H"),
+                new RpaSignDescSpan(RpaSignDescSpan.Field.ANNUAL_MONTH_RANGE, 32, 47, "1 MARS AU 1 DEC")),
+                parser.getSpans());
+        assertNull(parser.getAdditionalInfo());
+    }
+}
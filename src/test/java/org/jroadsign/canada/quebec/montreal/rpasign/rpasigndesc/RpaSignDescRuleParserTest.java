@@ -0,0 +1,122 @@
+package org.jroadsign.canada.quebec.montreal.rpasign.rpasigndesc;
+
+import org.jroadsign.canada.quebec.montreal.rpasign.rpasigndesc.exceptions.RpaSignDescSyntaxException;
+import org.junit.Test;
+
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import java.time.MonthDay;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author - <a href="https://github.com/muhamm-ad">muhamm-ad</a>
+ * @project JRoadSign
+ */
+public class RpaSignDescRuleParserTest {
+
+    @Test
+    public void whenRuleParsed_thenOtherTokensAreAdditionalInfo() throws Exception {
+        String[] rules = {"\\P 9H-17H LUN AU VEN", "\\P 60 MIN 8H30-9H30 LUN-MER-VEN 1 AVRIL AU 1 DEC",
+                "\\P 23H30-00H30 MAR A MER", "\\P EN TOUT TEMPS EXCEPTE 9H-17H LUN AU VEN", "\\P 6H-9H 1 JUIL AU 31 AOUT",
+                "\\P MARS 01 A DEC 01", "\\P JOURS D'ECOLE 7H-16H"};
+
+        for (String rule : rules) assertEquals(rule, "", RpaSignDescRuleParser.parse(rule).getAdditionalMetaData());
+        assertEquals("10 X 10", RpaSignDescRuleParser.parse("\\P 10 X 10").getAdditionalMetaData());
+        assertEquals("MARS", RpaSignDescRuleParser.parse("\\P 9H-17H MARS").getAdditionalMetaData());
+        assertEquals("PANONCEAU", RpaSignDescRuleParser.parse("\\P DE 9H-17H PANONCEAU MAX").getAdditionalMetaData());
+    }
+
+    @Test
+    public void whenRuleParsed_thenValuesBuiltDirectly() throws Exception {
+        RpaSignDescRule rule = RpaSignDescRuleParser.parse("\\P 60 MIN 22H-2H LUN-MER-VEN 15 NOV AU 1 AVRIL");
+
+        assertFalse(rule.isParkingAuthorized());
+        assertEquals(60, rule.getListDurationMinutes().get(0).getDuration());
+        assertEquals(List.of(DailyTimeRange.of(LocalTime.of(22, 0), LocalTime.of(2, 0))),
+                rule.getListDailyTimeRange());
+        assertEquals(List.of(DayOfWeek.MONDAY, DayOfWeek.WEDNESDAY, DayOfWeek.FRIDAY), rule.getListDay());
+        assertEquals(List.of(AnnualMonthRange.of(MonthDay.of(11, 15), MonthDay.of(4, 1))),
+                rule.getListAnnualMonthRange());
+        assertEquals("", rule.getAdditionalMetaData());
+        assertEquals(rule, new RpaSignDescRule("\\P 60 MIN 22H-2H LUN-MER-VEN 15 NOV AU 1 AVRIL"));
+    }
+
+    @Test
+    public void whenDaysJoined_thenRangeOrList() throws Exception {
+        assertEquals(List.of(DayOfWeek.MONDAY, DayOfWeek.TUESDAY, DayOfWeek.WEDNESDAY),
+                RpaSignDescRuleParser.parse("\\P LUN-MER").getListDay());
+        assertEquals(List.of(DayOfWeek.SATURDAY, DayOfWeek.SUNDAY, DayOfWeek.MONDAY),
+                RpaSignDescRuleParser.parse("\\P SAM AU LUN").getListDay());
+        assertEquals(List.of(DayOfWeek.MONDAY, DayOfWeek.WEDNESDAY, DayOfWeek.FRIDAY),
+                RpaSignDescRuleParser.parse("\\P LUN, MER ET VEN").getListDay());
+        assertEquals(List.of(DayOfWeek.SATURDAY, DayOfWeek.SUNDAY),
+                RpaSignDescRuleParser.parse("\\P WEEKEND").getListDay());
+        assertEquals(5, RpaSignDescRuleParser.parse("\\P JOURS D'ECOLE 7H-16H").getListDay().size());
+    }
+
+    @Test
+    public void whenTimeFollowedByDayOfMonth_thenMinutesOfTheTimeOnly() throws Exception {
+        RpaSignDescRule rule = RpaSignDescRuleParser.parse("\\P 9H-10H 1 MAI AU 1 OCT LUN");
+
+        assertEquals(List.of(DailyTimeRange.of(LocalTime.of(9, 0), LocalTime.of(10, 0))),
+                rule.getListDailyTimeRange());
+        assertEquals(List.of(AnnualMonthRange.of(MonthDay.of(5, 1), MonthDay.of(10, 1))),
+                rule.getListAnnualMonthRange());
+        assertEquals(List.of(DayOfWeek.MONDAY), rule.getListDay());
+    }
+
+    @Test
+    public void whenTimesJoinedByAu_thenTimeRange() throws Exception {
+        assertEquals(List.of(DailyTimeRange.of(LocalTime.of(9, 0), LocalTime.of(17, 30))),
+                RpaSignDescRuleParser.parse("\\P 9H AU 17H30").getListDailyTimeRange());
+        assertEquals(List.of(DailyTimeRange.of(LocalTime.of(18, 0), LocalTime.of(23, 59))),
+                RpaSignDescRuleParser.parse("\\P 18H-24H").getListDailyTimeRange());
+    }
+
+    @Test
+    public void whenMonthWithoutDay_thenWholeMonth() throws Exception {
+        assertEquals(List.of(AnnualMonthRange.of(MonthDay.of(1, 1), MonthDay.of(2, 29))),
+                RpaSignDescRuleParser.parse("\\P 6H-9H JANV A FEVRIER").getListAnnualMonthRange());
+        assertEquals(List.of(AnnualMonthRange.of(MonthDay.of(3, 1), MonthDay.of(12, 1))),
+                RpaSignDescRuleParser.parse("\\P MARS 01 A DEC 01").getListAnnualMonthRange());
+    }
+
+    @Test
+    public void whenRuleOutsideGrammar_thenErrorPosition() {
+        RpaSignDescSyntaxException e = assertThrows(RpaSignDescSyntaxException.class,
+                () -> RpaSignDescRuleParser.parse("\\P 9H-25H"));
+        assertEquals(6, e.getPosition());
+        assertEquals("\\P 9H-25H", e.getRule());
+        assertEquals(0, e.getStackTrace().length);
+
+        assertEquals(6, assertThrows(RpaSignDescSyntaxException.class,
+                () -> RpaSignDescRuleParser.parse("\\P 9H-17H60")).getPosition());
+        assertEquals(3, assertThrows(RpaSignDescSyntaxException.class,
+                () -> RpaSignDescRuleParser.parse("\\P 30 FEV AU 1 MARS")).getPosition());
+    }
+
+    @Test
+    public void whenRuleOutsideGrammar_thenRuleRejected() {
+        assertThrows(IllegalArgumentException.class, () -> new RpaSignDescRule("\\P 9H-25H LUN AU VEN"));
+    }
+
+    @Test
+    public void whenRuleNotCleaned_thenCleanedFirst() throws Exception {
+        RpaSignDescRule rule = RpaSignDescRuleParser.parse("\\P 9H-17H LUN AU VEN");
+
+        assertEquals(rule, RpaSignDescRuleParser.parse("\\P\t9h-17h lundi au vendredi"));
+        assertEquals(rule, new RpaSignDescRule("STAT. INT. 9H-17H LUNDI AU VEN"));
+        assertEquals(RpaSignDescRuleParser.parse("\\P 9H LUN"), RpaSignDescRuleParser.parse("\\P LUNDI9H"));
+    }
+
+    @Test
+    public void whenNoParkingAfterTheStart_thenSkipped() throws Exception {
+        RpaSignDescRule rule = RpaSignDescRuleParser.parse("\\P 17H JEU A 17H VEN");
+
+        assertEquals(rule, RpaSignDescRuleParser.parse("\\P \\P 17H JEU A 17H VEN"));
+        assertEquals(rule, RpaSignDescRuleParser.parse("\\P 17H JEU \\P A 17H VEN"));
+        assertTrue(RpaSignDescRuleParser.parse("60 MIN \\P 9H-17H").isParkingAuthorized());
+    }
+}
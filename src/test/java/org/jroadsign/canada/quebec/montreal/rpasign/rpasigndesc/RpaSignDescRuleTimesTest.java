@@ -0,0 +1,103 @@
+package org.jroadsign.canada.quebec.montreal.rpasign.rpasigndesc;
+
+import org.jroadsign.canada.quebec.montreal.rpasign.RpaSignCode;
+import org.junit.Test;
+
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import java.time.MonthDay;
+import java.util.List;
+
+import static java.time.DayOfWeek.*;
+import static org.junit.Assert.*;
+
+/**
+ * @author - <a href="https://github.com/muhamm-ad">muhamm-ad</a>
+ * @project JRoadSign
+ */
+public class RpaSignDescRuleTimesTest {
+
+    private static RpaSignDescRuleTimes times(List<DayOfWeek> days) {
+        return RpaSignDescRuleTimes.of(List.of(new DurationMinutes(120), new DurationMinutes(60)),
+                List.of(DailyTimeRange.of(LocalTime.of(22, 30), LocalTime.of(2, 0)),
+                        DailyTimeRange.of(LocalTime.of(9, 0), LocalTime.of(23, 59))),
+                days,
+                List.of(AnnualMonthRange.of(MonthDay.of(11, 15), MonthDay.of(4, 1))));
+    }
+
+    @Test
+    public void whenViewsBuilt_thenSameAsLists() {
+        RpaSignDescRuleTimes times = times(List.of(SATURDAY, SUNDAY, MONDAY));
+
+        assertEquals(List.of(new DurationMinutes(120), new DurationMinutes(60)), times.getListDurationMinutes());
+        assertEquals(List.of(DailyTimeRange.of(LocalTime.of(22, 30), LocalTime.of(2, 0)),
+                        DailyTimeRange.of(LocalTime.of(9, 0), LocalTime.of(23, 59))),
+                times.getListDailyTimeRange());
+        assertEquals(List.of(SATURDAY, SUNDAY, MONDAY), times.getListDay());
+        assertEquals(List.of(AnnualMonthRange.of(MonthDay.of(11, 15), MonthDay.of(4, 1))),
+                times.getListAnnualMonthRange());
+        assertEquals(60, times.getStayLimit());
+    }
+
+    @Test
+    public void whenSameTimes_thenInterned() {
+        assertSame(times(List.of(MONDAY, FRIDAY)), times(List.of(MONDAY, FRIDAY)));
+        assertSame(times(List.of(MONDAY, FRIDAY)), times(List.of(MONDAY, FRIDAY, MONDAY)));
+        assertNotSame(times(List.of(MONDAY, FRIDAY)), times(List.of(FRIDAY, MONDAY)));
+        assertSame(RpaSignDescRuleTimes.of(List.of(), List.of(), List.of(), List.of()),
+                new RpaSignDescRule("\\P").getTimes());
+    }
+
+    @Test
+    public void whenNothingListed_thenAlwaysActive() {
+        RpaSignDescRuleTimes times = RpaSignDescRuleTimes.of(List.of(), List.of(), List.of(), List.of());
+
+        assertTrue(times.getListDay().isEmpty());
+        assertTrue(times.isActive(6, 0, 0, 0));
+        assertTrue(times.isInSeason(RpaSignDescRule.seasonKey(2, 29)));
+        assertEquals(RpaSignDescRule.NO_STAY_LIMIT, times.getStayLimit());
+    }
+
+    @Test
+    public void whenActiveQueried_thenDaysRangesAndSeasonsApply() {
+        RpaSignDescRuleTimes times = times(List.of(MONDAY));
+        int winter = RpaSignDescRule.seasonKey(1, 15);
+        int summer = RpaSignDescRule.seasonKey(7, 15);
+
+        assertTrue(times.isActive(0, 23 * 60, winter, winter));
+        assertTrue(times.isActive(0, 23 * 60 + 59, winter, winter));
+        assertTrue(times.isActive(1, 60, winter, winter));
+        assertFalse(times.isActive(1, 10 * 60, winter, winter));
+        assertFalse(times.isActive(0, 23 * 60, summer, summer));
+        assertFalse(times.isActive(0, 60, winter, winter));
+    }
+
+    @Test
+    public void whenRuleParsed_thenListsAreViewsOfItsTimes() {
+        RpaSignDescRule rule = new RpaSignDescRule(
+                RoadSignDescCleaner.cleanDescription("\\P 08h-12h SAM AU MAR 1 DEC AU 1 MARS", RpaSignCode.SB_AA));
+
+        assertEquals(List.of(SATURDAY, SUNDAY, MONDAY, TUESDAY), rule.getListDay());
+        assertEquals(rule.getTimes().getListDailyTimeRange(), rule.getListDailyTimeRange());
+        assertEquals(rule, new RpaSignDescRule(rule.isParkingAuthorized(), rule.getListDurationMinutes(),
+                rule.getListDailyTimeRange(), rule.getListDay(), rule.getListAnnualMonthRange(),
+                rule.getAdditionalMetaData()));
+    }
+
+    @Test
+    public void whenViewChanged_thenUnsupported() {
+        RpaSignDescRuleTimes times = times(List.of(MONDAY));
+        DailyTimeRange timeRange = times.getListDailyTimeRange().get(0);
+        AnnualMonthRange monthRange = times.getListAnnualMonthRange().get(0);
+
+        assertThrows(UnsupportedOperationException.class, () -> timeRange.setStart(LocalTime.of(23, 0)));
+        assertThrows(UnsupportedOperationException.class, () -> timeRange.setRange(timeRange.getRange()));
+        assertThrows(UnsupportedOperationException.class, () -> monthRange.setEnd(MonthDay.of(4, 2)));
+        assertThrows(UnsupportedOperationException.class,
+                () -> times.getListDurationMinutes().get(0).setDuration(30));
+
+        timeRange.getRange().setStart(LocalTime.of(23, 0));
+        assertEquals(LocalTime.of(22, 30), timeRange.getStart());
+        assertEquals(times, times(List.of(MONDAY)));
+    }
+}
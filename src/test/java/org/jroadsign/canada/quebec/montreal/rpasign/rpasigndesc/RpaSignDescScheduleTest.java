@@ -0,0 +1,115 @@
+package org.jroadsign.canada.quebec.montreal.rpasign.rpasigndesc;
+
+import org.jroadsign.canada.quebec.montreal.rpasign.RpaSignCode;
+import org.jroadsign.canada.quebec.montreal.rpasign.RpaSignDesc;
+import org.junit.Test;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author - <a href="https://github.com/muhamm-ad">muhamm-ad</a>
+ * @project JRoadSign
+ */
+public class RpaSignDescScheduleTest {
+
+    private static RpaSignDesc desc(String strDescription) {
+        return new RpaSignDesc(RoadSignDescCleaner.cleanDescription(strDescription, RpaSignCode.SB_AA),
+                strDescription);
+    }
+
+    @Test
+    public void whenNoParkingOnWeekdays_thenForbiddenUntilEndOfRange() {
+        RpaSignDesc desc = desc("\\P 09h-17h LUN AU VEN");
+        LocalDateTime monday = LocalDateTime.of(2024, 6, 3, 10, 30, 15);
+
+        assertFalse(desc.isParkingAllowed(monday));
+        assertEquals(0, desc.getMaxStayMinutes(monday));
+        assertEquals(LocalDateTime.of(2024, 6, 3, 17, 0), desc.nextChange(monday));
+        assertTrue(desc.isParkingAllowed(LocalDateTime.of(2024, 6, 8, 10, 30)));
+        assertEquals(LocalDateTime.of(2024, 6, 10, 9, 0), desc.nextChange(LocalDateTime.of(2024, 6, 7, 18, 0)));
+    }
+
+    @Test
+    public void whenParkingLimited_thenMaxStayFromDuration() {
+        RpaSignDesc desc = desc("60 MIN 09h-17h");
+
+        assertTrue(desc.isParkingAllowed(LocalDateTime.of(2024, 6, 3, 10, 0)));
+        assertEquals(60, desc.getMaxStayMinutes(LocalDateTime.of(2024, 6, 3, 10, 0)));
+        assertEquals(RpaSignDescRule.NO_STAY_LIMIT, desc.getMaxStayMinutes(LocalDateTime.of(2024, 6, 3, 20, 0)));
+        assertEquals(LocalDateTime.of(2024, 6, 4, 9, 0), desc.nextChange(LocalDateTime.of(2024, 6, 3, 20, 0)));
+    }
+
+    @Test
+    public void whenRangeWrapsAroundMidnight_thenNightBelongsToDayItStarted() {
+        RpaSignDesc desc = desc("\\P 22h-02h LUN");
+        RpaSignDescRule rule = desc.getRpaSignDescRules().get(0);
+
+        assertTrue(rule.isActive(LocalDateTime.of(2024, 6, 3, 23, 0)));
+        assertTrue(rule.isActive(LocalDateTime.of(2024, 6, 4, 1, 59)));
+        assertFalse(rule.isActive(LocalDateTime.of(2024, 6, 3, 1, 0)));
+        assertFalse(rule.isParkingAllowed(LocalDateTime.of(2024, 6, 4, 1, 0)));
+        assertEquals(LocalDateTime.of(2024, 6, 4, 2, 0), desc.nextChange(LocalDateTime.of(2024, 6, 3, 22, 0)));
+    }
+
+    @Test
+    public void whenRuleSeasonal_thenNextChangeAtSeasonBoundary() {
+        RpaSignDesc desc = desc("\\P 15 NOV AU 1 AVRIL");
+
+        assertTrue(desc.isParkingAllowed(LocalDateTime.of(2024, 6, 1, 12, 0)));
+        assertFalse(desc.isParkingAllowed(LocalDateTime.of(2025, 1, 15, 12, 0)));
+        assertEquals(LocalDateTime.of(2024, 11, 15, 0, 0), desc.nextChange(LocalDateTime.of(2024, 6, 1, 12, 0)));
+        assertEquals(LocalDateTime.of(2025, 4, 2, 0, 0), desc.nextChange(LocalDateTime.of(2024, 12, 1, 12, 0)));
+    }
+
+    @Test
+    public void whenRuleAlwaysApplies_thenNoChange() {
+        RpaSignDesc desc = desc("\\P EN TOUT TEMPS");
+        LocalDateTime dateTime = LocalDateTime.of(2024, 6, 3, 10, 0);
+
+        assertFalse(desc.isParkingAllowed(dateTime));
+        assertEquals(RpaSignDescSchedule.NO_CHANGE, desc.getSchedule().minutesUntilNextChange(dateTime));
+        assertNull(desc.nextChange(dateTime));
+    }
+
+    @Test
+    public void whenAllTimesExcept_thenForbiddenOutsideItsTimes() {
+        RpaSignDesc desc = desc("\\P EN TOUT TEMPS EXCEPTE 9H-17H LUN AU VEN");
+        RpaSignDescRule rule = desc.getRpaSignDescRules().get(0);
+        LocalDateTime mondayNoon = LocalDateTime.of(2024, 6, 3, 12, 0);
+
+        assertFalse(rule.isParkingAuthorized());
+        assertTrue(rule.isAllTimesExcept());
+        assertTrue(desc.isParkingAllowed(mondayNoon));
+        assertEquals(RpaSignDescRule.NO_STAY_LIMIT, desc.getMaxStayMinutes(mondayNoon));
+        assertEquals(0, desc.getMaxStayMinutes(LocalDateTime.of(2024, 6, 3, 8, 59)));
+        assertEquals(0, desc.getMaxStayMinutes(LocalDateTime.of(2024, 6, 3, 17, 0)));
+        assertEquals(0, desc.getMaxStayMinutes(LocalDateTime.of(2024, 6, 8, 12, 0)));
+        assertEquals(LocalDateTime.of(2024, 6, 3, 17, 0), desc.nextChange(mondayNoon));
+        assertEquals(LocalDateTime.of(2024, 6, 10, 9, 0), desc.nextChange(LocalDateTime.of(2024, 6, 7, 18, 0)));
+
+        RpaSignDescBitmap bitmap = desc.toBitmap(1);
+        assertTrue(bitmap.isParkingAllowed(mondayNoon));
+        assertFalse(bitmap.isParkingAllowed(LocalDateTime.of(2024, 6, 8, 12, 0)));
+        assertFalse(RpaSignDescTimeline.of(bitmap).stateAt(LocalDateTime.of(2024, 6, 3, 20, 0)));
+    }
+
+    @Test
+    public void whenAllTimesExceptWithoutTimes_thenAlwaysForbidden() {
+        RpaSignDesc desc = desc("\\P EN TOUT TEMPS EXCEPTE AUTOBUS");
+
+        assertFalse(desc.isParkingAllowed(LocalDateTime.of(2024, 6, 3, 12, 0)));
+        assertNull(desc.nextChange(LocalDateTime.of(2024, 6, 3, 12, 0)));
+    }
+
+    @Test
+    public void whenDayConverted_thenSameSeasonKeyAsLocalDate() {
+        for (LocalDate date = LocalDate.of(1999, 12, 1); date.isBefore(LocalDate.of(2101, 3, 1));
+             date = date.plusDays(1)) {
+            assertEquals(date.toString(), RpaSignDescRule.seasonKey(date.getMonthValue(), date.getDayOfMonth()),
+                    RpaSignDescSchedule.seasonKey(date.toEpochDay()));
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package org.jroadsign.canada.quebec.montreal.rpasign.rpasigndesc;
+
+import org.jroadsign.canada.quebec.montreal.RoadPost;
+import org.jroadsign.canada.quebec.montreal.RoadSign;
+import org.jroadsign.canada.quebec.montreal.RpaSign;
+import org.jroadsign.canada.quebec.montreal.rpasign.RpaSignCode;
+import org.jroadsign.canada.quebec.montreal.rpasign.RpaSignDesc;
+import org.junit.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author - <a href="https://github.com/muhamm-ad">muhamm-ad</a>
+ * @project JRoadSign
+ */
+public class RpaSignDescTimelineTest {
+
+    private static RpaSignDescTimeline timeline(String strDescription) {
+        RpaSignDesc desc = new RpaSignDesc(RoadSignDescCleaner.cleanDescription(strDescription, RpaSignCode.SB_AA),
+                strDescription);
+        return RpaSignDescTimeline.of(desc.toBitmap(1));
+    }
+
+    private static RoadPost post(String... strDescriptions) {
+        List<RoadSign> roadSigns = new ArrayList<>();
+        for (int i = 0; i < strDescriptions.length; i++) {
+            roadSigns.add(new RoadSign(i + 1, i, new RpaSign(i, "SB-AA", strDescriptions[i]), 0, null, null,
+                    "Réel"));
+        }
+        return new RoadPost(1, null, true, null, null, null, roadSigns);
+    }
+
+    @Test
+    public void whenNoParkingOnWeekdays_thenNextTransitionAtEndOfRange() {
+        RpaSignDescTimeline timeline = timeline("\\P 09h-17h LUN AU VEN");
+        LocalDateTime monday = LocalDateTime.of(2024, 6, 3, 10, 30, 15);
+
+        assertFalse(timeline.stateAt(monday));
+        assertTrue(timeline.stateAt(LocalDateTime.of(2024, 6, 3, 17, 0)));
+        assertEquals(LocalDateTime.of(2024, 6, 3, 17, 0), timeline.nextTransition(monday));
+        assertEquals(LocalDateTime.of(2024, 6, 10, 9, 0), timeline.nextTransition(LocalDateTime.of(2024, 6, 7, 18, 0)));
+    }
+
+    @Test
+    public void whenRangeWrapsAroundMidnight_thenTransitionOnNextDay() {
+        RpaSignDescTimeline timeline = timeline("\\P 22h-02h DIM");
+
+        assertFalse(timeline.stateAt(LocalDateTime.of(2024, 6, 10, 1, 0)));
+        assertEquals(LocalDateTime.of(2024, 6, 9, 22, 0), timeline.nextTransition(LocalDateTime.of(2024, 6, 9, 12, 0)));
+        assertEquals(LocalDateTime.of(2024, 6, 10, 2, 0), timeline.nextTransition(LocalDateTime.of(2024, 6, 9, 22, 0)));
+    }
+
+    @Test
+    public void whenRuleSeasonal_thenNextTransitionAtSeasonBoundary() {
+        RpaSignDescTimeline timeline = timeline("\\P 15 NOV AU 1 AVRIL");
+
+        assertEquals(3, timeline.getSeasonCount());
+        assertEquals(LocalDateTime.of(2024, 11, 15, 0, 0),
+                timeline.nextTransition(LocalDateTime.of(2024, 6, 1, 12, 0)));
+        assertEquals(LocalDateTime.of(2025, 4, 2, 0, 0), timeline.nextTransition(LocalDateTime.of(2024, 12, 1, 12, 0)));
+    }
+
+    @Test
+    public void whenSeasonEndsWithoutChange_thenNextTransitionInNextSeason() {
+        RpaSignDescTimeline timeline = timeline("\\P 09h-17h LUN AU VEN 1 AVRIL AU 30 NOV");
+
+        assertEquals(LocalDateTime.of(2025, 4, 1, 9, 0),
+                timeline.nextTransition(LocalDateTime.of(2024, 11, 29, 18, 0)));
+    }
+
+    @Test
+    public void whenStateNeverChanges_thenNoTransition() {
+        RpaSignDescTimeline forbidden = timeline("\\P EN TOUT TEMPS");
+        RpaSignDescTimeline allowed = RpaSignDescTimeline.of(RpaSignDescBitmap.allowed(1));
+
+        assertFalse(forbidden.stateAt(LocalDateTime.of(2024, 6, 3, 10, 0)));
+        assertNull(forbidden.nextTransition(LocalDateTime.of(2024, 6, 3, 10, 0)));
+        assertTrue(allowed.stateAt(LocalDateTime.of(2024, 6, 3, 10, 0)));
+        assertNull(allowed.nextTransition(LocalDateTime.of(2024, 6, 3, 10, 0)));
+    }
+
+    @Test
+    public void whenPostHasSeveralSigns_thenTheirRulesMerged() {
+        RoadPost roadPost = post("\\P 09h-17h LUN AU VEN", "\\P 22h-02h DIM");
+        LocalDateTime friday = LocalDateTime.of(2024, 6, 7, 18, 0);
+
+        assertFalse(roadPost.isParkingAllowed(LocalDateTime.of(2024, 6, 7, 12, 0)));
+        assertEquals(LocalDateTime.of(2024, 6, 9, 22, 0), roadPost.nextTransition(friday));
+
+        roadPost.removeRoadSign(roadPost.getRoadSigns().get(1));
+        assertEquals(LocalDateTime.of(2024, 6, 10, 9, 0), roadPost.nextTransition(friday));
+    }
+
+    @Test
+    public void whenPostsHaveSameSigns_thenTimelineShared() {
+        RoadPost roadPost = post("\\P 09h-17h LUN AU VEN", "\\P 15 NOV AU 1 AVRIL");
+
+        assertSame(roadPost.getTimeline(), post("\\P 15 NOV AU 1 AVRIL", "\\P 09h-17h LUN AU VEN").getTimeline());
+        assertSame(roadPost.getTimeline(), roadPost.toReadOnly().getTimeline());
+        assertNotSame(roadPost.getTimeline(), post("\\P 09h-17h LUN AU VEN").getTimeline());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void whenBitmapNotOfOneMinute_thenThrows() {
+        RpaSignDescTimeline.of(RpaSignDescBitmap.allowed(5));
+    }
+}
@@ -0,0 +1,35 @@
+package org.jroadsign.canada.quebec.montreal.rpasign.rpasigndesc;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author - <a href="https://github.com/muhamm-ad">muhamm-ad</a>
+ * @project JRoadSign
+ */
+public class WeakInternerTest {
+
+    @Test
+    public void whenEqualValuesInterned_thenFirstShared() {
+        WeakInterner<String> interner = new WeakInterner<>();
+        String first = new String("SB-AA");
+
+        assertSame(first, interner.intern(first));
+        assertSame(first, interner.intern(new String("SB-AA")));
+        assertEquals(1, interner.size());
+    }
+
+    @Test(timeout = 20000)
+    public void whenValueNoLongerUsed_thenDropped() throws InterruptedException {
+        WeakInterner<String> interner = new WeakInterner<>();
+        interner.intern(new String("SB-AA"));
+
+        while (interner.size() != 0) {
+            System.gc();
+            Thread.sleep(10);
+        }
+        String next = new String("SB-AA");
+        assertSame(next, interner.intern(next));
+    }
+}
@@ -0,0 +1,72 @@
+package org.jroadsign.canada.quebec.montreal.rpasign.rpasigndesc;
+
+import org.junit.Test;
+
+import java.time.LocalDateTime;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author - <a href="https://github.com/muhamm-ad">muhamm-ad</a>
+ * @project JRoadSign
+ */
+public class WeeklyBitmapTest {
+
+    private static WeeklyBitmap bitmap(int resolution, int from, int to) {
+        long[] words = WeeklyBitmap.newWords(resolution);
+        WeeklyBitmap.set(words, resolution, from, to);
+        return new WeeklyBitmap(resolution, words);
+    }
+
+    @Test
+    public void whenBitsSet_thenOnlyTheirMinutesHold() {
+        WeeklyBitmap bitmap = bitmap(1, 540, 1020); // Monday 09:00-17:00
+
+        assertTrue(bitmap.get(LocalDateTime.of(2024, 6, 3, 9, 0)));
+        assertTrue(bitmap.get(LocalDateTime.of(2024, 6, 3, 16, 59, 59)));
+        assertFalse(bitmap.get(LocalDateTime.of(2024, 6, 3, 17, 0)));
+        assertFalse(bitmap.get(LocalDateTime.of(2024, 6, 4, 10, 0)));
+        assertEquals(480, bitmap.getMinuteCount());
+    }
+
+    @Test
+    public void whenResolutionIsFiveMinutes_thenBitHoldsWhatHoldsAtItsFirstMinute() {
+        WeeklyBitmap bitmap = bitmap(5, 453, 513); // Monday 07:33-08:33
+
+        assertFalse(bitmap.get(453));
+        assertTrue(bitmap.get(455));
+        assertTrue(bitmap.get(514));
+        assertFalse(bitmap.get(515));
+    }
+
+    @Test
+    public void whenCombined_thenWordByWord() {
+        WeeklyBitmap morning = bitmap(1, 480, 720);
+        WeeklyBitmap day = bitmap(1, 600, 1020);
+
+        assertEquals(bitmap(1, 600, 720), morning.and(day));
+        assertEquals(bitmap(1, 480, 1020), morning.or(day));
+        assertEquals(WeeklyBitmap.MINUTES_PER_WEEK - 240, morning.not().getMinuteCount());
+        assertEquals(WeeklyBitmap.full(1), morning.or(morning.not()));
+        assertEquals(0, WeeklyBitmap.full(5).not().getMinuteCount());
+    }
+
+    @Test
+    public void whenInterned_thenEqualBitmapsShared() {
+        WeeklyBitmap bitmap = bitmap(1, 0, 90).intern();
+
+        assertSame(bitmap, bitmap(1, 0, 90).intern());
+        assertNotSame(bitmap, bitmap(5, 0, 90).intern());
+        assertSame(WeeklyBitmap.full(5), WeeklyBitmap.full(5));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void whenResolutionInvalid_thenThrows() {
+        WeeklyBitmap.full(15);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void whenResolutionsDiffer_thenThrows() {
+        WeeklyBitmap.full(1).and(WeeklyBitmap.full(5));
+    }
+}
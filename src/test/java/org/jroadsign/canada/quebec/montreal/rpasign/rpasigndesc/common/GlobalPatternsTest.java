@@ -0,0 +1,80 @@
+package org.jroadsign.canada.quebec.montreal.rpasign.rpasigndesc.common;
+
+import org.junit.Test;
+
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author - <a href="https://github.com/muhamm-ad">muhamm-ad</a>
+ * @project JRoadSign
+ */
+public class GlobalPatternsTest {
+
+    @Test
+    public void whenMatcherRequestedTwiceOnAThread_thenReusedAndReset() throws InterruptedException {
+        Matcher matcher = GlobalPatterns.matcher(GlobalPatterns.DURATION_PREFIX, "\\P 60 MIN 9H-17H");
+        assertTrue(matcher.find());
+        assertEquals("60 MIN", matcher.group(1));
+
+        Matcher reused = GlobalPatterns.matcher(GlobalPatterns.DURATION_PREFIX, "\\P 9H-17H 15MIN");
+        assertSame(matcher, reused);
+        assertTrue(reused.find());
+        assertEquals("15MIN", reused.group(1));
+
+        AtomicReference<Matcher> otherThreadMatcher = new AtomicReference<>();
+        Thread thread = new Thread(() -> otherThreadMatcher.set(
+                GlobalPatterns.matcher(GlobalPatterns.DURATION_PREFIX, "\\P 60 MIN")));
+        thread.start();
+        thread.join();
+        assertNotNull(otherThreadMatcher.get());
+        assertNotSame(matcher, otherThreadMatcher.get());
+    }
+
+    @Test
+    public void whenPatternNotRegistered_thenMatcherNotCached() {
+        Pattern pattern = Pattern.compile("MIN");
+
+        assertNotSame(GlobalPatterns.matcher(pattern, "60 MIN"), GlobalPatterns.matcher(pattern, "60 MIN"));
+    }
+
+    @Test
+    public void whenReleasedOrReplaced_thenLastInputNotKept() {
+        Matcher matcher = GlobalPatterns.matcher(GlobalPatterns.WHITESPACES, "\\P 60 MIN");
+        GlobalPatterns.release(matcher);
+        assertEquals(0, matcher.regionEnd());
+
+        assertEquals("\\P 60 MIN", GlobalPatterns.replaceAll("\\P  60 MIN", GlobalPatterns.WHITESPACES, " "));
+        assertSame(matcher, GlobalPatterns.matcher(GlobalPatterns.WHITESPACES, "\\P"));
+        GlobalPatterns.release(matcher);
+        GlobalPatterns.replaceFirst("\\P  60 MIN", GlobalPatterns.WHITESPACES, " ");
+        assertEquals(0, matcher.regionEnd());
+    }
+
+    @Test
+    public void whenReplaced_thenSameAsStringReplace() {
+        String description = " DE 10  X 10 ; MAX ";
+
+        assertEquals(description.replaceAll("\\s+", " "),
+                GlobalPatterns.replaceAll(description, GlobalPatterns.WHITESPACES, " "));
+        assertEquals(description.replaceAll("(\\d+)\\s*X\\s*(\\d+)", "$1 X $2"),
+                GlobalPatterns.replaceAll(description, GlobalPatterns.DIMENSIONS, "$1 X $2"));
+        assertEquals(description.replaceFirst("\\s*MAX\\s*$", ""),
+                GlobalPatterns.replaceFirst(description, GlobalPatterns.TRAILING_MAX, ""));
+        assertArrayEquals(new String[]{"\\P 9H-17H", "\\P 60 MIN"},
+                GlobalPatterns.RULE_SEPARATOR.split("\\P 9H-17H & \\P 60 MIN"));
+        assertArrayEquals(new String[]{"\\P 9H-17H", "\\P 60 MIN; LUN"},
+                GlobalPatterns.RULE_SEPARATOR.split("\\P 9H-17H ; \\P 60 MIN; LUN"));
+    }
+
+    @Test
+    public void whenWarmedUp_thenAllPatternsRun() {
+        assertEquals(GlobalPatterns.getPatterns().size(), GlobalPatterns.warmUp());
+        assertTrue(GlobalPatterns.getPatterns().contains(GlobalPatterns.DIMENSIONS));
+        assertTrue(GlobalPatterns.getPatterns().contains(GlobalPatterns.TIME_RANGE_DAYS));
+        assertThrows(UnsupportedOperationException.class, () -> GlobalPatterns.getPatterns().clear());
+    }
+}
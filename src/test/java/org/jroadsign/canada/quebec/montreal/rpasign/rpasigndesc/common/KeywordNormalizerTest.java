@@ -0,0 +1,77 @@
+package org.jroadsign.canada.quebec.montreal.rpasign.rpasigndesc.common;
+
+import org.junit.Test;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author - <a href="https://github.com/muhamm-ad">muhamm-ad</a>
+ * @project JRoadSign
+ */
+public class KeywordNormalizerTest {
+
+    @Test
+    public void whenDayNames_thenAbbreviatedOnWordBoundaries() {
+        assertEquals("LUN AU VEN", KeywordNormalizer.WEEKLY_DAYS.normalize("LUNDI AU VENDREDI"));
+        assertEquals("MAR-JEU;DIM", KeywordNormalizer.WEEKLY_DAYS.normalize("MARDI-JEUDI;DIMANCHE"));
+        assertEquals("MARS MARDIS LUNDI_ 1SAMEDI", KeywordNormalizer.WEEKLY_DAYS.normalize("MARS MARDIS LUNDI_ 1SAMEDI"));
+
+        String unchanged = "1 MARS AU 1 DEC";
+        assertSame(unchanged, KeywordNormalizer.WEEKLY_DAYS.normalize(unchanged));
+    }
+
+    @Test
+    public void whenMonthNames_thenAbbreviatedLikeTheRegularExpressions() {
+        String[] ranges = {"1 JANVIER AU 1 DEC", "1JANV-1JUILLET", "SEPTEMBRE 15 A OCTOBRE 15", "SEPTAU DECEMBRE",
+                "1 MARS AU 1 AVRIL", "15 NOVEMBRE ET 1 FEV", "JANJANVIERJANV"};
+
+        for (String range : ranges) {
+            String expected = range;
+            for (Map.Entry<String, String> entry : GlobalConfigs.ANNUAL_MONTH_ABBREVIATIONS_MAP.entrySet())
+                expected = expected.replaceAll(entry.getKey(), " " + entry.getValue() + " ");
+            assertEquals(range, expected, KeywordNormalizer.ANNUAL_MONTHS.normalize(range));
+        }
+    }
+
+    @Test
+    public void whenMisspelledNames_thenCorrectedAnywhereInAWord() {
+        assertEquals("1AVR AU 15MARS", KeywordNormalizer.SPELLING_CORRECTIONS.normalize("1AVIL AU 15MRSL"));
+        assertEquals("AVR-VEN", KeywordNormalizer.SPELLING_CORRECTIONS.normalize("AVRILS-VEMDREDI"));
+    }
+
+    @Test
+    public void whenKeywordLookedUp_thenItsReplacement() {
+        assertEquals(GlobalConfigs.MONDAY, KeywordNormalizer.WEEKLY_DAYS.getReplacement("LUNDI"));
+        assertEquals(GlobalConfigs.MONDAY, KeywordNormalizer.WEEKLY_DAYS.getReplacement(GlobalConfigs.MONDAY));
+        assertNull(KeywordNormalizer.WEEKLY_DAYS.getReplacement("LUNDIS"));
+        assertEquals(14, KeywordNormalizer.WEEKLY_DAYS.getKeywords().size());
+    }
+
+    @Test
+    public void whenKeywordsOverlap_thenLeftmostLongestWhateverTheOrder() {
+        Map<String, String> keywords = new LinkedHashMap<>();
+        keywords.put("AB", "1");
+        keywords.put("BCD", "2");
+        keywords.put("ABCDE", "3");
+        keywords.put("C", "4");
+        Map<String, String> reversed = new LinkedHashMap<>();
+        reversed.put("C", "4");
+        reversed.put("ABCDE", "3");
+        reversed.put("BCD", "2");
+        reversed.put("AB", "1");
+
+        for (Map<String, String> map : List.of(keywords, reversed)) {
+            KeywordNormalizer normalizer = new KeywordNormalizer(map, false);
+            assertEquals("3", normalizer.normalize("ABCDE"));
+            assertEquals("12", normalizer.normalize("ABBCD"));
+            assertEquals("14X", normalizer.normalize("ABCX"));
+            assertEquals("X2É", normalizer.normalize("XBCDÉ"));
+        }
+
+        assertThrows(IllegalArgumentException.class, () -> new KeywordNormalizer(Map.of("É", "E"), false));
+    }
+}